@@ -0,0 +1,14 @@
+package codeflix.catalog.admin.application._shared.imports;
+
+import codeflix.catalog.admin.domain._share.validation.Error;
+
+import java.util.List;
+
+public record ImportError(
+        long line,
+        List<Error> errors
+) {
+    public static ImportError with(final long aLine, final List<Error> errors) {
+        return new ImportError(aLine, List.copyOf(errors));
+    }
+}
@@ -0,0 +1,13 @@
+package codeflix.catalog.admin.application._shared.imports;
+
+import java.util.List;
+
+public record ImportOutput(
+        long imported,
+        long failed,
+        List<ImportError> errors
+) {
+    public static ImportOutput with(final long imported, final List<ImportError> errors) {
+        return new ImportOutput(imported, errors.size(), List.copyOf(errors));
+    }
+}
@@ -0,0 +1,84 @@
+package codeflix.catalog.admin.application._shared.imports;
+
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
+import codeflix.catalog.admin.domain._share.validation.Error;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class ImportReport {
+    public static final String WRITE_FAILED = "Row could not be saved";
+
+    private final List<ImportError> errors;
+    private long imported;
+
+    public ImportReport() {
+        this.errors = new ArrayList<>();
+    }
+
+    // rows are pulled one at a time, only a chunk of them is ever held before it is validated and written
+    public <T> ImportOutput process(
+            final Iterator<ImportRow<T>> rows,
+            final int chunkSize,
+            final Consumer<List<ImportRow<T>>> aChunkAction
+    ) {
+        final List<ImportRow<T>> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            final ImportRow<T> row = rows.next();
+            if (!row.isValid()) {
+                this.failed(row.line(), List.of(new Error(row.error())));
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                aChunkAction.accept(List.copyOf(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) aChunkAction.accept(chunk);
+
+        this.errors.sort(Comparator.comparingLong(ImportError::line));
+        return ImportOutput.with(this.imported, this.errors);
+    }
+
+    public void failed(final long aLine, final List<Error> anErrors) {
+        this.errors.add(ImportError.with(aLine, anErrors));
+    }
+
+    // a chunk is written in a single transaction; when it fails it is split in halves and retried, so only the rows
+    // that cannot be written on their own are reported
+    public <A> void write(final Map<Long, A> aggregatesByLine, final Consumer<List<A>> aWriter) {
+        if (aggregatesByLine.isEmpty()) return;
+
+        this.write(List.copyOf(aggregatesByLine.entrySet()), aWriter);
+    }
+
+    private <A> void write(final List<Map.Entry<Long, A>> rows, final Consumer<List<A>> aWriter) {
+        try {
+            aWriter.accept(rows.stream().map(Map.Entry::getValue).toList());
+            this.imported += rows.size();
+        } catch (final RuntimeException ex) {
+            if (rows.size() == 1) {
+                this.failed(rows.get(0).getKey(), errorsOf(ex));
+                return;
+            }
+
+            final int half = rows.size() / 2;
+            this.write(rows.subList(0, half), aWriter);
+            this.write(rows.subList(half, rows.size()), aWriter);
+        }
+    }
+
+    // only domain errors are meant for the client, anything else stays behind a generic message
+    private static List<Error> errorsOf(final RuntimeException ex) {
+        if (ex instanceof DomainException aDomainException && !aDomainException.getErrors().isEmpty()) {
+            return aDomainException.getErrors();
+        }
+        return List.of(new Error(WRITE_FAILED));
+    }
+}
@@ -0,0 +1,19 @@
+package codeflix.catalog.admin.application._shared.imports;
+
+public record ImportRow<T>(
+        long line,
+        T command,
+        String error
+) {
+    public static <T> ImportRow<T> valid(final long aLine, final T aCommand) {
+        return new ImportRow<>(aLine, aCommand, null);
+    }
+
+    public static <T> ImportRow<T> invalid(final long aLine, final String anError) {
+        return new ImportRow<>(aLine, null, anError);
+    }
+
+    public boolean isValid() {
+        return this.error == null;
+    }
+}
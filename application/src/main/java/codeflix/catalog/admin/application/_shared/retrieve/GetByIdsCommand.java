@@ -0,0 +1,16 @@
+package codeflix.catalog.admin.application._shared.retrieve;
+
+import java.util.List;
+
+public record GetByIdsCommand(
+        List<String> ids,
+        int maxIds
+) {
+    public static GetByIdsCommand with(final List<String> ids) {
+        return new GetByIdsCommand(ids, GetByIdsUseCase.MAX_IDS);
+    }
+
+    public static GetByIdsCommand with(final List<String> ids, final int maxIds) {
+        return new GetByIdsCommand(ids, maxIds);
+    }
+}
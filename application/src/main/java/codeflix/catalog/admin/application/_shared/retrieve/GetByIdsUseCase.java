@@ -0,0 +1,13 @@
+package codeflix.catalog.admin.application._shared.retrieve;
+
+import codeflix.catalog.admin.application._shared.base.UseCase;
+
+import java.util.List;
+
+public abstract class GetByIdsUseCase<OUT> extends UseCase<GetByIdsCommand, List<OUT>> {
+
+    // a query string stays within MAX_IDS, a request body may carry up to MAX_IDS_IN_BODY,
+    // which are loaded MAX_IDS at a time so no single IN list grows past it
+    public static final int MAX_IDS = 100;
+    public static final int MAX_IDS_IN_BODY = 1000;
+}
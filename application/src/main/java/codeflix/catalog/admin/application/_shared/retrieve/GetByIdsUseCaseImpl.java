@@ -0,0 +1,47 @@
+package codeflix.catalog.admin.application._shared.retrieve;
+
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
+import codeflix.catalog.admin.domain._share.validation.Error;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class GetByIdsUseCaseImpl<ID, T, OUT> extends GetByIdsUseCase<OUT> {
+    private final Function<String, ID> idFactory;
+    private final Function<List<ID>, List<T>> loader;
+    private final Function<T, OUT> mapper;
+
+    public GetByIdsUseCaseImpl(
+            final Function<String, ID> idFactory,
+            final Function<List<ID>, List<T>> loader,
+            final Function<T, OUT> mapper
+    ) {
+        this.idFactory = Objects.requireNonNull(idFactory);
+        this.loader = Objects.requireNonNull(loader);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public List<OUT> execute(final GetByIdsCommand aCommand) {
+        final List<String> ids = aCommand.ids();
+        if (ids.size() > aCommand.maxIds()) {
+            throw DomainException.with(new Error("'ids' should have at most %d items".formatted(aCommand.maxIds())));
+        }
+
+        // duplicates are dropped up front, otherwise one repeated across two chunks would be returned twice
+        final List<ID> anIds = ids.stream()
+                .distinct()
+                .map(this.idFactory)
+                .toList();
+
+        final List<OUT> outputs = new ArrayList<>(anIds.size());
+        for (int from = 0; from < anIds.size(); from += MAX_IDS) {
+            this.loader.apply(anIds.subList(from, Math.min(from + MAX_IDS, anIds.size()))).stream()
+                    .map(this.mapper)
+                    .forEach(outputs::add);
+        }
+        return outputs;
+    }
+}
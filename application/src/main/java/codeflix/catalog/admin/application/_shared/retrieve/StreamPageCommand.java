@@ -0,0 +1,12 @@
+package codeflix.catalog.admin.application._shared.retrieve;
+
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
+
+public record StreamPageCommand<Q, OUT>(
+        Q query,
+        PageWriter<OUT> writer
+) {
+    public static <Q, OUT> StreamPageCommand<Q, OUT> with(final Q aQuery, final PageWriter<OUT> aWriter) {
+        return new StreamPageCommand<>(aQuery, aWriter);
+    }
+}
@@ -0,0 +1,6 @@
+package codeflix.catalog.admin.application._shared.retrieve;
+
+import codeflix.catalog.admin.application._shared.base.UnitUseCase;
+
+public abstract class StreamPageUseCase<Q, OUT> extends UnitUseCase<StreamPageCommand<Q, OUT>> {
+}
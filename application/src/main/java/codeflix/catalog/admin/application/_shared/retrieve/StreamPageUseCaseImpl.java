@@ -0,0 +1,22 @@
+package codeflix.catalog.admin.application._shared.retrieve;
+
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+public class StreamPageUseCaseImpl<Q, T, OUT> extends StreamPageUseCase<Q, OUT> {
+    private final BiConsumer<Q, PageWriter<T>> source;
+    private final Function<T, OUT> mapper;
+
+    public StreamPageUseCaseImpl(final BiConsumer<Q, PageWriter<T>> source, final Function<T, OUT> mapper) {
+        this.source = Objects.requireNonNull(source);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void execute(final StreamPageCommand<Q, OUT> aCommand) {
+        this.source.accept(aCommand.query(), aCommand.writer().mapping(this.mapper));
+    }
+}
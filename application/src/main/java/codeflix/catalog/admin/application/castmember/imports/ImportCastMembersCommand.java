@@ -0,0 +1,14 @@
+package codeflix.catalog.admin.application.castmember.imports;
+
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.castmember.create.CreateCastMemberCommand;
+
+import java.util.Iterator;
+
+public record ImportCastMembersCommand(
+        Iterator<ImportRow<CreateCastMemberCommand>> rows
+) {
+    public static ImportCastMembersCommand with(final Iterator<ImportRow<CreateCastMemberCommand>> rows) {
+        return new ImportCastMembersCommand(rows);
+    }
+}
@@ -0,0 +1,48 @@
+package codeflix.catalog.admin.application.castmember.imports;
+
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+import codeflix.catalog.admin.application._shared.imports.ImportReport;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.castmember.create.CreateCastMemberCommand;
+import codeflix.catalog.admin.domain._share.validation.handler.Notification;
+import codeflix.catalog.admin.domain.castmember.entity.CastMember;
+import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class ImportCastMembersUseCaseImpl extends ImportCastMembersUseCase {
+    private final CastMemberGateway castMemberGateway;
+    private final int chunkSize;
+
+    public ImportCastMembersUseCaseImpl(final CastMemberGateway castMemberGateway, final int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be positive");
+
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportOutput execute(final ImportCastMembersCommand aCommand) {
+        final ImportReport report = new ImportReport();
+        return report.process(aCommand.rows(), this.chunkSize, chunk -> this.importChunk(chunk, report));
+    }
+
+    private void importChunk(final List<ImportRow<CreateCastMemberCommand>> chunk, final ImportReport report) {
+        final Map<Long, CastMember> members = new LinkedHashMap<>(chunk.size());
+
+        for (final ImportRow<CreateCastMemberCommand> row : chunk) {
+            final CreateCastMemberCommand aCommand = row.command();
+
+            final Notification notification = Notification.create();
+            final CastMember aMember = notification.validate(() -> CastMember.newMember(aCommand.name(), aCommand.type()));
+
+            if (notification.hasError()) report.failed(row.line(), notification.getErrors());
+            else members.put(row.line(), aMember);
+        }
+
+        report.write(members, this.castMemberGateway::createAll);
+    }
+}
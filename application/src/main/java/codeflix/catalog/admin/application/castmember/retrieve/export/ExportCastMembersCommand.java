@@ -0,0 +1,15 @@
+package codeflix.catalog.admin.application.castmember.retrieve.export;
+
+import codeflix.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+public record ExportCastMembersCommand(
+        Instant since,
+        Consumer<CastMemberOutput> consumer
+) {
+    public static ExportCastMembersCommand with(final Instant since, final Consumer<CastMemberOutput> aConsumer) {
+        return new ExportCastMembersCommand(since, aConsumer);
+    }
+}
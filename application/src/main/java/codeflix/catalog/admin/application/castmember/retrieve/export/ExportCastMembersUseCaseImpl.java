@@ -0,0 +1,22 @@
+package codeflix.catalog.admin.application.castmember.retrieve.export;
+
+import codeflix.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
+import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class ExportCastMembersUseCaseImpl extends ExportCastMembersUseCase {
+    private final CastMemberGateway castMemberGateway;
+
+    public ExportCastMembersUseCaseImpl(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public void execute(final ExportCastMembersCommand aCommand) {
+        final Instant since = Objects.requireNonNullElse(aCommand.since(), Instant.EPOCH);
+
+        this.castMemberGateway.forEachUpdatedSince(since, aMember -> aCommand.consumer().accept(CastMemberOutput.from(aMember)));
+    }
+}
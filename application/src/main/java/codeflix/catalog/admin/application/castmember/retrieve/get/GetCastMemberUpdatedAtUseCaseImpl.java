@@ -0,0 +1,21 @@
+package codeflix.catalog.admin.application.castmember.retrieve.get;
+
+import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
+import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class GetCastMemberUpdatedAtUseCaseImpl extends GetCastMemberUpdatedAtUseCase {
+    private final CastMemberGateway castMemberGateway;
+
+    public GetCastMemberUpdatedAtUseCaseImpl(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.castMemberGateway.findUpdatedAtById(CastMemberID.from(anId));
+    }
+}
@@ -21,7 +21,7 @@ public non-sealed class UpdateCastMemberUseCaseImpl extends UpdateCastMemberUseC
     public UpdateCastMemberOutput execute(final UpdateCastMemberCommand aCommand) {
         final CastMemberID anId = CastMemberID.from(aCommand.id());
 
-        final CastMember aMember = this.castMemberGateway.findById(anId)
+        final CastMember aMember = this.castMemberGateway.findByIdForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
         final Notification notification = Notification.create();
@@ -0,0 +1,14 @@
+package codeflix.catalog.admin.application.category.imports;
+
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
+
+import java.util.Iterator;
+
+public record ImportCategoriesCommand(
+        Iterator<ImportRow<CreateCategoryCommand>> rows
+) {
+    public static ImportCategoriesCommand with(final Iterator<ImportRow<CreateCategoryCommand>> rows) {
+        return new ImportCategoriesCommand(rows);
+    }
+}
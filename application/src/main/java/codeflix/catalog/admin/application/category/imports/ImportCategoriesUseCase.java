@@ -0,0 +1,8 @@
+package codeflix.catalog.admin.application.category.imports;
+
+import codeflix.catalog.admin.application._shared.base.UseCase;
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+
+public abstract class ImportCategoriesUseCase
+        extends UseCase<ImportCategoriesCommand, ImportOutput> {
+}
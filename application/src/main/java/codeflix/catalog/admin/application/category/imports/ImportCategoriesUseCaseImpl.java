@@ -0,0 +1,49 @@
+package codeflix.catalog.admin.application.category.imports;
+
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+import codeflix.catalog.admin.application._shared.imports.ImportReport;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
+import codeflix.catalog.admin.domain._share.validation.handler.Notification;
+import codeflix.catalog.admin.domain.category.entity.Category;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class ImportCategoriesUseCaseImpl extends ImportCategoriesUseCase {
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public ImportCategoriesUseCaseImpl(final CategoryGateway categoryGateway, final int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be positive");
+
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportOutput execute(final ImportCategoriesCommand aCommand) {
+        final ImportReport report = new ImportReport();
+        return report.process(aCommand.rows(), this.chunkSize, chunk -> this.importChunk(chunk, report));
+    }
+
+    private void importChunk(final List<ImportRow<CreateCategoryCommand>> chunk, final ImportReport report) {
+        final Map<Long, Category> categories = new LinkedHashMap<>(chunk.size());
+
+        for (final ImportRow<CreateCategoryCommand> row : chunk) {
+            final CreateCategoryCommand aCommand = row.command();
+            final Category aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+
+            final Notification notification = Notification.create();
+            aCategory.validate(notification);
+
+            if (notification.hasError()) report.failed(row.line(), notification.getErrors());
+            else categories.put(row.line(), aCategory);
+        }
+
+        report.write(categories, this.categoryGateway::createAll);
+    }
+}
@@ -0,0 +1,15 @@
+package codeflix.catalog.admin.application.category.retrieve.export;
+
+import codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+public record ExportCategoriesCommand(
+        Instant since,
+        Consumer<CategoryOutput> consumer
+) {
+    public static ExportCategoriesCommand with(final Instant since, final Consumer<CategoryOutput> aConsumer) {
+        return new ExportCategoriesCommand(since, aConsumer);
+    }
+}
@@ -0,0 +1,7 @@
+package codeflix.catalog.admin.application.category.retrieve.export;
+
+import codeflix.catalog.admin.application._shared.base.UnitUseCase;
+
+public abstract class ExportCategoriesUseCase
+        extends UnitUseCase<ExportCategoriesCommand> {
+}
@@ -0,0 +1,22 @@
+package codeflix.catalog.admin.application.category.retrieve.export;
+
+import codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class ExportCategoriesUseCaseImpl extends ExportCategoriesUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public ExportCategoriesUseCaseImpl(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final ExportCategoriesCommand aCommand) {
+        final Instant since = Objects.requireNonNullElse(aCommand.since(), Instant.EPOCH);
+
+        this.categoryGateway.forEachUpdatedSince(since, aCategory -> aCommand.consumer().accept(CategoryOutput.from(aCategory)));
+    }
+}
@@ -0,0 +1,21 @@
+package codeflix.catalog.admin.application.category.retrieve.get;
+
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import codeflix.catalog.admin.domain.category.value.object.CategoryID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class GetCategoryUpdatedAtUseCaseImpl extends GetCategoryUpdatedAtUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public GetCategoryUpdatedAtUseCaseImpl(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.categoryGateway.findUpdatedAtById(CategoryID.from(anId));
+    }
+}
@@ -24,7 +24,7 @@ public class UpdateCategoryUseCaseImpl extends UpdateCategoryUseCase {
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand aCommand) {
         CategoryID anId = CategoryID.from(aCommand.id());
-        Category aCategory = categoryGateway.findById(anId)
+        Category aCategory = categoryGateway.findByIdForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
         final Notification notification = Notification.create();
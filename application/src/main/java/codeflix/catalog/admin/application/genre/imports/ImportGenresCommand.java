@@ -0,0 +1,14 @@
+package codeflix.catalog.admin.application.genre.imports;
+
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.genre.create.CreateGenreCommand;
+
+import java.util.Iterator;
+
+public record ImportGenresCommand(
+        Iterator<ImportRow<CreateGenreCommand>> rows
+) {
+    public static ImportGenresCommand with(final Iterator<ImportRow<CreateGenreCommand>> rows) {
+        return new ImportGenresCommand(rows);
+    }
+}
@@ -0,0 +1,8 @@
+package codeflix.catalog.admin.application.genre.imports;
+
+import codeflix.catalog.admin.application._shared.base.UseCase;
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+
+public abstract class ImportGenresUseCase
+        extends UseCase<ImportGenresCommand, ImportOutput> {
+}
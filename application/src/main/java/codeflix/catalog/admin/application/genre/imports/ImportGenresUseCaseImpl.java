@@ -0,0 +1,95 @@
+package codeflix.catalog.admin.application.genre.imports;
+
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+import codeflix.catalog.admin.application._shared.imports.ImportReport;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.genre.create.CreateGenreCommand;
+import codeflix.catalog.admin.domain._share.validation.Error;
+import codeflix.catalog.admin.domain._share.validation.handler.Notification;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import codeflix.catalog.admin.domain.category.value.object.CategoryID;
+import codeflix.catalog.admin.domain.genre.entity.Genre;
+import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyList;
+
+public class ImportGenresUseCaseImpl extends ImportGenresUseCase {
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final int chunkSize;
+
+    public ImportGenresUseCaseImpl(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final int chunkSize
+    ) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be positive");
+
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportOutput execute(final ImportGenresCommand aCommand) {
+        final ImportReport report = new ImportReport();
+        return report.process(aCommand.rows(), this.chunkSize, chunk -> this.importChunk(chunk, report));
+    }
+
+    private void importChunk(final List<ImportRow<CreateGenreCommand>> chunk, final ImportReport report) {
+        // one existence check for every category referenced by the chunk instead of one per row
+        final Set<CategoryID> existing = this.existingCategories(chunk);
+        final Map<Long, Genre> genres = new LinkedHashMap<>(chunk.size());
+
+        for (final ImportRow<CreateGenreCommand> row : chunk) {
+            final CreateGenreCommand aCommand = row.command();
+            final List<CategoryID> categories = toCategoryID(aCommand.categories());
+
+            final Notification notification = Notification.create();
+            final String missingIds = categories.stream()
+                    .filter(it -> !existing.contains(it))
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+            if (!missingIds.isEmpty()) {
+                notification.append(new Error("Some categories could not be found: %s".formatted(missingIds)));
+            }
+
+            final Genre aGenre = notification.validate(() -> Genre.newGenre(aCommand.name(), aCommand.isActive()));
+
+            if (notification.hasError()) {
+                report.failed(row.line(), notification.getErrors());
+                continue;
+            }
+
+            aGenre.addCategories(categories);
+            genres.put(row.line(), aGenre);
+        }
+
+        report.write(genres, this.genreGateway::createAll);
+    }
+
+    private Set<CategoryID> existingCategories(final List<ImportRow<CreateGenreCommand>> chunk) {
+        final List<CategoryID> referenced = chunk.stream()
+                .flatMap(row -> toCategoryID(row.command().categories()).stream())
+                .distinct()
+                .toList();
+
+        return referenced.isEmpty() ? Set.of() : new HashSet<>(this.categoryGateway.existsByIds(referenced));
+    }
+
+    private static List<CategoryID> toCategoryID(final List<String> categories) {
+        if (categories == null) return emptyList();
+
+        return categories.stream()
+                .map(CategoryID::from)
+                .toList();
+    }
+}
@@ -0,0 +1,15 @@
+package codeflix.catalog.admin.application.genre.retrieve.export;
+
+import codeflix.catalog.admin.application.genre.retrieve.get.GenreOutput;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+public record ExportGenresCommand(
+        Instant since,
+        Consumer<GenreOutput> consumer
+) {
+    public static ExportGenresCommand with(final Instant since, final Consumer<GenreOutput> aConsumer) {
+        return new ExportGenresCommand(since, aConsumer);
+    }
+}
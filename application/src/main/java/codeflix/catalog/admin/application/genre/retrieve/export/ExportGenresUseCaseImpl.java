@@ -0,0 +1,22 @@
+package codeflix.catalog.admin.application.genre.retrieve.export;
+
+import codeflix.catalog.admin.application.genre.retrieve.get.GenreOutput;
+import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class ExportGenresUseCaseImpl extends ExportGenresUseCase {
+    private final GenreGateway genreGateway;
+
+    public ExportGenresUseCaseImpl(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final ExportGenresCommand aCommand) {
+        final Instant since = Objects.requireNonNullElse(aCommand.since(), Instant.EPOCH);
+
+        this.genreGateway.forEachUpdatedSince(since, aGenre -> aCommand.consumer().accept(GenreOutput.from(aGenre)));
+    }
+}
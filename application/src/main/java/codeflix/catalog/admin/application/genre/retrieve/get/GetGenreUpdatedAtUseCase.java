@@ -0,0 +1,10 @@
+package codeflix.catalog.admin.application.genre.retrieve.get;
+
+import codeflix.catalog.admin.application._shared.base.UseCase;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public abstract class GetGenreUpdatedAtUseCase
+        extends UseCase<String, Optional<Instant>> {
+}
@@ -0,0 +1,21 @@
+package codeflix.catalog.admin.application.genre.retrieve.get;
+
+import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
+import codeflix.catalog.admin.domain.genre.value.object.GenreID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class GetGenreUpdatedAtUseCaseImpl extends GetGenreUpdatedAtUseCase {
+    private final GenreGateway genreGateway;
+
+    public GetGenreUpdatedAtUseCaseImpl(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.genreGateway.findUpdatedAtById(GenreID.from(anId));
+    }
+}
@@ -34,7 +34,7 @@ public class UpdateGenreUseCaseImpl extends UpdateGenreUseCase {
         final boolean isActive = aCommand.isActive();
         final List<CategoryID> categories = this.toCategoryId(aCommand.categories());
 
-        final Genre aGenre = this.genreGateway.findById(anId)
+        final Genre aGenre = this.genreGateway.findByIdForUpdate(anId)
                 .orElseThrow(this.notFound(anId));
 
         final Notification notification = Notification.create();
@@ -12,10 +12,14 @@ import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
 import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
+import codeflix.catalog.admin.domain.resource.Resource;
 import codeflix.catalog.admin.domain.video.*;
 
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -27,19 +31,22 @@ public class CreateVideoUseCaseImpl extends CreateVideoUseCase {
     private final GenreGateway genreGateway;
     private final CastMemberGateway castMemberGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final Executor mediaExecutor;
 
     public CreateVideoUseCaseImpl(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final GenreGateway genreGateway,
             final CastMemberGateway castMemberGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaResourceGateway mediaResourceGateway,
+            final Executor mediaExecutor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
     }
 
     @Override
@@ -78,37 +85,75 @@ public class CreateVideoUseCaseImpl extends CreateVideoUseCase {
 
     private Video create(final CreateVideoCommand aCommand, final Video aVideo) {
         final VideoID anId = aVideo.getId();
+        final CompletionService<Consumer<Video>> completion = new ExecutorCompletionService<>(this.mediaExecutor);
+        final List<MediaStore> stores = new ArrayList<>();
 
         try {
-            final AudioVideoMedia aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VIDEO)))
-                    .orElse(null);
-            final AudioVideoMedia aTrailer = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, TRAILER)))
-                    .orElse(null);
-            final ImageMedia aBanner = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, BANNER)))
-                    .orElse(null);
-            final ImageMedia aThumbnail = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL)))
-                    .orElse(null);
-            final ImageMedia aThumbnailHalf = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL_HALF)))
-                    .orElse(null);
-
-            return this.videoGateway.create(
-                    aVideo.updateVideoMedia(aVideoMedia)
-                            .updateTrailerMedia(aTrailer)
-                            .updateBannerMedia(aBanner)
-                            .updateThumbnailMedia(aThumbnail)
-                            .updateThumbnailHalfMedia(aThumbnailHalf)
-            );
+            this.submit(completion, stores, aCommand.getVideo(), it -> {
+                final AudioVideoMedia aMedia = this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VIDEO));
+                return video -> video.updateVideoMedia(aMedia);
+            });
+            this.submit(completion, stores, aCommand.getTrailer(), it -> {
+                final AudioVideoMedia aMedia = this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, TRAILER));
+                return video -> video.updateTrailerMedia(aMedia);
+            });
+            this.submit(completion, stores, aCommand.getBanner(), it -> {
+                final ImageMedia aMedia = this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, BANNER));
+                return video -> video.updateBannerMedia(aMedia);
+            });
+            this.submit(completion, stores, aCommand.getThumbnail(), it -> {
+                final ImageMedia aMedia = this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL));
+                return video -> video.updateThumbnailMedia(aMedia);
+            });
+            this.submit(completion, stores, aCommand.getThumbnailHalf(), it -> {
+                final ImageMedia aMedia = this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL_HALF));
+                return video -> video.updateThumbnailHalfMedia(aMedia);
+            });
+
+            for (int i = 0; i < stores.size(); i++) {
+                completion.take().get().accept(aVideo);
+            }
+
+            return this.videoGateway.create(aVideo);
         } catch (final Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            this.cancel(stores);
             this.mediaResourceGateway.clearResources(anId);
-            throw InternalErrorException.with("An error on create video was observed [videoId:%s]".formatted(anId.getValue()), e);
+            throw InternalErrorException.with(
+                    "An error on create video was observed [videoId:%s]".formatted(anId.getValue()),
+                    e instanceof ExecutionException ? e.getCause() : e
+            );
         }
     }
 
+    private void submit(
+            final CompletionService<Consumer<Video>> completion,
+            final List<MediaStore> stores,
+            final Optional<Resource> aResource,
+            final Function<Resource, Consumer<Video>> store
+    ) {
+        aResource.ifPresent(it -> {
+            final MediaStore aStore = new MediaStore(() -> store.apply(it));
+            stores.add(aStore);
+            aStore.future = completion.submit(aStore);
+        });
+    }
+
+    private void cancel(final List<MediaStore> stores) {
+        boolean interrupted = Thread.interrupted();
+        for (final MediaStore aStore : stores) {
+            while (true) {
+                try {
+                    aStore.cancel();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
     private ValidationHandler validateCategories(final Set<CategoryID> ids) {
         return this.validateAggregate("categories", ids, this.categoryGateway::existsByIds);
     }
@@ -150,4 +195,36 @@ public class CreateVideoUseCaseImpl extends CreateVideoUseCase {
                 .map(mapper)
                 .collect(Collectors.toSet());
     }
+
+    private static final class MediaStore implements Callable<Consumer<Video>> {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private final Callable<Consumer<Video>> store;
+        private Future<Consumer<Video>> future;
+
+        private MediaStore(final Callable<Consumer<Video>> store) {
+            this.store = store;
+        }
+
+        @Override
+        public Consumer<Video> call() throws Exception {
+            if (!this.claimed.compareAndSet(false, true)) return null;
+
+            try {
+                return this.store.call();
+            } finally {
+                this.finished.countDown();
+            }
+        }
+
+        private void cancel() throws InterruptedException {
+            if (this.claimed.compareAndSet(false, true)) {
+                if (this.future != null) this.future.cancel(false);
+                return;
+            }
+
+            if (this.future != null) this.future.cancel(true);
+            this.finished.await();
+        }
+    }
 }
@@ -4,16 +4,20 @@ import codeflix.catalog.admin.domain.resource.Resource;
 import codeflix.catalog.admin.domain.video.VideoResource;
 
 public record MediaOutput(
-        byte[] content,
+        String checksum,
+        long size,
         String contentType,
-        String name
+        String name,
+        Resource content
 ) {
     public static MediaOutput with(final VideoResource videoResource) {
         final Resource aResource = videoResource.resource();
         return new MediaOutput(
-                aResource.content(),
+                aResource.checksum(),
+                aResource.size(),
                 aResource.contentType(),
-                aResource.name()
+                aResource.name(),
+                aResource
         );
     }
 }
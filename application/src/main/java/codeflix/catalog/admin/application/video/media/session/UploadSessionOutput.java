@@ -0,0 +1,23 @@
+package codeflix.catalog.admin.application.video.media.session;
+
+import codeflix.catalog.admin.domain.video.UploadSession;
+import codeflix.catalog.admin.domain.video.VideoMediaType;
+
+public record UploadSessionOutput(
+        String sessionId,
+        String videoId,
+        VideoMediaType mediaType,
+        long size,
+        long received
+) {
+
+    public static UploadSessionOutput with(final UploadSession aSession, final long received) {
+        return new UploadSessionOutput(
+                aSession.id(),
+                aSession.videoId().getValue(),
+                aSession.type(),
+                aSession.size(),
+                received
+        );
+    }
+}
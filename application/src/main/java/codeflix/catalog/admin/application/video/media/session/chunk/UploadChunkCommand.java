@@ -0,0 +1,22 @@
+package codeflix.catalog.admin.application.video.media.session.chunk;
+
+import codeflix.catalog.admin.domain.resource.Resource;
+
+public record UploadChunkCommand(
+        String videoId,
+        String type,
+        String sessionId,
+        long offset,
+        Resource chunk
+) {
+
+    public static UploadChunkCommand with(
+            final String videoId,
+            final String type,
+            final String sessionId,
+            final long offset,
+            final Resource chunk
+    ) {
+        return new UploadChunkCommand(videoId, type, sessionId, offset, chunk);
+    }
+}
@@ -0,0 +1,47 @@
+package codeflix.catalog.admin.application.video.media.session.chunk;
+
+import codeflix.catalog.admin.application.video.media.session.UploadSessionOutput;
+import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
+import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
+import codeflix.catalog.admin.domain._share.validation.Error;
+import codeflix.catalog.admin.domain._share.validation.handler.Notification;
+import codeflix.catalog.admin.domain.resource.Resource;
+import codeflix.catalog.admin.domain.video.UploadSession;
+import codeflix.catalog.admin.domain.video.UploadSessionGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class UploadChunkUseCaseImpl extends UploadChunkUseCase {
+    private final UploadSessionGateway uploadSessionGateway;
+
+    public UploadChunkUseCaseImpl(final UploadSessionGateway uploadSessionGateway) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final UploadChunkCommand aCommand) {
+        final VideoID anId = VideoID.from(aCommand.videoId());
+        final UploadSession aSession = this.uploadSessionGateway.findById(aCommand.sessionId())
+                .filter(it -> it.videoId().equals(anId) && it.type().name().equalsIgnoreCase(aCommand.type()))
+                .orElseThrow(() -> this.notFound(aCommand.sessionId()));
+
+        final Resource aChunk = aCommand.chunk();
+        final long offset = aCommand.offset();
+
+        // a negative size means the length was not declared, the gateway checks the bytes it actually receives
+        final Notification notification = Notification.create();
+        if (offset < 0) notification.append(new Error("'offset' should not be negative"));
+        if (aChunk.size() == 0) notification.append(new Error("Chunk should not be empty"));
+        if (offset >= aSession.size() || offset + aChunk.size() > aSession.size())
+            notification.append(new Error("Chunk exceeds upload size of %d bytes".formatted(aSession.size())));
+
+        if (notification.hasError()) throw new NotificationException("Could not upload chunk", notification);
+
+        return UploadSessionOutput.with(aSession, this.uploadSessionGateway.storeChunk(aSession, offset, aChunk));
+    }
+
+    private NotFoundException notFound(final String aSessionId) {
+        return NotFoundException.with(new Error("Upload session %s not found".formatted(aSessionId)));
+    }
+}
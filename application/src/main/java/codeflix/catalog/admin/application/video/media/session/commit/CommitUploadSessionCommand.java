@@ -0,0 +1,12 @@
+package codeflix.catalog.admin.application.video.media.session.commit;
+
+public record CommitUploadSessionCommand(
+        String videoId,
+        String type,
+        String sessionId
+) {
+
+    public static CommitUploadSessionCommand with(final String videoId, final String type, final String sessionId) {
+        return new CommitUploadSessionCommand(videoId, type, sessionId);
+    }
+}
@@ -0,0 +1,7 @@
+package codeflix.catalog.admin.application.video.media.session.commit;
+
+import codeflix.catalog.admin.application._shared.base.UseCase;
+import codeflix.catalog.admin.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CommitUploadSessionUseCase extends UseCase<CommitUploadSessionCommand, UploadMediaOutput> {
+}
@@ -0,0 +1,52 @@
+package codeflix.catalog.admin.application.video.media.session.commit;
+
+import codeflix.catalog.admin.application.video.media.upload.UploadMediaCommand;
+import codeflix.catalog.admin.application.video.media.upload.UploadMediaOutput;
+import codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
+import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
+import codeflix.catalog.admin.domain._share.validation.Error;
+import codeflix.catalog.admin.domain.resource.Resource;
+import codeflix.catalog.admin.domain.video.UploadSession;
+import codeflix.catalog.admin.domain.video.UploadSessionGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.domain.video.VideoResource;
+
+import java.util.Objects;
+
+public class CommitUploadSessionUseCaseImpl extends CommitUploadSessionUseCase {
+    private final UploadSessionGateway uploadSessionGateway;
+    private final UploadMediaUseCase uploadMediaUseCase;
+
+    public CommitUploadSessionUseCaseImpl(
+            final UploadSessionGateway uploadSessionGateway,
+            final UploadMediaUseCase uploadMediaUseCase
+    ) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CommitUploadSessionCommand aCommand) {
+        final VideoID anId = VideoID.from(aCommand.videoId());
+        final UploadSession aSession = this.uploadSessionGateway.findById(aCommand.sessionId())
+                .filter(it -> it.videoId().equals(anId) && it.type().name().equalsIgnoreCase(aCommand.type()))
+                .orElseThrow(() -> this.notFound(aCommand.sessionId()));
+
+        final Resource aResource = this.uploadSessionGateway.assemble(aSession)
+                .orElseThrow(() -> NotificationException.with(
+                        new Error("Upload session %s is incomplete".formatted(aSession.id()))
+                ));
+
+        final UploadMediaOutput output = this.uploadMediaUseCase.execute(
+                UploadMediaCommand.with(anId.getValue(), VideoResource.with(aResource, aSession.type()))
+        );
+
+        this.uploadSessionGateway.deleteById(aSession.id());
+        return output;
+    }
+
+    private NotFoundException notFound(final String aSessionId) {
+        return NotFoundException.with(new Error("Upload session %s not found".formatted(aSessionId)));
+    }
+}
@@ -0,0 +1,20 @@
+package codeflix.catalog.admin.application.video.media.session.create;
+
+public record CreateUploadSessionCommand(
+        String videoId,
+        String type,
+        String name,
+        String contentType,
+        long size
+) {
+
+    public static CreateUploadSessionCommand with(
+            final String videoId,
+            final String type,
+            final String name,
+            final String contentType,
+            final long size
+    ) {
+        return new CreateUploadSessionCommand(videoId, type, name, contentType, size);
+    }
+}
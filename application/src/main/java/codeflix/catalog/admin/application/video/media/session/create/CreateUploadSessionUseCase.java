@@ -0,0 +1,7 @@
+package codeflix.catalog.admin.application.video.media.session.create;
+
+import codeflix.catalog.admin.application._shared.base.UseCase;
+import codeflix.catalog.admin.application.video.media.session.UploadSessionOutput;
+
+public abstract class CreateUploadSessionUseCase extends UseCase<CreateUploadSessionCommand, UploadSessionOutput> {
+}
@@ -0,0 +1,43 @@
+package codeflix.catalog.admin.application.video.media.session.create;
+
+import codeflix.catalog.admin.application.video.media.session.UploadSessionOutput;
+import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
+import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
+import codeflix.catalog.admin.domain._share.validation.Error;
+import codeflix.catalog.admin.domain._share.validation.handler.Notification;
+import codeflix.catalog.admin.domain.video.*;
+
+import java.util.Objects;
+
+public class CreateUploadSessionUseCaseImpl extends CreateUploadSessionUseCase {
+    private final UploadSessionGateway uploadSessionGateway;
+    private final VideoGateway videoGateway;
+
+    public CreateUploadSessionUseCaseImpl(final UploadSessionGateway uploadSessionGateway, final VideoGateway videoGateway) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final CreateUploadSessionCommand aCommand) {
+        final VideoID anId = VideoID.from(aCommand.videoId());
+        final VideoMediaType aType = VideoMediaType.of(aCommand.type()).orElse(null);
+
+        final Notification notification = Notification.create();
+        if (aType == null) notification.append(new Error("Invalid %s for VideoMediaType.".formatted(aCommand.type())));
+        if (aCommand.name() == null || aCommand.name().isBlank()) notification.append(new Error("'name' should not be empty"));
+        if (aCommand.contentType() == null || aCommand.contentType().isBlank())
+            notification.append(new Error("'content_type' should not be empty"));
+        if (aCommand.size() <= 0) notification.append(new Error("'size' should be greater than 0"));
+
+        if (notification.hasError()) throw new NotificationException("Could not create upload session", notification);
+
+        if (this.videoGateway.findByIdForUpdate(anId).isEmpty()) throw NotFoundException.with(Video.class, anId);
+
+        final UploadSession aSession = this.uploadSessionGateway.create(
+                UploadSession.newSession(anId, aType, aCommand.name(), aCommand.contentType(), aCommand.size())
+        );
+
+        return UploadSessionOutput.with(aSession, 0);
+    }
+}
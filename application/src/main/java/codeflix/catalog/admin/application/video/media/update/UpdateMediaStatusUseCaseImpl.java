@@ -1,12 +1,15 @@
 package codeflix.catalog.admin.application.video.media.update;
 
 import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
-import codeflix.catalog.admin.domain.video.*;
+import codeflix.catalog.admin.domain._share.validation.Error;
+import codeflix.catalog.admin.domain.video.MediaStatus;
+import codeflix.catalog.admin.domain.video.VideoGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
 
 import java.util.Objects;
 
-import static codeflix.catalog.admin.domain.video.VideoMediaType.TRAILER;
-import static codeflix.catalog.admin.domain.video.VideoMediaType.VIDEO;
+import static codeflix.catalog.admin.domain.video.MediaStatus.COMPLETED;
+import static codeflix.catalog.admin.domain.video.MediaStatus.PENDING;
 
 public class UpdateMediaStatusUseCaseImpl extends UpdateMediaStatusUseCase {
     private final VideoGateway videoGateway;
@@ -17,39 +20,23 @@ public class UpdateMediaStatusUseCaseImpl extends UpdateMediaStatusUseCase {
 
     @Override
     public void execute(final UpdateMediaStatusCommand aCommand) {
+        final MediaStatus aStatus = aCommand.status();
+        if (PENDING == aStatus) return;
+
         final VideoID anId = VideoID.from(aCommand.videoId());
         final String aResourceId = aCommand.resourceId();
-        final String folder = aCommand.folder();
-        final String filename = aCommand.fileName();
-
-        final Video aVideo = this.videoGateway.findById(anId)
-                .orElseThrow(() -> this.notFound(anId));
-
-        final var encodedPath = "%s/%s".formatted(folder, filename);
-
-        if (this.matches(aResourceId, aVideo.getVideo().orElse(null)))
-            this.updateVideo(VIDEO, aCommand.status(), aVideo, encodedPath);
-        else if (this.matches(aResourceId, aVideo.getTrailer().orElse(null)))
-            this.updateVideo(TRAILER, aCommand.status(), aVideo, encodedPath);
-    }
-
-    private void updateVideo(final VideoMediaType aType, final MediaStatus aStatus, final Video aVideo, final String encodedPath) {
-        switch (aStatus) {
-            case PENDING -> {
-            }
-            case PROCESSING -> aVideo.processing(aType);
-            case COMPLETED -> aVideo.completed(aType, encodedPath);
+        final String encodedPath = COMPLETED == aStatus
+                ? "%s/%s".formatted(aCommand.folder(), aCommand.fileName())
+                : null;
+
+        final boolean updated = this.videoGateway.updateMediaStatus(anId, aResourceId, aStatus, encodedPath);
+
+        // a known media that refuses the transition is a late or repeated result and is ignored,
+        // an unknown one must fail so the message is retried once the video is there
+        if (!updated && !this.videoGateway.existsMedia(anId, aResourceId)) {
+            throw NotFoundException.with(new Error(
+                    "Media %s of Video with ID %s was not found".formatted(aResourceId, anId.getValue())
+            ));
         }
-
-        this.videoGateway.update(aVideo);
-    }
-
-    private boolean matches(final String anId, final AudioVideoMedia aMedia) {
-        if (aMedia == null) return false;
-        return aMedia.id().equals(anId);
-    }
-
-    private NotFoundException notFound(final VideoID anId) {
-        return NotFoundException.with(Video.class, anId);
     }
 }
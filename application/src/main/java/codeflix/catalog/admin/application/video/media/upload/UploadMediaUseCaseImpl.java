@@ -18,7 +18,7 @@ public class UploadMediaUseCaseImpl extends UploadMediaUseCase {
     public UploadMediaOutput execute(final UploadMediaCommand aCommand) {
         final VideoID anId = VideoID.from(aCommand.videoId());
         final VideoResource videoResource = aCommand.videoResource();
-        final Video aVideo = this.videoGateway.findById(anId)
+        final Video aVideo = this.videoGateway.findByIdForUpdate(anId)
                 .orElseThrow(() -> this.notFound(anId));
 
         switch (videoResource.type()) {
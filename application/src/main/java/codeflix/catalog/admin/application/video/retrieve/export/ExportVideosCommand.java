@@ -0,0 +1,15 @@
+package codeflix.catalog.admin.application.video.retrieve.export;
+
+import codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+public record ExportVideosCommand(
+        Instant since,
+        Consumer<VideoOutput> consumer
+) {
+    public static ExportVideosCommand with(final Instant since, final Consumer<VideoOutput> aConsumer) {
+        return new ExportVideosCommand(since, aConsumer);
+    }
+}
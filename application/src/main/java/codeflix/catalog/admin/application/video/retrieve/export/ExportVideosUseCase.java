@@ -0,0 +1,7 @@
+package codeflix.catalog.admin.application.video.retrieve.export;
+
+import codeflix.catalog.admin.application._shared.base.UnitUseCase;
+
+public abstract class ExportVideosUseCase
+        extends UnitUseCase<ExportVideosCommand> {
+}
@@ -0,0 +1,22 @@
+package codeflix.catalog.admin.application.video.retrieve.export;
+
+import codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
+import codeflix.catalog.admin.domain.video.VideoGateway;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class ExportVideosUseCaseImpl extends ExportVideosUseCase {
+    private final VideoGateway videoGateway;
+
+    public ExportVideosUseCaseImpl(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public void execute(final ExportVideosCommand aCommand) {
+        final Instant since = Objects.requireNonNullElse(aCommand.since(), Instant.EPOCH);
+
+        this.videoGateway.forEachUpdatedSince(since, aVideo -> aCommand.consumer().accept(VideoOutput.from(aVideo)));
+    }
+}
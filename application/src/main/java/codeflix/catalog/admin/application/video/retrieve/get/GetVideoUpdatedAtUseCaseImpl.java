@@ -0,0 +1,21 @@
+package codeflix.catalog.admin.application.video.retrieve.get;
+
+import codeflix.catalog.admin.domain.video.VideoGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class GetVideoUpdatedAtUseCaseImpl extends GetVideoUpdatedAtUseCase {
+    private final VideoGateway videoGateway;
+
+    public GetVideoUpdatedAtUseCaseImpl(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public Optional<Instant> execute(final String anId) {
+        return this.videoGateway.findUpdatedAtById(VideoID.from(anId));
+    }
+}
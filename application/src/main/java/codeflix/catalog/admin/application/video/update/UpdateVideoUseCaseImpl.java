@@ -51,7 +51,7 @@ public class UpdateVideoUseCaseImpl extends UpdateVideoUseCase {
         final Set<GenreID> genres = this.toIdentifier(aCommand.genres(), GenreID::from);
         final Set<CastMemberID> members = this.toIdentifier(aCommand.members(), CastMemberID::from);
 
-        final Video aVideo = this.videoGateway.findById(anId)
+        final Video aVideo = this.videoGateway.findByIdForUpdate(anId)
                 .orElseThrow(() -> NotFoundException.with(Video.class, anId));
 
         final Notification notification = Notification.create();
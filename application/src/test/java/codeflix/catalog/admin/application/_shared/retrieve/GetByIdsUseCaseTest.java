@@ -0,0 +1,121 @@
+package codeflix.catalog.admin.application._shared.retrieve;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import codeflix.catalog.admin.domain.category.value.object.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GetByIdsUseCaseTest extends UseCaseTest {
+
+    private GetByIdsUseCase<CategoryOutput> useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new GetByIdsUseCaseImpl<>(CategoryID::from, this.categoryGateway::findAllByIds, CategoryOutput::from);
+    }
+
+    @Test
+    void givenValidIds_whenCallsGetByIds_shouldReturnThemInGatewayOrder() {
+        // given
+        final var first = Fixture.Categories.lessons();
+        final var second = Fixture.Categories.lives();
+        final var missing = CategoryID.from("123");
+        final var expectedIds = List.of(second.getId(), first.getId());
+
+        when(this.categoryGateway.findAllByIds(any()))
+                .thenReturn(List.of(second, first));
+
+        // when
+        final var actualOutput = this.useCase.execute(GetByIdsCommand.with(List.of(
+                second.getId().getValue(), missing.getValue(), first.getId().getValue())));
+
+        // then
+        Assertions.assertEquals(expectedIds, actualOutput.stream().map(CategoryOutput::id).toList());
+        verify(this.categoryGateway).findAllByIds(List.of(second.getId(), missing, first.getId()));
+    }
+
+    @Test
+    void givenMoreIdsThanTheLimit_whenCallsGetByIds_shouldThrowDomainException() {
+        // given
+        final var ids = Collections.nCopies(GetByIdsUseCase.MAX_IDS + 1, "123");
+        final var expectedErrorMessage = "'ids' should have at most 100 items";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.useCase.execute(GetByIdsCommand.with(ids))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(this.categoryGateway, never()).findAllByIds(any());
+    }
+
+    @Test
+    void givenMoreIdsThanOneQueryHolds_whenCallsGetByIdsWithTheBodyLimit_shouldLoadThemInChunks() {
+        // given
+        final var ids = IntStream.range(0, 250)
+                .mapToObj("id-%03d"::formatted)
+                .toList();
+
+        when(this.categoryGateway.findAllByIds(any()))
+                .thenReturn(List.of());
+
+        // when
+        final var actualOutput = this.useCase.execute(GetByIdsCommand.with(ids, GetByIdsUseCase.MAX_IDS_IN_BODY));
+
+        // then
+        Assertions.assertTrue(actualOutput.isEmpty());
+
+        final var captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(this.categoryGateway, times(3)).findAllByIds(captor.capture());
+
+        final var actualChunks = captor.getAllValues().stream()
+                .map(it -> (List<?>) it)
+                .toList();
+        Assertions.assertEquals(List.of(100, 100, 50), actualChunks.stream().map(List::size).toList());
+        Assertions.assertEquals(CategoryID.from("id-100"), actualChunks.get(1).get(0));
+    }
+
+    @Test
+    void givenMoreIdsThanTheBodyLimit_whenCallsGetByIds_shouldThrowDomainException() {
+        // given
+        final var ids = Collections.nCopies(GetByIdsUseCase.MAX_IDS_IN_BODY + 1, "123");
+        final var expectedErrorMessage = "'ids' should have at most 1000 items";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.useCase.execute(GetByIdsCommand.with(ids, GetByIdsUseCase.MAX_IDS_IN_BODY))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(this.categoryGateway, never()).findAllByIds(any());
+    }
+}
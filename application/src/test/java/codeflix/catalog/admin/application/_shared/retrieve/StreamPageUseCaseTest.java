@@ -0,0 +1,82 @@
+package codeflix.catalog.admin.application._shared.retrieve;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
+import codeflix.catalog.admin.domain._share.pagination.Pagination;
+import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
+import codeflix.catalog.admin.domain.category.entity.Category;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+class StreamPageUseCaseTest extends UseCaseTest {
+
+    private StreamPageUseCase<SearchQuery, CategoryListOutput> useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new StreamPageUseCaseImpl<>(this.categoryGateway::forEachInPage, CategoryListOutput::from);
+    }
+
+    @Test
+    void givenAValidQuery_whenCallsStreamPage_shouldHandTheGatewayRowsMappedToTheWriter() {
+        // given
+        final var lessons = Fixture.Categories.lessons();
+        final var lives = Fixture.Categories.lives();
+        final var aQuery = new SearchQuery(1, 2, "a", "name", "asc");
+        final var expectedHeader = new Pagination<>(1, 2, 3, 5, List.of());
+        final var expectedItems = List.of(CategoryListOutput.from(lessons), CategoryListOutput.from(lives));
+        final var actualEvents = new ArrayList<Object>();
+
+        doAnswer(invocation -> {
+            final PageWriter<Category> writer = invocation.getArgument(1);
+            writer.begin(expectedHeader);
+            writer.accept(lessons);
+            writer.accept(lives);
+            writer.end(null);
+            return null;
+        }).when(this.categoryGateway).forEachInPage(eq(aQuery), any());
+
+        // when
+        this.useCase.execute(StreamPageCommand.with(aQuery, new PageWriter<>() {
+            @Override
+            public void begin(final Pagination<?> aHeader) {
+                actualEvents.add(aHeader);
+            }
+
+            @Override
+            public void accept(final CategoryListOutput anItem) {
+                actualEvents.add(anItem);
+            }
+
+            @Override
+            public void end(final String nextCursor) {
+                actualEvents.add("end");
+            }
+        }));
+
+        // then
+        Assertions.assertEquals(List.of(expectedHeader, expectedItems.get(0), expectedItems.get(1), "end"), actualEvents);
+        verify(this.categoryGateway).forEachInPage(eq(aQuery), any());
+    }
+}
@@ -0,0 +1,97 @@
+package codeflix.catalog.admin.application.castmember.imports;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.application._shared.imports.ImportError;
+import codeflix.catalog.admin.application._shared.imports.ImportReport;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.castmember.create.CreateCastMemberCommand;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain.castmember.entity.CastMember;
+import codeflix.catalog.admin.domain.castmember.enums.CastMemberType;
+import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ImportCastMembersUseCaseTest extends UseCaseTest {
+
+    private static final int CHUNK_SIZE = 4;
+
+    private ImportCastMembersUseCaseImpl useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.castMemberGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new ImportCastMembersUseCaseImpl(this.castMemberGateway, CHUNK_SIZE);
+    }
+
+    @Test
+    void givenValidAndInvalidRows_whenCallsImportCastMembers_shouldWriteTheValidOnesInOneChunk() {
+        // given
+        final var expectedErrorMessage = "'type' should not be null";
+        final var rows = List.of(
+                ImportRow.valid(1, CreateCastMemberCommand.with(Fixture.name(), CastMemberType.ACTOR)),
+                ImportRow.valid(2, CreateCastMemberCommand.with(Fixture.name(), null)),
+                ImportRow.valid(3, CreateCastMemberCommand.with(Fixture.name(), CastMemberType.DIRECTOR))
+        );
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportCastMembersCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(2, actualOutput.imported());
+        Assertions.assertEquals(1, actualOutput.failed());
+        Assertions.assertEquals(2, actualOutput.errors().get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(0).errors().get(0).message());
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<CastMember>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.castMemberGateway, times(1)).createAll(captor.capture());
+        Assertions.assertEquals(
+                List.of(CastMemberType.ACTOR, CastMemberType.DIRECTOR),
+                captor.getValue().stream().map(CastMember::getType).toList()
+        );
+    }
+
+    @Test
+    void givenGatewayFailureOnTwoRows_whenCallsImportCastMembers_shouldBisectTheChunkAndReportOnlyThem() {
+        // given
+        final var rows = List.of(
+                ImportRow.valid(1, CreateCastMemberCommand.with("Wesley", CastMemberType.ACTOR)),
+                ImportRow.valid(2, CreateCastMemberCommand.with("Broken", CastMemberType.ACTOR)),
+                ImportRow.valid(3, CreateCastMemberCommand.with("Gabriel", CastMemberType.DIRECTOR)),
+                ImportRow.valid(4, CreateCastMemberCommand.with("Broken", CastMemberType.DIRECTOR))
+        );
+
+        doThrow(new IllegalStateException("Data truncation: Data too long for column 'name'"))
+                .when(this.castMemberGateway).createAll(argThat(members ->
+                        members.stream().anyMatch(it -> "Broken".equals(it.getName()))));
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportCastMembersCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(2, actualOutput.imported());
+        Assertions.assertEquals(List.of(2L, 4L), actualOutput.errors().stream().map(ImportError::line).toList());
+        Assertions.assertTrue(actualOutput.errors().stream()
+                .allMatch(it -> ImportReport.WRITE_FAILED.equals(it.errors().get(0).message())));
+
+        verify(this.castMemberGateway, times(7)).createAll(any());
+    }
+}
@@ -0,0 +1,58 @@
+package codeflix.catalog.admin.application.castmember.retrieve.get;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
+import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+class GetCastMemberUpdatedAtUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private GetCastMemberUpdatedAtUseCaseImpl useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.castMemberGateway);
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetCastMemberUpdatedAt_shouldReturnTimestamp() {
+        // given
+        final var expectedId = CastMemberID.from("123");
+        final var expectedUpdatedAt = Instant.now();
+
+        when(this.castMemberGateway.findUpdatedAtById(expectedId)).thenReturn(Optional.of(expectedUpdatedAt));
+
+        // when
+        final var actualUpdatedAt = this.useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertEquals(Optional.of(expectedUpdatedAt), actualUpdatedAt);
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGetCastMemberUpdatedAt_shouldReturnEmpty() {
+        // given
+        final var expectedId = CastMemberID.from("123");
+
+        when(this.castMemberGateway.findUpdatedAtById(expectedId)).thenReturn(Optional.empty());
+
+        // when
+        final var actualUpdatedAt = this.useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertTrue(actualUpdatedAt.isEmpty());
+    }
+}
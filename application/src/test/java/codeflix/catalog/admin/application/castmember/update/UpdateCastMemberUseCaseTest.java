@@ -50,7 +50,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
                 expectedType
         );
 
-        when(this.castMemberGateway.findById(expectedId))
+        when(this.castMemberGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(CastMember.with(aMember)));
 
         when(this.castMemberGateway.update(any()))
@@ -90,7 +90,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
                 expectedType
         );
 
-        when(this.castMemberGateway.findById(expectedId))
+        when(this.castMemberGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(aMember));
 
         // when
@@ -125,7 +125,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
                 expectedType
         );
 
-        when(this.castMemberGateway.findById(expectedId))
+        when(this.castMemberGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(aMember));
 
         // when
@@ -159,7 +159,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
                 expectedType
         );
 
-        when(this.castMemberGateway.findById(expectedId))
+        when(this.castMemberGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.empty());
 
         // when
@@ -0,0 +1,160 @@
+package codeflix.catalog.admin.application.category.imports;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.application._shared.imports.ImportError;
+import codeflix.catalog.admin.application._shared.imports.ImportReport;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
+import codeflix.catalog.admin.domain._share.validation.Error;
+import codeflix.catalog.admin.domain.category.entity.Category;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ImportCategoriesUseCaseTest extends UseCaseTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private ImportCategoriesUseCaseImpl useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new ImportCategoriesUseCaseImpl(this.categoryGateway, CHUNK_SIZE);
+    }
+
+    @Test
+    void givenValidRows_whenCallsImportCategories_shouldWriteThemInChunks() {
+        // given
+        final var rows = List.of(
+                ImportRow.valid(1, CreateCategoryCommand.with("Filmes", "A mais assistida", true)),
+                ImportRow.valid(2, CreateCategoryCommand.with("Series", null, true)),
+                ImportRow.valid(3, CreateCategoryCommand.with("Documentarios", null, false))
+        );
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportCategoriesCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(3, actualOutput.imported());
+        Assertions.assertEquals(0, actualOutput.failed());
+        Assertions.assertTrue(actualOutput.errors().isEmpty());
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<Category>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.categoryGateway, times(2)).createAll(captor.capture());
+
+        final var actualNames = captor.getAllValues().stream()
+                .map(chunk -> chunk.stream().map(Category::getName).toList())
+                .toList();
+        Assertions.assertEquals(List.of(List.of("Filmes", "Series"), List.of("Documentarios")), actualNames);
+    }
+
+    @Test
+    void givenInvalidAndUnparseableRows_whenCallsImportCategories_shouldReportThemByLine() {
+        // given
+        final var expectedParseError = "Invalid json: Unexpected end-of-input";
+        final var expectedValidationError = "'name' should not be null";
+        final var rows = List.of(
+                ImportRow.valid(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportRow.<CreateCategoryCommand>invalid(2, expectedParseError),
+                ImportRow.valid(4, CreateCategoryCommand.with(null, null, true))
+        );
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportCategoriesCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(1, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.failed());
+        Assertions.assertEquals(List.of(2L, 4L), actualOutput.errors().stream().map(ImportError::line).toList());
+        Assertions.assertEquals(expectedParseError, actualOutput.errors().get(0).errors().get(0).message());
+        Assertions.assertEquals(expectedValidationError, actualOutput.errors().get(1).errors().get(0).message());
+
+        verify(this.categoryGateway).createAll(argThat(categories ->
+                categories.size() == 1 && "Filmes".equals(categories.get(0).getName())));
+    }
+
+    @Test
+    void givenGatewayFailureOnOneRow_whenCallsImportCategories_shouldRetryTheChunkAndReportOnlyThatLine() {
+        // given
+        final var expectedErrorMessage = ImportReport.WRITE_FAILED;
+        final var rows = List.of(
+                ImportRow.valid(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportRow.valid(2, CreateCategoryCommand.with("Series", null, true))
+        );
+
+        doThrow(new IllegalStateException("Duplicate entry 'Series' for key 'categories.name'"))
+                .when(this.categoryGateway).createAll(argThat(categories ->
+                        categories.stream().anyMatch(it -> "Series".equals(it.getName()))));
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportCategoriesCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(1, actualOutput.imported());
+        Assertions.assertEquals(1, actualOutput.failed());
+        Assertions.assertEquals(2, actualOutput.errors().get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(0).errors().get(0).message());
+
+        verify(this.categoryGateway, times(3)).createAll(any());
+    }
+
+    @Test
+    void givenGatewayDomainFailure_whenCallsImportCategories_shouldReportTheDomainError() {
+        // given
+        final var expectedErrorMessage = "'name' is already in use";
+        final var rows = List.of(ImportRow.valid(3, CreateCategoryCommand.with("Filmes", null, true)));
+
+        doThrow(DomainException.with(new Error(expectedErrorMessage)))
+                .when(this.categoryGateway).createAll(any());
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportCategoriesCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(3, actualOutput.errors().get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(0).errors().get(0).message());
+    }
+
+    @Test
+    void givenOnlyInvalidRows_whenCallsImportCategories_shouldNotCallGateway() {
+        // given
+        final var rows = List.of(ImportRow.valid(1, CreateCategoryCommand.with(" ", null, true)));
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportCategoriesCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(1, actualOutput.failed());
+        verify(this.categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    void givenNonPositiveChunkSize_whenCreatesUseCase_shouldThrowException() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new ImportCategoriesUseCaseImpl(this.categoryGateway, 0)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package codeflix.catalog.admin.application.category.retrieve.export;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain.category.entity.Category;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private ExportCategoriesUseCaseImpl useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.categoryGateway);
+    }
+
+    @Test
+    void givenSince_whenCallsExportCategories_shouldEmitEachCategoryInGatewayOrder() {
+        // given
+        final var first = Fixture.Categories.lessons();
+        final var second = Fixture.Categories.lives();
+        final var expectedSince = Instant.parse("2023-01-01T00:00:00Z");
+        final var expectedIds = List.of(first.getId(), second.getId());
+
+        doAnswer(invocation -> {
+            final Consumer<Category> action = invocation.getArgument(1);
+            action.accept(first);
+            action.accept(second);
+            return null;
+        }).when(this.categoryGateway).forEachUpdatedSince(eq(expectedSince), any());
+
+        final var actualOutputs = new ArrayList<CategoryOutput>();
+
+        // when
+        this.useCase.execute(ExportCategoriesCommand.with(expectedSince, actualOutputs::add));
+
+        // then
+        Assertions.assertEquals(expectedIds, actualOutputs.stream().map(CategoryOutput::id).toList());
+    }
+
+    @Test
+    void givenNoSince_whenCallsExportCategories_shouldExportFromEpoch() {
+        // when
+        this.useCase.execute(ExportCategoriesCommand.with(null, output -> {
+        }));
+
+        // then
+        verify(this.categoryGateway).forEachUpdatedSince(eq(Instant.EPOCH), any());
+    }
+}
@@ -0,0 +1,58 @@
+package codeflix.catalog.admin.application.category.retrieve.get;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import codeflix.catalog.admin.domain.category.value.object.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+class GetCategoryUpdatedAtUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private GetCategoryUpdatedAtUseCaseImpl useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.categoryGateway);
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetCategoryUpdatedAt_shouldReturnTimestamp() {
+        // given
+        final var expectedId = CategoryID.from("123");
+        final var expectedUpdatedAt = Instant.now();
+
+        when(this.categoryGateway.findUpdatedAtById(expectedId)).thenReturn(Optional.of(expectedUpdatedAt));
+
+        // when
+        final var actualUpdatedAt = this.useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertEquals(Optional.of(expectedUpdatedAt), actualUpdatedAt);
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGetCategoryUpdatedAt_shouldReturnEmpty() {
+        // given
+        final var expectedId = CategoryID.from("123");
+
+        when(this.categoryGateway.findUpdatedAtById(expectedId)).thenReturn(Optional.empty());
+
+        // when
+        final var actualUpdatedAt = this.useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertTrue(actualUpdatedAt.isEmpty());
+    }
+}
@@ -52,7 +52,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(this.categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        when(this.categoryGateway.findByIdForUpdate(expectedId)).thenReturn(Optional.of(aCategory));
         when(this.categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
         final UpdateCategoryOutput actualOutput = this.useCase.execute(aCommand).get();
@@ -60,7 +60,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(this.categoryGateway).findById(expectedId);
+        Mockito.verify(this.categoryGateway).findByIdForUpdate(expectedId);
 
         Mockito.verify(this.categoryGateway).update(argThat(aUpdatedCategory ->
                 Objects.equals(expectedId, aUpdatedCategory.getId())
@@ -87,7 +87,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(this.categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        when(this.categoryGateway.findByIdForUpdate(expectedId)).thenReturn(Optional.of(aCategory));
 
         final Notification actualNotification = this.useCase.execute(aCommand).getLeft();
 
@@ -113,7 +113,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(this.categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        when(this.categoryGateway.findByIdForUpdate(expectedId)).thenReturn(Optional.of(aCategory));
         when(this.categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
         Assertions.assertTrue(aCategory.isActive());
@@ -123,7 +123,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(this.categoryGateway).findById(expectedId);
+        Mockito.verify(this.categoryGateway).findByIdForUpdate(expectedId);
 
         Mockito.verify(this.categoryGateway).update(argThat(aUpdatedCategory ->
                 Objects.equals(expectedId, aUpdatedCategory.getId())
@@ -150,7 +150,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(this.categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        when(this.categoryGateway.findByIdForUpdate(expectedId)).thenReturn(Optional.of(aCategory));
         when(this.categoryGateway.update(any())).thenThrow(new IllegalArgumentException("Gateway error."));
 
         final Notification actualNotification = this.useCase.execute(aCommand).getLeft();
@@ -181,7 +181,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedIsActive
         );
 
-        when(this.categoryGateway.findById(CategoryID.from(expectedId))).thenReturn(Optional.empty());
+        when(this.categoryGateway.findByIdForUpdate(CategoryID.from(expectedId))).thenReturn(Optional.empty());
 
         final NotFoundException actualException =
                 Assertions.assertThrows(NotFoundException.class, () -> this.useCase.execute(aCommand));
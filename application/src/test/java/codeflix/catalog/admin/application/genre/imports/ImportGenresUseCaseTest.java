@@ -0,0 +1,87 @@
+package codeflix.catalog.admin.application.genre.imports;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application.genre.create.CreateGenreCommand;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import codeflix.catalog.admin.domain.category.value.object.CategoryID;
+import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImportGenresUseCaseTest extends UseCaseTest {
+
+    private ImportGenresUseCaseImpl useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.categoryGateway, this.genreGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new ImportGenresUseCaseImpl(this.categoryGateway, this.genreGateway, 10);
+    }
+
+    @Test
+    void givenRowsWithMissingCategories_whenCallsImportGenres_shouldCheckCategoriesOncePerChunk() {
+        // given
+        final var lessons = Fixture.Categories.lessons().getId();
+        final var missing = CategoryID.from("123");
+        final var expectedErrorMessage = "Some categories could not be found: 123";
+        final var rows = List.of(
+                ImportRow.valid(1, CreateGenreCommand.with("Ação", true, this.asString(List.of(lessons)))),
+                ImportRow.valid(2, CreateGenreCommand.with("Drama", true, this.asString(List.of(lessons, missing)))),
+                ImportRow.valid(3, CreateGenreCommand.with("Terror", true, List.of()))
+        );
+
+        when(this.categoryGateway.existsByIds(any())).thenReturn(List.of(lessons));
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportGenresCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(2, actualOutput.imported());
+        Assertions.assertEquals(1, actualOutput.failed());
+        Assertions.assertEquals(2, actualOutput.errors().get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(0).errors().get(0).message());
+
+        verify(this.categoryGateway, times(1)).existsByIds(List.of(lessons, missing));
+        verify(this.genreGateway).createAll(argThat(genres ->
+                genres.size() == 2
+                        && genres.get(0).getCategories().equals(List.of(lessons))
+                        && genres.get(1).getCategories().isEmpty()));
+    }
+
+    @Test
+    void givenRowWithoutName_whenCallsImportGenres_shouldReportValidationError() {
+        // given
+        final var expectedErrorMessage = "'name' should not be null";
+        final var rows = List.of(ImportRow.valid(7, CreateGenreCommand.with(null, true, List.of())));
+
+        // when
+        final var actualOutput = this.useCase.execute(ImportGenresCommand.with(rows.iterator()));
+
+        // then
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(7, actualOutput.errors().get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(0).errors().get(0).message());
+    }
+}
@@ -0,0 +1,58 @@
+package codeflix.catalog.admin.application.genre.retrieve.get;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
+import codeflix.catalog.admin.domain.genre.value.object.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+class GetGenreUpdatedAtUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private GetGenreUpdatedAtUseCaseImpl useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.genreGateway);
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetGenreUpdatedAt_shouldReturnTimestamp() {
+        // given
+        final var expectedId = GenreID.from("123");
+        final var expectedUpdatedAt = Instant.now();
+
+        when(this.genreGateway.findUpdatedAtById(expectedId)).thenReturn(Optional.of(expectedUpdatedAt));
+
+        // when
+        final var actualUpdatedAt = this.useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertEquals(Optional.of(expectedUpdatedAt), actualUpdatedAt);
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGetGenreUpdatedAt_shouldReturnEmpty() {
+        // given
+        final var expectedId = GenreID.from("123");
+
+        when(this.genreGateway.findUpdatedAtById(expectedId)).thenReturn(Optional.empty());
+
+        // when
+        final var actualUpdatedAt = this.useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertTrue(actualUpdatedAt.isEmpty());
+    }
+}
@@ -55,7 +55,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
                 this.asString(expectedCategories)
         );
 
-        when(this.genreGateway.findById(any()))
+        when(this.genreGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Genre.with(aGenre)));
 
         when(this.genreGateway.update(any()))
@@ -67,7 +67,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-        Mockito.verify(this.genreGateway).findById(expectedId);
+        Mockito.verify(this.genreGateway).findByIdForUpdate(expectedId);
 
         Mockito.verify(this.genreGateway).update(argThat(aUpdatedGenre ->
                 Objects.equals(expectedId, aUpdatedGenre.getId())
@@ -100,7 +100,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
                 this.asString(expectedCategories)
         );
 
-        when(this.genreGateway.findById(any()))
+        when(this.genreGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Genre.with(aGenre)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -115,7 +115,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-        Mockito.verify(this.genreGateway).findById(expectedId);
+        Mockito.verify(this.genreGateway).findByIdForUpdate(expectedId);
 
         Mockito.verify(this.categoryGateway).existsByIds(expectedCategories);
 
@@ -147,7 +147,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
                 this.asString(expectedCategories)
         );
 
-        when(this.genreGateway.findById(any()))
+        when(this.genreGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Genre.with(aGenre)));
 
         when(this.genreGateway.update(any()))
@@ -163,7 +163,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-        Mockito.verify(this.genreGateway).findById(expectedId);
+        Mockito.verify(this.genreGateway).findByIdForUpdate(expectedId);
 
         Mockito.verify(this.genreGateway).update(argThat(aUpdatedGenre ->
                 Objects.equals(expectedId, aUpdatedGenre.getId())
@@ -196,7 +196,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
                 this.asString(expectedCategories)
         );
 
-        when(this.genreGateway.findById(any()))
+        when(this.genreGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Genre.with(aGenre)));
 
         // when
@@ -208,7 +208,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        Mockito.verify(this.genreGateway).findById(expectedId);
+        Mockito.verify(this.genreGateway).findByIdForUpdate(expectedId);
 
         Mockito.verify(this.categoryGateway, never()).existsByIds(any());
 
@@ -240,7 +240,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
                 this.asString(expectedCategories)
         );
 
-        when(this.genreGateway.findById(any()))
+        when(this.genreGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Genre.with(aGenre)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -256,7 +256,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorMessageOne, actualException.getErrors().get(0).message());
         Assertions.assertEquals(expectedErrorMessageTwo, actualException.getErrors().get(1).message());
 
-        Mockito.verify(this.genreGateway).findById(expectedId);
+        Mockito.verify(this.genreGateway).findByIdForUpdate(expectedId);
 
         Mockito.verify(this.categoryGateway).existsByIds(expectedCategories);
 
@@ -12,9 +12,10 @@ import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
 import codeflix.catalog.admin.domain.resource.Resource;
 import codeflix.catalog.admin.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
@@ -22,6 +23,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,9 +35,10 @@ import static org.mockito.Mockito.*;
 
 class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private CreateVideoUseCaseImpl useCase;
 
+    private ExecutorService mediaExecutor;
+
     @Mock
     private VideoGateway videoGateway;
 
@@ -53,6 +59,24 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         return List.of(this.videoGateway, this.categoryGateway, this.genreGateway, this.castMemberGateway, this.mediaResourceGateway);
     }
 
+    @BeforeEach
+    void setUp() {
+        this.mediaExecutor = Executors.newFixedThreadPool(5);
+        this.useCase = new CreateVideoUseCaseImpl(
+                this.videoGateway,
+                this.categoryGateway,
+                this.genreGateway,
+                this.castMemberGateway,
+                this.mediaResourceGateway,
+                this.mediaExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaExecutor.shutdownNow();
+    }
+
     @Test
     void givenAValidCommand_whenCallsCreateVideo_shouldReturnVideoId() {
         // given
@@ -1009,6 +1033,58 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         verify(this.mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    void givenAValidCommand_whenAMediaStoreFails_shouldCancelPendingStoresAndCallClearResources() throws InterruptedException {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+        final var expectedCause = "Storage unavailable";
+
+        final var aCommand = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VideoMediaType.VIDEO),
+                Fixture.Videos.resource(VideoMediaType.TRAILER),
+                Fixture.Videos.resource(VideoMediaType.BANNER),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+
+        final var interrupted = new CountDownLatch(2);
+
+        when(this.mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            try {
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+
+        when(this.mediaResourceGateway.storeImage(any(), any()))
+                .thenThrow(new RuntimeException(expectedCause));
+
+        // when
+        final var actualResult = Assertions.assertThrows(InternalErrorException.class, () -> {
+            this.useCase.execute(aCommand);
+        });
+
+        // then
+        Assertions.assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+        Assertions.assertEquals(expectedCause, actualResult.getCause().getMessage());
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+
+        verify(this.mediaResourceGateway).clearResources(any());
+        verify(this.videoGateway, never()).create(any());
+    }
+
     private void mockImageMedia() {
         when(this.mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
             final var videoResource = t.getArgument(1, VideoResource.class);
@@ -46,7 +46,9 @@ class GetMediaUseCaseTest extends UseCaseTest {
 
         // then
         Assertions.assertEquals(expectedResource.name(), actualResult.name());
-        Assertions.assertEquals(expectedResource.content(), actualResult.content());
+        Assertions.assertEquals(expectedResource.checksum(), actualResult.checksum());
+        Assertions.assertEquals(expectedResource.size(), actualResult.size());
+        Assertions.assertEquals(expectedResource, actualResult.content());
         Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
     }
 
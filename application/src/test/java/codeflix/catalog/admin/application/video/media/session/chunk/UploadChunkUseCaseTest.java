@@ -0,0 +1,130 @@
+package codeflix.catalog.admin.application.video.media.session.chunk;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
+import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
+import codeflix.catalog.admin.domain.resource.Resource;
+import codeflix.catalog.admin.domain.video.UploadSession;
+import codeflix.catalog.admin.domain.video.UploadSessionGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class UploadChunkUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private UploadChunkUseCaseImpl useCase;
+
+    @Mock
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.uploadSessionGateway);
+    }
+
+    @Test
+    void givenValidChunk_whenCallsUploadChunk_shouldStoreItAndReturnReceived() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var aChunk = Fixture.Videos.resource(expectedType);
+        final var aSession = UploadSession.newSession(expectedId, expectedType, "video.mp4", "video/mp4", 100);
+        final var expectedOffset = 10L;
+        final var expectedReceived = 17L;
+
+        when(this.uploadSessionGateway.findById(aSession.id())).thenReturn(Optional.of(aSession));
+        when(this.uploadSessionGateway.storeChunk(aSession, expectedOffset, aChunk)).thenReturn(expectedReceived);
+
+        final var aCmd = UploadChunkCommand.with(expectedId.getValue(), expectedType.name(), aSession.id(), expectedOffset, aChunk);
+
+        // when
+        final var actualOutput = this.useCase.execute(aCmd);
+
+        // then
+        Assertions.assertEquals(aSession.id(), actualOutput.sessionId());
+        Assertions.assertEquals(expectedReceived, actualOutput.received());
+        Assertions.assertEquals(aSession.size(), actualOutput.size());
+    }
+
+    @Test
+    void givenChunkOfUndeclaredLength_whenCallsUploadChunk_shouldLeaveTheByteCountToTheGateway() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var aChunk = Resource.with(() -> new ByteArrayInputStream(new byte[4]), -1, "application/octet-stream", "chunk");
+        final var aSession = UploadSession.newSession(expectedId, expectedType, "video.mp4", "video/mp4", 100);
+
+        when(this.uploadSessionGateway.findById(aSession.id())).thenReturn(Optional.of(aSession));
+        when(this.uploadSessionGateway.storeChunk(aSession, 0, aChunk)).thenReturn(4L);
+
+        final var aCmd = UploadChunkCommand.with(expectedId.getValue(), expectedType.name(), aSession.id(), 0, aChunk);
+
+        // when
+        final var actualOutput = this.useCase.execute(aCmd);
+
+        // then
+        Assertions.assertEquals(4, actualOutput.received());
+    }
+
+    @Test
+    void givenChunkBeyondSize_whenCallsUploadChunk_shouldReturnNotificationException() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var aChunk = Fixture.Videos.resource(expectedType);
+        final var aSession = UploadSession.newSession(expectedId, expectedType, "video.mp4", "video/mp4", 10);
+        final var expectedErrorMessage = "Chunk exceeds upload size of 10 bytes";
+
+        when(this.uploadSessionGateway.findById(aSession.id())).thenReturn(Optional.of(aSession));
+
+        final var aCmd = UploadChunkCommand.with(expectedId.getValue(), expectedType.name(), aSession.id(), 5, aChunk);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> this.useCase.execute(aCmd)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(this.uploadSessionGateway, never()).storeChunk(any(), anyLong(), any());
+    }
+
+    @Test
+    void givenSessionOfAnotherVideo_whenCallsUploadChunk_shouldReturnNotFound() {
+        // given
+        final var expectedType = VideoMediaType.VIDEO;
+        final var aChunk = Fixture.Videos.resource(expectedType);
+        final var aSession = UploadSession.newSession(VideoID.unique(), expectedType, "video.mp4", "video/mp4", 100);
+        final var expectedErrorMessage = "Upload session %s not found".formatted(aSession.id());
+
+        when(this.uploadSessionGateway.findById(aSession.id())).thenReturn(Optional.of(aSession));
+
+        final var aCmd = UploadChunkCommand.with(VideoID.unique().getValue(), expectedType.name(), aSession.id(), 0, aChunk);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> this.useCase.execute(aCmd)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(this.uploadSessionGateway, never()).storeChunk(any(), anyLong(), any());
+    }
+}
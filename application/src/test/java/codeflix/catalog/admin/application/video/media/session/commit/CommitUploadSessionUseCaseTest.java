@@ -0,0 +1,94 @@
+package codeflix.catalog.admin.application.video.media.session.commit;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.application.video.media.upload.UploadMediaOutput;
+import codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
+import codeflix.catalog.admin.domain.video.UploadSession;
+import codeflix.catalog.admin.domain.video.UploadSessionGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CommitUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private CommitUploadSessionUseCaseImpl useCase;
+
+    @Mock
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Mock
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.uploadSessionGateway, this.uploadMediaUseCase);
+    }
+
+    @Test
+    void givenCompleteSession_whenCallsCommit_shouldUploadMediaAndDeleteSession() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var aSession = UploadSession.newSession(expectedId, expectedType, "trailer.mp4", "video/mp4", 7);
+
+        when(this.uploadSessionGateway.findById(aSession.id())).thenReturn(Optional.of(aSession));
+        when(this.uploadSessionGateway.assemble(aSession)).thenReturn(Optional.of(expectedResource));
+        when(this.uploadMediaUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        final var aCmd = CommitUploadSessionCommand.with(expectedId.getValue(), expectedType.name(), aSession.id());
+
+        // when
+        final var actualOutput = this.useCase.execute(aCmd);
+
+        // then
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+
+        verify(this.uploadMediaUseCase).execute(argThat(aUpload ->
+                expectedId.getValue().equals(aUpload.videoId())
+                        && expectedType == aUpload.videoResource().type()
+                        && expectedResource == aUpload.videoResource().resource()
+        ));
+        verify(this.uploadSessionGateway).deleteById(aSession.id());
+    }
+
+    @Test
+    void givenIncompleteSession_whenCallsCommit_shouldReturnDomainException() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var aSession = UploadSession.newSession(expectedId, expectedType, "video.mp4", "video/mp4", 7);
+        final var expectedErrorMessage = "Upload session %s is incomplete".formatted(aSession.id());
+
+        when(this.uploadSessionGateway.findById(aSession.id())).thenReturn(Optional.of(aSession));
+        when(this.uploadSessionGateway.assemble(aSession)).thenReturn(Optional.empty());
+
+        final var aCmd = CommitUploadSessionCommand.with(expectedId.getValue(), expectedType.name(), aSession.id());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.useCase.execute(aCmd)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(this.uploadMediaUseCase, never()).execute(any());
+        verify(this.uploadSessionGateway, never()).deleteById(any());
+    }
+}
@@ -0,0 +1,118 @@
+package codeflix.catalog.admin.application.video.media.session.create;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
+import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
+import codeflix.catalog.admin.domain.video.UploadSessionGateway;
+import codeflix.catalog.admin.domain.video.VideoGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CreateUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private CreateUploadSessionUseCaseImpl useCase;
+
+    @Mock
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.uploadSessionGateway, this.videoGateway);
+    }
+
+    @Test
+    void givenValidCmd_whenCallsCreateUploadSession_shouldReturnSession() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedName = "video.mp4";
+        final var expectedContentType = "video/mp4";
+        final var expectedSize = 1024L;
+
+        when(this.videoGateway.findByIdForUpdate(expectedId)).thenReturn(Optional.of(aVideo));
+        when(this.uploadSessionGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var aCmd = CreateUploadSessionCommand.with(
+                expectedId.getValue(), expectedType.name(), expectedName, expectedContentType, expectedSize
+        );
+
+        // when
+        final var actualOutput = this.useCase.execute(aCmd);
+
+        // then
+        Assertions.assertNotNull(actualOutput.sessionId());
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+        Assertions.assertEquals(expectedSize, actualOutput.size());
+        Assertions.assertEquals(0, actualOutput.received());
+
+        verify(this.uploadSessionGateway).create(argThat(aSession ->
+                expectedId.equals(aSession.videoId())
+                        && expectedType == aSession.type()
+                        && expectedName.equals(aSession.name())
+                        && expectedContentType.equals(aSession.contentType())
+                        && expectedSize == aSession.size()
+        ));
+    }
+
+    @Test
+    void givenInvalidTypeAndSize_whenCallsCreateUploadSession_shouldReturnNotificationException() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorCount = 2;
+        final var expectedErrorMessage = "Invalid INVALID for VideoMediaType.";
+
+        final var aCmd = CreateUploadSessionCommand.with(expectedId.getValue(), "INVALID", "video.mp4", "video/mp4", 0);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> this.useCase.execute(aCmd)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(this.uploadSessionGateway, never()).create(any());
+    }
+
+    @Test
+    void givenValidCmd_whenVideoDoesNotExist_shouldReturnNotFound() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        when(this.videoGateway.findByIdForUpdate(expectedId)).thenReturn(Optional.empty());
+
+        final var aCmd = CreateUploadSessionCommand.with(expectedId.getValue(), "VIDEO", "video.mp4", "video/mp4", 10);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> this.useCase.execute(aCmd)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(this.uploadSessionGateway, never()).create(any());
+    }
+}
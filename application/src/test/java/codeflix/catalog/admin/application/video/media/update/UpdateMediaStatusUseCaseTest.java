@@ -2,21 +2,20 @@ package codeflix.catalog.admin.application.video.media.update;
 
 import codeflix.catalog.admin.application.UseCaseTest;
 import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
 import codeflix.catalog.admin.domain.video.MediaStatus;
-import codeflix.catalog.admin.domain.video.Video;
 import codeflix.catalog.admin.domain.video.VideoGateway;
 import codeflix.catalog.admin.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.List;
-import java.util.Optional;
 
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class UpdateMediaStatusUseCaseTest extends UseCaseTest {
@@ -38,19 +37,15 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
 
         final var aVideo = Fixture.Videos.systemDesign()
                 .updateVideoMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        when(this.videoGateway.findById(expectedId))
-                .thenReturn(Optional.of(aVideo));
-
-        when(this.videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(this.videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -64,199 +59,123 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.useCase.execute(aCmd);
 
         // then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(this.videoGateway).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+        verify(this.videoGateway).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFilename))
+        );
+        verify(this.videoGateway, never()).findById(any());
+        verify(this.videoGateway, never()).update(any());
     }
 
     @Test
-    void givenCommandForVideo_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+    void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateOnlyStatus() {
         // given
         final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFilename = null;
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
 
         final var aVideo = Fixture.Videos.systemDesign()
-                .updateVideoMedia(expectedMedia);
+                .updateTrailerMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        when(this.videoGateway.findById(expectedId))
-                .thenReturn(Optional.of(aVideo));
-
-        when(this.videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(this.videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
                 expectedId.getValue(),
                 expectedMedia.id(),
-                expectedFolder,
-                expectedFilename
+                null,
+                null
         );
 
         // when
         this.useCase.execute(aCmd);
 
         // then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(this.videoGateway).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        verify(this.videoGateway).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                isNull()
+        );
     }
 
     @Test
-    void givenCommandForTrailer_whenIsValid_shouldUpdateStatusAndEncodedLocation() {
+    void givenCommandForPendingStatus_whenCallsExecute_shouldDoNothing() {
         // given
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedFolder = "encoded_media";
-        final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-        final var aVideo = Fixture.Videos.systemDesign()
-                .updateTrailerMedia(expectedMedia);
-
-        final var expectedId = aVideo.getId();
-
-        when(this.videoGateway.findById(expectedId))
-                .thenReturn(Optional.of(aVideo));
-
-        when(this.videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
-
         final var aCmd = UpdateMediaStatusCommand.with(
-                expectedStatus,
-                expectedId.getValue(),
-                expectedMedia.id(),
-                expectedFolder,
-                expectedFilename
+                MediaStatus.PENDING,
+                Fixture.Videos.systemDesign().getId().getValue(),
+                "randomId",
+                "encoded_media",
+                "filename.mp4"
         );
 
         // when
         this.useCase.execute(aCmd);
 
         // then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(this.videoGateway).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+        verifyNoInteractions(this.videoGateway);
     }
 
     @Test
-    void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+    void givenAMediaThatCannotTakeTheStatus_whenCallsExecute_shouldIgnoreIt() {
         // given
-        final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFilename = null;
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-        final var aVideo = Fixture.Videos.systemDesign()
-                .updateTrailerMedia(expectedMedia);
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedId = Fixture.Videos.systemDesign().updateVideoMedia(expectedMedia).getId();
 
-        final var expectedId = aVideo.getId();
-
-        when(this.videoGateway.findById(expectedId))
-                .thenReturn(Optional.of(aVideo));
-
-        when(this.videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(this.videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
+        when(this.videoGateway.existsMedia(any(), any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
-                expectedStatus,
+                MediaStatus.PROCESSING,
                 expectedId.getValue(),
                 expectedMedia.id(),
-                expectedFolder,
-                expectedFilename
+                null,
+                null
         );
 
         // when
-        this.useCase.execute(aCmd);
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(aCmd));
 
         // then
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(this.videoGateway).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        verify(this.videoGateway).existsMedia(eq(expectedId), eq(expectedMedia.id()));
     }
 
     @Test
-    void givenCommandForTrailer_whenIsInvalid_shouldDoNothing() {
+    void givenAnUnknownMedia_whenCallsExecute_shouldReturnNotFound() {
         // given
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedFolder = "encoded_media";
-        final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-        final var aVideo = Fixture.Videos.systemDesign()
-                .updateTrailerMedia(expectedMedia);
+        final var expectedId = Fixture.Videos.systemDesign().getId();
+        final var expectedResourceId = "randomId";
+        final var expectedErrorMessage = "Media randomId of Video with ID %s was not found"
+                .formatted(expectedId.getValue());
 
-        final var expectedId = aVideo.getId();
-
-        when(this.videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
+        when(this.videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
+        when(this.videoGateway.existsMedia(any(), any()))
+                .thenReturn(false);
 
         final var aCmd = UpdateMediaStatusCommand.with(
-                expectedStatus,
+                MediaStatus.COMPLETED,
                 expectedId.getValue(),
-                "randomId",
-                expectedFolder,
-                expectedFilename
+                expectedResourceId,
+                "encoded_media",
+                "filename.mp4"
         );
 
         // when
-        this.useCase.execute(aCmd);
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> this.useCase.execute(aCmd)
+        );
 
         // then
-        verify(this.videoGateway, never()).update(any());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(this.videoGateway).existsMedia(eq(expectedId), eq(expectedResourceId));
     }
-}
\ No newline at end of file
+}
@@ -46,7 +46,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
 
-        when(this.videoGateway.findById(expectedId))
+        when(this.videoGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(aVideo));
 
         when(this.mediaResourceGateway.storeAudioVideo(expectedId, expectedVideoResource))
@@ -83,7 +83,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
 
-        when(this.videoGateway.findById(expectedId))
+        when(this.videoGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(aVideo));
 
         when(this.mediaResourceGateway.storeAudioVideo(expectedId, expectedVideoResource))
@@ -120,7 +120,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.image(expectedType);
 
-        when(this.videoGateway.findById(expectedId))
+        when(this.videoGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(aVideo));
 
         when(this.mediaResourceGateway.storeImage(expectedId, expectedVideoResource))
@@ -157,7 +157,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.image(expectedType);
 
-        when(this.videoGateway.findById(expectedId))
+        when(this.videoGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(aVideo));
 
         when(this.mediaResourceGateway.storeImage(expectedId, expectedVideoResource))
@@ -194,7 +194,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.image(expectedType);
 
-        when(this.videoGateway.findById(expectedId))
+        when(this.videoGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(aVideo));
 
         when(this.mediaResourceGateway.storeImage(expectedId, expectedVideoResource))
@@ -232,7 +232,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
 
         final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.empty());
 
         final var aCmd = UploadMediaCommand.with(expectedId.getValue(), expectedVideoResource);
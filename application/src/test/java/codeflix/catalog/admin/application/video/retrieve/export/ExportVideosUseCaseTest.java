@@ -0,0 +1,55 @@
+package codeflix.catalog.admin.application.video.retrieve.export;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain.video.Video;
+import codeflix.catalog.admin.domain.video.VideoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+class ExportVideosUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private ExportVideosUseCaseImpl useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.videoGateway);
+    }
+
+    @Test
+    void givenSince_whenCallsExportVideos_shouldEmitEachVideoAsOutput() {
+        // given
+        final var aVideo = Fixture.video();
+        final var expectedSince = Instant.parse("2023-01-01T00:00:00Z");
+
+        doAnswer(invocation -> {
+            final Consumer<Video> action = invocation.getArgument(1);
+            action.accept(aVideo);
+            return null;
+        }).when(this.videoGateway).forEachUpdatedSince(eq(expectedSince), any());
+
+        final var actualOutputs = new ArrayList<VideoOutput>();
+
+        // when
+        this.useCase.execute(ExportVideosCommand.with(expectedSince, actualOutputs::add));
+
+        // then
+        Assertions.assertEquals(List.of(aVideo.getId().getValue()), actualOutputs.stream().map(VideoOutput::id).toList());
+    }
+}
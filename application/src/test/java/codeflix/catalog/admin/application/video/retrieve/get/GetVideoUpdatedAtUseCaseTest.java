@@ -0,0 +1,58 @@
+package codeflix.catalog.admin.application.video.retrieve.get;
+
+import codeflix.catalog.admin.application.UseCaseTest;
+import codeflix.catalog.admin.domain.video.VideoGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+class GetVideoUpdatedAtUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private GetVideoUpdatedAtUseCaseImpl useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.videoGateway);
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetVideoUpdatedAt_shouldReturnTimestamp() {
+        // given
+        final var expectedId = VideoID.from("123");
+        final var expectedUpdatedAt = Instant.now();
+
+        when(this.videoGateway.findUpdatedAtById(expectedId)).thenReturn(Optional.of(expectedUpdatedAt));
+
+        // when
+        final var actualUpdatedAt = this.useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertEquals(Optional.of(expectedUpdatedAt), actualUpdatedAt);
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGetVideoUpdatedAt_shouldReturnEmpty() {
+        // given
+        final var expectedId = VideoID.from("123");
+
+        when(this.videoGateway.findUpdatedAtById(expectedId)).thenReturn(Optional.empty());
+
+        // when
+        final var actualUpdatedAt = this.useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertTrue(actualUpdatedAt.isEmpty());
+    }
+}
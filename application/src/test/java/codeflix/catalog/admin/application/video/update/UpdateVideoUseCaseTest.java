@@ -94,7 +94,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -119,7 +119,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.videoGateway).update(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
@@ -185,7 +185,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.castMemberGateway.existsByIds(any()))
@@ -207,7 +207,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.videoGateway).update(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
@@ -273,7 +273,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -295,7 +295,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.videoGateway).update(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
@@ -358,7 +358,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -380,7 +380,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.videoGateway).update(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
@@ -446,7 +446,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -468,7 +468,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.videoGateway).update(argThat(actualVideo ->
                 Objects.equals(expectedTitle, actualVideo.getTitle())
@@ -534,7 +534,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         // when
@@ -547,7 +547,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.categoryGateway, never()).existsByIds(any());
         verify(this.castMemberGateway, never()).existsByIds(any());
@@ -599,7 +599,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         // when
@@ -612,7 +612,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.categoryGateway, never()).existsByIds(any());
         verify(this.castMemberGateway, never()).existsByIds(any());
@@ -664,7 +664,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         // when
@@ -677,7 +677,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.categoryGateway, never()).existsByIds(any());
         verify(this.castMemberGateway, never()).existsByIds(any());
@@ -729,7 +729,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         // when
@@ -742,7 +742,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.categoryGateway, never()).existsByIds(any());
         verify(this.castMemberGateway, never()).existsByIds(any());
@@ -794,7 +794,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         // when
@@ -807,7 +807,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(this.videoGateway).findById(aVideo.getId());
+        verify(this.videoGateway).findByIdForUpdate(aVideo.getId());
 
         verify(this.categoryGateway, never()).existsByIds(any());
         verify(this.castMemberGateway, never()).existsByIds(any());
@@ -860,7 +860,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -933,7 +933,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -1006,7 +1006,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.categoryGateway.existsByIds(any()))
@@ -1079,7 +1079,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(this.videoGateway.findById(any()))
+        when(this.videoGateway.findByIdForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(this.categoryGateway.existsByIds(any()))
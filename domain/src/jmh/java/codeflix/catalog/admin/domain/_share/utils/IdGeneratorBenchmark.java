@@ -0,0 +1,41 @@
+package codeflix.catalog.admin.domain._share.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator timeOrdered = new TimeOrderedIdGenerator();
+
+    @Benchmark
+    @Threads(1)
+    public String randomUuid() {
+        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String timeOrdered() {
+        return this.timeOrdered.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String randomUuidContended() {
+        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String timeOrderedContended() {
+        return this.timeOrdered.next();
+    }
+}
@@ -0,0 +1,40 @@
+package codeflix.catalog.admin.domain._share.pagination;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// receives a page while the gateway still walks its rows: the counts first, then every item, then the next cursor
+public interface PageWriter<T> extends Consumer<T> {
+
+    void begin(Pagination<?> aHeader);
+
+    void end(String nextCursor);
+
+    default void write(final Pagination<T> aPage) {
+        this.begin(new Pagination<>(aPage.currentPage(), aPage.perPage(), aPage.totalPages(), aPage.totalElements(), List.of()));
+        aPage.items().forEach(this);
+        this.end(aPage.nextCursor());
+    }
+
+    default <R> PageWriter<R> mapping(final Function<R, T> mapper) {
+        final PageWriter<T> target = this;
+
+        return new PageWriter<>() {
+            @Override
+            public void begin(final Pagination<?> aHeader) {
+                target.begin(aHeader);
+            }
+
+            @Override
+            public void accept(final R anItem) {
+                target.accept(mapper.apply(anItem));
+            }
+
+            @Override
+            public void end(final String nextCursor) {
+                target.end(nextCursor);
+            }
+        };
+    }
+}
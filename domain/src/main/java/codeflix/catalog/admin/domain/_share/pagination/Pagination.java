@@ -8,15 +8,26 @@ public record Pagination<T>(
         int perPage,
         long totalPages,
         long totalElements,
-        List<T> items
+        List<T> items,
+        String nextCursor
 ) {
 
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long totalPages,
+            final long totalElements,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, totalPages, totalElements, items, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aMappedList = items.stream()
                 .map(mapper)
                 .toList();
 
-        return new Pagination<>(currentPage(), perPage(), totalPages(), totalElements(), aMappedList);
+        return new Pagination<>(currentPage(), perPage(), totalPages(), totalElements(), aMappedList, nextCursor());
     }
 
 }
@@ -1,5 +1,9 @@
 package codeflix.catalog.admin.domain._share.utils;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -20,4 +24,15 @@ public final class CollectionUtils {
         if (values == null || values.isEmpty()) return null;
         return values;
     }
+
+    // arranges values in the order of their keys, dropping keys without a value
+    public static <K, V> List<V> orderedBy(final List<K> keys, final Collection<V> values, final Function<V, K> keyOf) {
+        final Map<K, V> valuesByKey = values.stream()
+                .collect(Collectors.toMap(keyOf, Function.identity()));
+
+        return keys.stream()
+                .map(valuesByKey::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
@@ -0,0 +1,24 @@
+package codeflix.catalog.admin.domain._share.utils;
+
+import java.nio.charset.StandardCharsets;
+
+public final class HexUtils {
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private HexUtils() {
+    }
+
+    public static String toHex(final long mostSigBits, final long leastSigBits) {
+        final byte[] hex = new byte[32];
+        write(mostSigBits, hex, 0);
+        write(leastSigBits, hex, 16);
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void write(long value, final byte[] hex, final int offset) {
+        for (int i = offset + 15; i >= offset; i--) {
+            hex[i] = DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package codeflix.catalog.admin.domain._share.utils;
+
+@FunctionalInterface
+public interface IdGenerator {
+
+    String next();
+}
@@ -1,12 +1,25 @@
 package codeflix.catalog.admin.domain._share.utils;
 
+import java.util.Objects;
 import java.util.UUID;
 
 public class IdUtils {
+    private static volatile IdGenerator generator = new TimeOrderedIdGenerator();
+
     private IdUtils() {
     }
 
     public static String uuid() {
-        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        return generator.next();
+    }
+
+    // for ids that must not be guessable, such as upload session tokens
+    public static String random() {
+        final UUID uuid = UUID.randomUUID();
+        return HexUtils.toHex(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public static void use(final IdGenerator aGenerator) {
+        generator = Objects.requireNonNull(aGenerator);
     }
 }
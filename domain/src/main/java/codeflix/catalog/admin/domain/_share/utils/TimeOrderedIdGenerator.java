@@ -0,0 +1,39 @@
+package codeflix.catalog.admin.domain._share.utils;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// UUIDv7 layout: 48 bits of unix millis, version, a 12 bit sequence and 62 random bits
+public class TimeOrderedIdGenerator implements IdGenerator {
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final Clock clock;
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public TimeOrderedIdGenerator() {
+        this(Clock.systemUTC());
+    }
+
+    public TimeOrderedIdGenerator(final Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public String next() {
+        final long tick = this.nextTick();
+        final long mostSigBits = (tick >>> SEQUENCE_BITS) << 16 | VERSION | (tick & 0xFFFL);
+        final long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return HexUtils.toHex(mostSigBits, leastSigBits);
+    }
+
+    // ids generated in the same millisecond take the next sequence, so they stay strictly increasing
+    private long nextTick() {
+        final long now = this.clock.millis() << SEQUENCE_BITS;
+        return this.lastTick.updateAndGet(last -> Math.max(now, last + 1));
+    }
+}
@@ -1,23 +1,38 @@
 package codeflix.catalog.admin.domain.castmember.gateway;
 
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.castmember.entity.CastMember;
 import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CastMemberGateway {
     CastMember create(CastMember aCastMember);
 
+    void createAll(List<CastMember> members);
+
     CastMember update(CastMember aCastMember);
 
     void deleteById(CastMemberID anId);
 
     Optional<CastMember> findById(CastMemberID anId);
 
+    Optional<CastMember> findByIdForUpdate(CastMemberID anId);
+
+    List<CastMember> findAllByIds(Iterable<CastMemberID> ids);
+
+    Optional<Instant> findUpdatedAtById(CastMemberID anId);
+
+    void forEachUpdatedSince(Instant since, Consumer<CastMember> anAction);
+
     Pagination<CastMember> findAll(SearchQuery aQuery);
 
+    void forEachInPage(SearchQuery aQuery, PageWriter<CastMember> aWriter);
+
     List<CastMemberID> existsByIds(Iterable<CastMemberID> members);
 }
@@ -1,24 +1,39 @@
 package codeflix.catalog.admin.domain.category.gateway;
 
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.category.entity.Category;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    void createAll(List<Category> categories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
+    Optional<Category> findByIdForUpdate(CategoryID anId);
+
+    List<Category> findAllByIds(Iterable<CategoryID> ids);
+
+    Optional<Instant> findUpdatedAtById(CategoryID anId);
+
+    void forEachUpdatedSince(Instant since, Consumer<Category> anAction);
+
     Category update(Category aCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
 
+    void forEachInPage(SearchQuery aQuery, PageWriter<Category> aWriter);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
 }
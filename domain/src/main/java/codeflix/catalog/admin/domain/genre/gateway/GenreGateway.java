@@ -1,23 +1,38 @@
 package codeflix.catalog.admin.domain.genre.gateway;
 
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.genre.entity.Genre;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
     Genre create(Genre aGenre);
 
+    void createAll(List<Genre> genres);
+
     Genre update(Genre aGenre);
 
     void deleteById(GenreID anId);
 
     Optional<Genre> findById(GenreID anId);
 
+    Optional<Genre> findByIdForUpdate(GenreID anId);
+
+    List<Genre> findAllByIds(Iterable<GenreID> ids);
+
+    Optional<Instant> findUpdatedAtById(GenreID anId);
+
+    void forEachUpdatedSince(Instant since, Consumer<Genre> anAction);
+
     Pagination<Genre> findAll(SearchQuery aQuery);
 
+    void forEachInPage(SearchQuery aQuery, PageWriter<Genre> aWriter);
+
     List<GenreID> existsByIds(Iterable<GenreID> genres);
 }
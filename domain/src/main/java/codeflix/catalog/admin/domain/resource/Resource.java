@@ -2,23 +2,74 @@ package codeflix.catalog.admin.domain.resource;
 
 import codeflix.catalog.admin.domain._share.value.object.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
 
 public class Resource extends ValueObject {
+    private static final int BUFFER_SIZE = 8192;
+
     private final String checksum;
     private final byte[] content;
+    private final Source source;
+    private final long size;
     private final String contentType;
     private final String name;
 
-    private Resource(final String checksum, final byte[] content, final String contentType, final String name) {
-        this.checksum = Objects.requireNonNull(checksum);
-        this.content = Objects.requireNonNull(content);
+    private Resource(
+            final String checksum,
+            final byte[] content,
+            final Source source,
+            final long size,
+            final String contentType,
+            final String name
+    ) {
+        this.checksum = checksum;
+        this.content = content;
+        this.source = source;
+        this.size = size;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum, content, contentType, name);
+        Objects.requireNonNull(checksum);
+        Objects.requireNonNull(content);
+        return new Resource(checksum, content, null, content.length, contentType, name);
+    }
+
+    public static Resource with(final Source source, final long size, final String contentType, final String name) {
+        return with(null, source, size, contentType, name);
+    }
+
+    public static Resource with(
+            final String checksum,
+            final Source source,
+            final long size,
+            final String contentType,
+            final String name
+    ) {
+        Objects.requireNonNull(source);
+        return new Resource(checksum, null, source, size, contentType, name);
+    }
+
+    public boolean isStreamed() {
+        return this.content == null;
+    }
+
+    public InputStream openStream() throws IOException {
+        return this.isStreamed() ? this.source.open() : new ByteArrayInputStream(this.content);
+    }
+
+    public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+        if (this.isStreamed()) return this.source.transferTo(position, count, target);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(this.content, (int) position, (int) count);
+        while (buffer.hasRemaining()) target.write(buffer);
+        return count;
     }
 
     public String checksum() {
@@ -26,9 +77,14 @@ public class Resource extends ValueObject {
     }
 
     public byte[] content() {
+        if (this.isStreamed()) throw new IllegalStateException("Streamed resource %s must be read through openStream".formatted(this.name));
         return this.content;
     }
 
+    public long size() {
+        return this.size;
+    }
+
     public String contentType() {
         return this.contentType;
     }
@@ -36,4 +92,27 @@ public class Resource extends ValueObject {
     public String name() {
         return this.name;
     }
+
+    @FunctionalInterface
+    public interface Source {
+        InputStream open() throws IOException;
+
+        default long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final InputStream in = this.open()) {
+                in.skipNBytes(position);
+
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                long transferred = 0;
+                while (transferred < count) {
+                    final int read = in.read(buffer, 0, (int) Math.min(buffer.length, count - transferred));
+                    if (read < 0) break;
+
+                    final ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) target.write(chunk);
+                    transferred += read;
+                }
+                return transferred;
+            }
+        }
+    }
 }
@@ -1,5 +1,13 @@
 package codeflix.catalog.admin.domain.video;
 
 public enum MediaStatus {
-    PENDING, PROCESSING, COMPLETED
+    PENDING, PROCESSING, COMPLETED;
+
+    public boolean canMoveTo(final MediaStatus aStatus) {
+        return switch (this) {
+            case PENDING -> aStatus == PROCESSING || aStatus == COMPLETED;
+            case PROCESSING -> aStatus == COMPLETED;
+            case COMPLETED -> false;
+        };
+    }
 }
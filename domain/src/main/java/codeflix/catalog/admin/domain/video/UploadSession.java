@@ -0,0 +1,117 @@
+package codeflix.catalog.admin.domain.video;
+
+import codeflix.catalog.admin.domain._share.utils.IdUtils;
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+public class UploadSession {
+    private final String id;
+    private final VideoID videoId;
+    private final VideoMediaType type;
+    private final String name;
+    private final String contentType;
+    private final long size;
+    private final Instant createdAt;
+    private final Instant lastActivityAt;
+
+    private UploadSession(
+            final String id,
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String name,
+            final String contentType,
+            final long size,
+            final Instant createdAt,
+            final Instant lastActivityAt
+    ) {
+        this.id = Objects.requireNonNull(id);
+        this.videoId = Objects.requireNonNull(videoId);
+        this.type = Objects.requireNonNull(type);
+        this.name = Objects.requireNonNull(name);
+        this.contentType = Objects.requireNonNull(contentType);
+        this.size = size;
+        this.createdAt = Objects.requireNonNull(createdAt);
+        this.lastActivityAt = Objects.requireNonNull(lastActivityAt);
+    }
+
+    public static UploadSession newSession(
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String name,
+            final String contentType,
+            final long size
+    ) {
+        final Instant now = InstantUtils.now();
+        return new UploadSession(IdUtils.random(), videoId, type, name, contentType, size, now, now);
+    }
+
+    public static UploadSession with(
+            final String id,
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String name,
+            final String contentType,
+            final long size,
+            final Instant createdAt,
+            final Instant lastActivityAt
+    ) {
+        return new UploadSession(id, videoId, type, name, contentType, size, createdAt, lastActivityAt);
+    }
+
+    public String id() {
+        return this.id;
+    }
+
+    public VideoID videoId() {
+        return this.videoId;
+    }
+
+    public VideoMediaType type() {
+        return this.type;
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    public String contentType() {
+        return this.contentType;
+    }
+
+    public long size() {
+        return this.size;
+    }
+
+    public Instant createdAt() {
+        return this.createdAt;
+    }
+
+    public Instant lastActivityAt() {
+        return this.lastActivityAt;
+    }
+
+    public UploadSession touch(final Instant anInstant) {
+        return new UploadSession(this.id, this.videoId, this.type, this.name, this.contentType, this.size, this.createdAt, anInstant);
+    }
+
+    // a long upload stays alive as long as chunks keep arriving, only an idle session expires
+    public boolean isExpired(final Instant now, final Duration ttl) {
+        return this.lastActivityAt.plus(ttl).isBefore(now);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        final UploadSession that = (UploadSession) o;
+        return this.id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+}
@@ -0,0 +1,18 @@
+package codeflix.catalog.admin.domain.video;
+
+import codeflix.catalog.admin.domain.resource.Resource;
+
+import java.util.Optional;
+
+public interface UploadSessionGateway {
+
+    UploadSession create(UploadSession aSession);
+
+    Optional<UploadSession> findById(String anId);
+
+    long storeChunk(UploadSession aSession, long offset, Resource aChunk);
+
+    Optional<Resource> assemble(UploadSession aSession);
+
+    void deleteById(String anId);
+}
@@ -1,17 +1,35 @@
 package codeflix.catalog.admin.domain.video;
 
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface VideoGateway {
     Video create(Video aVideo);
 
     Video update(Video aVideo);
 
+    boolean updateMediaStatus(VideoID anId, String aResourceId, MediaStatus aStatus, String anEncodedPath);
+
+    boolean existsMedia(VideoID anId, String aResourceId);
+
     void deleteById(VideoID anId);
 
     Optional<Video> findById(VideoID anId);
 
+    Optional<Video> findByIdForUpdate(VideoID anId);
+
+    List<Video> findAllByIds(Iterable<VideoID> ids);
+
+    Optional<Instant> findUpdatedAtById(VideoID anId);
+
+    void forEachUpdatedSince(Instant since, Consumer<Video> anAction);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
+
+    void forEachInPage(VideoSearchQuery aQuery, PageWriter<VideoPreview> aWriter);
 }
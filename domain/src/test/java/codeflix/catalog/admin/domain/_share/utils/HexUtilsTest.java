@@ -0,0 +1,34 @@
+package codeflix.catalog.admin.domain._share.utils;
+
+import codeflix.catalog.admin.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+class HexUtilsTest extends UnitTest {
+
+    @Test
+    void givenRandomUuid_whenCallsToHex_shouldMatchUuidWithoutDashes() {
+        // given
+        final var aUuid = UUID.randomUUID();
+
+        // when
+        final var actualHex = HexUtils.toHex(aUuid.getMostSignificantBits(), aUuid.getLeastSignificantBits());
+
+        // then
+        Assertions.assertEquals(aUuid.toString().replace("-", ""), actualHex);
+    }
+
+    @Test
+    void givenZeroAndAllOnesBits_whenCallsToHex_shouldPadAndUseLowercaseDigits() {
+        // given
+        final var expectedHex = "0000000000000000ffffffffffffffff";
+
+        // when
+        final var actualHex = HexUtils.toHex(0L, -1L);
+
+        // then
+        Assertions.assertEquals(expectedHex, actualHex);
+    }
+}
@@ -0,0 +1,47 @@
+package codeflix.catalog.admin.domain._share.utils;
+
+import codeflix.catalog.admin.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+class TimeOrderedIdGeneratorTest extends UnitTest {
+
+    @Test
+    void givenAClock_whenCallsNext_shouldGenerateVersion7IdWithItsTimestamp() {
+        // given
+        final var expectedMillis = 1_700_000_000_123L;
+        final var aGenerator = new TimeOrderedIdGenerator(Clock.fixed(Instant.ofEpochMilli(expectedMillis), ZoneOffset.UTC));
+
+        // when
+        final var actualId = aGenerator.next();
+
+        // then
+        Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"));
+        final var actualUuid = UUID.fromString(actualId.replaceFirst(
+                "(.{8})(.{4})(.{4})(.{4})(.{12})", "$1-$2-$3-$4-$5"
+        ));
+        Assertions.assertEquals(7, actualUuid.version());
+        Assertions.assertEquals(2, actualUuid.variant());
+        Assertions.assertEquals(expectedMillis, actualUuid.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void givenSameMillisecond_whenCallsNext_shouldGenerateIncreasingIds() {
+        // given
+        final var aGenerator = new TimeOrderedIdGenerator(Clock.fixed(Instant.now(), ZoneOffset.UTC));
+
+        // when
+        final var actualIds = IntStream.range(0, 10_000).mapToObj(it -> aGenerator.next()).toList();
+
+        // then
+        for (int i = 1; i < actualIds.size(); i++) {
+            Assertions.assertTrue(actualIds.get(i - 1).compareTo(actualIds.get(i)) < 0);
+        }
+    }
+}
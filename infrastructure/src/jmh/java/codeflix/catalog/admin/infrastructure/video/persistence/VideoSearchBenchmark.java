@@ -0,0 +1,282 @@
+package codeflix.catalog.admin.infrastructure.video.persistence;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Runs against a MySQL schema migrated by flywayMigrate (FLYWAY_DB, FLYWAY_USER and FLYWAY_PASS, as in build.gradle).
+// A synthetic catalog is seeded on the first run; the EXPLAIN of every query is printed before measuring so the
+// plans can be compared next to the timings.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VideoSearchBenchmark {
+
+    private static final int VIDEOS = 100_000;
+    private static final int CATEGORIES = 200;
+    private static final int GENRES = 100;
+    private static final int CAST_MEMBERS = 1_000;
+    private static final int CATEGORIES_PER_VIDEO = 3;
+    private static final int GENRES_PER_VIDEO = 2;
+    private static final int CAST_MEMBERS_PER_VIDEO = 8;
+    private static final int PAGE_SIZE = 10;
+    private static final int DEEP_OFFSET = 5_000;
+    private static final int BATCH = 1_000;
+
+    private static final String COLUMNS = "lower(hex(v.id)), v.title, v.description, v.created_at, v.updated_at";
+
+    // the query the search used before: relations are joined, multiplied and then deduplicated
+    private static final String DISTINCT_JOIN = """
+            select distinct %s from videos v
+            left join videos_cast_members vcm on vcm.video_id = v.id
+            left join videos_categories vc on vc.video_id = v.id
+            left join videos_genres vg on vg.video_id = v.id
+            where vcm.cast_member_id in (?, ?) and vc.category_id in (?, ?) and vg.genre_id in (?, ?)
+            order by v.title asc, v.id asc
+            limit ? offset ?
+            """.formatted(COLUMNS);
+
+    private static final String EXISTS = """
+            select %s from videos v
+            where exists (select 1 from videos_cast_members vcm where vcm.video_id = v.id and vcm.cast_member_id in (?, ?))
+            and exists (select 1 from videos_categories vc where vc.video_id = v.id and vc.category_id in (?, ?))
+            and exists (select 1 from videos_genres vg where vg.video_id = v.id and vg.genre_id in (?, ?))
+            order by v.title asc, v.id asc
+            limit ? offset ?
+            """.formatted(COLUMNS);
+
+    private static final String KEYSET = """
+            select %s from videos v
+            where (v.title > ? or (v.title = ? and v.id > ?))
+            order by v.title asc, v.id asc
+            limit ?
+            """.formatted(COLUMNS);
+
+    private static final String OFFSET = """
+            select %s from videos v
+            order by v.title asc, v.id asc
+            limit ? offset ?
+            """.formatted(COLUMNS);
+
+    private final Random random = new Random(42);
+
+    private Connection connection;
+    private byte[][] categories;
+    private byte[][] genres;
+    private byte[][] castMembers;
+    private String seekTitle;
+    private byte[] seekId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.connection = DriverManager.getConnection(
+                System.getenv().getOrDefault("FLYWAY_DB", "jdbc:mysql://localhost:3306/adm_videos") + "?rewriteBatchedStatements=true",
+                System.getenv().getOrDefault("FLYWAY_USER", "root"),
+                System.getenv().getOrDefault("FLYWAY_PASS", "123456")
+        );
+
+        if (this.count("videos") < VIDEOS) this.seed();
+
+        this.categories = this.ids("categories", 2);
+        this.genres = this.ids("genres", 2);
+        this.castMembers = this.ids("cast_members", 2);
+
+        try (final PreparedStatement statement = this.connection.prepareStatement(
+                "select title, id from videos order by title, id limit 1 offset " + DEEP_OFFSET);
+             final ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            this.seekTitle = rs.getString(1);
+            this.seekId = rs.getBytes(2);
+        }
+
+        this.explain("distinct join", DISTINCT_JOIN, this.filtered(0));
+        this.explain("exists", EXISTS, this.filtered(0));
+        this.explain("offset page", OFFSET, List.of(PAGE_SIZE, DEEP_OFFSET));
+        this.explain("keyset page", KEYSET, List.of(this.seekTitle, this.seekTitle, this.seekId, PAGE_SIZE));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public void distinctJoinSearch(final Blackhole blackhole) throws SQLException {
+        this.query(DISTINCT_JOIN, this.filtered(0), blackhole);
+    }
+
+    @Benchmark
+    public void existsSearch(final Blackhole blackhole) throws SQLException {
+        this.query(EXISTS, this.filtered(0), blackhole);
+    }
+
+    @Benchmark
+    public void distinctJoinSearchDeepPage(final Blackhole blackhole) throws SQLException {
+        this.query(DISTINCT_JOIN, this.filtered(DEEP_OFFSET / 10), blackhole);
+    }
+
+    @Benchmark
+    public void existsSearchDeepPage(final Blackhole blackhole) throws SQLException {
+        this.query(EXISTS, this.filtered(DEEP_OFFSET / 10), blackhole);
+    }
+
+    @Benchmark
+    public void offsetDeepPage(final Blackhole blackhole) throws SQLException {
+        this.query(OFFSET, List.of(PAGE_SIZE, DEEP_OFFSET), blackhole);
+    }
+
+    @Benchmark
+    public void keysetDeepPage(final Blackhole blackhole) throws SQLException {
+        this.query(KEYSET, List.of(this.seekTitle, this.seekTitle, this.seekId, PAGE_SIZE), blackhole);
+    }
+
+    private List<Object> filtered(final int offset) {
+        return List.of(
+                this.castMembers[0], this.castMembers[1],
+                this.categories[0], this.categories[1],
+                this.genres[0], this.genres[1],
+                PAGE_SIZE, offset
+        );
+    }
+
+    private void query(final String sql, final List<Object> parameters, final Blackhole blackhole) throws SQLException {
+        try (final PreparedStatement statement = this.prepare(sql, parameters);
+             final ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) blackhole.consume(rs.getString(1));
+        }
+    }
+
+    private void explain(final String label, final String sql, final List<Object> parameters) throws SQLException {
+        System.out.printf("%n# EXPLAIN %s%n", label);
+        try (final PreparedStatement statement = this.prepare("explain " + sql, parameters);
+             final ResultSet rs = statement.executeQuery()) {
+            final int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                final List<String> row = new ArrayList<>();
+                for (int i = 1; i <= columns; i++) row.add(rs.getMetaData().getColumnLabel(i) + "=" + rs.getString(i));
+                System.out.println(String.join(" ", row));
+            }
+        }
+    }
+
+    private PreparedStatement prepare(final String sql, final List<Object> parameters) throws SQLException {
+        final PreparedStatement statement = this.connection.prepareStatement(sql);
+        for (int i = 0; i < parameters.size(); i++) statement.setObject(i + 1, parameters.get(i));
+        return statement;
+    }
+
+    private long count(final String table) throws SQLException {
+        try (final PreparedStatement statement = this.connection.prepareStatement("select count(*) from " + table);
+             final ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private byte[][] ids(final String table, final int limit) throws SQLException {
+        final byte[][] ids = new byte[limit][];
+        try (final PreparedStatement statement = this.connection.prepareStatement("select id from %s order by id limit %d".formatted(table, limit));
+             final ResultSet rs = statement.executeQuery()) {
+            for (int i = 0; rs.next(); i++) ids[i] = rs.getBytes(1);
+        }
+        return ids;
+    }
+
+    private void seed() throws SQLException {
+        final Timestamp now = Timestamp.from(Instant.now());
+        this.connection.setAutoCommit(false);
+
+        final byte[][] categoryIds = this.insertNamed("insert into categories (id, name, description, active, created_at, updated_at) values (?, ?, '', true, ?, ?)", CATEGORIES, now);
+        final byte[][] genreIds = this.insertNamed("insert into genres (id, name, active, created_at, updated_at) values (?, ?, true, ?, ?)", GENRES, now);
+        final byte[][] memberIds = this.insertNamed("insert into cast_members (id, name, type, created_at, updated_at) values (?, ?, 'ACTOR', ?, ?)", CAST_MEMBERS, now);
+
+        try (final PreparedStatement videos = this.connection.prepareStatement("""
+                insert into videos (id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at)
+                values (?, ?, ?, 2023, false, false, 'L', 120.0, ?, ?)
+                """);
+             final PreparedStatement videoCategories = this.connection.prepareStatement("insert into videos_categories (video_id, category_id) values (?, ?)");
+             final PreparedStatement videoGenres = this.connection.prepareStatement("insert into videos_genres (video_id, genre_id) values (?, ?)");
+             final PreparedStatement videoMembers = this.connection.prepareStatement("insert into videos_cast_members (video_id, cast_member_id) values (?, ?)")) {
+
+            for (int i = 0; i < VIDEOS; i++) {
+                final byte[] videoId = this.randomId();
+                videos.setBytes(1, videoId);
+                videos.setString(2, "Video %s".formatted(HexFormat.of().formatHex(this.randomId(), 0, 4)));
+                videos.setString(3, "Synthetic video %d".formatted(i));
+                videos.setTimestamp(4, now);
+                videos.setTimestamp(5, now);
+                videos.addBatch();
+
+                this.relate(videoCategories, videoId, categoryIds, CATEGORIES_PER_VIDEO);
+                this.relate(videoGenres, videoId, genreIds, GENRES_PER_VIDEO);
+                this.relate(videoMembers, videoId, memberIds, CAST_MEMBERS_PER_VIDEO);
+
+                if ((i + 1) % BATCH == 0) {
+                    videos.executeBatch();
+                    videoCategories.executeBatch();
+                    videoGenres.executeBatch();
+                    videoMembers.executeBatch();
+                    this.connection.commit();
+                }
+            }
+            videos.executeBatch();
+            videoCategories.executeBatch();
+            videoGenres.executeBatch();
+            videoMembers.executeBatch();
+            this.connection.commit();
+        } finally {
+            this.connection.setAutoCommit(true);
+        }
+
+        try (final PreparedStatement statement = this.connection.prepareStatement("analyze table videos, videos_categories, videos_genres, videos_cast_members")) {
+            statement.execute();
+        }
+    }
+
+    private byte[][] insertNamed(final String sql, final int count, final Timestamp now) throws SQLException {
+        final byte[][] ids = new byte[count][];
+        try (final PreparedStatement statement = this.connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                ids[i] = this.randomId();
+                statement.setBytes(1, ids[i]);
+                statement.setString(2, "Synthetic %d".formatted(i));
+                statement.setTimestamp(3, now);
+                statement.setTimestamp(4, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        this.connection.commit();
+        return ids;
+    }
+
+    private void relate(final PreparedStatement statement, final byte[] videoId, final byte[][] targets, final int count) throws SQLException {
+        final int first = this.random.nextInt(targets.length);
+        for (int i = 0; i < count; i++) {
+            statement.setBytes(1, videoId);
+            statement.setBytes(2, targets[(first + i) % targets.length]);
+            statement.addBatch();
+        }
+    }
+
+    private byte[] randomId() {
+        final byte[] id = new byte[16];
+        this.random.nextBytes(id);
+        return id;
+    }
+}
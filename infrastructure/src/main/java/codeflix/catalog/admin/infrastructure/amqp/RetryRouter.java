@@ -0,0 +1,90 @@
+package codeflix.catalog.admin.infrastructure.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.support.AmqpHeaderMapper;
+import org.springframework.amqp.support.SimpleAmqpHeaderMapper;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ManagedResource(objectName = RetryRouter.OBJECT_NAME)
+public class RetryRouter {
+    public static final String OBJECT_NAME = "codeflix.catalog.admin:type=RetryRouter";
+
+    public static final String RETRY_COUNT = "x-retry-count";
+    public static final String LAST_ERROR = "x-last-error";
+    private static final String DEFAULT_EXCHANGE = "";
+    private static final Logger log = LoggerFactory.getLogger(RetryRouter.class);
+    private static final AmqpHeaderMapper HEADER_MAPPER = new SimpleAmqpHeaderMapper();
+
+    private final String queue;
+    private final int maxAttempts;
+    private final RabbitOperations operations;
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+
+    public RetryRouter(final String queue, final int maxAttempts, final RabbitOperations operations) {
+        this.queue = Objects.requireNonNull(queue);
+        this.maxAttempts = maxAttempts;
+        this.operations = Objects.requireNonNull(operations);
+    }
+
+    public static String retryQueueOf(final String aQueue, final int anAttempt) {
+        return "%s.retry.%d".formatted(aQueue, anAttempt);
+    }
+
+    public static String parkingLotOf(final String aQueue) {
+        return "%s.parking-lot".formatted(aQueue);
+    }
+
+    public void retry(final Message<String> aMessage, final Throwable aCause) {
+        final int anAttempt = attemptsOf(aMessage) + 1;
+        if (anAttempt > this.maxAttempts) {
+            this.park(aMessage, aCause);
+            return;
+        }
+
+        log.warn("[message:video.listener.retry] [attempt:{}] [cause:{}] [payload:{}]", anAttempt, aCause.getMessage(), aMessage.getPayload());
+        this.send(retryQueueOf(this.queue, anAttempt), aMessage, anAttempt, aCause);
+        this.retried.incrementAndGet();
+    }
+
+    public void park(final Message<String> aMessage, final Throwable aCause) {
+        log.error("[message:video.listener.parked] [cause:{}] [payload:{}]", aCause.getMessage(), aMessage.getPayload());
+        this.send(parkingLotOf(this.queue), aMessage, attemptsOf(aMessage), aCause);
+        this.parked.incrementAndGet();
+    }
+
+    @ManagedAttribute
+    public long getRetriedCount() {
+        return this.retried.get();
+    }
+
+    @ManagedAttribute
+    public long getParkedCount() {
+        return this.parked.get();
+    }
+
+    private void send(final String aQueue, final Message<String> aMessage, final int anAttempt, final Throwable aCause) {
+        this.operations.convertAndSend(DEFAULT_EXCHANGE, aQueue, aMessage.getPayload(), it -> {
+            // content type, message id and the producer's headers travel with the payload to the retry queues
+            HEADER_MAPPER.fromHeaders(aMessage.getHeaders(), it.getMessageProperties());
+            it.getMessageProperties().getHeaders().remove(MessageHeaders.ID);
+            it.getMessageProperties().getHeaders().remove(MessageHeaders.TIMESTAMP);
+            it.getMessageProperties().setHeader(RETRY_COUNT, anAttempt);
+            it.getMessageProperties().setHeader(LAST_ERROR, String.valueOf(aCause.getMessage()));
+            return it;
+        });
+    }
+
+    private static int attemptsOf(final Message<String> aMessage) {
+        final Integer attempts = aMessage.getHeaders().get(RETRY_COUNT, Integer.class);
+        return attempts == null ? 0 : attempts;
+    }
+}
@@ -4,16 +4,22 @@ import codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusCo
 import codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCase;
 import codeflix.catalog.admin.domain.video.MediaStatus;
 import codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import codeflix.catalog.admin.infrastructure.dedupe.ProcessedMessageStore;
 import codeflix.catalog.admin.infrastructure.video.models.VideoEncoderCompleted;
 import codeflix.catalog.admin.infrastructure.video.models.VideoEncoderError;
 import codeflix.catalog.admin.infrastructure.video.models.VideoEncoderResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Objects;
+import java.util.*;
+
+import static java.util.stream.Collectors.*;
 
 @Component
 public class VideoEncoderListener {
@@ -21,28 +27,101 @@ public class VideoEncoderListener {
     static final String LISTENER_ID = "videoEncodedListener";
     private static final Logger log = LoggerFactory.getLogger(VideoEncoderListener.class);
     private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final RetryRouter retryRouter;
+    private final ProcessedMessageStore processedMessages;
+    private final TransactionOperations transactions;
 
-    public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
+    public VideoEncoderListener(
+            final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+            final RetryRouter retryRouter,
+            final ProcessedMessageStore processedMessages,
+            final PlatformTransactionManager transactionManager
+    ) {
         this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+        this.retryRouter = Objects.requireNonNull(retryRouter);
+        this.processedMessages = Objects.requireNonNull(processedMessages);
+        this.transactions = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    }
+
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedListenerFactory"
+    )
+    public void onVideoEncodedMessages(final List<Message<String>> messages) {
+        final Map<String, List<Received>> receivedByVideo = messages.stream()
+                .map(this::toReceived)
+                .flatMap(Optional::stream)
+                .collect(groupingBy(
+                        it -> it.command().videoId(),
+                        LinkedHashMap::new,
+                        collectingAndThen(toList(), VideoEncoderListener::collapse)
+                ));
+
+        receivedByVideo.values().forEach(this::apply);
+    }
+
+    private void apply(final List<Received> received) {
+        // redeliveries and encoder replays are acknowledged without loading the aggregate
+        final Set<String> processed = this.processedMessages.processed(received.stream().map(Received::key).toList());
+        final List<Received> pending = received.stream().filter(it -> !processed.contains(it.key())).toList();
+        if (pending.size() < received.size()) {
+            log.info("[message:video.listener.duplicate] [count:{}]", received.size() - pending.size());
+        }
+        if (pending.isEmpty()) return;
+
+        try {
+            this.transactions.executeWithoutResult(status -> {
+                pending.forEach(it -> this.updateMediaStatusUseCase.execute(it.command()));
+                this.processedMessages.markProcessed(pending.stream().map(Received::key).toList());
+            });
+        } catch (final RuntimeException e) {
+            // failed groups are delayed on the retry queues instead of blocking the consumer
+            pending.forEach(it -> this.retryRouter.retry(it.message(), e));
+        }
     }
 
-    @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
-    public void onVideoEncodedMessage(@Payload final String message) {
-        final VideoEncoderResult aResult = Json.readValue(message, VideoEncoderResult.class);
+    private Optional<Received> toReceived(final Message<String> aMessage) {
+        final String message = aMessage.getPayload();
+        final VideoEncoderResult aResult;
+        try {
+            aResult = Json.readValue(message, VideoEncoderResult.class);
+        } catch (final RuntimeException e) {
+            this.retryRouter.park(aMessage, e);
+            return Optional.empty();
+        }
 
         if (aResult instanceof VideoEncoderCompleted dto) {
             log.info("[message:video.listener.income] [status:completed] [payload:{}]", message);
-            final UpdateMediaStatusCommand aCommand = UpdateMediaStatusCommand.with(
+            return Optional.of(new Received(aMessage, UpdateMediaStatusCommand.with(
                     MediaStatus.COMPLETED,
                     dto.id(),
                     dto.video().resourceId(),
                     dto.video().encodedVideoFolder(),
                     dto.video().filePath()
-            );
-
-            this.updateMediaStatusUseCase.execute(aCommand);
+            )));
         } else if (aResult instanceof VideoEncoderError)
             log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
         else log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+
+        return Optional.empty();
+    }
+
+    // a later result for the same media only supersedes the earlier one if it moves the status forward
+    private static List<Received> collapse(final List<Received> received) {
+        final Map<String, Received> latest = new LinkedHashMap<>();
+        received.forEach(it -> latest.merge(it.command().resourceId(), it, (current, next) -> {
+            final MediaStatus currentStatus = current.command().status();
+            final MediaStatus nextStatus = next.command().status();
+            return currentStatus == nextStatus || currentStatus.canMoveTo(nextStatus) ? next : current;
+        }));
+        return List.copyOf(latest.values());
+    }
+
+    private record Received(Message<String> message, UpdateMediaStatusCommand command) {
+
+        String key() {
+            return ProcessedMessageStore.keyOf(this.command.videoId(), this.command.resourceId(), this.command.status().name());
+        }
     }
 }
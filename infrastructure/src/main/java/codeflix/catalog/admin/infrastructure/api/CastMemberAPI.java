@@ -1,5 +1,6 @@
 package codeflix.catalog.admin.infrastructure.api;
 
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.infrastructure.castmember.models.CastMemberListResponse;
 import codeflix.catalog.admin.infrastructure.castmember.models.CastMemberResponse;
@@ -9,10 +10,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
@@ -37,10 +45,33 @@ public interface CastMemberAPI {
     @Operation(summary = "Get a Cast Member by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast Member retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Cast Member was not modified"),
             @ApiResponse(responseCode = "404", description = "Cast Member was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CastMemberResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CastMemberResponse> getById(@PathVariable(name = "id") String id, WebRequest request);
+
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get Cast Members by their identifiers, in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found Cast Members retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "More than 100 identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<CastMemberResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
+    @PostMapping(
+            value = "ids",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get Cast Members by a long list of identifiers, in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found Cast Members retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "More than 1000 identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<CastMemberResponse> getByIdsInBody(@RequestBody List<String> ids);
 
     @PutMapping(
             value = "{id}",
@@ -81,4 +112,42 @@ public interface CastMemberAPI {
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
             @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
     );
+
+    @GetMapping(params = {"stream=true", "!ids"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List all Cast Members paginated, writing each item as soon as it is presented")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> listStreaming(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+    );
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the cast members updated since the given instant as newline delimited json")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully, gzip encoded when accepted by the client"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "since", required = false) Instant since,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    );
+
+    @PostMapping(
+            value = "import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import cast members from newline delimited json, one create request per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported, with the lines that failed and why"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ImportOutput importAll(InputStream body);
 }
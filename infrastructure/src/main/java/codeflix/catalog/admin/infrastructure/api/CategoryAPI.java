@@ -1,5 +1,6 @@
 package codeflix.catalog.admin.infrastructure.api;
 
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
@@ -9,10 +10,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -37,10 +45,33 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Category was not modified"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id, WebRequest request);
+
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get categories by their identifiers, in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found categories retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "More than 100 identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<CategoryResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
+    @PostMapping(
+            value = "ids",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get categories by a long list of identifiers, in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found categories retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "More than 1000 identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<CategoryResponse> getByIdsInBody(@RequestBody List<String> ids);
 
     @PutMapping(
             value = "{id}",
@@ -80,4 +111,42 @@ public interface CategoryAPI {
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
             @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
     );
+
+    @GetMapping(params = {"stream=true", "!ids"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List all categories paginated, writing each item as soon as it is presented")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> listStreaming(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+    );
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the categories updated since the given instant as newline delimited json")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully, gzip encoded when accepted by the client"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "since", required = false) Instant since,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    );
+
+    @PostMapping(
+            value = "import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import categories from newline delimited json, one create request per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported, with the lines that failed and why"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ImportOutput importAll(InputStream body);
 }
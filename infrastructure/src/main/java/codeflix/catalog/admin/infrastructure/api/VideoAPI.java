@@ -1,20 +1,24 @@
 package codeflix.catalog.admin.infrastructure.api;
 
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
-import codeflix.catalog.admin.infrastructure.video.models.CreateVideoRequest;
-import codeflix.catalog.admin.infrastructure.video.models.UpdateVideoRequest;
-import codeflix.catalog.admin.infrastructure.video.models.VideoListResponse;
-import codeflix.catalog.admin.infrastructure.video.models.VideoResponse;
+import codeflix.catalog.admin.infrastructure.video.models.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+
+import java.time.Instant;
+import java.util.List;
 import java.util.Set;
 
 @RequestMapping(value = "videos")
@@ -65,10 +69,33 @@ public interface VideoAPI {
     @Operation(summary = "Get a video by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Video retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Video was not modified"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    VideoResponse getById(@PathVariable(name = "id") String anId);
+    ResponseEntity<VideoResponse> getById(@PathVariable(name = "id") String anId, WebRequest request);
+
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get videos by their identifiers, in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found videos retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "More than 100 identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<VideoResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
+    @PostMapping(
+            value = "ids",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get videos by a long list of identifiers, in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found videos retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "More than 1000 identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<VideoResponse> getByIdsInBody(@RequestBody List<String> ids);
 
     @PutMapping(
             value = "{id}",
@@ -100,7 +127,13 @@ public interface VideoAPI {
     void deleteById(@PathVariable(name = "id") String anId);
 
     @GetMapping
-    @Operation(summary = "List all videos paginated")
+    @Operation(
+            summary = "List all videos paginated",
+            description = "search matches videos whose title or description contains every given word, or a word starting with it. "
+                    + "Pages are addressed by page number, or by passing back the next_cursor of the previous page as cursor. "
+                    + "A cursor page skips the count query, so its total_pages and total_elements are -1; "
+                    + "next_cursor is omitted on the last page."
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
@@ -114,19 +147,49 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") final Set<String> castMembers,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") final Set<String> categories,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") final Set<String> genres
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") final Set<String> genres,
+            @RequestParam(name = "cursor", required = false) final String cursor
+    );
+
+    @GetMapping(params = {"stream=true", "!ids"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "List all videos paginated, writing each item as soon as it is presented",
+            description = "search matches videos whose title or description contains every given word, or a word starting with it. "
+                    + "Pages are addressed by page number, or by passing back the next_cursor of the previous page as cursor. "
+                    + "A cursor page skips the count query, so its total_pages and total_elements are -1; "
+                    + "next_cursor is omitted on the last page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> listStreaming(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "title") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") final Set<String> castMembers,
+            @RequestParam(name = "categories_ids", required = false, defaultValue = "") final Set<String> categories,
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") final Set<String> genres,
+            @RequestParam(name = "cursor", required = false) final String cursor
     );
 
     @GetMapping(value = "{id}/medias/{type}")
     @Operation(summary = "Get a video media by it's type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<byte[]> getMediaType(
+    ResponseEntity<StreamingResponseBody> getMediaType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange
     );
 
     @PostMapping(value = "{id}/medias/{type}")
@@ -141,4 +204,70 @@ public interface VideoAPI {
             @PathVariable(name = "type") String type,
             @RequestParam(name = "media_file") MultipartFile media
     );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/sessions",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload session for a video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<UploadSessionResponse> createUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateUploadSessionRequest input
+    );
+
+    @PutMapping(
+            value = "{id}/medias/{type}/sessions/{sessionId}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload a chunk of a resumable upload session at the given offset")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk stored successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    UploadSessionResponse uploadChunk(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId,
+            @RequestParam(name = "offset") long offset,
+            HttpServletRequest request
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/sessions/{sessionId}/commit",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Commit a resumable upload session as the video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session or video was not found"),
+            @ApiResponse(responseCode = "422", description = "Upload session is incomplete"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<UploadMediaResponse> commitUploadSession(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId
+    );
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the videos updated since the given instant as newline delimited json")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully, gzip encoded when accepted by the client"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "since", required = false) Instant since,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    );
 }
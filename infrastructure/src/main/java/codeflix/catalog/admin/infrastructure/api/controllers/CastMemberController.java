@@ -1,10 +1,23 @@
 package codeflix.catalog.admin.infrastructure.api.controllers;
 
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsCommand;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageCommand;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
 import codeflix.catalog.admin.application.castmember.create.CreateCastMemberCommand;
 import codeflix.catalog.admin.application.castmember.create.CreateCastMemberOutput;
 import codeflix.catalog.admin.application.castmember.create.CreateCastMemberUseCase;
 import codeflix.catalog.admin.application.castmember.delete.DeleteCastMemberUseCase;
+import codeflix.catalog.admin.application.castmember.imports.ImportCastMembersCommand;
+import codeflix.catalog.admin.application.castmember.imports.ImportCastMembersUseCase;
+import codeflix.catalog.admin.application.castmember.retrieve.export.ExportCastMembersCommand;
+import codeflix.catalog.admin.application.castmember.retrieve.export.ExportCastMembersUseCase;
+import codeflix.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
 import codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberUpdatedAtUseCase;
+import codeflix.catalog.admin.application.castmember.retrieve.list.CastMemberListOutput;
 import codeflix.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
 import codeflix.catalog.admin.application.castmember.update.UpdateCastMemberCommand;
 import codeflix.catalog.admin.application.castmember.update.UpdateCastMemberOutput;
@@ -17,11 +30,20 @@ import codeflix.catalog.admin.infrastructure.castmember.models.CastMemberRespons
 import codeflix.catalog.admin.infrastructure.castmember.models.CreateCastMemberRequest;
 import codeflix.catalog.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
 import codeflix.catalog.admin.infrastructure.castmember.presenters.CastMemberApiPresenter;
+import codeflix.catalog.admin.infrastructure.utils.HttpCacheUtils;
+import codeflix.catalog.admin.infrastructure.utils.JsonStreamingUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
 
 //TODO: Remover
 @CrossOrigin(origins = "http://localhost:3000", maxAge = 3600)
@@ -30,21 +52,36 @@ public class CastMemberController implements CastMemberAPI {
 
     private final CreateCastMemberUseCase createCastMemberUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
+    private final GetCastMemberUpdatedAtUseCase getCastMemberUpdatedAtUseCase;
+    private final GetByIdsUseCase<CastMemberOutput> getCastMembersByIdsUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
+    private final ImportCastMembersUseCase importCastMembersUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final StreamPageUseCase<SearchQuery, CastMemberListOutput> streamCastMembersUseCase;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
+            final GetCastMemberUpdatedAtUseCase getCastMemberUpdatedAtUseCase,
+            final GetByIdsUseCase<CastMemberOutput> getCastMembersByIdsUseCase,
+            final ExportCastMembersUseCase exportCastMembersUseCase,
+            final ImportCastMembersUseCase importCastMembersUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase) {
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final StreamPageUseCase<SearchQuery, CastMemberListOutput> streamCastMembersUseCase) {
         this.createCastMemberUseCase = createCastMemberUseCase;
         this.getCastMemberByIdUseCase = getCastMemberByIdUseCase;
+        this.getCastMemberUpdatedAtUseCase = getCastMemberUpdatedAtUseCase;
+        this.getCastMembersByIdsUseCase = getCastMembersByIdsUseCase;
+        this.exportCastMembersUseCase = exportCastMembersUseCase;
+        this.importCastMembersUseCase = importCastMembersUseCase;
         this.updateCastMemberUseCase = updateCastMemberUseCase;
         this.deleteCastMemberUseCase = deleteCastMemberUseCase;
         this.listCastMembersUseCase = listCastMembersUseCase;
+        this.streamCastMembersUseCase = streamCastMembersUseCase;
     }
 
     @Override
@@ -58,8 +95,29 @@ public class CastMemberController implements CastMemberAPI {
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
-        return CastMemberApiPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+    public ResponseEntity<CastMemberResponse> getById(final String id, final WebRequest request) {
+        return this.getCastMemberUpdatedAtUseCase.execute(id)
+                .flatMap(updatedAt -> HttpCacheUtils.<CastMemberResponse>notModified(request, id, updatedAt))
+                .orElseGet(() -> {
+                    final CastMemberOutput output = this.getCastMemberByIdUseCase.execute(id);
+                    return HttpCacheUtils.ok(id, output.updatedAt(), CastMemberApiPresenter.present(output));
+                });
+    }
+
+    @Override
+    public List<CastMemberResponse> getByIds(final List<String> ids) {
+        return this.getByIds(GetByIdsCommand.with(ids));
+    }
+
+    @Override
+    public List<CastMemberResponse> getByIdsInBody(final List<String> ids) {
+        return this.getByIds(GetByIdsCommand.with(ids, GetByIdsUseCase.MAX_IDS_IN_BODY));
+    }
+
+    private List<CastMemberResponse> getByIds(final GetByIdsCommand aCommand) {
+        return this.getCastMembersByIdsUseCase.execute(aCommand).stream()
+                .map(CastMemberApiPresenter::present)
+                .toList();
     }
 
     @Override
@@ -88,4 +146,39 @@ public class CastMemberController implements CastMemberAPI {
                 .execute(new SearchQuery(page, perPage, search, sort, direction))
                 .map(CastMemberApiPresenter::present);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> listStreaming(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction) {
+        final SearchQuery aQuery = new SearchQuery(page, perPage, search, sort, direction);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(CastMemberApiPresenter.stream(writer ->
+                        this.streamCastMembersUseCase.execute(StreamPageCommand.with(aQuery, writer))));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant since, final String acceptEncoding) {
+        final boolean gzip = JsonStreamingUtils.acceptsGzip(acceptEncoding);
+        final StreamingResponseBody body = CastMemberApiPresenter.export(gzip, writer ->
+                this.exportCastMembersUseCase.execute(ExportCastMembersCommand.with(since, writer)));
+
+        return JsonStreamingUtils.ndjsonResponse(gzip).body(body);
+    }
+
+    @Override
+    public ImportOutput importAll(final InputStream body) {
+        final Iterator<ImportRow<CreateCastMemberCommand>> rows = JsonStreamingUtils.ndjsonRows(
+                body,
+                CreateCastMemberRequest.class,
+                request -> CreateCastMemberCommand.with(request.name(), request.type())
+        );
+
+        return this.importCastMembersUseCase.execute(ImportCastMembersCommand.with(rows));
+    }
 }
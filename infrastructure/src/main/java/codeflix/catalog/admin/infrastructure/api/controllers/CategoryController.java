@@ -1,10 +1,23 @@
 package codeflix.catalog.admin.infrastructure.api.controllers;
 
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsCommand;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageCommand;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
 import codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
 import codeflix.catalog.admin.application.category.create.CreateCategoryOutput;
 import codeflix.catalog.admin.application.category.create.CreateCategoryUseCase;
 import codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import codeflix.catalog.admin.application.category.imports.ImportCategoriesCommand;
+import codeflix.catalog.admin.application.category.imports.ImportCategoriesUseCase;
+import codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesCommand;
+import codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
+import codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import codeflix.catalog.admin.application.category.retrieve.get.GetCategoryUpdatedAtUseCase;
+import codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import codeflix.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
 import codeflix.catalog.admin.application.category.update.UpdateCategoryCommand;
 import codeflix.catalog.admin.application.category.update.UpdateCategoryOutput;
@@ -18,11 +31,20 @@ import codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
 import codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import codeflix.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import codeflix.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import codeflix.catalog.admin.infrastructure.utils.HttpCacheUtils;
+import codeflix.catalog.admin.infrastructure.utils.JsonStreamingUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -35,21 +57,36 @@ public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoryUpdatedAtUseCase getCategoryUpdatedAtUseCase;
+    private final GetByIdsUseCase<CategoryOutput> getCategoriesByIdsUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final StreamPageUseCase<SearchQuery, CategoryListOutput> streamCategoriesUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoryUpdatedAtUseCase getCategoryUpdatedAtUseCase,
+            final GetByIdsUseCase<CategoryOutput> getCategoriesByIdsUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final ImportCategoriesUseCase importCategoriesUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
-            final DeleteCategoryUseCase deleteCategoryUseCase, final ListCategoriesUseCase listCategoriesUseCase
+            final DeleteCategoryUseCase deleteCategoryUseCase, final ListCategoriesUseCase listCategoriesUseCase,
+            final StreamPageUseCase<SearchQuery, CategoryListOutput> streamCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryUpdatedAtUseCase = Objects.requireNonNull(getCategoryUpdatedAtUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.streamCategoriesUseCase = Objects.requireNonNull(streamCategoriesUseCase);
     }
 
     @Override
@@ -70,10 +107,29 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present
-                .compose(this.getCategoryByIdUseCase::execute)
-                .apply(id);
+    public ResponseEntity<CategoryResponse> getById(final String id, final WebRequest request) {
+        return this.getCategoryUpdatedAtUseCase.execute(id)
+                .flatMap(updatedAt -> HttpCacheUtils.<CategoryResponse>notModified(request, id, updatedAt))
+                .orElseGet(() -> {
+                    final CategoryOutput output = this.getCategoryByIdUseCase.execute(id);
+                    return HttpCacheUtils.ok(id, output.updatedAt(), CategoryApiPresenter.present.apply(output));
+                });
+    }
+
+    @Override
+    public List<CategoryResponse> getByIds(final List<String> ids) {
+        return this.getByIds(GetByIdsCommand.with(ids));
+    }
+
+    @Override
+    public List<CategoryResponse> getByIdsInBody(final List<String> ids) {
+        return this.getByIds(GetByIdsCommand.with(ids, GetByIdsUseCase.MAX_IDS_IN_BODY));
+    }
+
+    private List<CategoryResponse> getByIds(final GetByIdsCommand aCommand) {
+        return this.getCategoriesByIdsUseCase.execute(aCommand).stream()
+                .map(CategoryApiPresenter.present)
+                .toList();
     }
 
     @Override
@@ -109,4 +165,43 @@ public class CategoryController implements CategoryAPI {
                 .execute(new SearchQuery(page, perPage, search, sort, direction))
                 .map(CategoryApiPresenter::present);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> listStreaming(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction) {
+        final SearchQuery aQuery = new SearchQuery(page, perPage, search, sort, direction);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(CategoryApiPresenter.stream(writer ->
+                        this.streamCategoriesUseCase.execute(StreamPageCommand.with(aQuery, writer))));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant since, final String acceptEncoding) {
+        final boolean gzip = JsonStreamingUtils.acceptsGzip(acceptEncoding);
+        final StreamingResponseBody body = CategoryApiPresenter.export(gzip, writer ->
+                this.exportCategoriesUseCase.execute(ExportCategoriesCommand.with(since, writer)));
+
+        return JsonStreamingUtils.ndjsonResponse(gzip).body(body);
+    }
+
+    @Override
+    public ImportOutput importAll(final InputStream body) {
+        final Iterator<ImportRow<CreateCategoryCommand>> rows = JsonStreamingUtils.ndjsonRows(
+                body,
+                CreateCategoryRequest.class,
+                request -> CreateCategoryCommand.with(
+                        request.name(),
+                        request.description(),
+                        defaultIfNull(request.active(), true)
+                )
+        );
+
+        return this.importCategoriesUseCase.execute(ImportCategoriesCommand.with(rows));
+    }
 }
@@ -1,10 +1,23 @@
 package codeflix.catalog.admin.infrastructure.api.controllers;
 
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsCommand;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageCommand;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
 import codeflix.catalog.admin.application.genre.create.CreateGenreCommand;
 import codeflix.catalog.admin.application.genre.create.CreateGenreOutput;
 import codeflix.catalog.admin.application.genre.create.CreateGenreUseCase;
 import codeflix.catalog.admin.application.genre.delete.DeleteGenreUseCase;
+import codeflix.catalog.admin.application.genre.imports.ImportGenresCommand;
+import codeflix.catalog.admin.application.genre.imports.ImportGenresUseCase;
+import codeflix.catalog.admin.application.genre.retrieve.export.ExportGenresCommand;
+import codeflix.catalog.admin.application.genre.retrieve.export.ExportGenresUseCase;
+import codeflix.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import codeflix.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
+import codeflix.catalog.admin.application.genre.retrieve.get.GetGenreUpdatedAtUseCase;
+import codeflix.catalog.admin.application.genre.retrieve.list.GenreListOutput;
 import codeflix.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
 import codeflix.catalog.admin.application.genre.update.UpdateGenreCommand;
 import codeflix.catalog.admin.application.genre.update.UpdateGenreOutput;
@@ -17,11 +30,20 @@ import codeflix.catalog.admin.infrastructure.genre.models.GenreListResponse;
 import codeflix.catalog.admin.infrastructure.genre.models.GenreResponse;
 import codeflix.catalog.admin.infrastructure.genre.models.UpdateGenreRequest;
 import codeflix.catalog.admin.infrastructure.genre.presenters.GenreApiPresenter;
+import codeflix.catalog.admin.infrastructure.utils.HttpCacheUtils;
+import codeflix.catalog.admin.infrastructure.utils.JsonStreamingUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
 
 //TODO: Remover
 @CrossOrigin(origins = "http://localhost:3000", maxAge = 3600)
@@ -30,22 +52,37 @@ public class GenreController implements GenreAPI {
 
     private final CreateGenreUseCase createGenreUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final GetGenreUpdatedAtUseCase getGenreUpdatedAtUseCase;
+    private final GetByIdsUseCase<GenreOutput> getGenresByIdsUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
+    private final ImportGenresUseCase importGenresUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final StreamPageUseCase<SearchQuery, GenreListOutput> streamGenresUseCase;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
+            final GetGenreUpdatedAtUseCase getGenreUpdatedAtUseCase,
+            final GetByIdsUseCase<GenreOutput> getGenresByIdsUseCase,
+            final ExportGenresUseCase exportGenresUseCase,
+            final ImportGenresUseCase importGenresUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final ListGenreUseCase listGenreUseCase
+            final ListGenreUseCase listGenreUseCase,
+            final StreamPageUseCase<SearchQuery, GenreListOutput> streamGenresUseCase
     ) {
         this.createGenreUseCase = createGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
+        this.getGenreUpdatedAtUseCase = getGenreUpdatedAtUseCase;
+        this.getGenresByIdsUseCase = getGenresByIdsUseCase;
+        this.exportGenresUseCase = exportGenresUseCase;
+        this.importGenresUseCase = importGenresUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.listGenreUseCase = listGenreUseCase;
+        this.streamGenresUseCase = streamGenresUseCase;
     }
 
     @Override
@@ -62,8 +99,29 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+    public ResponseEntity<GenreResponse> getById(final String id, final WebRequest request) {
+        return this.getGenreUpdatedAtUseCase.execute(id)
+                .flatMap(updatedAt -> HttpCacheUtils.<GenreResponse>notModified(request, id, updatedAt))
+                .orElseGet(() -> {
+                    final GenreOutput output = this.getGenreByIdUseCase.execute(id);
+                    return HttpCacheUtils.ok(id, output.updatedAt(), GenreApiPresenter.present(output));
+                });
+    }
+
+    @Override
+    public List<GenreResponse> getByIds(final List<String> ids) {
+        return this.getByIds(GetByIdsCommand.with(ids));
+    }
+
+    @Override
+    public List<GenreResponse> getByIdsInBody(final List<String> ids) {
+        return this.getByIds(GetByIdsCommand.with(ids, GetByIdsUseCase.MAX_IDS_IN_BODY));
+    }
+
+    private List<GenreResponse> getByIds(final GetByIdsCommand aCommand) {
+        return this.getGenresByIdsUseCase.execute(aCommand).stream()
+                .map(GenreApiPresenter::present)
+                .toList();
     }
 
     @Override
@@ -97,4 +155,43 @@ public class GenreController implements GenreAPI {
                 .execute(new SearchQuery(page, perPage, search, sort, direction))
                 .map(GenreApiPresenter::present);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> listStreaming(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction) {
+        final SearchQuery aQuery = new SearchQuery(page, perPage, search, sort, direction);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(GenreApiPresenter.stream(writer ->
+                        this.streamGenresUseCase.execute(StreamPageCommand.with(aQuery, writer))));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant since, final String acceptEncoding) {
+        final boolean gzip = JsonStreamingUtils.acceptsGzip(acceptEncoding);
+        final StreamingResponseBody body = GenreApiPresenter.export(gzip, writer ->
+                this.exportGenresUseCase.execute(ExportGenresCommand.with(since, writer)));
+
+        return JsonStreamingUtils.ndjsonResponse(gzip).body(body);
+    }
+
+    @Override
+    public ImportOutput importAll(final InputStream body) {
+        final Iterator<ImportRow<CreateGenreCommand>> rows = JsonStreamingUtils.ndjsonRows(
+                body,
+                CreateGenreRequest.class,
+                request -> CreateGenreCommand.with(
+                        request.name(),
+                        request.active(),
+                        request.categories()
+                )
+        );
+
+        return this.importGenresUseCase.execute(ImportGenresCommand.with(rows));
+    }
 }
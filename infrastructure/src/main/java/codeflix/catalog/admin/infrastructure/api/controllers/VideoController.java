@@ -1,5 +1,9 @@
 package codeflix.catalog.admin.infrastructure.api.controllers;
 
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsCommand;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageCommand;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
 import codeflix.catalog.admin.application.video.create.CreateVideoCommand;
 import codeflix.catalog.admin.application.video.create.CreateVideoOutput;
 import codeflix.catalog.admin.application.video.create.CreateVideoUseCase;
@@ -7,11 +11,22 @@ import codeflix.catalog.admin.application.video.delete.DeleteVideoUseCase;
 import codeflix.catalog.admin.application.video.media.get.GetMediaCommand;
 import codeflix.catalog.admin.application.video.media.get.GetMediaUseCase;
 import codeflix.catalog.admin.application.video.media.get.MediaOutput;
+import codeflix.catalog.admin.application.video.media.session.chunk.UploadChunkCommand;
+import codeflix.catalog.admin.application.video.media.session.chunk.UploadChunkUseCase;
+import codeflix.catalog.admin.application.video.media.session.commit.CommitUploadSessionCommand;
+import codeflix.catalog.admin.application.video.media.session.commit.CommitUploadSessionUseCase;
+import codeflix.catalog.admin.application.video.media.session.create.CreateUploadSessionCommand;
+import codeflix.catalog.admin.application.video.media.session.create.CreateUploadSessionUseCase;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaCommand;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaOutput;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import codeflix.catalog.admin.application.video.retrieve.export.ExportVideosCommand;
+import codeflix.catalog.admin.application.video.retrieve.export.ExportVideosUseCase;
 import codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
+import codeflix.catalog.admin.application.video.retrieve.get.GetVideoUpdatedAtUseCase;
+import codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
 import codeflix.catalog.admin.application.video.retrieve.list.ListVideosUseCase;
+import codeflix.catalog.admin.application.video.retrieve.list.VideoListOutput;
 import codeflix.catalog.admin.application.video.update.UpdateVideoCommand;
 import codeflix.catalog.admin.application.video.update.UpdateVideoOutput;
 import codeflix.catalog.admin.application.video.update.UpdateVideoUseCase;
@@ -26,20 +41,27 @@ import codeflix.catalog.admin.domain.video.VideoMediaType;
 import codeflix.catalog.admin.domain.video.VideoResource;
 import codeflix.catalog.admin.domain.video.VideoSearchQuery;
 import codeflix.catalog.admin.infrastructure.api.VideoAPI;
-import codeflix.catalog.admin.infrastructure.utils.HashingUtils;
-import codeflix.catalog.admin.infrastructure.video.models.CreateVideoRequest;
-import codeflix.catalog.admin.infrastructure.video.models.UpdateVideoRequest;
-import codeflix.catalog.admin.infrastructure.video.models.VideoListResponse;
-import codeflix.catalog.admin.infrastructure.video.models.VideoResponse;
+import codeflix.catalog.admin.infrastructure.utils.HttpCacheUtils;
+import codeflix.catalog.admin.infrastructure.utils.JsonStreamingUtils;
+import codeflix.catalog.admin.infrastructure.video.models.*;
 import codeflix.catalog.admin.infrastructure.video.presenters.VideoApiPresenter;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
 
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -52,29 +74,50 @@ public class VideoController implements VideoAPI {
     private static final String VIDEOS_BASE_ENDPOINT = "/videos/";
     private final CreateVideoUseCase createVideoUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
+    private final GetVideoUpdatedAtUseCase getVideoUpdatedAtUseCase;
+    private final GetByIdsUseCase<VideoOutput> getVideosByIdsUseCase;
+    private final ExportVideosUseCase exportVideosUseCase;
 
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideosUseCase listVideosUseCase;
+    private final StreamPageUseCase<VideoSearchQuery, VideoListOutput> streamVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final CreateUploadSessionUseCase createUploadSessionUseCase;
+    private final UploadChunkUseCase uploadChunkUseCase;
+    private final CommitUploadSessionUseCase commitUploadSessionUseCase;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
             final GetVideoByIdUseCase getVideoByIdUseCase,
+            final GetVideoUpdatedAtUseCase getVideoUpdatedAtUseCase,
+            final GetByIdsUseCase<VideoOutput> getVideosByIdsUseCase,
+            final ExportVideosUseCase exportVideosUseCase,
             final UpdateVideoUseCase updateVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
+            final StreamPageUseCase<VideoSearchQuery, VideoListOutput> streamVideosUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final UploadMediaUseCase uploadMediaUseCase,
+            final CreateUploadSessionUseCase createUploadSessionUseCase,
+            final UploadChunkUseCase uploadChunkUseCase,
+            final CommitUploadSessionUseCase commitUploadSessionUseCase
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
+        this.getVideoUpdatedAtUseCase = Objects.requireNonNull(getVideoUpdatedAtUseCase);
+        this.getVideosByIdsUseCase = Objects.requireNonNull(getVideosByIdsUseCase);
+        this.exportVideosUseCase = Objects.requireNonNull(exportVideosUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
+        this.streamVideosUseCase = Objects.requireNonNull(streamVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.createUploadSessionUseCase = Objects.requireNonNull(createUploadSessionUseCase);
+        this.uploadChunkUseCase = Objects.requireNonNull(uploadChunkUseCase);
+        this.commitUploadSessionUseCase = Objects.requireNonNull(commitUploadSessionUseCase);
     }
 
     @Override
@@ -141,8 +184,29 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public VideoResponse getById(final String anId) {
-        return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
+    public ResponseEntity<VideoResponse> getById(final String anId, final WebRequest request) {
+        return this.getVideoUpdatedAtUseCase.execute(anId)
+                .flatMap(updatedAt -> HttpCacheUtils.<VideoResponse>notModified(request, anId, updatedAt))
+                .orElseGet(() -> {
+                    final VideoOutput output = this.getVideoByIdUseCase.execute(anId);
+                    return HttpCacheUtils.ok(anId, output.updatedAt(), VideoApiPresenter.present(output));
+                });
+    }
+
+    @Override
+    public List<VideoResponse> getByIds(final List<String> ids) {
+        return this.getByIds(GetByIdsCommand.with(ids));
+    }
+
+    @Override
+    public List<VideoResponse> getByIdsInBody(final List<String> ids) {
+        return this.getByIds(GetByIdsCommand.with(ids, GetByIdsUseCase.MAX_IDS_IN_BODY));
+    }
+
+    private List<VideoResponse> getByIds(final GetByIdsCommand aCommand) {
+        return this.getVideosByIdsUseCase.execute(aCommand).stream()
+                .map(VideoApiPresenter::present)
+                .toList();
     }
 
     @Override
@@ -182,7 +246,8 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String cursor
     ) {
         final VideoSearchQuery aQuery = new VideoSearchQuery(
                 page,
@@ -192,20 +257,77 @@ public class VideoController implements VideoAPI {
                 direction,
                 mapTo(castMembers, CastMemberID::from),
                 mapTo(categories, CategoryID::from),
-                mapTo(genres, GenreID::from)
+                mapTo(genres, GenreID::from),
+                cursor
         );
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaType(final String id, final String type) {
-        final MediaOutput aMedia = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+    public ResponseEntity<StreamingResponseBody> listStreaming(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final String cursor
+    ) {
+        final VideoSearchQuery aQuery = new VideoSearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                direction,
+                mapTo(castMembers, CastMemberID::from),
+                mapTo(categories, CategoryID::from),
+                mapTo(genres, GenreID::from),
+                cursor
+        );
+
         return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(VideoApiPresenter.stream(writer ->
+                        this.streamVideosUseCase.execute(StreamPageCommand.with(aQuery, writer))));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getMediaType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange
+    ) {
+        final MediaOutput aMedia = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+        final String eTag = aMedia.checksum() != null ? "\"%s\"".formatted(aMedia.checksum()) : null;
+        final long size = aMedia.size();
+
+        if (range == null || (ifRange != null && !ifRange.equals(eTag))) {
+            return this.fullMedia(aMedia, eTag);
+        }
+
+        final List<HttpRange> ranges = this.parseRanges(range);
+        if (ranges.size() > 1) {
+            return this.fullMedia(aMedia, eTag);
+        }
+
+        if (ranges.isEmpty() || ranges.get(0).getRangeStart(size) >= size) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(size))
+                    .build();
+        }
+
+        final long start = ranges.get(0).getRangeStart(size);
+        final long end = ranges.get(0).getRangeEnd(size);
+        final long count = end - start + 1;
+
+        return this.mediaResponse(HttpStatus.PARTIAL_CONTENT, aMedia, eTag)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, size))
+                .contentLength(count)
+                .body(this.transfer(aMedia, start, count));
     }
 
     @Override
@@ -222,17 +344,95 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
-    private Resource resourceOf(final MultipartFile part) {
-        if (part == null) return null;
+    @Override
+    public ResponseEntity<UploadSessionResponse> createUploadSession(
+            final String id,
+            final String type,
+            final CreateUploadSessionRequest input
+    ) {
+        final CreateUploadSessionCommand aCommand =
+                CreateUploadSessionCommand.with(id, type, input.name(), input.contentType(), input.size());
+
+        final UploadSessionResponse output = VideoApiPresenter.present(this.createUploadSessionUseCase.execute(aCommand));
+
+        return ResponseEntity
+                .created(URI.create("%s%s/medias/%s/sessions/%s".formatted(VIDEOS_BASE_ENDPOINT, id, type, output.sessionId())))
+                .body(output);
+    }
+
+    @Override
+    public UploadSessionResponse uploadChunk(
+            final String id,
+            final String type,
+            final String sessionId,
+            final long offset,
+            final HttpServletRequest request
+    ) {
+        final Resource aChunk = Resource.with(
+                request::getInputStream,
+                request.getContentLengthLong(),
+                MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                sessionId
+        );
+
+        return VideoApiPresenter.present(
+                this.uploadChunkUseCase.execute(UploadChunkCommand.with(id, type, sessionId, offset, aChunk))
+        );
+    }
+
+    @Override
+    public ResponseEntity<UploadMediaResponse> commitUploadSession(final String id, final String type, final String sessionId) {
+        final UploadMediaOutput output =
+                this.commitUploadSessionUseCase.execute(CommitUploadSessionCommand.with(id, type, sessionId));
+
+        return ResponseEntity
+                .created(URI.create("%s%s/medias/%s".formatted(VIDEOS_BASE_ENDPOINT, id, output.mediaType().name())))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant since, final String acceptEncoding) {
+        final boolean gzip = JsonStreamingUtils.acceptsGzip(acceptEncoding);
+        final StreamingResponseBody body = VideoApiPresenter.export(gzip, writer ->
+                this.exportVideosUseCase.execute(ExportVideosCommand.with(since, writer)));
+
+        return JsonStreamingUtils.ndjsonResponse(gzip).body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> fullMedia(final MediaOutput aMedia, final String eTag) {
+        return this.mediaResponse(HttpStatus.OK, aMedia, eTag)
+                .contentLength(aMedia.size())
+                .body(this.transfer(aMedia, 0, aMedia.size()));
+    }
+
+    private ResponseEntity.BodyBuilder mediaResponse(final HttpStatus status, final MediaOutput aMedia, final String eTag) {
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.status(status)
+                .contentType(MediaType.valueOf(aMedia.contentType()))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+
+        return eTag != null ? builder.eTag(eTag) : builder;
+    }
+
+    private StreamingResponseBody transfer(final MediaOutput aMedia, final long position, final long count) {
+        return out -> aMedia.content().transferTo(position, count, Channels.newChannel(out));
+    }
+
+    private List<HttpRange> parseRanges(final String range) {
         try {
-            return Resource.with(
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getBytes(),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (final Exception e) {
-            throw new RuntimeException(e);
+            return HttpRange.parseRanges(range);
+        } catch (final IllegalArgumentException e) {
+            return List.of();
         }
     }
+
+    private Resource resourceOf(final MultipartFile part) {
+        if (part == null) return null;
+        return Resource.with(
+                part::getInputStream,
+                part.getSize(),
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
+    }
 }
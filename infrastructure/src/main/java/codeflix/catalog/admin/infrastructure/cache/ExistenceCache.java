@@ -0,0 +1,101 @@
+package codeflix.catalog.admin.infrastructure.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+// Each node keeps its own cache and only invalidates its own entries, so another node, or a read served by a lagging
+// replica right after the delete, may still report a deleted id as existing until cache.existence.expire-after-write.
+@ManagedResource(objectName = ExistenceCache.OBJECT_NAME)
+public class ExistenceCache {
+    public static final String OBJECT_NAME = "codeflix.catalog.admin:type=ExistenceCache";
+
+    private final Cache<Key, Boolean> cache;
+
+    public ExistenceCache(final long maximumSize, final Duration expireAfterWrite) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public List<String> existing(
+            final String namespace,
+            final Collection<String> ids,
+            final Function<List<String>, List<String>> loader
+    ) {
+        final Set<String> found = new HashSet<>();
+        final List<String> missing = new ArrayList<>();
+
+        for (final String id : ids) {
+            if (this.cache.getIfPresent(new Key(namespace, id)) != null) found.add(id);
+            else missing.add(id);
+        }
+
+        if (!missing.isEmpty()) {
+            for (final String id : loader.apply(missing)) {
+                this.cache.put(new Key(namespace, id), Boolean.TRUE);
+                found.add(id);
+            }
+        }
+
+        return ids.stream().filter(found::contains).distinct().toList();
+    }
+
+    public void invalidate(final String namespace, final String id) {
+        final Key aKey = new Key(namespace, id);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.cache.invalidate(aKey);
+            return;
+        }
+
+        // invalidating before commit would let a concurrent check cache the row again while it still exists
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ExistenceCache.this.cache.invalidate(aKey);
+            }
+        });
+    }
+
+    @ManagedAttribute
+    public long getSize() {
+        return this.cache.size();
+    }
+
+    @ManagedAttribute
+    public long getHitCount() {
+        return this.cache.stats().hitCount();
+    }
+
+    @ManagedAttribute
+    public long getMissCount() {
+        return this.cache.stats().missCount();
+    }
+
+    @ManagedAttribute
+    public double getHitRate() {
+        return this.cache.stats().hitRate();
+    }
+
+    @ManagedAttribute
+    public long getEvictionCount() {
+        return this.cache.stats().evictionCount();
+    }
+
+    private record Key(String namespace, String id) {
+    }
+}
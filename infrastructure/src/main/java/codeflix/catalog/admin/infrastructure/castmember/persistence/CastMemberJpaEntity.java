@@ -3,15 +3,23 @@ package codeflix.catalog.admin.infrastructure.castmember.persistence;
 import codeflix.catalog.admin.domain.castmember.entity.CastMember;
 import codeflix.catalog.admin.domain.castmember.enums.CastMemberType;
 import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
+import codeflix.catalog.admin.infrastructure.persistence.BinaryIdType;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchIndexListener;
+import codeflix.catalog.admin.infrastructure.services.Searchable;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 import java.time.Instant;
+import java.util.List;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
-public class CastMemberJpaEntity {
+@EntityListeners(SearchIndexListener.class)
+public class CastMemberJpaEntity implements Searchable {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -102,4 +110,14 @@ public class CastMemberJpaEntity {
     public void setUpdatedAt(final Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    @Override
+    public SearchCollection searchCollection() {
+        return SearchCollection.CAST_MEMBERS;
+    }
+
+    @Override
+    public List<String> searchableTexts() {
+        return List.of(this.name);
+    }
 }
@@ -1,34 +1,72 @@
 package codeflix.catalog.admin.infrastructure.castmember.persistence;
 
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.castmember.entity.CastMember;
 import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
 import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
-import codeflix.catalog.admin.infrastructure.utils.SpecificationUtils;
+import codeflix.catalog.admin.infrastructure.cache.ExistenceCache;
+import codeflix.catalog.admin.infrastructure.configuration.properties.imports.ImportProperties;
+import codeflix.catalog.admin.infrastructure.persistence.CursorReads;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import codeflix.catalog.admin.infrastructure.services.SearchService;
+import codeflix.catalog.admin.infrastructure.utils.SearchUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static codeflix.catalog.admin.domain._share.utils.CollectionUtils.orderedBy;
+import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
+    private static final String EXISTENCE_NAMESPACE = "cast_members";
 
     private final CastMemberRepository castMemberRepository;
-
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final SearchService searchService;
+    private final ExistenceCache existenceCache;
+    private final ImportProperties importProperties;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final SearchService searchService,
+            final ExistenceCache existenceCache,
+            final ImportProperties importProperties
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.searchService = Objects.requireNonNull(searchService);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.importProperties = Objects.requireNonNull(importProperties);
     }
 
     @Override
     public CastMember create(final CastMember aCastMember) {
-        return this.save(aCastMember);
+        return this.castMemberRepository.insert(CastMemberJpaEntity.from(aCastMember))
+                .toAggregate();
+    }
+
+    @Override
+    @Transactional
+    public void createAll(final List<CastMember> members) {
+        final List<CastMemberJpaEntity> entities = members.stream()
+                .map(CastMemberJpaEntity::from)
+                .toList();
+
+        this.castMemberRepository.insertAll(entities, this.importProperties.getBatchSize());
     }
 
     @Override
@@ -37,10 +75,12 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional
     public void deleteById(final CastMemberID anId) {
         final String anIdValue = anId.getValue();
         if (this.castMemberRepository.existsById(anIdValue))
             this.castMemberRepository.deleteById(anIdValue);
+        this.existenceCache.invalidate(EXISTENCE_NAMESPACE, anIdValue);
     }
 
     @Override
@@ -49,20 +89,84 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .map(CastMemberJpaEntity::toAggregate);
     }
 
+    @Override
+    @Transactional
+    public Optional<CastMember> findByIdForUpdate(final CastMemberID anId) {
+        return this.castMemberRepository.findById(anId.getValue())
+                .map(CastMemberJpaEntity::toAggregate);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CastMemberID anId) {
+        return this.castMemberRepository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUpdatedSince(final Instant since, final Consumer<CastMember> anAction) {
+        CursorReads.run(() -> {
+            try (final Stream<CastMemberJpaEntity> entities = this.castMemberRepository.streamUpdatedSince(since)) {
+                entities.forEach(it -> {
+                    anAction.accept(it.toAggregate());
+                    this.castMemberRepository.detach(it);
+                });
+            }
+        });
+    }
+
+    @Override
+    public List<CastMember> findAllByIds(final Iterable<CastMemberID> castMemberIDs) {
+        final List<String> ids = StreamSupport.stream(castMemberIDs.spliterator(), false)
+                .map(CastMemberID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) return emptyList();
+
+        return orderedBy(ids, this.castMemberRepository.findAllById(ids), CastMemberJpaEntity::getId).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final PageRequest page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        if (isBlank(aQuery.terms())) return this.findPage(null, aQuery);
+
+        final SearchMatch match = this.searchService.match(SearchCollection.CAST_MEMBERS, aQuery.terms());
+        if (match.isEmpty()) return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, 0, List.of());
+        if (SearchUtils.isRelevance(aQuery.sort()) && !match.isFullText()) return this.findRanked(match, aQuery);
+
+        return this.findPage(SearchUtils.matching(SearchCollection.CAST_MEMBERS, match, aQuery.sort()), aQuery);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInPage(final SearchQuery aQuery, final PageWriter<CastMember> aWriter) {
+        CursorReads.run(() -> this.writePage(aQuery, aWriter));
+    }
+
+    private void writePage(final SearchQuery aQuery, final PageWriter<CastMember> aWriter) {
+        if (isBlank(aQuery.terms())) {
+            this.streamPage(null, aQuery, aWriter);
+            return;
+        }
+
+        final SearchMatch match = this.searchService.match(SearchCollection.CAST_MEMBERS, aQuery.terms());
+        if (match.isEmpty()) {
+            aWriter.write(new Pagination<>(aQuery.page(), aQuery.perPage(), 0, 0, List.of()));
+        } else if (SearchUtils.isRelevance(aQuery.sort()) && !match.isFullText()) {
+            aWriter.write(this.findRanked(match, aQuery));
+        } else {
+            this.streamPage(SearchUtils.matching(SearchCollection.CAST_MEMBERS, match, aQuery.sort()), aQuery, aWriter);
+        }
+    }
 
-        final Specification<CastMemberJpaEntity> specification = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+    private Pagination<CastMember> findRanked(final SearchMatch match, final SearchQuery aQuery) {
+        return SearchUtils.rank(match.ids(), this.castMemberRepository.findAllById(match.ids()), CastMemberJpaEntity::getId, aQuery.page(), aQuery.perPage())
+                .map(CastMemberJpaEntity::toAggregate);
+    }
 
-        final Page<CastMemberJpaEntity> pageResult = this.castMemberRepository.findAll(Specification.where(specification), page);
+    private Pagination<CastMember> findPage(final Specification<CastMemberJpaEntity> specification, final SearchQuery aQuery) {
+        final Page<CastMemberJpaEntity> pageResult = this.castMemberRepository.findAll(Specification.where(specification), this.pageRequest(aQuery));
 
         return new Pagination<>(
                 pageResult.getNumber(),
@@ -73,22 +177,52 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         );
     }
 
+    private void streamPage(final Specification<CastMemberJpaEntity> specification, final SearchQuery aQuery, final PageWriter<CastMember> aWriter) {
+        final PageRequest page = this.pageRequest(aQuery);
+        final long totalElements = this.castMemberRepository.count(Specification.where(specification));
+
+        aWriter.begin(new Pagination<>(
+                page.getPageNumber(),
+                page.getPageSize(),
+                SearchUtils.totalPages(totalElements, page.getPageSize()),
+                totalElements,
+                List.of()
+        ));
+
+        try (final Stream<CastMemberJpaEntity> entities = this.castMemberRepository.streamPage(CastMemberJpaEntity.class, specification, page)) {
+            entities.forEach(it -> {
+                aWriter.accept(it.toAggregate());
+                this.castMemberRepository.detach(it);
+            });
+        }
+
+        aWriter.end(null);
+    }
+
+    private PageRequest pageRequest(final SearchQuery aQuery) {
+        return PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                SearchUtils.isRelevance(aQuery.sort())
+                        ? Sort.unsorted()
+                        : Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+        );
+    }
+
     private CastMember save(final CastMember aMember) {
         return this.castMemberRepository.save(CastMemberJpaEntity.from(aMember))
                 .toAggregate();
     }
 
-    private Specification<CastMemberJpaEntity> assembleSpecification(final String term) {
-        return SpecificationUtils.like("name", term);
-    }
-
+    // guards writes, so it runs read-write and stays on the primary
     @Override
+    @Transactional
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> members) {
         final List<String> ids = StreamSupport.stream(members.spliterator(), false)
                 .map(CastMemberID::getValue)
                 .toList();
 
-        return this.castMemberRepository.existsByIds(ids).stream()
+        return this.existenceCache.existing(EXISTENCE_NAMESPACE, ids, this.castMemberRepository::existsByIds).stream()
                 .map(CastMemberID::from)
                 .toList();
     }
@@ -1,18 +1,38 @@
 package codeflix.catalog.admin.infrastructure.castmember.persistence;
 
+import codeflix.catalog.admin.infrastructure.persistence.DetachRepository;
+import codeflix.catalog.admin.infrastructure.persistence.InsertRepository;
+import codeflix.catalog.admin.infrastructure.persistence.PageStreamRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, InsertRepository<CastMemberJpaEntity>, DetachRepository<CastMemberJpaEntity>, PageStreamRepository<CastMemberJpaEntity> {
 
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> whereClause, Pageable pageable);
 
+    long count(Specification<CastMemberJpaEntity> whereClause);
+
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c.updatedAt from CastMember c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = "select c from CastMember c where c.updatedAt >= :since")
+    Stream<CastMemberJpaEntity> streamUpdatedSince(@Param("since") Instant since);
 }
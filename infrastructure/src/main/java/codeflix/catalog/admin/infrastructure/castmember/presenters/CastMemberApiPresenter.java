@@ -2,8 +2,13 @@ package codeflix.catalog.admin.infrastructure.castmember.presenters;
 
 import codeflix.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
 import codeflix.catalog.admin.application.castmember.retrieve.list.CastMemberListOutput;
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.infrastructure.castmember.models.CastMemberListResponse;
 import codeflix.catalog.admin.infrastructure.castmember.models.CastMemberResponse;
+import codeflix.catalog.admin.infrastructure.utils.JsonStreamingUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
 
 public interface CastMemberApiPresenter {
 
@@ -25,4 +30,12 @@ public interface CastMemberApiPresenter {
                 output.createdAt().toString()
         );
     }
+
+    static StreamingResponseBody stream(final Consumer<PageWriter<CastMemberListOutput>> source) {
+        return JsonStreamingUtils.paginated(source, CastMemberApiPresenter::present);
+    }
+
+    static StreamingResponseBody export(final boolean gzip, final Consumer<Consumer<CastMemberOutput>> source) {
+        return JsonStreamingUtils.ndjson(gzip, source, CastMemberApiPresenter::present);
+    }
 }
@@ -2,18 +2,28 @@ package codeflix.catalog.admin.infrastructure.category.persistence;
 
 import codeflix.catalog.admin.domain.category.entity.Category;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
+import codeflix.catalog.admin.infrastructure.persistence.BinaryIdType;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchIndexListener;
+import codeflix.catalog.admin.infrastructure.services.Searchable;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 
 @Entity(name = "Category")
 @Table(name = "categories")
-public class CategoryJpaEntity {
+@EntityListeners(SearchIndexListener.class)
+public class CategoryJpaEntity implements Searchable {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -134,4 +144,14 @@ public class CategoryJpaEntity {
     public void setDeletedAt(final Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    @Override
+    public SearchCollection searchCollection() {
+        return SearchCollection.CATEGORIES;
+    }
+
+    @Override
+    public List<String> searchableTexts() {
+        return Arrays.asList(this.name, this.description);
+    }
 }
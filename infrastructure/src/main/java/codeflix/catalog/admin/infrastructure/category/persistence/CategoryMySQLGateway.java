@@ -1,42 +1,81 @@
 package codeflix.catalog.admin.infrastructure.category.persistence;
 
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.category.entity.Category;
 import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
-import codeflix.catalog.admin.infrastructure.utils.SpecificationUtils;
+import codeflix.catalog.admin.infrastructure.cache.ExistenceCache;
+import codeflix.catalog.admin.infrastructure.configuration.properties.imports.ImportProperties;
+import codeflix.catalog.admin.infrastructure.persistence.CursorReads;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import codeflix.catalog.admin.infrastructure.services.SearchService;
+import codeflix.catalog.admin.infrastructure.utils.SearchUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static codeflix.catalog.admin.infrastructure.utils.SpecificationUtils.like;
+import static codeflix.catalog.admin.domain._share.utils.CollectionUtils.orderedBy;
+import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
+    private static final String EXISTENCE_NAMESPACE = "categories";
 
     private final CategoryRepository repository;
-
-    public CategoryMySQLGateway(final CategoryRepository aRepository) {
+    private final SearchService searchService;
+    private final ExistenceCache existenceCache;
+    private final ImportProperties importProperties;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository aRepository,
+            final SearchService searchService,
+            final ExistenceCache existenceCache,
+            final ImportProperties importProperties
+    ) {
         this.repository = aRepository;
+        this.searchService = Objects.requireNonNull(searchService);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.importProperties = Objects.requireNonNull(importProperties);
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return this.save(aCategory);
+        return this.repository.insert(CategoryJpaEntity.from(aCategory))
+                .toAggregate();
     }
 
     @Override
+    @Transactional
+    public void createAll(final List<Category> categories) {
+        final List<CategoryJpaEntity> entities = categories.stream()
+                .map(CategoryJpaEntity::from)
+                .toList();
+
+        this.repository.insertAll(entities, this.importProperties.getBatchSize());
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CategoryID anId) {
         final String anIdValue = anId.getValue();
         if (this.repository.existsById(anIdValue))
             this.repository.deleteById(anIdValue);
+        this.existenceCache.invalidate(EXISTENCE_NAMESPACE, anIdValue);
     }
 
     @Override
@@ -45,6 +84,44 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    @Transactional
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return this.repository.findById(anId.getValue())
+                .map(CategoryJpaEntity::toAggregate);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return this.repository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUpdatedSince(final Instant since, final Consumer<Category> anAction) {
+        CursorReads.run(() -> {
+            try (final Stream<CategoryJpaEntity> entities = this.repository.streamUpdatedSince(since)) {
+                entities.forEach(it -> {
+                    anAction.accept(it.toAggregate());
+                    this.repository.detach(it);
+                });
+            }
+        });
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Iterable<CategoryID> categoryIDs) {
+        final List<String> ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) return emptyList();
+
+        return orderedBy(ids, this.repository.findAllById(ids), CategoryJpaEntity::getId).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
     public Category update(final Category aCategory) {
         return this.save(aCategory);
@@ -52,18 +129,44 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final PageRequest page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        if (isBlank(aQuery.terms())) return this.findPage(null, aQuery);
+
+        final SearchMatch match = this.searchService.match(SearchCollection.CATEGORIES, aQuery.terms());
+        if (match.isEmpty()) return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, 0, List.of());
+        if (SearchUtils.isRelevance(aQuery.sort()) && !match.isFullText()) return this.findRanked(match, aQuery);
+
+        return this.findPage(SearchUtils.matching(SearchCollection.CATEGORIES, match, aQuery.sort()), aQuery);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInPage(final SearchQuery aQuery, final PageWriter<Category> aWriter) {
+        CursorReads.run(() -> this.writePage(aQuery, aWriter));
+    }
+
+    private void writePage(final SearchQuery aQuery, final PageWriter<Category> aWriter) {
+        if (isBlank(aQuery.terms())) {
+            this.streamPage(null, aQuery, aWriter);
+            return;
+        }
+
+        final SearchMatch match = this.searchService.match(SearchCollection.CATEGORIES, aQuery.terms());
+        if (match.isEmpty()) {
+            aWriter.write(new Pagination<>(aQuery.page(), aQuery.perPage(), 0, 0, List.of()));
+        } else if (SearchUtils.isRelevance(aQuery.sort()) && !match.isFullText()) {
+            aWriter.write(this.findRanked(match, aQuery));
+        } else {
+            this.streamPage(SearchUtils.matching(SearchCollection.CATEGORIES, match, aQuery.sort()), aQuery, aWriter);
+        }
+    }
 
-        final Specification<CategoryJpaEntity> specification = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+    private Pagination<Category> findRanked(final SearchMatch match, final SearchQuery aQuery) {
+        return SearchUtils.rank(match.ids(), this.repository.findAllById(match.ids()), CategoryJpaEntity::getId, aQuery.page(), aQuery.perPage())
+                .map(CategoryJpaEntity::toAggregate);
+    }
 
-        final Page<CategoryJpaEntity> pageResult = this.repository.findAll(Specification.where(specification), page);
+    private Pagination<Category> findPage(final Specification<CategoryJpaEntity> specification, final SearchQuery aQuery) {
+        final Page<CategoryJpaEntity> pageResult = this.repository.findAll(Specification.where(specification), this.pageRequest(aQuery));
 
         return new Pagination<>(
                 pageResult.getNumber(),
@@ -74,13 +177,48 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
+    // the count goes out first so the header can be written before the rows, which are handed over and detached one by one
+    private void streamPage(final Specification<CategoryJpaEntity> specification, final SearchQuery aQuery, final PageWriter<Category> aWriter) {
+        final PageRequest page = this.pageRequest(aQuery);
+        final long totalElements = this.repository.count(Specification.where(specification));
+
+        aWriter.begin(new Pagination<>(
+                page.getPageNumber(),
+                page.getPageSize(),
+                SearchUtils.totalPages(totalElements, page.getPageSize()),
+                totalElements,
+                List.of()
+        ));
+
+        try (final Stream<CategoryJpaEntity> entities = this.repository.streamPage(CategoryJpaEntity.class, specification, page)) {
+            entities.forEach(it -> {
+                aWriter.accept(it.toAggregate());
+                this.repository.detach(it);
+            });
+        }
+
+        aWriter.end(null);
+    }
+
+    private PageRequest pageRequest(final SearchQuery aQuery) {
+        return PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                SearchUtils.isRelevance(aQuery.sort())
+                        ? Sort.unsorted()
+                        : Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+        );
+    }
+
+    // the ids are validated ahead of a write, so the lookup must not land on a lagging replica
     @Override
+    @Transactional
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
         final List<String> ids = StreamSupport.stream(categoryIDs.spliterator(), false)
                 .map(CategoryID::getValue)
                 .toList();
 
-        return this.repository.existsByIds(ids).stream()
+        return this.existenceCache.existing(EXISTENCE_NAMESPACE, ids, this.repository::existsByIds).stream()
                 .map(CategoryID::from)
                 .toList();
     }
@@ -89,10 +227,4 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return this.repository.save(CategoryJpaEntity.from(aCategory))
                 .toAggregate();
     }
-
-    private Specification<CategoryJpaEntity> assembleSpecification(final String term) {
-        return SpecificationUtils.<CategoryJpaEntity>
-                        like("name", term)
-                .or(like("description", term));
-    }
 }
@@ -1,18 +1,39 @@
 package codeflix.catalog.admin.infrastructure.category.persistence;
 
+import codeflix.catalog.admin.infrastructure.persistence.DetachRepository;
+import codeflix.catalog.admin.infrastructure.persistence.InsertRepository;
+import codeflix.catalog.admin.infrastructure.persistence.PageStreamRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, InsertRepository<CategoryJpaEntity>, DetachRepository<CategoryJpaEntity>, PageStreamRepository<CategoryJpaEntity> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable pageable);
 
+    long count(Specification<CategoryJpaEntity> whereClause);
+
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c.updatedAt from Category c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    // read under CursorReads, the fetch size opens a server side cursor instead of buffering the whole table in the driver
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = "select c from Category c where c.updatedAt >= :since")
+    Stream<CategoryJpaEntity> streamUpdatedSince(@Param("since") Instant since);
 }
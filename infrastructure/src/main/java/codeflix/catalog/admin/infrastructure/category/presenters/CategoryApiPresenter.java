@@ -2,9 +2,13 @@ package codeflix.catalog.admin.infrastructure.category.presenters;
 
 import codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
+import codeflix.catalog.admin.infrastructure.utils.JsonStreamingUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public interface CategoryApiPresenter {
@@ -30,4 +34,12 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static StreamingResponseBody stream(final Consumer<PageWriter<CategoryListOutput>> source) {
+        return JsonStreamingUtils.paginated(source, CategoryApiPresenter::present);
+    }
+
+    static StreamingResponseBody export(final boolean gzip, final Consumer<Consumer<CategoryOutput>> source) {
+        return JsonStreamingUtils.ndjson(gzip, source, CategoryApiPresenter.present);
+    }
 }
@@ -1,13 +1,27 @@
 package codeflix.catalog.admin.infrastructure.configuration;
 
+import codeflix.catalog.admin.infrastructure.amqp.RetryRouter;
 import codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedQueue;
 import codeflix.catalog.admin.infrastructure.configuration.annotations.VideoEncodedQueue;
 import codeflix.catalog.admin.infrastructure.configuration.annotations.VideoEvents;
+import codeflix.catalog.admin.infrastructure.configuration.properties.amqp.DedupeProperties;
+import codeflix.catalog.admin.infrastructure.configuration.properties.amqp.ListenerProperties;
 import codeflix.catalog.admin.infrastructure.configuration.properties.amqp.QueueProperties;
+import codeflix.catalog.admin.infrastructure.configuration.properties.amqp.RetryProperties;
+import codeflix.catalog.admin.infrastructure.dedupe.ProcessedMessageStore;
+import codeflix.catalog.admin.infrastructure.dedupe.persistence.ProcessedMessageRepository;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class AmqpConfig {
@@ -26,6 +40,69 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded")
+    @VideoEncodedQueue
+    public ListenerProperties videoEncodedListenerProperties() {
+        return new ListenerProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded.retry")
+    @VideoEncodedQueue
+    public RetryProperties videoEncodedRetryProperties() {
+        return new RetryProperties();
+    }
+
+    @Bean
+    public RetryRouter videoEncodedRetryRouter(
+            @VideoEncodedQueue final QueueProperties props,
+            @VideoEncodedQueue final RetryProperties retry,
+            final RabbitOperations operations
+    ) {
+        return new RetryRouter(props.getQueue(), retry.getMaxAttempts(), operations);
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded.dedupe")
+    @VideoEncodedQueue
+    public DedupeProperties videoEncodedDedupeProperties() {
+        return new DedupeProperties();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ProcessedMessageStore videoEncodedProcessedMessageStore(
+            @VideoEncodedQueue final DedupeProperties props,
+            final ProcessedMessageRepository repository,
+            final PlatformTransactionManager transactionManager
+    ) {
+        return new ProcessedMessageStore(
+                repository,
+                new TransactionTemplate(transactionManager),
+                props.getWindowSize(),
+                props.getWindowExpiry(),
+                props.getRetention(),
+                props.getPurgeInterval()
+        );
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory videoEncodedListenerFactory(
+            final ConnectionFactory connectionFactory,
+            @VideoEncodedQueue final ListenerProperties props
+    ) {
+        final SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setPrefetchCount(props.getPrefetch());
+        factory.setConcurrentConsumers(props.getConcurrency());
+        factory.setMaxConcurrentConsumers(props.getMaxConcurrency());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(props.getBatchSize());
+        factory.setReceiveTimeout(props.getReceiveTimeout().toMillis());
+        return factory;
+    }
+
     @Configuration
     static class Admin {
 
@@ -60,6 +137,25 @@ public class AmqpConfig {
             return new Queue(props.getQueue());
         }
 
+        @Bean
+        @VideoEncodedQueue
+        public Declarables videoEncodedRetryQueues(
+                @VideoEncodedQueue final QueueProperties props,
+                @VideoEncodedQueue final RetryProperties retry
+        ) {
+            final List<Declarable> queues = new ArrayList<>();
+            // expired retries are dead-lettered back to the main queue through the events exchange
+            for (int attempt = 1; attempt <= retry.getMaxAttempts(); attempt++) {
+                queues.add(QueueBuilder.durable(RetryRouter.retryQueueOf(props.getQueue(), attempt))
+                        .ttl((int) retry.delayOf(attempt).toMillis())
+                        .deadLetterExchange(props.getExchange())
+                        .deadLetterRoutingKey(props.getRoutingKey())
+                        .build());
+            }
+            queues.add(QueueBuilder.durable(RetryRouter.parkingLotOf(props.getQueue())).build());
+            return new Declarables(queues);
+        }
+
         @Bean
         @VideoEncodedQueue
         public Binding videoEncodedBinding(
@@ -0,0 +1,22 @@
+package codeflix.catalog.admin.infrastructure.configuration;
+
+import codeflix.catalog.admin.infrastructure.cache.ExistenceCache;
+import codeflix.catalog.admin.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "cache.existence")
+    public ExistenceCacheProperties existenceCacheProperties() {
+        return new ExistenceCacheProperties();
+    }
+
+    @Bean
+    public ExistenceCache existenceCache(final ExistenceCacheProperties props) {
+        return new ExistenceCache(props.getMaximumSize(), props.getExpireAfterWrite());
+    }
+}
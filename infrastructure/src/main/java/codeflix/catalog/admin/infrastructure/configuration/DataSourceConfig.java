@@ -0,0 +1,128 @@
+package codeflix.catalog.admin.infrastructure.configuration;
+
+import codeflix.catalog.admin.infrastructure.configuration.annotations.PrimaryCursorDatabase;
+import codeflix.catalog.admin.infrastructure.configuration.annotations.PrimaryDatabase;
+import codeflix.catalog.admin.infrastructure.configuration.annotations.ReplicaCursorDatabase;
+import codeflix.catalog.admin.infrastructure.configuration.annotations.ReplicaDatabase;
+import codeflix.catalog.admin.infrastructure.configuration.properties.datasource.ReplicaProperties;
+import codeflix.catalog.admin.infrastructure.persistence.CursorRoutingDataSource;
+import codeflix.catalog.admin.infrastructure.persistence.ReadReplicaRoutingDataSource;
+import codeflix.catalog.admin.infrastructure.persistence.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+    private static final String CURSOR_FETCH = "useCursorFetch=true";
+
+    @Bean
+    @PrimaryDatabase
+    @ConfigurationProperties(value = "spring.datasource.hikari")
+    public HikariDataSource primaryPool(final DataSourceProperties props) {
+        return props.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @PrimaryCursorDatabase
+    @ConfigurationProperties(value = "datasource.cursor.hikari")
+    public HikariDataSource primaryCursorPool(final DataSourceProperties props) {
+        return props.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(withCursorFetch(props.determineUrl()))
+                .build();
+    }
+
+    @Bean
+    public CursorRoutingDataSource cursorRoutingDataSource(
+            @PrimaryDatabase final HikariDataSource primary,
+            @PrimaryCursorDatabase final HikariDataSource primaryCursor,
+            final ObjectProvider<ReadReplicaRoutingDataSource> routing,
+            @ReplicaCursorDatabase final ObjectProvider<HikariDataSource> replicaCursor,
+            final ObjectProvider<ReplicaLagMonitor> monitor
+    ) {
+        final HikariDataSource aReplicaCursor = replicaCursor.getIfAvailable();
+        final DataSource cursor = aReplicaCursor == null
+                ? primaryCursor
+                : new ReadReplicaRoutingDataSource(primaryCursor, aReplicaCursor, monitor.getObject()::isAvailable);
+
+        final DataSource defaults = routing.getIfAvailable();
+        return new CursorRoutingDataSource(defaults == null ? primary : defaults, cursor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final CursorRoutingDataSource routing) {
+        // delays the connection until the first statement, after the transaction is marked read-only
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // only mysql knows the flag, the h2 urls used by the tests are left as they are
+    static String withCursorFetch(final String url) {
+        if (!url.startsWith("jdbc:mysql:") || url.contains(CURSOR_FETCH)) return url;
+        return url + (url.contains("?") ? "&" : "?") + CURSOR_FETCH;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(value = "datasource.replica.url")
+    static class ReplicaConfig {
+
+        @Bean
+        @ConfigurationProperties(value = "datasource.replica")
+        public ReplicaProperties replicaProperties() {
+            return new ReplicaProperties();
+        }
+
+        @Bean
+        @ReplicaDatabase
+        @ConfigurationProperties(value = "datasource.replica.hikari")
+        public HikariDataSource replicaPool(final ReplicaProperties props) {
+            return this.pool(props, props.getUrl());
+        }
+
+        @Bean
+        @ReplicaCursorDatabase
+        @ConfigurationProperties(value = "datasource.replica.cursor.hikari")
+        public HikariDataSource replicaCursorPool(final ReplicaProperties props) {
+            return this.pool(props, withCursorFetch(props.getUrl()));
+        }
+
+        @Bean(initMethod = "start", destroyMethod = "stop")
+        public ReplicaLagMonitor replicaLagMonitor(
+                final ReplicaProperties props,
+                @ReplicaDatabase final HikariDataSource replica
+        ) {
+            return new ReplicaLagMonitor(replica, props.getMaxLag(), props.getCheckInterval());
+        }
+
+        @Bean
+        public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+                @PrimaryDatabase final HikariDataSource primary,
+                @ReplicaDatabase final HikariDataSource replica,
+                final ReplicaLagMonitor monitor
+        ) {
+            return new ReadReplicaRoutingDataSource(primary, replica, monitor::isAvailable);
+        }
+
+        private HikariDataSource pool(final ReplicaProperties props, final String url) {
+            return DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(props.getUsername())
+                    .password(props.getPassword())
+                    .build();
+        }
+    }
+}
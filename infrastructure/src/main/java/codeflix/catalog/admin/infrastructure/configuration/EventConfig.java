@@ -2,20 +2,53 @@ package codeflix.catalog.admin.infrastructure.configuration;
 
 import codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedQueue;
 import codeflix.catalog.admin.infrastructure.configuration.properties.amqp.QueueProperties;
+import codeflix.catalog.admin.infrastructure.configuration.properties.outbox.OutboxProperties;
+import codeflix.catalog.admin.infrastructure.outbox.OutboxRelay;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
 import codeflix.catalog.admin.infrastructure.services.EventService;
-import codeflix.catalog.admin.infrastructure.services.impl.RabbitEventService;
+import codeflix.catalog.admin.infrastructure.services.impl.OutboxEventService;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 public class EventConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "outbox.relay")
+    public OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
+
     @Bean
     @VideoCreatedQueue
     EventService videoCreatedEventService(
             @VideoCreatedQueue final QueueProperties properties,
-            final RabbitOperations operations
+            final OutboxEventRepository repository
+    ) {
+        return new OutboxEventService(properties.getExchange(), properties.getRoutingKey(), repository);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Profile({"development", "production"})
+    OutboxRelay outboxRelay(
+            final OutboxProperties props,
+            final OutboxEventRepository repository,
+            final RabbitOperations operations,
+            final PlatformTransactionManager transactionManager
     ) {
-        return new RabbitEventService(properties.getExchange(), properties.getRoutingKey(), operations);
+        return new OutboxRelay(
+                repository,
+                operations,
+                new TransactionTemplate(transactionManager),
+                props.getBatchSize(),
+                props.getLinger(),
+                props.getConfirmTimeout(),
+                props.getClaimTimeout()
+        );
     }
 }
@@ -0,0 +1,51 @@
+package codeflix.catalog.admin.infrastructure.configuration;
+
+import codeflix.catalog.admin.infrastructure.configuration.properties.exports.ExportProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+@Configuration
+public class ExportConfig implements WebMvcConfigurer {
+
+    private static final String EXPORT_PATH = "/export";
+
+    @Bean
+    @ConfigurationProperties(value = "exports")
+    public ExportProperties exportProperties() {
+        return new ExportProperties();
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new ExportTimeoutInterceptor(this.exportProperties()));
+    }
+
+    // a streaming body carries no timeout of its own, so the export requests get theirs right before going async
+    static class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+        private final ExportProperties properties;
+
+        ExportTimeoutInterceptor(final ExportProperties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public <T> void beforeConcurrentHandling(final NativeWebRequest request, final Callable<T> task) {
+            final Object pattern =
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+            if (request instanceof AsyncWebRequest asyncRequest && pattern instanceof String path && path.endsWith(EXPORT_PATH)) {
+                asyncRequest.setTimeout(this.properties.getRequestTimeout().toMillis());
+            }
+        }
+    }
+}
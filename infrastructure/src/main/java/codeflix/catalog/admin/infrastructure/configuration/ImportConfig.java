@@ -0,0 +1,16 @@
+package codeflix.catalog.admin.infrastructure.configuration;
+
+import codeflix.catalog.admin.infrastructure.configuration.properties.imports.ImportProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ImportConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "imports")
+    public ImportProperties importProperties() {
+        return new ImportProperties();
+    }
+}
@@ -0,0 +1,37 @@
+package codeflix.catalog.admin.infrastructure.configuration;
+
+import codeflix.catalog.admin.infrastructure.services.SearchService;
+import codeflix.catalog.admin.infrastructure.services.impl.FullTextMatchFunction;
+import codeflix.catalog.admin.infrastructure.services.impl.MySQLFullTextSearchService;
+import codeflix.catalog.admin.infrastructure.services.local.InMemorySearchService;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer fullTextMatchFunction() {
+        final MetadataBuilderContributor contributor = builder ->
+                builder.applySqlFunction(FullTextMatchFunction.NAME, new FullTextMatchFunction());
+
+        return props -> props.put(EntityManagerFactoryBuilderImpl.METADATA_BUILDER_CONTRIBUTOR, contributor);
+    }
+
+    @Bean(name = "searchService")
+    @Profile({"development", "production"})
+    public SearchService mySQLFullTextSearchService() {
+        return new MySQLFullTextSearchService();
+    }
+
+    @Bean(name = "searchService")
+    @ConditionalOnMissingBean
+    public SearchService inMemorySearchService() {
+        return new InMemorySearchService();
+    }
+}
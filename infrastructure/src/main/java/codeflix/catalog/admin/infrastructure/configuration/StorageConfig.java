@@ -1,17 +1,30 @@
 package codeflix.catalog.admin.infrastructure.configuration;
 
+import codeflix.catalog.admin.infrastructure.configuration.annotations.MediaStoreExecutor;
 import codeflix.catalog.admin.infrastructure.configuration.properties.google.GoogleStorageProperties;
 import codeflix.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import codeflix.catalog.admin.infrastructure.configuration.properties.storage.UploadSessionProperties;
 import codeflix.catalog.admin.infrastructure.services.StorageService;
 import codeflix.catalog.admin.infrastructure.services.impl.GoogleCloudStorageService;
 import codeflix.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import codeflix.catalog.admin.infrastructure.services.local.LocalFileStorageService;
+import codeflix.catalog.admin.infrastructure.video.UploadSessionCleaner;
+import codeflix.catalog.admin.infrastructure.video.UploadSessionGatewayImpl;
 import com.google.cloud.storage.Storage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class StorageConfig {
 
@@ -21,6 +34,40 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
+    @Bean
+    @ConfigurationProperties(value = "storage.upload-sessions")
+    public UploadSessionProperties uploadSessionProperties() {
+        return new UploadSessionProperties();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Profile({"development", "production"})
+    UploadSessionCleaner uploadSessionCleaner(
+            final UploadSessionProperties props,
+            final UploadSessionGatewayImpl uploadSessionGateway
+    ) {
+        return new UploadSessionCleaner(uploadSessionGateway, props.getCleanupInterval());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @MediaStoreExecutor
+    public ExecutorService mediaStoreExecutor(final StorageProperties props) {
+        final AtomicInteger threads = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                props.getStoreConcurrency(),
+                props.getStoreConcurrency(),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(props.getStoreQueueCapacity()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "media-store-%d".formatted(threads.incrementAndGet()));
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
     @Bean(name = "storageService")
     @Profile({"development", "production"})
     public StorageService googleStorageService(
@@ -30,6 +77,13 @@ public class StorageConfig {
         return new GoogleCloudStorageService(props.getBucket(), storage);
     }
 
+    @Bean(name = "storageService")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(value = "storage.catalog-videos.directory")
+    public StorageService localFileStorageService(final StorageProperties props) {
+        return new LocalFileStorageService(Path.of(props.getDirectory()));
+    }
+
     @Bean(name = "storageService")
     @ConditionalOnMissingBean
     public StorageService inMemoryStorageService() {
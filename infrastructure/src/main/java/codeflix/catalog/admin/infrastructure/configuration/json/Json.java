@@ -1,6 +1,10 @@
 package codeflix.catalog.admin.infrastructure.configuration.json;
 
+import codeflix.catalog.admin.domain._share.pagination.Pagination;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -10,6 +14,8 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 
 public enum Json {
@@ -23,6 +29,14 @@ public enum Json {
         return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
     }
 
+    public static JsonNode valueToTree(final Object obj) {
+        return INSTANCE.mapper.valueToTree(obj);
+    }
+
+    public static JsonGenerator generator(final OutputStream out) throws IOException {
+        return INSTANCE.mapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+    }
+
     public static <T> T readValue(final String json, final Class<T> clazz) {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
@@ -36,6 +50,7 @@ public enum Json {
                     SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
             )
             .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
+            .mixIn(Pagination.class, PaginationMixin.class)
             .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
             .build();
 
@@ -0,0 +1,10 @@
+package codeflix.catalog.admin.infrastructure.configuration.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// only video listings page by cursor, every other list keeps its response without a next_cursor
+abstract class PaginationMixin {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract String nextCursor();
+}
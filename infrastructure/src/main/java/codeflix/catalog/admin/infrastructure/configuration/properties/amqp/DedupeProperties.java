@@ -0,0 +1,66 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class DedupeProperties implements InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(DedupeProperties.class);
+
+    private long windowSize;
+    private Duration windowExpiry;
+    private Duration retention;
+    private Duration purgeInterval;
+
+    public DedupeProperties() {
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "DedupeProperties{" +
+                "windowSize=" + this.windowSize +
+                ", windowExpiry=" + this.windowExpiry +
+                ", retention=" + this.retention +
+                ", purgeInterval=" + this.purgeInterval +
+                '}';
+    }
+
+    public long getWindowSize() {
+        return this.windowSize;
+    }
+
+    public void setWindowSize(final long windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public Duration getWindowExpiry() {
+        return this.windowExpiry;
+    }
+
+    public void setWindowExpiry(final Duration windowExpiry) {
+        this.windowExpiry = windowExpiry;
+    }
+
+    public Duration getRetention() {
+        return this.retention;
+    }
+
+    public void setRetention(final Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getPurgeInterval() {
+        return this.purgeInterval;
+    }
+
+    public void setPurgeInterval(final Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+}
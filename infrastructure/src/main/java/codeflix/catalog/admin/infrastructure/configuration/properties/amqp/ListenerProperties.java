@@ -0,0 +1,76 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ListenerProperties implements InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(ListenerProperties.class);
+
+    private int prefetch;
+    private int concurrency;
+    private int maxConcurrency;
+    private int batchSize;
+    private Duration receiveTimeout;
+
+    public ListenerProperties() {
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerProperties{" +
+                "prefetch=" + this.prefetch +
+                ", concurrency=" + this.concurrency +
+                ", maxConcurrency=" + this.maxConcurrency +
+                ", batchSize=" + this.batchSize +
+                ", receiveTimeout=" + this.receiveTimeout +
+                '}';
+    }
+
+    public int getPrefetch() {
+        return this.prefetch;
+    }
+
+    public void setPrefetch(final int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getConcurrency() {
+        return this.concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    public void setMaxConcurrency(final int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getReceiveTimeout() {
+        return this.receiveTimeout;
+    }
+
+    public void setReceiveTimeout(final Duration receiveTimeout) {
+        this.receiveTimeout = receiveTimeout;
+    }
+}
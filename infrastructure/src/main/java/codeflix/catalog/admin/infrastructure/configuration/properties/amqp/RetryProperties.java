@@ -0,0 +1,71 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class RetryProperties implements InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(RetryProperties.class);
+
+    private int maxAttempts;
+    private Duration initialInterval;
+    private double multiplier;
+    private Duration maxInterval;
+
+    public RetryProperties() {
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "RetryProperties{" +
+                "maxAttempts=" + this.maxAttempts +
+                ", initialInterval=" + this.initialInterval +
+                ", multiplier=" + this.multiplier +
+                ", maxInterval=" + this.maxInterval +
+                '}';
+    }
+
+    public Duration delayOf(final int anAttempt) {
+        final double delay = this.initialInterval.toMillis() * Math.pow(this.multiplier, anAttempt - 1);
+        return Duration.ofMillis((long) Math.min(delay, this.maxInterval.toMillis()));
+    }
+
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    public void setMaxAttempts(final int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialInterval() {
+        return this.initialInterval;
+    }
+
+    public void setInitialInterval(final Duration initialInterval) {
+        this.initialInterval = initialInterval;
+    }
+
+    public double getMultiplier() {
+        return this.multiplier;
+    }
+
+    public void setMultiplier(final double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    public Duration getMaxInterval() {
+        return this.maxInterval;
+    }
+
+    public void setMaxInterval(final Duration maxInterval) {
+        this.maxInterval = maxInterval;
+    }
+}
@@ -0,0 +1,46 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ExistenceCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceCacheProperties.class);
+    private long maximumSize;
+    private Duration expireAfterWrite;
+
+    public ExistenceCacheProperties() {
+    }
+
+    public long getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    public void setMaximumSize(final long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return this.expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(final Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExistenceCacheProperties{" +
+                "maximumSize=" + this.maximumSize +
+                ", expireAfterWrite=" + this.expireAfterWrite +
+                '}';
+    }
+}
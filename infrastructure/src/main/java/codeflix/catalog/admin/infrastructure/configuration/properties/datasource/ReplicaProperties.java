@@ -0,0 +1,75 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ReplicaProperties implements InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaProperties.class);
+
+    private String url;
+    private String username;
+    private String password;
+    private Duration maxLag;
+    private Duration checkInterval;
+
+    public ReplicaProperties() {
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaProperties{" +
+                "url='" + this.url + '\'' +
+                ", username='" + this.username + '\'' +
+                ", maxLag=" + this.maxLag +
+                ", checkInterval=" + this.checkInterval +
+                '}';
+    }
+
+    public String getUrl() {
+        return this.url;
+    }
+
+    public void setUrl(final String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return this.username;
+    }
+
+    public void setUsername(final String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return this.password;
+    }
+
+    public void setPassword(final String password) {
+        this.password = password;
+    }
+
+    public Duration getMaxLag() {
+        return this.maxLag;
+    }
+
+    public void setMaxLag(final Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getCheckInterval() {
+        return this.checkInterval;
+    }
+
+    public void setCheckInterval(final Duration checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+}
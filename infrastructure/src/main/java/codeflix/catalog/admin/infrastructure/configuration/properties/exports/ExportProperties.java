@@ -0,0 +1,36 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.exports;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ExportProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportProperties.class);
+    private Duration requestTimeout;
+
+    public ExportProperties() {
+    }
+
+    public Duration getRequestTimeout() {
+        return this.requestTimeout;
+    }
+
+    public void setRequestTimeout(final Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExportProperties{" +
+                "requestTimeout=" + this.requestTimeout +
+                '}';
+    }
+}
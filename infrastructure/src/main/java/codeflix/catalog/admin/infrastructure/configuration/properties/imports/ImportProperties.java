@@ -0,0 +1,44 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.imports;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ImportProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportProperties.class);
+    private int chunkSize;
+    private int batchSize;
+
+    public ImportProperties() {
+    }
+
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    public void setChunkSize(final int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ImportProperties{" +
+                "chunkSize=" + this.chunkSize +
+                ", batchSize=" + this.batchSize +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class OutboxProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxProperties.class);
+    private int batchSize;
+    private Duration linger;
+    private Duration confirmTimeout;
+    private Duration claimTimeout;
+
+    public OutboxProperties() {
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getLinger() {
+        return this.linger;
+    }
+
+    public void setLinger(final Duration linger) {
+        this.linger = linger;
+    }
+
+    public Duration getConfirmTimeout() {
+        return this.confirmTimeout;
+    }
+
+    public void setConfirmTimeout(final Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    public Duration getClaimTimeout() {
+        return this.claimTimeout;
+    }
+
+    public void setClaimTimeout(final Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxProperties{" +
+                "batchSize=" + this.batchSize +
+                ", linger=" + this.linger +
+                ", confirmTimeout=" + this.confirmTimeout +
+                ", claimTimeout=" + this.claimTimeout +
+                '}';
+    }
+}
@@ -9,6 +9,9 @@ public class StorageProperties implements InitializingBean {
     private static final Logger log = LoggerFactory.getLogger(StorageProperties.class);
     private String locationPattern;
     private String fileNamePattern;
+    private String directory;
+    private int storeConcurrency;
+    private int storeQueueCapacity;
 
     public StorageProperties() {
     }
@@ -29,6 +32,30 @@ public class StorageProperties implements InitializingBean {
         this.fileNamePattern = fileNamePattern;
     }
 
+    public String getDirectory() {
+        return this.directory;
+    }
+
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+
+    public int getStoreConcurrency() {
+        return this.storeConcurrency;
+    }
+
+    public void setStoreConcurrency(final int storeConcurrency) {
+        this.storeConcurrency = storeConcurrency;
+    }
+
+    public int getStoreQueueCapacity() {
+        return this.storeQueueCapacity;
+    }
+
+    public void setStoreQueueCapacity(final int storeQueueCapacity) {
+        this.storeQueueCapacity = storeQueueCapacity;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(this.toString());
@@ -39,6 +66,9 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + this.locationPattern + '\'' +
                 ", fileNamePattern='" + this.fileNamePattern + '\'' +
+                ", directory='" + this.directory + '\'' +
+                ", storeConcurrency=" + this.storeConcurrency +
+                ", storeQueueCapacity=" + this.storeQueueCapacity +
                 '}';
     }
 }
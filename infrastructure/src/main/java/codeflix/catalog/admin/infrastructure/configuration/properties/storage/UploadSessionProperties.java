@@ -0,0 +1,56 @@
+package codeflix.catalog.admin.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class UploadSessionProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionProperties.class);
+    private String directory;
+    private Duration ttl;
+    private Duration cleanupInterval;
+
+    public UploadSessionProperties() {
+    }
+
+    public String getDirectory() {
+        return this.directory;
+    }
+
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+
+    public Duration getTtl() {
+        return this.ttl;
+    }
+
+    public void setTtl(final Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getCleanupInterval() {
+        return this.cleanupInterval;
+    }
+
+    public void setCleanupInterval(final Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(this.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "UploadSessionProperties{" +
+                "directory='" + this.directory + '\'' +
+                ", ttl=" + this.ttl +
+                ", cleanupInterval=" + this.cleanupInterval +
+                '}';
+    }
+}
@@ -1,16 +1,31 @@
 package codeflix.catalog.admin.infrastructure.configuration.usecases;
 
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCaseImpl;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCaseImpl;
 import codeflix.catalog.admin.application.castmember.create.CreateCastMemberUseCase;
 import codeflix.catalog.admin.application.castmember.create.CreateCastMemberUseCaseImpl;
 import codeflix.catalog.admin.application.castmember.delete.DeleteCastMemberUseCase;
 import codeflix.catalog.admin.application.castmember.delete.DeleteCastMemberUseCaseImpl;
+import codeflix.catalog.admin.application.castmember.imports.ImportCastMembersUseCase;
+import codeflix.catalog.admin.application.castmember.imports.ImportCastMembersUseCaseImpl;
+import codeflix.catalog.admin.application.castmember.retrieve.export.ExportCastMembersUseCase;
+import codeflix.catalog.admin.application.castmember.retrieve.export.ExportCastMembersUseCaseImpl;
+import codeflix.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
 import codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCaseImpl;
+import codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberUpdatedAtUseCase;
+import codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberUpdatedAtUseCaseImpl;
+import codeflix.catalog.admin.application.castmember.retrieve.list.CastMemberListOutput;
 import codeflix.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
 import codeflix.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCaseImpl;
 import codeflix.catalog.admin.application.castmember.update.UpdateCastMemberUseCase;
 import codeflix.catalog.admin.application.castmember.update.UpdateCastMemberUseCaseImpl;
+import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
+import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
+import codeflix.catalog.admin.infrastructure.configuration.properties.imports.ImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,9 +35,11 @@ import java.util.Objects;
 public class CastMemberUseCaseConfig {
 
     private final CastMemberGateway castMemberGateway;
+    private final ImportProperties importProperties;
 
-    public CastMemberUseCaseConfig(final CastMemberGateway castMemberGateway) {
+    public CastMemberUseCaseConfig(final CastMemberGateway castMemberGateway, final ImportProperties importProperties) {
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.importProperties = Objects.requireNonNull(importProperties);
     }
 
     @Bean
@@ -30,6 +47,11 @@ public class CastMemberUseCaseConfig {
         return new CreateCastMemberUseCaseImpl(this.castMemberGateway);
     }
 
+    @Bean
+    public ImportCastMembersUseCase importCastMembersUseCase() {
+        return new ImportCastMembersUseCaseImpl(this.castMemberGateway, this.importProperties.getChunkSize());
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new UpdateCastMemberUseCaseImpl(this.castMemberGateway);
@@ -40,6 +62,21 @@ public class CastMemberUseCaseConfig {
         return new GetCastMemberByIdUseCaseImpl(this.castMemberGateway);
     }
 
+    @Bean
+    public GetCastMemberUpdatedAtUseCase getCastMemberUpdatedAtUseCase() {
+        return new GetCastMemberUpdatedAtUseCaseImpl(this.castMemberGateway);
+    }
+
+    @Bean
+    public GetByIdsUseCase<CastMemberOutput> getCastMembersByIdsUseCase() {
+        return new GetByIdsUseCaseImpl<>(CastMemberID::from, this.castMemberGateway::findAllByIds, CastMemberOutput::from);
+    }
+
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new ExportCastMembersUseCaseImpl(this.castMemberGateway);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DeleteCastMemberUseCaseImpl(this.castMemberGateway);
@@ -49,4 +86,9 @@ public class CastMemberUseCaseConfig {
     public ListCastMembersUseCase listCastMembersUseCase() {
         return new ListCastMembersUseCaseImpl(this.castMemberGateway);
     }
+
+    @Bean
+    public StreamPageUseCase<SearchQuery, CastMemberListOutput> streamCastMembersUseCase() {
+        return new StreamPageUseCaseImpl<>(this.castMemberGateway::forEachInPage, CastMemberListOutput::from);
+    }
 }
@@ -1,16 +1,31 @@
 package codeflix.catalog.admin.infrastructure.configuration.usecases;
 
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCaseImpl;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCaseImpl;
 import codeflix.catalog.admin.application.category.create.CreateCategoryUseCase;
 import codeflix.catalog.admin.application.category.create.CreateCategoryUseCaseImpl;
 import codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
 import codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCaseImpl;
+import codeflix.catalog.admin.application.category.imports.ImportCategoriesUseCase;
+import codeflix.catalog.admin.application.category.imports.ImportCategoriesUseCaseImpl;
+import codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
+import codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCaseImpl;
+import codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCaseImpl;
+import codeflix.catalog.admin.application.category.retrieve.get.GetCategoryUpdatedAtUseCase;
+import codeflix.catalog.admin.application.category.retrieve.get.GetCategoryUpdatedAtUseCaseImpl;
+import codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import codeflix.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
 import codeflix.catalog.admin.application.category.retrieve.list.ListCategoriesUseCaseImpl;
 import codeflix.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import codeflix.catalog.admin.application.category.update.UpdateCategoryUseCaseImpl;
+import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import codeflix.catalog.admin.domain.category.value.object.CategoryID;
+import codeflix.catalog.admin.infrastructure.configuration.properties.imports.ImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,9 +35,11 @@ import java.util.Objects;
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final ImportProperties importProperties;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
+    public CategoryUseCaseConfig(final CategoryGateway categoryGateway, final ImportProperties importProperties) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.importProperties = Objects.requireNonNull(importProperties);
     }
 
     @Bean
@@ -30,6 +47,11 @@ public class CategoryUseCaseConfig {
         return new CreateCategoryUseCaseImpl(this.categoryGateway);
     }
 
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase() {
+        return new ImportCategoriesUseCaseImpl(this.categoryGateway, this.importProperties.getChunkSize());
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new UpdateCategoryUseCaseImpl(this.categoryGateway);
@@ -40,11 +62,31 @@ public class CategoryUseCaseConfig {
         return new GetCategoryByIdUseCaseImpl(this.categoryGateway);
     }
 
+    @Bean
+    public GetCategoryUpdatedAtUseCase getCategoryUpdatedAtUseCase() {
+        return new GetCategoryUpdatedAtUseCaseImpl(this.categoryGateway);
+    }
+
+    @Bean
+    public GetByIdsUseCase<CategoryOutput> getCategoriesByIdsUseCase() {
+        return new GetByIdsUseCaseImpl<>(CategoryID::from, this.categoryGateway::findAllByIds, CategoryOutput::from);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new ExportCategoriesUseCaseImpl(this.categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new ListCategoriesUseCaseImpl(this.categoryGateway);
     }
 
+    @Bean
+    public StreamPageUseCase<SearchQuery, CategoryListOutput> streamCategoriesUseCase() {
+        return new StreamPageUseCaseImpl<>(this.categoryGateway::forEachInPage, CategoryListOutput::from);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DeleteCategoryUseCaseImpl(this.categoryGateway);
@@ -1,17 +1,32 @@
 package codeflix.catalog.admin.infrastructure.configuration.usecases;
 
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCaseImpl;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCaseImpl;
 import codeflix.catalog.admin.application.genre.create.CreateGenreUseCase;
 import codeflix.catalog.admin.application.genre.create.CreateGenreUseCaseImpl;
 import codeflix.catalog.admin.application.genre.delete.DeleteGenreUseCase;
 import codeflix.catalog.admin.application.genre.delete.DeleteGenreUseCaseImpl;
+import codeflix.catalog.admin.application.genre.imports.ImportGenresUseCase;
+import codeflix.catalog.admin.application.genre.imports.ImportGenresUseCaseImpl;
+import codeflix.catalog.admin.application.genre.retrieve.export.ExportGenresUseCase;
+import codeflix.catalog.admin.application.genre.retrieve.export.ExportGenresUseCaseImpl;
+import codeflix.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import codeflix.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
 import codeflix.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCaseImpl;
+import codeflix.catalog.admin.application.genre.retrieve.get.GetGenreUpdatedAtUseCase;
+import codeflix.catalog.admin.application.genre.retrieve.get.GetGenreUpdatedAtUseCaseImpl;
+import codeflix.catalog.admin.application.genre.retrieve.list.GenreListOutput;
 import codeflix.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
 import codeflix.catalog.admin.application.genre.retrieve.list.ListGenreUseCaseImpl;
 import codeflix.catalog.admin.application.genre.update.UpdateGenreUseCase;
 import codeflix.catalog.admin.application.genre.update.UpdateGenreUseCaseImpl;
+import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
 import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
+import codeflix.catalog.admin.domain.genre.value.object.GenreID;
+import codeflix.catalog.admin.infrastructure.configuration.properties.imports.ImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,10 +37,16 @@ public class GenreUseCaseConfig {
 
     private final GenreGateway genreGateway;
     private final CategoryGateway categoryGateway;
+    private final ImportProperties importProperties;
 
-    public GenreUseCaseConfig(final GenreGateway genreGateway, final CategoryGateway categoryGateway) {
+    public GenreUseCaseConfig(
+            final GenreGateway genreGateway,
+            final CategoryGateway categoryGateway,
+            final ImportProperties importProperties
+    ) {
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.importProperties = Objects.requireNonNull(importProperties);
     }
 
     @Bean
@@ -33,6 +54,11 @@ public class GenreUseCaseConfig {
         return new CreateGenreUseCaseImpl(this.categoryGateway, this.genreGateway);
     }
 
+    @Bean
+    public ImportGenresUseCase importGenresUseCase() {
+        return new ImportGenresUseCaseImpl(this.categoryGateway, this.genreGateway, this.importProperties.getChunkSize());
+    }
+
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
         return new UpdateGenreUseCaseImpl(this.categoryGateway, this.genreGateway);
@@ -43,11 +69,31 @@ public class GenreUseCaseConfig {
         return new GetGenreByIdUseCaseImpl(this.genreGateway);
     }
 
+    @Bean
+    public GetGenreUpdatedAtUseCase getGenreUpdatedAtUseCase() {
+        return new GetGenreUpdatedAtUseCaseImpl(this.genreGateway);
+    }
+
+    @Bean
+    public GetByIdsUseCase<GenreOutput> getGenresByIdsUseCase() {
+        return new GetByIdsUseCaseImpl<>(GenreID::from, this.genreGateway::findAllByIds, GenreOutput::from);
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new ExportGenresUseCaseImpl(this.genreGateway);
+    }
+
     @Bean
     public ListGenreUseCase listGenresUseCase() {
         return new ListGenreUseCaseImpl(this.genreGateway);
     }
 
+    @Bean
+    public StreamPageUseCase<SearchQuery, GenreListOutput> streamGenresUseCase() {
+        return new StreamPageUseCaseImpl<>(this.genreGateway::forEachInPage, GenreListOutput::from);
+    }
+
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
         return new DeleteGenreUseCaseImpl(this.genreGateway);
@@ -1,30 +1,51 @@
 package codeflix.catalog.admin.infrastructure.configuration.usecases;
 
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCaseImpl;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCaseImpl;
 import codeflix.catalog.admin.application.video.create.CreateVideoUseCase;
 import codeflix.catalog.admin.application.video.create.CreateVideoUseCaseImpl;
 import codeflix.catalog.admin.application.video.delete.DeleteVideoUseCase;
 import codeflix.catalog.admin.application.video.delete.DeleteVideoUseCaseImpl;
 import codeflix.catalog.admin.application.video.media.get.GetMediaUseCase;
 import codeflix.catalog.admin.application.video.media.get.GetMediaUseCaseImpl;
+import codeflix.catalog.admin.application.video.media.session.chunk.UploadChunkUseCase;
+import codeflix.catalog.admin.application.video.media.session.chunk.UploadChunkUseCaseImpl;
+import codeflix.catalog.admin.application.video.media.session.commit.CommitUploadSessionUseCase;
+import codeflix.catalog.admin.application.video.media.session.commit.CommitUploadSessionUseCaseImpl;
+import codeflix.catalog.admin.application.video.media.session.create.CreateUploadSessionUseCase;
+import codeflix.catalog.admin.application.video.media.session.create.CreateUploadSessionUseCaseImpl;
 import codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCase;
 import codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCaseImpl;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCase;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCaseImpl;
+import codeflix.catalog.admin.application.video.retrieve.export.ExportVideosUseCase;
+import codeflix.catalog.admin.application.video.retrieve.export.ExportVideosUseCaseImpl;
 import codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
 import codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCaseImpl;
+import codeflix.catalog.admin.application.video.retrieve.get.GetVideoUpdatedAtUseCase;
+import codeflix.catalog.admin.application.video.retrieve.get.GetVideoUpdatedAtUseCaseImpl;
+import codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
 import codeflix.catalog.admin.application.video.retrieve.list.ListVideosUseCase;
 import codeflix.catalog.admin.application.video.retrieve.list.ListVideosUseCaseImpl;
+import codeflix.catalog.admin.application.video.retrieve.list.VideoListOutput;
 import codeflix.catalog.admin.application.video.update.UpdateVideoUseCase;
 import codeflix.catalog.admin.application.video.update.UpdateVideoUseCaseImpl;
 import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
 import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
 import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
 import codeflix.catalog.admin.domain.video.MediaResourceGateway;
+import codeflix.catalog.admin.domain.video.UploadSessionGateway;
 import codeflix.catalog.admin.domain.video.VideoGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.domain.video.VideoSearchQuery;
+import codeflix.catalog.admin.infrastructure.configuration.annotations.MediaStoreExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 @Configuration
 public class VideoUseCaseConfig {
@@ -33,19 +54,25 @@ public class VideoUseCaseConfig {
     private final GenreGateway genreGateway;
     private final CastMemberGateway castMemberGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final UploadSessionGateway uploadSessionGateway;
+    private final ExecutorService mediaStoreExecutor;
 
     public VideoUseCaseConfig(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final GenreGateway genreGateway,
             final CastMemberGateway castMemberGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaResourceGateway mediaResourceGateway,
+            final UploadSessionGateway uploadSessionGateway,
+            @MediaStoreExecutor final ExecutorService mediaStoreExecutor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.mediaStoreExecutor = Objects.requireNonNull(mediaStoreExecutor);
     }
 
     @Bean
@@ -55,7 +82,8 @@ public class VideoUseCaseConfig {
                 this.categoryGateway,
                 this.genreGateway,
                 this.castMemberGateway,
-                this.mediaResourceGateway
+                this.mediaResourceGateway,
+                this.mediaStoreExecutor
         );
     }
 
@@ -64,6 +92,21 @@ public class VideoUseCaseConfig {
         return new GetVideoByIdUseCaseImpl(this.videoGateway);
     }
 
+    @Bean
+    GetVideoUpdatedAtUseCase getVideoUpdatedAtUseCase() {
+        return new GetVideoUpdatedAtUseCaseImpl(this.videoGateway);
+    }
+
+    @Bean
+    GetByIdsUseCase<VideoOutput> getVideosByIdsUseCase() {
+        return new GetByIdsUseCaseImpl<>(VideoID::from, this.videoGateway::findAllByIds, VideoOutput::from);
+    }
+
+    @Bean
+    ExportVideosUseCase exportVideosUseCase() {
+        return new ExportVideosUseCaseImpl(this.videoGateway);
+    }
+
     @Bean
     UpdateVideoUseCase updateVideoUseCase() {
         return new UpdateVideoUseCaseImpl(
@@ -85,6 +128,11 @@ public class VideoUseCaseConfig {
         return new ListVideosUseCaseImpl(this.videoGateway);
     }
 
+    @Bean
+    StreamPageUseCase<VideoSearchQuery, VideoListOutput> streamVideosUseCase() {
+        return new StreamPageUseCaseImpl<>(this.videoGateway::forEachInPage, VideoListOutput::from);
+    }
+
     @Bean
     GetMediaUseCase getMediaUseCase() {
         return new GetMediaUseCaseImpl(this.mediaResourceGateway);
@@ -100,4 +148,19 @@ public class VideoUseCaseConfig {
         return new UpdateMediaStatusUseCaseImpl(this.videoGateway);
     }
 
+    @Bean
+    CreateUploadSessionUseCase createUploadSessionUseCase() {
+        return new CreateUploadSessionUseCaseImpl(this.uploadSessionGateway, this.videoGateway);
+    }
+
+    @Bean
+    UploadChunkUseCase uploadChunkUseCase() {
+        return new UploadChunkUseCaseImpl(this.uploadSessionGateway);
+    }
+
+    @Bean
+    CommitUploadSessionUseCase commitUploadSessionUseCase() {
+        return new CommitUploadSessionUseCaseImpl(this.uploadSessionGateway, this.uploadMediaUseCase());
+    }
+
 }
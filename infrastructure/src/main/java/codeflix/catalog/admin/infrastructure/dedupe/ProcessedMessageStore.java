@@ -0,0 +1,154 @@
+package codeflix.catalog.admin.infrastructure.dedupe;
+
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+import codeflix.catalog.admin.infrastructure.dedupe.persistence.ProcessedMessageRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@ManagedResource(objectName = ProcessedMessageStore.OBJECT_NAME)
+public class ProcessedMessageStore {
+    public static final String OBJECT_NAME = "codeflix.catalog.admin:type=ProcessedMessageStore";
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessedMessageStore.class);
+    private static final HashFunction KEY = Hashing.murmur3_128();
+    private static final String KEY_SEPARATOR = "|";
+
+    private final ProcessedMessageRepository repository;
+    private final TransactionOperations transactions;
+    private final Cache<String, Boolean> window;
+    private final Duration retention;
+    private final Duration purgeInterval;
+    private ScheduledExecutorService scheduler;
+
+    public ProcessedMessageStore(
+            final ProcessedMessageRepository repository,
+            final TransactionOperations transactions,
+            final long windowSize,
+            final Duration windowExpiry,
+            final Duration retention,
+            final Duration purgeInterval
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.transactions = Objects.requireNonNull(transactions);
+        this.window = CacheBuilder.newBuilder()
+                .maximumSize(windowSize)
+                .expireAfterWrite(Objects.requireNonNull(windowExpiry))
+                .recordStats()
+                .build();
+        this.retention = Objects.requireNonNull(retention);
+        this.purgeInterval = Objects.requireNonNull(purgeInterval);
+    }
+
+    // fixed width keys keep the table rows and its primary key index small
+    public static String keyOf(final String... parts) {
+        return KEY.hashString(String.join(KEY_SEPARATOR, parts), StandardCharsets.UTF_8).toString();
+    }
+
+    public Set<String> processed(final Collection<String> keys) {
+        final Set<String> processed = new HashSet<>();
+        final List<String> missing = new ArrayList<>();
+
+        for (final String key : keys) {
+            if (this.window.getIfPresent(key) != null) processed.add(key);
+            else missing.add(key);
+        }
+
+        if (!missing.isEmpty()) {
+            for (final String key : this.repository.existingIds(missing)) {
+                this.window.put(key, Boolean.TRUE);
+                processed.add(key);
+            }
+        }
+
+        return processed;
+    }
+
+    public void markProcessed(final Collection<String> keys) {
+        final Instant now = InstantUtils.now();
+        keys.forEach(key -> this.repository.insertIfAbsent(key, now));
+
+        // only remember keys once they are committed, a rolled back batch must be processed again
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(keys);
+                }
+            });
+        } else {
+            this.remember(keys);
+        }
+    }
+
+    public synchronized void start() {
+        if (this.scheduler != null) return;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "processed-messages-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long interval = this.purgeInterval.toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::purge, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (this.scheduler == null) return;
+
+        this.scheduler.shutdown();
+        this.scheduler = null;
+    }
+
+    public int purge() {
+        try {
+            final Integer purged = this.transactions.execute(
+                    status -> this.repository.deleteProcessedBefore(InstantUtils.now().minus(this.retention))
+            );
+            return purged == null ? 0 : purged;
+        } catch (final RuntimeException e) {
+            log.error("[message:processed.messages.purge] [status:error] [cause:{}]", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    @ManagedAttribute
+    public long getWindowSize() {
+        return this.window.size();
+    }
+
+    @ManagedAttribute
+    public long getHitCount() {
+        return this.window.stats().hitCount();
+    }
+
+    @ManagedAttribute
+    public long getMissCount() {
+        return this.window.stats().missCount();
+    }
+
+    @ManagedAttribute
+    public double getHitRate() {
+        return this.window.stats().hitRate();
+    }
+
+    private void remember(final Collection<String> keys) {
+        keys.forEach(key -> this.window.put(key, Boolean.TRUE));
+    }
+}
@@ -0,0 +1,53 @@
+package codeflix.catalog.admin.infrastructure.dedupe.persistence;
+
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "ProcessedMessage")
+@Table(name = "processed_messages")
+public class ProcessedMessageJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, columnDefinition = "CHAR(32)")
+    private String id;
+
+    @Column(name = "processed_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant processedAt;
+
+    public ProcessedMessageJpaEntity() {
+    }
+
+    private ProcessedMessageJpaEntity(final String id, final Instant processedAt) {
+        this.id = id;
+        this.processedAt = processedAt;
+    }
+
+    public static ProcessedMessageJpaEntity with(final String id) {
+        return new ProcessedMessageJpaEntity(id, InstantUtils.now());
+    }
+
+    public static ProcessedMessageJpaEntity with(final String id, final Instant processedAt) {
+        return new ProcessedMessageJpaEntity(id, processedAt);
+    }
+
+    public String getId() {
+        return this.id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public Instant getProcessedAt() {
+        return this.processedAt;
+    }
+
+    public void setProcessedAt(final Instant processedAt) {
+        this.processedAt = processedAt;
+    }
+}
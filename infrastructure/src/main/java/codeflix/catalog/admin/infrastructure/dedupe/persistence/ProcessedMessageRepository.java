@@ -0,0 +1,28 @@
+package codeflix.catalog.admin.infrastructure.dedupe.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessageJpaEntity, String> {
+
+    @Query(value = "select m.id from ProcessedMessage m where m.id in :ids")
+    List<String> existingIds(@Param("ids") Collection<String> ids);
+
+    // another consumer may have marked the same result concurrently, its row is kept instead of failing on the key
+    @Modifying
+    @Query(value = """
+            insert into processed_messages (id, processed_at) values (:id, :processedAt)
+            on duplicate key update id = id
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("processedAt") Instant processedAt);
+
+    @Modifying
+    @Query(value = "delete from ProcessedMessage m where m.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") Instant before);
+}
@@ -3,6 +3,11 @@ package codeflix.catalog.admin.infrastructure.genre.persistence;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
 import codeflix.catalog.admin.domain.genre.entity.Genre;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
+import codeflix.catalog.admin.infrastructure.persistence.BinaryIdType;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchIndexListener;
+import codeflix.catalog.admin.infrastructure.services.Searchable;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -15,10 +20,12 @@ import static javax.persistence.FetchType.EAGER;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
-public class GenreJpaEntity {
+@EntityListeners(SearchIndexListener.class)
+public class GenreJpaEntity implements Searchable {
 
     @Id
     @Column(name = "id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -73,6 +80,23 @@ public class GenreJpaEntity {
         return aEntity;
     }
 
+    public GenreJpaEntity update(final Genre aGenre) {
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        final Set<CategoryID> expected = new HashSet<>(aGenre.getCategories());
+        this.categories.removeIf(it -> !expected.contains(CategoryID.from(it.getId().getCategoryId())));
+
+        final List<CategoryID> kept = this.getCategoryIDs();
+        expected.stream()
+                .filter(it -> !kept.contains(it))
+                .forEach(this::addCategory);
+
+        return this;
+    }
+
     public Genre toAggregate() {
         return Genre.with(
                 GenreID.from(this.getId()),
@@ -153,5 +177,13 @@ public class GenreJpaEntity {
         this.deletedAt = deletedAt;
     }
 
+    @Override
+    public SearchCollection searchCollection() {
+        return SearchCollection.GENRES;
+    }
 
+    @Override
+    public List<String> searchableTexts() {
+        return List.of(this.name);
+    }
 }
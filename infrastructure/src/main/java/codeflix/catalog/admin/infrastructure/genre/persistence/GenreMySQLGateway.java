@@ -1,46 +1,91 @@
 package codeflix.catalog.admin.infrastructure.genre.persistence;
 
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.genre.entity.Genre;
 import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
-import codeflix.catalog.admin.infrastructure.utils.SpecificationUtils;
+import codeflix.catalog.admin.infrastructure.cache.ExistenceCache;
+import codeflix.catalog.admin.infrastructure.configuration.properties.imports.ImportProperties;
+import codeflix.catalog.admin.infrastructure.persistence.CursorReads;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import codeflix.catalog.admin.infrastructure.services.SearchService;
+import codeflix.catalog.admin.infrastructure.utils.SearchUtils;
+import com.google.common.collect.Iterators;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static codeflix.catalog.admin.domain._share.utils.CollectionUtils.orderedBy;
+import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
 @Component
 public class GenreMySQLGateway implements GenreGateway {
+    private static final String EXISTENCE_NAMESPACE = "genres";
+    private static final int EXPORT_CHUNK_SIZE = 100;
 
     private final GenreRepository repository;
-
-    public GenreMySQLGateway(final GenreRepository repository) {
+    private final SearchService searchService;
+    private final ExistenceCache existenceCache;
+    private final ImportProperties importProperties;
+
+    public GenreMySQLGateway(
+            final GenreRepository repository,
+            final SearchService searchService,
+            final ExistenceCache existenceCache,
+            final ImportProperties importProperties
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.searchService = Objects.requireNonNull(searchService);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.importProperties = Objects.requireNonNull(importProperties);
     }
 
     @Override
     public Genre create(final Genre aGenre) {
-        return this.save(aGenre);
+        return this.repository.insert(GenreJpaEntity.from(aGenre)).toAggregate();
     }
 
     @Override
+    @Transactional
+    public void createAll(final List<Genre> genres) {
+        final List<GenreJpaEntity> entities = genres.stream()
+                .map(GenreJpaEntity::from)
+                .toList();
+
+        this.repository.insertAll(entities, this.importProperties.getBatchSize());
+    }
+
+    @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return this.save(aGenre);
+        return this.repository.findById(aGenre.getId().getValue())
+                .map(it -> it.update(aGenre))
+                .orElseGet(() -> this.repository.save(GenreJpaEntity.from(aGenre)))
+                .toAggregate();
     }
 
     @Override
+    @Transactional
     public void deleteById(final GenreID anId) {
         final String anIdValue = anId.getValue();
         if (this.repository.existsById(anIdValue))
             this.repository.deleteById(anIdValue);
+        this.existenceCache.invalidate(EXISTENCE_NAMESPACE, anIdValue);
     }
 
     @Override
@@ -49,20 +94,85 @@ public class GenreMySQLGateway implements GenreGateway {
                 .map(GenreJpaEntity::toAggregate);
     }
 
+    @Override
+    @Transactional
+    public Optional<Genre> findByIdForUpdate(final GenreID anId) {
+        return this.repository.findById(anId.getValue())
+                .map(GenreJpaEntity::toAggregate);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final GenreID anId) {
+        return this.repository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUpdatedSince(final Instant since, final Consumer<Genre> anAction) {
+        CursorReads.run(() -> {
+            try (final Stream<String> ids = this.repository.streamIdsUpdatedSince(since)) {
+                Iterators.partition(ids.iterator(), EXPORT_CHUNK_SIZE).forEachRemaining(chunk ->
+                        orderedBy(chunk, this.repository.findAllWithCategoriesByIds(chunk), GenreJpaEntity::getId).forEach(it -> {
+                            anAction.accept(it.toAggregate());
+                            this.repository.detach(it);
+                        }));
+            }
+        });
+    }
+
+    @Override
+    public List<Genre> findAllByIds(final Iterable<GenreID> genreIDs) {
+        final List<String> ids = StreamSupport.stream(genreIDs.spliterator(), false)
+                .map(GenreID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) return emptyList();
+
+        return orderedBy(ids, this.repository.findAllWithCategoriesByIds(ids), GenreJpaEntity::getId).stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final PageRequest page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        if (isBlank(aQuery.terms())) return this.findPage(null, aQuery);
+
+        final SearchMatch match = this.searchService.match(SearchCollection.GENRES, aQuery.terms());
+        if (match.isEmpty()) return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, 0, List.of());
+        if (SearchUtils.isRelevance(aQuery.sort()) && !match.isFullText()) return this.findRanked(match, aQuery);
+
+        return this.findPage(SearchUtils.matching(SearchCollection.GENRES, match, aQuery.sort()), aQuery);
+    }
 
-        final Specification<GenreJpaEntity> specification = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInPage(final SearchQuery aQuery, final PageWriter<Genre> aWriter) {
+        CursorReads.run(() -> this.writePage(aQuery, aWriter));
+    }
+
+    private void writePage(final SearchQuery aQuery, final PageWriter<Genre> aWriter) {
+        if (isBlank(aQuery.terms())) {
+            this.streamPage(null, aQuery, aWriter);
+            return;
+        }
+
+        final SearchMatch match = this.searchService.match(SearchCollection.GENRES, aQuery.terms());
+        if (match.isEmpty()) {
+            aWriter.write(new Pagination<>(aQuery.page(), aQuery.perPage(), 0, 0, List.of()));
+        } else if (SearchUtils.isRelevance(aQuery.sort()) && !match.isFullText()) {
+            aWriter.write(this.findRanked(match, aQuery));
+        } else {
+            this.streamPage(SearchUtils.matching(SearchCollection.GENRES, match, aQuery.sort()), aQuery, aWriter);
+        }
+    }
+
+    private Pagination<Genre> findRanked(final SearchMatch match, final SearchQuery aQuery) {
+        return SearchUtils.rank(match.ids(), this.repository.findAllById(match.ids()), GenreJpaEntity::getId, aQuery.page(), aQuery.perPage())
+                .map(GenreJpaEntity::toAggregate);
+    }
 
-        final Page<GenreJpaEntity> pageResult = this.repository.findAll(Specification.where(specification), page);
+    private Pagination<Genre> findPage(final Specification<GenreJpaEntity> specification, final SearchQuery aQuery) {
+        final Page<GenreJpaEntity> pageResult = this.repository.findAll(Specification.where(specification), this.pageRequest(aQuery));
 
         return new Pagination<>(
                 pageResult.getNumber(),
@@ -73,21 +183,47 @@ public class GenreMySQLGateway implements GenreGateway {
         );
     }
 
-    private Genre save(final Genre aGenre) {
-        return this.repository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+    private void streamPage(final Specification<GenreJpaEntity> specification, final SearchQuery aQuery, final PageWriter<Genre> aWriter) {
+        final PageRequest page = this.pageRequest(aQuery);
+        final long totalElements = this.repository.count(Specification.where(specification));
+
+        aWriter.begin(new Pagination<>(
+                page.getPageNumber(),
+                page.getPageSize(),
+                SearchUtils.totalPages(totalElements, page.getPageSize()),
+                totalElements,
+                List.of()
+        ));
+
+        try (final Stream<GenreJpaEntity> entities = this.repository.streamPage(GenreJpaEntity.class, specification, page)) {
+            entities.forEach(it -> {
+                aWriter.accept(it.toAggregate());
+                this.repository.detach(it);
+            });
+        }
+
+        aWriter.end(null);
     }
 
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private PageRequest pageRequest(final SearchQuery aQuery) {
+        return PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                SearchUtils.isRelevance(aQuery.sort())
+                        ? Sort.unsorted()
+                        : Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+        );
     }
 
+    // checked before genres are attached to a video, read on the primary
     @Override
+    @Transactional
     public List<GenreID> existsByIds(final Iterable<GenreID> genres) {
         final List<String> ids = StreamSupport.stream(genres.spliterator(), false)
                 .map(GenreID::getValue)
                 .toList();
 
-        return this.repository.existsByIds(ids).stream()
+        return this.existenceCache.existing(EXISTENCE_NAMESPACE, ids, this.repository::existsByIds).stream()
                 .map(GenreID::from)
                 .toList();
     }
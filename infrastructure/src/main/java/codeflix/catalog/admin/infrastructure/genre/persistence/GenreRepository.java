@@ -1,18 +1,41 @@
 package codeflix.catalog.admin.infrastructure.genre.persistence;
 
+import codeflix.catalog.admin.infrastructure.persistence.DetachRepository;
+import codeflix.catalog.admin.infrastructure.persistence.InsertRepository;
+import codeflix.catalog.admin.infrastructure.persistence.PageStreamRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, InsertRepository<GenreJpaEntity>, DetachRepository<GenreJpaEntity>, PageStreamRepository<GenreJpaEntity> {
 
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable pageable);
 
+    long count(Specification<GenreJpaEntity> whereClause);
+
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    @Query(value = "select distinct g from Genre g left join fetch g.categories where g.id in :ids")
+    List<GenreJpaEntity> findAllWithCategoriesByIds(@Param("ids") Collection<String> ids);
+
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select g.updatedAt from Genre g where g.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    // only ids go through the server side cursor, the aggregates are fetched in chunks while it stays open
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(value = "select g.id from Genre g where g.updatedAt >= :since order by g.id")
+    Stream<String> streamIdsUpdatedSince(@Param("since") Instant since);
 }
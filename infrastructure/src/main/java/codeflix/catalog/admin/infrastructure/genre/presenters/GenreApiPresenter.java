@@ -2,8 +2,13 @@ package codeflix.catalog.admin.infrastructure.genre.presenters;
 
 import codeflix.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import codeflix.catalog.admin.application.genre.retrieve.list.GenreListOutput;
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.infrastructure.genre.models.GenreListResponse;
 import codeflix.catalog.admin.infrastructure.genre.models.GenreResponse;
+import codeflix.catalog.admin.infrastructure.utils.JsonStreamingUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
 
 public interface GenreApiPresenter {
 
@@ -29,4 +34,12 @@ public interface GenreApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static StreamingResponseBody stream(final Consumer<PageWriter<GenreListOutput>> source) {
+        return JsonStreamingUtils.paginated(source, GenreApiPresenter::present);
+    }
+
+    static StreamingResponseBody export(final boolean gzip, final Consumer<Consumer<GenreOutput>> source) {
+        return JsonStreamingUtils.ndjson(gzip, source, GenreApiPresenter::present);
+    }
 }
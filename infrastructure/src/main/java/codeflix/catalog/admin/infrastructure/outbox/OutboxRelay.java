@@ -0,0 +1,114 @@
+package codeflix.catalog.admin.infrastructure.outbox;
+
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository repository;
+    private final RabbitOperations operations;
+    private final TransactionOperations transactions;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration confirmTimeout;
+    private final Duration claimTimeout;
+    private ScheduledExecutorService scheduler;
+
+    public OutboxRelay(
+            final OutboxEventRepository repository,
+            final RabbitOperations operations,
+            final TransactionOperations transactions,
+            final int batchSize,
+            final Duration linger,
+            final Duration confirmTimeout,
+            final Duration claimTimeout
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.operations = Objects.requireNonNull(operations);
+        this.transactions = Objects.requireNonNull(transactions);
+        this.batchSize = batchSize;
+        this.linger = Objects.requireNonNull(linger);
+        this.confirmTimeout = Objects.requireNonNull(confirmTimeout);
+        this.claimTimeout = Objects.requireNonNull(claimTimeout);
+    }
+
+    public synchronized void start() {
+        if (this.scheduler != null) return;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::drain, 0, this.linger.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (this.scheduler == null) return;
+
+        this.scheduler.shutdown();
+        this.scheduler = null;
+    }
+
+    public void drain() {
+        try {
+            // a full batch means there is a backlog, so keep going instead of lingering
+            int relayed;
+            do {
+                relayed = this.relay();
+            } while (relayed == this.batchSize);
+        } catch (final RuntimeException e) {
+            log.error("[message:outbox.relay] [status:error] [cause:{}]", e.getMessage(), e);
+        }
+    }
+
+    public int relay() {
+        final List<OutboxEventJpaEntity> events = this.claimNext();
+        if (events.isEmpty()) return 0;
+
+        final List<Long> ids = events.stream().map(OutboxEventJpaEntity::getId).toList();
+
+        // publishing waits on the broker, so it runs without holding a connection, a transaction or row locks
+        try {
+            this.operations.invoke(ops -> {
+                events.forEach(it -> ops.convertAndSend(it.getExchange(), it.getRoutingKey(), it.getPayload()));
+                ops.waitForConfirmsOrDie(this.confirmTimeout.toMillis());
+                return null;
+            });
+        } catch (final RuntimeException e) {
+            this.transactions.executeWithoutResult(status -> this.repository.release(ids));
+            throw e;
+        }
+
+        this.transactions.executeWithoutResult(status -> this.repository.deleteAllByIdInBatch(ids));
+        return events.size();
+    }
+
+    private List<OutboxEventJpaEntity> claimNext() {
+        final List<OutboxEventJpaEntity> claimed = this.transactions.execute(status -> {
+            final Instant now = InstantUtils.now();
+            final List<OutboxEventJpaEntity> events = this.repository.findUnclaimed(now, PageRequest.ofSize(this.batchSize));
+
+            events.forEach(it -> it.setClaimedUntil(now.plus(this.claimTimeout)));
+            return events;
+        });
+
+        return claimed == null ? List.of() : claimed;
+    }
+}
@@ -0,0 +1,97 @@
+package codeflix.catalog.admin.infrastructure.outbox.persistence;
+
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "exchange", nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "claimed_until", columnDefinition = "DATETIME(6)")
+    private Instant claimedUntil;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    private OutboxEventJpaEntity(
+            final String exchange,
+            final String routingKey,
+            final String payload,
+            final Instant createdAt
+    ) {
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventJpaEntity with(final String exchange, final String routingKey, final String payload) {
+        return new OutboxEventJpaEntity(exchange, routingKey, payload, InstantUtils.now());
+    }
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public String getExchange() {
+        return this.exchange;
+    }
+
+    public void setExchange(final String exchange) {
+        this.exchange = exchange;
+    }
+
+    public String getRoutingKey() {
+        return this.routingKey;
+    }
+
+    public void setRoutingKey(final String routingKey) {
+        this.routingKey = routingKey;
+    }
+
+    public String getPayload() {
+        return this.payload;
+    }
+
+    public void setPayload(final String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedAt() {
+        return this.createdAt;
+    }
+
+    public void setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getClaimedUntil() {
+        return this.claimedUntil;
+    }
+
+    public void setClaimedUntil(final Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+}
@@ -0,0 +1,27 @@
+package codeflix.catalog.admin.infrastructure.outbox.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    // -2 is Hibernate's SKIP_LOCKED, so concurrent relays claim disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query(value = "select e from OutboxEvent e where e.claimedUntil is null or e.claimedUntil < :now order by e.id")
+    List<OutboxEventJpaEntity> findUnclaimed(@Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Query(value = "update OutboxEvent e set e.claimedUntil = null where e.id in :ids")
+    int release(@Param("ids") List<Long> ids);
+}
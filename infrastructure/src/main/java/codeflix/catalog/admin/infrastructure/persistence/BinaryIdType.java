@@ -0,0 +1,95 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import codeflix.catalog.admin.domain._share.utils.HexUtils;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// ids stay 32 char hex strings in the application and are stored as their 16 raw bytes
+public class BinaryIdType extends AbstractSingleColumnStandardBasicType<String> {
+    public static final String NAME = "codeflix.catalog.admin.infrastructure.persistence.BinaryIdType";
+
+    public BinaryIdType() {
+        super(BinaryTypeDescriptor.INSTANCE, HexIdDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return "binary-id";
+    }
+
+    private static class HexIdDescriptor extends AbstractTypeDescriptor<String> {
+        private static final HexIdDescriptor INSTANCE = new HexIdDescriptor();
+        private static final int ID_LENGTH = 32;
+        private static final int HALF_LENGTH = ID_LENGTH / 2;
+
+        private HexIdDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) return null;
+            if (String.class.isAssignableFrom(type)) return (X) value;
+            if (byte[].class.isAssignableFrom(type)) return (X) toBytes(value, isFlushing(options));
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) return null;
+            if (value instanceof String string) return string;
+            if (value instanceof byte[] bytes) return toHex(bytes);
+            throw unknownWrap(value.getClass());
+        }
+
+        private static byte[] toBytes(final String value, final boolean writing) {
+            if (!isId(value)) {
+                // rows are only written while flushing, a malformed id there would be stored as its utf-8 bytes
+                if (writing) throw new IllegalArgumentException("'id' should be %d hex characters but was '%s'".formatted(ID_LENGTH, value));
+
+                // lookups by malformed ids still have to bind, they just never match a 16 byte key
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            return ByteBuffer.allocate(HALF_LENGTH)
+                    .putLong(Long.parseUnsignedLong(value, 0, HALF_LENGTH, 16))
+                    .putLong(Long.parseUnsignedLong(value, HALF_LENGTH, ID_LENGTH, 16))
+                    .array();
+        }
+
+        private static String toHex(final byte[] bytes) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return HexUtils.toHex(buffer.getLong(), buffer.getLong());
+        }
+
+        private static boolean isFlushing(final WrapperOptions options) {
+            return options instanceof SharedSessionContractImplementor session && session.getPersistenceContextInternal().isFlushing();
+        }
+
+        private static boolean isId(final String value) {
+            if (value.length() != ID_LENGTH) return false;
+
+            for (int i = 0; i < ID_LENGTH; i++) {
+                if (Character.digit(value.charAt(i), 16) < 0) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+// marks the reads that keep a result set open while their rows are handed over; the mark has to be in place before
+// the transaction runs its first statement, which is when the routing picks the pool
+public final class CursorReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+    private CursorReads() {
+    }
+
+    public static void run(final Runnable aRead) {
+        final boolean previous = ACTIVE.get();
+        ACTIVE.set(true);
+        try {
+            aRead.run();
+        } finally {
+            if (previous) ACTIVE.set(true);
+            else ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+}
@@ -0,0 +1,37 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// only the cursor pools open their connections with useCursorFetch, every other statement keeps the default protocol
+public class CursorRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {DEFAULT, CURSOR}
+
+    private final AtomicLong cursor = new AtomicLong();
+
+    public CursorRoutingDataSource(final DataSource defaults, final DataSource cursor) {
+        this.setTargetDataSources(Map.of(
+                Route.DEFAULT, Objects.requireNonNull(defaults),
+                Route.CURSOR, Objects.requireNonNull(cursor)
+        ));
+        this.setDefaultTargetDataSource(defaults);
+        this.afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (!CursorReads.isActive()) return Route.DEFAULT;
+
+        this.cursor.incrementAndGet();
+        return Route.CURSOR;
+    }
+
+    public long cursorConnections() {
+        return this.cursor.get();
+    }
+}
@@ -0,0 +1,6 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+public interface DetachRepository<T> {
+
+    void detach(T entity);
+}
@@ -0,0 +1,16 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+public class DetachRepositoryImpl<T> implements DetachRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // long reads hand each row over and drop it, so the persistence context stays as small as a single aggregate
+    @Override
+    public void detach(final T entity) {
+        this.entityManager.detach(entity);
+    }
+}
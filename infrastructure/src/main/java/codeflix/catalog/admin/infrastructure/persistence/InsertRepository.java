@@ -0,0 +1,10 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import java.util.Collection;
+
+public interface InsertRepository<T> {
+
+    <S extends T> S insert(S entity);
+
+    <S extends T> void insertAll(Collection<S> entities, int batchSize);
+}
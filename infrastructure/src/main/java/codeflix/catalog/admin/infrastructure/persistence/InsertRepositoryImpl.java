@@ -0,0 +1,39 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
+
+public class InsertRepositoryImpl<T> implements InsertRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // ids are assigned by the domain, so save() would always merge and select the row before inserting it
+    @Override
+    @Transactional
+    public <S extends T> S insert(final S entity) {
+        this.entityManager.persist(entity);
+        return entity;
+    }
+
+    // the whole collection is flushed at once, so hibernate groups its inserts into batches of batchSize statements
+    @Override
+    @Transactional
+    public <S extends T> void insertAll(final Collection<S> entities, final int batchSize) {
+        final Session session = this.entityManager.unwrap(Session.class);
+        final Integer previousBatchSize = session.getJdbcBatchSize();
+
+        session.setJdbcBatchSize(batchSize);
+        try {
+            entities.forEach(this.entityManager::persist);
+            this.entityManager.flush();
+            this.entityManager.clear();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+}
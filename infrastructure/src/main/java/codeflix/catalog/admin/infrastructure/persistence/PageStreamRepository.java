@@ -0,0 +1,11 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface PageStreamRepository<T> {
+
+    Stream<T> streamPage(Class<T> type, Specification<T> specification, Pageable page);
+}
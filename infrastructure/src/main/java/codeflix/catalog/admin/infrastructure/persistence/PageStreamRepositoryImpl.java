@@ -0,0 +1,41 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.stream.Stream;
+
+public class PageStreamRepositoryImpl<T> implements PageStreamRepository<T> {
+    private static final int FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // the same select findAll(specification, page) runs, but its rows are read off the result set one at a time
+    // instead of being collected into the page first; the caller closes the stream inside its transaction
+    @Override
+    public Stream<T> streamPage(final Class<T> type, final Specification<T> specification, final Pageable page) {
+        final CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = cb.createQuery(type);
+        final Root<T> root = query.from(type);
+        query.select(root);
+
+        final Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        if (page.getSort().isSorted()) query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize())
+                .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                .setHint("org.hibernate.readOnly", true)
+                .getResultStream();
+    }
+}
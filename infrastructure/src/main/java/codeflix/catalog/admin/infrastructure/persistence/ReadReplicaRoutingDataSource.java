@@ -0,0 +1,65 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+// the routing key is read when a connection is acquired, so this must sit behind a LazyConnectionDataSourceProxy
+// for the transaction's read-only flag to be visible
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {PRIMARY, REPLICA}
+
+    private final BooleanSupplier replicaAvailable;
+    private final AtomicLong primary = new AtomicLong();
+    private final AtomicLong replica = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public ReadReplicaRoutingDataSource(
+            final DataSource primary,
+            final DataSource replica,
+            final BooleanSupplier replicaAvailable
+    ) {
+        this.replicaAvailable = Objects.requireNonNull(replicaAvailable);
+        this.setTargetDataSources(Map.of(
+                Route.PRIMARY, Objects.requireNonNull(primary),
+                Route.REPLICA, Objects.requireNonNull(replica)
+        ));
+        this.setDefaultTargetDataSource(primary);
+        this.afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            this.primary.incrementAndGet();
+            return Route.PRIMARY;
+        }
+
+        if (!this.replicaAvailable.getAsBoolean()) {
+            this.fallbacks.incrementAndGet();
+            this.primary.incrementAndGet();
+            return Route.PRIMARY;
+        }
+
+        this.replica.incrementAndGet();
+        return Route.REPLICA;
+    }
+
+    public long primaryConnections() {
+        return this.primary.get();
+    }
+
+    public long replicaConnections() {
+        return this.replica.get();
+    }
+
+    public long fallbacks() {
+        return this.fallbacks.get();
+    }
+}
@@ -0,0 +1,83 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String REPLICA_STATUS = "SHOW REPLICA STATUS";
+    private static final String SECONDS_BEHIND = "Seconds_Behind_Source";
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private volatile boolean available;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(final DataSource replica, final Duration maxLag, final Duration checkInterval) {
+        this.replica = Objects.requireNonNull(replica);
+        this.maxLag = Objects.requireNonNull(maxLag);
+        this.checkInterval = Objects.requireNonNull(checkInterval);
+    }
+
+    public synchronized void start() {
+        if (this.scheduler != null) return;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::check, 0, this.checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (this.scheduler == null) return;
+
+        this.scheduler.shutdown();
+        this.scheduler = null;
+    }
+
+    public boolean isAvailable() {
+        return this.available;
+    }
+
+    public void check() {
+        final boolean wasAvailable = this.available;
+        this.available = this.withinMaxLag();
+        if (wasAvailable != this.available) {
+            log.warn("[message:replica.lag] [available:{}]", this.available);
+        }
+    }
+
+    private boolean withinMaxLag() {
+        try (final Connection connection = this.replica.getConnection();
+             final Statement statement = connection.createStatement();
+             final ResultSet status = statement.executeQuery(REPLICA_STATUS)) {
+
+            // a server with no replication configured is always up to date
+            if (!status.next()) return true;
+
+            final long secondsBehind = status.getLong(SECONDS_BEHIND);
+            // null means the replication threads are stopped, so the lag is unknown
+            if (status.wasNull()) return false;
+
+            return secondsBehind <= this.maxLag.toSeconds();
+        } catch (final SQLException e) {
+            log.error("[message:replica.lag] [status:error] [cause:{}]", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package codeflix.catalog.admin.infrastructure.services;
+
+import java.util.List;
+
+public enum SearchCollection {
+    CATEGORIES("categories", List.of("name", "description")),
+    GENRES("genres", List.of("name")),
+    CAST_MEMBERS("cast_members", List.of("name")),
+    VIDEOS("videos", List.of("title", "description"));
+
+    private final String table;
+    private final List<String> columns;
+
+    SearchCollection(final String table, final List<String> columns) {
+        this.table = table;
+        this.columns = columns;
+    }
+
+    public String getTable() {
+        return this.table;
+    }
+
+    public List<String> getColumns() {
+        return this.columns;
+    }
+}
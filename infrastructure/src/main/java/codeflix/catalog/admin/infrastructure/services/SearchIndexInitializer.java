@@ -0,0 +1,67 @@
+package codeflix.catalog.admin.infrastructure.services;
+
+import codeflix.catalog.admin.infrastructure.persistence.CursorReads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.metamodel.EntityType;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Component
+public class SearchIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+    private static final int FETCH_SIZE = 1000;
+
+    private final SearchService searchService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactions;
+
+    public SearchIndexInitializer(
+            final SearchService searchService,
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.searchService = Objects.requireNonNull(searchService);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactions = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.transactions.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!this.searchService.requiresRebuild()) return;
+
+        this.entityManager.getMetamodel().getEntities().stream()
+                .filter(it -> Searchable.class.isAssignableFrom(it.getJavaType()))
+                .forEach(it -> this.transactions.executeWithoutResult(status -> CursorReads.run(() -> this.rebuild(it))));
+    }
+
+    private void rebuild(final EntityType<?> anEntity) {
+        long indexed = 0;
+
+        try (final Stream<?> entities = this.entityManager.createQuery("select e from %s e".formatted(anEntity.getName()))
+                .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                .setHint("org.hibernate.readOnly", true)
+                .getResultStream()) {
+
+            final Iterator<?> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                final Searchable aSearchable = (Searchable) iterator.next();
+                this.searchService.index(aSearchable.searchCollection(), aSearchable.getId(), aSearchable.searchableTexts());
+                this.entityManager.detach(aSearchable);
+                indexed++;
+            }
+        }
+
+        log.info("[message:search.rebuild] [status:completed] [entity:{}] [indexed:{}]", anEntity.getName(), indexed);
+    }
+}
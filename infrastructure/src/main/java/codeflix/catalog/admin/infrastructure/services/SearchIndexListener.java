@@ -0,0 +1,59 @@
+package codeflix.catalog.admin.infrastructure.services;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+// Bulk JPQL statements skip these callbacks; a stale hit is harmless because matches are always re-read from the tables.
+@Component
+public class SearchIndexListener {
+
+    private final ObjectProvider<SearchService> searchService;
+
+    public SearchIndexListener(final ObjectProvider<SearchService> searchService) {
+        this.searchService = Objects.requireNonNull(searchService);
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void index(final Searchable aSearchable) {
+        final SearchCollection collection = aSearchable.searchCollection();
+        final String id = aSearchable.getId();
+        final List<String> texts = new ArrayList<>(aSearchable.searchableTexts());
+
+        this.afterCommit(it -> it.index(collection, id, texts));
+    }
+
+    @PostRemove
+    public void remove(final Searchable aSearchable) {
+        final SearchCollection collection = aSearchable.searchCollection();
+        final String id = aSearchable.getId();
+
+        this.afterCommit(it -> it.remove(collection, id));
+    }
+
+    private void afterCommit(final Consumer<SearchService> anAction) {
+        this.searchService.ifAvailable(service -> {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                anAction.accept(service);
+                return;
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    anAction.accept(service);
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package codeflix.catalog.admin.infrastructure.services;
+
+import java.util.List;
+
+public record SearchMatch(String terms, List<String> ids) {
+
+    // matched by the database inside the statement that also sorts, pages and counts the rows
+    public static SearchMatch fullText(final String terms) {
+        return new SearchMatch(terms, null);
+    }
+
+    // every hit of an index kept outside the database, ranked by relevance
+    public static SearchMatch ids(final List<String> ids) {
+        return new SearchMatch(null, List.copyOf(ids));
+    }
+
+    public boolean isFullText() {
+        return this.terms != null;
+    }
+
+    public boolean isEmpty() {
+        return this.ids != null && this.ids.isEmpty();
+    }
+}
@@ -0,0 +1,14 @@
+package codeflix.catalog.admin.infrastructure.services;
+
+import java.util.List;
+
+public interface SearchService {
+
+    void index(SearchCollection collection, String id, List<String> texts);
+
+    void remove(SearchCollection collection, String id);
+
+    SearchMatch match(SearchCollection collection, String terms);
+
+    boolean requiresRebuild();
+}
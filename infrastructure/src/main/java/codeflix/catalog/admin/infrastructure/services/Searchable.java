@@ -0,0 +1,12 @@
+package codeflix.catalog.admin.infrastructure.services;
+
+import java.util.List;
+
+public interface Searchable {
+
+    String getId();
+
+    SearchCollection searchCollection();
+
+    List<String> searchableTexts();
+}
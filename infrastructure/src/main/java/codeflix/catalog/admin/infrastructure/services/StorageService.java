@@ -14,5 +14,5 @@ public interface StorageService {
 
     List<String> list(String prefix);
 
-    void store(String name, Resource resource);
+    String store(String name, Resource resource);
 }
@@ -0,0 +1,44 @@
+package codeflix.catalog.admin.infrastructure.services.impl;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+// fulltext_match(column, ..., terms) renders MySQL's boolean mode MATCH ... AGAINST, whose value is the relevance
+public class FullTextMatchFunction implements SQLFunction {
+    public static final String NAME = "fulltext_match";
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return false;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public String render(final Type firstArgumentType, final List arguments, final SessionFactoryImplementor factory) {
+        if (arguments.size() < 2) throw new QueryException(NAME + " expects the matched columns followed by the terms");
+
+        final List<?> columns = arguments.subList(0, arguments.size() - 1);
+        final Object terms = arguments.get(arguments.size() - 1);
+
+        return "match (%s) against (%s in boolean mode)".formatted(
+                String.join(", ", columns.stream().map(String::valueOf).toList()),
+                terms
+        );
+    }
+}
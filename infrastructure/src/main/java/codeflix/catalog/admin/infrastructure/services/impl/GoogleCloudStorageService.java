@@ -1,13 +1,24 @@
 package codeflix.catalog.admin.infrastructure.services.impl;
 
+import codeflix.catalog.admin.domain._share.exceptions.InternalErrorException;
 import codeflix.catalog.admin.domain.resource.Resource;
 import codeflix.catalog.admin.infrastructure.services.StorageService;
+import codeflix.catalog.admin.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -35,7 +46,13 @@ public class GoogleCloudStorageService implements StorageService {
     @Override
     public Optional<Resource> get(final String name) {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
-                .map(blob -> Resource.with(blob.getCrc32cToHexString(), blob.getContent(), blob.getContentType(), name));
+                .map(blob -> Resource.with(
+                        blob.getCrc32cToHexString(),
+                        new BlobSource(blob),
+                        blob.getSize(),
+                        blob.getContentType(),
+                        name
+                ));
     }
 
     @Override
@@ -49,12 +66,59 @@ public class GoogleCloudStorageService implements StorageService {
     }
 
     @Override
-    public void store(final String name, final Resource resource) {
+    public String store(final String name, final Resource resource) {
+        if (resource.isStreamed()) return this.storeStream(name, resource);
+
         final BlobInfo blobInfo = BlobInfo.newBuilder(this.bucket, name)
                 .setContentType(resource.contentType())
                 .setCrc32cFromHexString(resource.checksum())
                 .build();
 
         this.storage.create(blobInfo, resource.content());
+        return resource.checksum();
+    }
+
+    // a resumable upload sends the object metadata before the first byte, so the crc32c the server verifies the
+    // upload against has to be known up front: the source is hashed in a first pass and then streamed again
+    private String storeStream(final String name, final Resource resource) {
+        try {
+            final String checksum = resource.checksum() != null ? resource.checksum() : this.checksumOf(resource);
+            final BlobInfo blobInfo = BlobInfo.newBuilder(this.bucket, name)
+                    .setContentType(resource.contentType())
+                    .setCrc32cFromHexString(checksum)
+                    .build();
+
+            try (final InputStream in = resource.openStream();
+                 final WriteChannel writer = this.storage.writer(blobInfo, Storage.BlobWriteOption.crc32cMatch())) {
+                ByteStreams.copy(Channels.newChannel(in), writer);
+            }
+            return checksum;
+        } catch (final IOException | StorageException e) {
+            throw InternalErrorException.with("Error on store resource %s".formatted(name), e);
+        }
+    }
+
+    private String checksumOf(final Resource resource) throws IOException {
+        try (final HashingInputStream in = HashingUtils.checksumming(resource.openStream())) {
+            ByteStreams.exhaust(in);
+            return HashingUtils.checksum(in);
+        }
+    }
+
+    private record BlobSource(Blob blob) implements Resource.Source {
+
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(this.blob.reader());
+        }
+
+        @Override
+        public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final ReadChannel reader = this.blob.reader()) {
+                reader.seek(position);
+                reader.limit(position + count);
+                return ByteStreams.copy(reader, target);
+            }
+        }
     }
 }
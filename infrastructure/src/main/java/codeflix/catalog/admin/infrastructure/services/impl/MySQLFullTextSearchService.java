@@ -0,0 +1,37 @@
+package codeflix.catalog.admin.infrastructure.services.impl;
+
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import codeflix.catalog.admin.infrastructure.services.SearchService;
+import codeflix.catalog.admin.infrastructure.utils.SearchUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class MySQLFullTextSearchService implements SearchService {
+
+    @Override
+    public void index(final SearchCollection collection, final String id, final List<String> texts) {
+        // FULLTEXT indexes are maintained by InnoDB on write
+    }
+
+    @Override
+    public void remove(final SearchCollection collection, final String id) {
+        // FULLTEXT indexes are maintained by InnoDB on write
+    }
+
+    @Override
+    public SearchMatch match(final SearchCollection collection, final String terms) {
+        final List<String> tokens = SearchUtils.tokenize(terms);
+        if (tokens.isEmpty()) return SearchMatch.ids(List.of());
+
+        return SearchMatch.fullText(tokens.stream()
+                .map(it -> "+" + it + "*")
+                .collect(Collectors.joining(" ")));
+    }
+
+    @Override
+    public boolean requiresRebuild() {
+        return false;
+    }
+}
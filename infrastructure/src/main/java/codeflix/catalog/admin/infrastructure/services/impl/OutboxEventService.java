@@ -1,28 +1,29 @@
 package codeflix.catalog.admin.infrastructure.services.impl;
 
 import codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
 import codeflix.catalog.admin.infrastructure.services.EventService;
-import org.springframework.amqp.rabbit.core.RabbitOperations;
 
 import java.util.Objects;
 
-public class RabbitEventService implements EventService {
+public class OutboxEventService implements EventService {
     private final String exchange;
     private final String routingKey;
-    private final RabbitOperations operations;
+    private final OutboxEventRepository repository;
 
-    public RabbitEventService(
+    public OutboxEventService(
             final String exchange,
             final String routingKey,
-            final RabbitOperations operations
+            final OutboxEventRepository repository
     ) {
         this.exchange = Objects.requireNonNull(exchange);
         this.routingKey = Objects.requireNonNull(routingKey);
-        this.operations = Objects.requireNonNull(operations);
+        this.repository = Objects.requireNonNull(repository);
     }
 
     @Override
     public void send(final Object event) {
-        this.operations.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event));
+        this.repository.save(OutboxEventJpaEntity.with(this.exchange, this.routingKey, Json.writeValueAsString(event)));
     }
 }
@@ -0,0 +1,103 @@
+package codeflix.catalog.admin.infrastructure.services.local;
+
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import codeflix.catalog.admin.infrastructure.services.SearchService;
+import codeflix.catalog.admin.infrastructure.utils.SearchUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemorySearchService implements SearchService {
+    private static final double PREFIX_WEIGHT = 0.5;
+
+    private final Map<SearchCollection, InvertedIndex> indexes = new ConcurrentHashMap<>();
+
+    @Override
+    public void index(final SearchCollection collection, final String id, final List<String> texts) {
+        final List<String> terms = texts.stream()
+                .filter(Objects::nonNull)
+                .flatMap(it -> SearchUtils.tokenize(it).stream())
+                .toList();
+
+        this.indexOf(collection).put(id, terms);
+    }
+
+    @Override
+    public void remove(final SearchCollection collection, final String id) {
+        this.indexOf(collection).remove(id);
+    }
+
+    @Override
+    public SearchMatch match(final SearchCollection collection, final String terms) {
+        return SearchMatch.ids(this.indexOf(collection).search(SearchUtils.tokenize(terms)));
+    }
+
+    @Override
+    public boolean requiresRebuild() {
+        return true;
+    }
+
+    private InvertedIndex indexOf(final SearchCollection collection) {
+        return this.indexes.computeIfAbsent(collection, it -> new InvertedIndex());
+    }
+
+    private static class InvertedIndex {
+        private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+        private final Map<String, Set<String>> documents = new HashMap<>();
+
+        synchronized void put(final String id, final List<String> terms) {
+            this.remove(id);
+
+            for (final String term : terms) {
+                this.postings.computeIfAbsent(term, it -> new HashMap<>()).merge(id, 1, Integer::sum);
+            }
+            this.documents.put(id, new HashSet<>(terms));
+        }
+
+        synchronized void remove(final String id) {
+            final Set<String> terms = this.documents.remove(id);
+            if (terms == null) return;
+
+            for (final String term : terms) {
+                final Map<String, Integer> documents = this.postings.get(term);
+                documents.remove(id);
+                if (documents.isEmpty()) this.postings.remove(term);
+            }
+        }
+
+        synchronized List<String> search(final List<String> tokens) {
+            if (tokens.isEmpty()) return List.of();
+
+            Map<String, Double> scores = null;
+            for (final String token : tokens) {
+                final Map<String, Double> matches = this.match(token);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((id, score) -> score + matches.get(id));
+                }
+                if (scores.isEmpty()) return List.of();
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        private Map<String, Double> match(final String token) {
+            final Map<String, Double> scores = new HashMap<>();
+
+            this.postings.subMap(token, true, token + Character.MAX_VALUE, false).forEach((term, documents) -> {
+                final double weight = Math.log(1.0 + (double) this.documents.size() / documents.size())
+                        * (term.equals(token) ? 1.0 : PREFIX_WEIGHT);
+
+                documents.forEach((id, frequency) -> scores.merge(id, weight * frequency, Double::sum));
+            });
+
+            return scores;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package codeflix.catalog.admin.infrastructure.services.local;
 
 import codeflix.catalog.admin.domain.resource.Resource;
+import codeflix.catalog.admin.domain._share.exceptions.InternalErrorException;
 import codeflix.catalog.admin.infrastructure.services.StorageService;
+import codeflix.catalog.admin.infrastructure.utils.HashingUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -44,7 +48,18 @@ public class InMemoryStorageService implements StorageService {
     }
 
     @Override
-    public void store(final String name, final Resource resource) {
-        this.storage.put(name, resource);
+    public String store(final String name, final Resource resource) {
+        final Resource stored = resource.isStreamed() ? this.buffer(name, resource) : resource;
+        this.storage.put(name, stored);
+        return stored.checksum();
+    }
+
+    private Resource buffer(final String name, final Resource resource) {
+        try (final InputStream in = resource.openStream()) {
+            final byte[] content = in.readAllBytes();
+            return Resource.with(HashingUtils.checksum(content), content, resource.contentType(), resource.name());
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on store resource %s".formatted(name), e);
+        }
     }
 }
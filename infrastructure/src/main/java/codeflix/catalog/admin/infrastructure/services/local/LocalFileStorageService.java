@@ -0,0 +1,202 @@
+package codeflix.catalog.admin.infrastructure.services.local;
+
+import codeflix.catalog.admin.domain._share.exceptions.InternalErrorException;
+import codeflix.catalog.admin.domain.resource.Resource;
+import codeflix.catalog.admin.infrastructure.services.StorageService;
+import codeflix.catalog.admin.infrastructure.utils.HashingUtils;
+import com.google.common.hash.HashingInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Collections.emptyList;
+
+public class LocalFileStorageService implements StorageService {
+    private static final String METADATA_PREFIX = ".";
+    private static final String METADATA_SUFFIX = ".meta";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "content-type";
+    private static final String NAME = "name";
+
+    private final Path root;
+
+    public LocalFileStorageService(final Path root) {
+        this.root = Objects.requireNonNull(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        try {
+            for (final String name : names) {
+                final Path file = this.resolve(name);
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(metadataOf(file));
+            }
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on delete resources", e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final Path file = this.resolve(name);
+        if (!Files.isRegularFile(file)) return Optional.empty();
+
+        try (final Reader reader = Files.newBufferedReader(metadataOf(file))) {
+            final Properties metadata = new Properties();
+            metadata.load(reader);
+
+            return Optional.of(Resource.with(
+                    metadata.getProperty(CHECKSUM),
+                    new FileSource(file),
+                    Files.size(file),
+                    metadata.getProperty(CONTENT_TYPE),
+                    metadata.getProperty(NAME)
+            ));
+        } catch (final NoSuchFileException e) {
+            // store moves the content in before its metadata, a first write is not visible until both are there
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on read resource %s".formatted(name), e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        if (prefix == null) return emptyList();
+
+        final int separator = prefix.lastIndexOf('/');
+        final Path dir = separator < 0 ? this.root : this.resolve(prefix.substring(0, separator));
+        final String namePrefix = prefix.substring(separator + 1);
+        if (!Files.isDirectory(dir)) return emptyList();
+
+        try (final Stream<Path> entries = Files.list(dir)) {
+            final List<String> names = new ArrayList<>();
+            for (final Path entry : entries.filter(it -> it.getFileName().toString().startsWith(namePrefix)).toList()) {
+                names.addAll(this.namesUnder(entry));
+            }
+            return names;
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on list resources with prefix %s".formatted(prefix), e);
+        }
+    }
+
+    @Override
+    public String store(final String name, final Resource resource) {
+        final Path file = this.resolve(name);
+        Path temp = null;
+        Path metadataTemp = null;
+        try {
+            final Path dir = Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(dir, file.getFileName().toString(), TEMP_SUFFIX);
+
+            final String checksum;
+            try (final HashingInputStream in = HashingUtils.checksumming(resource.openStream())) {
+                Files.copy(in, temp, REPLACE_EXISTING);
+                checksum = resource.isStreamed() ? HashingUtils.checksum(in) : resource.checksum();
+            }
+            metadataTemp = this.writeMetadata(file, checksum, resource);
+
+            // content first: a reader may briefly pair the new content with the old checksum, which only
+            // fails its validation, but never gets a checksum that vouches for content it cannot read yet
+            Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            Files.move(metadataTemp, metadataOf(file), ATOMIC_MOVE, REPLACE_EXISTING);
+            return checksum;
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on store resource %s".formatted(name), e);
+        } finally {
+            deleteIfExists(temp);
+            deleteIfExists(metadataTemp);
+        }
+    }
+
+    private Path writeMetadata(final Path file, final String checksum, final Resource resource) throws IOException {
+        final Properties metadata = new Properties();
+        metadata.setProperty(CHECKSUM, checksum);
+        metadata.setProperty(CONTENT_TYPE, resource.contentType());
+        metadata.setProperty(NAME, resource.name());
+
+        final Path temp = Files.createTempFile(file.getParent(), metadataOf(file).getFileName().toString(), TEMP_SUFFIX);
+        try (final OutputStream out = Files.newOutputStream(temp)) {
+            metadata.store(out, null);
+        }
+        return temp;
+    }
+
+    private List<String> namesUnder(final Path entry) throws IOException {
+        if (!Files.isDirectory(entry)) {
+            return isObject(entry) ? List.of(this.nameOf(entry)) : emptyList();
+        }
+
+        try (final Stream<Path> files = Files.walk(entry)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(LocalFileStorageService::isObject)
+                    .map(this::nameOf)
+                    .toList();
+        }
+    }
+
+    private String nameOf(final Path file) {
+        return this.root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    private Path resolve(final String name) {
+        final Path file = this.root.resolve(name).normalize();
+        if (!file.startsWith(this.root) || file.equals(this.root)) {
+            throw new IllegalArgumentException("Invalid resource name %s".formatted(name));
+        }
+        return file;
+    }
+
+    private static Path metadataOf(final Path file) {
+        return file.resolveSibling(METADATA_PREFIX + file.getFileName() + METADATA_SUFFIX);
+    }
+
+    private static void deleteIfExists(final Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+            // a leftover temp file is never listed nor read, it only takes disk space
+        }
+    }
+
+    private static boolean isObject(final Path file) {
+        final String fileName = file.getFileName().toString();
+        return !fileName.startsWith(METADATA_PREFIX) && !fileName.endsWith(TEMP_SUFFIX);
+    }
+
+    private record FileSource(Path file) implements Resource.Source {
+
+        @Override
+        public InputStream open() throws IOException {
+            return Files.newInputStream(this.file);
+        }
+
+        @Override
+        public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+                long transferred = 0;
+                while (transferred < count) {
+                    final long sent = channel.transferTo(position + transferred, count - transferred, target);
+                    if (sent <= 0) break;
+                    transferred += sent;
+                }
+                return transferred;
+            }
+        }
+    }
+}
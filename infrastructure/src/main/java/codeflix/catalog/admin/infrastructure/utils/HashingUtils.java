@@ -2,6 +2,9 @@ package codeflix.catalog.admin.infrastructure.utils;
 
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+
+import java.io.InputStream;
 
 public class HashingUtils {
     private static final HashFunction CHECKSUM = Hashing.crc32c();
@@ -12,4 +15,12 @@ public class HashingUtils {
     public static String checksum(final byte[] content) {
         return CHECKSUM.hashBytes(content).toString();
     }
+
+    public static String checksum(final HashingInputStream in) {
+        return in.hash().toString();
+    }
+
+    public static HashingInputStream checksumming(final InputStream in) {
+        return new HashingInputStream(CHECKSUM, in);
+    }
 }
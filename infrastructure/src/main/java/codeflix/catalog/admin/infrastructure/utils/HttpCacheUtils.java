@@ -0,0 +1,47 @@
+package codeflix.catalog.admin.infrastructure.utils;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public class HttpCacheUtils {
+    // clients may keep a copy but must revalidate it with the ETag on every use
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private HttpCacheUtils() {
+    }
+
+    public static String etagOf(final String anId, final Instant updatedAt) {
+        final long micros = TimeUnit.SECONDS.toMicros(updatedAt.getEpochSecond())
+                + TimeUnit.NANOSECONDS.toMicros(updatedAt.getNano());
+        return "\"%s-%x\"".formatted(anId, micros);
+    }
+
+    public static <T> Optional<ResponseEntity<T>> notModified(
+            final WebRequest request,
+            final String anId,
+            final Instant updatedAt
+    ) {
+        final String etag = etagOf(anId, updatedAt);
+        if (!request.checkNotModified(etag, updatedAt.toEpochMilli())) return Optional.empty();
+
+        return Optional.of(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .lastModified(updatedAt)
+                .cacheControl(CACHE_CONTROL)
+                .build());
+    }
+
+    public static <T> ResponseEntity<T> ok(final String anId, final Instant updatedAt, final T body) {
+        return ResponseEntity.ok()
+                .eTag(etagOf(anId, updatedAt))
+                .lastModified(updatedAt)
+                .cacheControl(CACHE_CONTROL)
+                .body(body);
+    }
+}
@@ -0,0 +1,256 @@
+package codeflix.catalog.admin.infrastructure.utils;
+
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
+import codeflix.catalog.admin.domain._share.pagination.Pagination;
+import codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+public class JsonStreamingUtils {
+    private static final int FLUSH_EVERY = 100;
+    private static final int GZIP_BUFFER_SIZE = 8192;
+    private static final String GZIP = "gzip";
+
+    private JsonStreamingUtils() {
+    }
+
+    // same document as a serialized Pagination, but the source pushes each item while its cursor is still open,
+    // so neither the page nor the full body is ever held in memory
+    public static <T, R> StreamingResponseBody paginated(
+            final Consumer<PageWriter<T>> source,
+            final Function<T, R> presenter
+    ) {
+        return out -> {
+            try (final JsonGenerator generator = Json.generator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+                source.accept(new PaginationWriter<>(generator, presenter));
+            }
+        };
+    }
+
+    // one document per line, written as the source pushes items while its cursor is still open
+    public static <T, R> StreamingResponseBody ndjson(
+            final boolean gzip,
+            final Consumer<Consumer<T>> source,
+            final Function<T, R> presenter
+    ) {
+        return out -> {
+            final OutputStream target = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+
+            try (final JsonGenerator generator = Json.generator(target)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+
+                source.accept(new LineWriter<>(generator, presenter));
+            }
+
+            if (target instanceof GZIPOutputStream compressed) compressed.finish();
+        };
+    }
+
+    public static ResponseEntity.BodyBuilder ndjsonResponse(final boolean gzip) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        return gzip ? response.header(HttpHeaders.CONTENT_ENCODING, GZIP) : response;
+    }
+
+    public static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.split(";");
+            if (!GZIP.equalsIgnoreCase(parts[0].trim())) continue;
+
+            return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+
+    // lines are parsed only as the import pulls them; a malformed line turns into an invalid row instead of failing the body
+    public static <T, C> Iterator<ImportRow<C>> ndjsonRows(
+            final InputStream in,
+            final Class<T> type,
+            final Function<T, C> toCommand
+    ) {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return new LineReader<>(reader, Json.mapper().readerFor(type), toCommand);
+    }
+
+    private static class LineWriter<T, R> implements Consumer<T> {
+        private final JsonGenerator generator;
+        private final Function<T, R> presenter;
+        private int written;
+
+        private LineWriter(final JsonGenerator generator, final Function<T, R> presenter) {
+            this.generator = generator;
+            this.presenter = presenter;
+        }
+
+        @Override
+        public void accept(final T item) {
+            try {
+                this.generator.writeObject(this.presenter.apply(item));
+                this.generator.writeRaw('\n');
+                if (++this.written % FLUSH_EVERY == 0) this.generator.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // the header fields come from the mapper's own view of a Pagination: everything before the items array is written
+    // on begin, the array is filled item by item, and whatever follows it (the next cursor) is written on end
+    private static class PaginationWriter<T, R> implements PageWriter<T> {
+        private final JsonGenerator generator;
+        private final Function<T, R> presenter;
+        private final Set<String> writtenFields = new HashSet<>();
+        private Pagination<?> header;
+        private int written;
+
+        private PaginationWriter(final JsonGenerator generator, final Function<T, R> presenter) {
+            this.generator = generator;
+            this.presenter = presenter;
+        }
+
+        @Override
+        public void begin(final Pagination<?> aHeader) {
+            this.header = aHeader;
+            try {
+                this.generator.writeStartObject();
+                for (final Iterator<Map.Entry<String, JsonNode>> it = this.fieldsOf(aHeader); it.hasNext(); ) {
+                    final Map.Entry<String, JsonNode> field = it.next();
+                    this.writtenFields.add(field.getKey());
+
+                    if (field.getValue().isArray()) {
+                        this.generator.writeArrayFieldStart(field.getKey());
+                        break;
+                    }
+                    this.generator.writeFieldName(field.getKey());
+                    this.generator.writeTree(field.getValue());
+                }
+                this.generator.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void accept(final T item) {
+            try {
+                this.generator.writeObject(this.presenter.apply(item));
+                if (++this.written % FLUSH_EVERY == 0) this.generator.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void end(final String nextCursor) {
+            final Pagination<?> aFooter = new Pagination<>(
+                    this.header.currentPage(),
+                    this.header.perPage(),
+                    this.header.totalPages(),
+                    this.header.totalElements(),
+                    List.of(),
+                    nextCursor
+            );
+            try {
+                this.generator.writeEndArray();
+                for (final Iterator<Map.Entry<String, JsonNode>> it = this.fieldsOf(aFooter); it.hasNext(); ) {
+                    final Map.Entry<String, JsonNode> field = it.next();
+                    if (this.writtenFields.contains(field.getKey())) continue;
+
+                    this.generator.writeFieldName(field.getKey());
+                    this.generator.writeTree(field.getValue());
+                }
+                this.generator.writeEndObject();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Iterator<Map.Entry<String, JsonNode>> fieldsOf(final Pagination<?> aPage) {
+            return Json.valueToTree(aPage).fields();
+        }
+    }
+
+    private static class LineReader<T, C> implements Iterator<ImportRow<C>> {
+        private final BufferedReader reader;
+        private final ObjectReader objectReader;
+        private final Function<T, C> toCommand;
+        private long line;
+        private ImportRow<C> next;
+
+        private LineReader(final BufferedReader reader, final ObjectReader objectReader, final Function<T, C> toCommand) {
+            this.reader = reader;
+            this.objectReader = objectReader;
+            this.toCommand = toCommand;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) this.next = this.read();
+            return this.next != null;
+        }
+
+        @Override
+        public ImportRow<C> next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+
+            final ImportRow<C> row = this.next;
+            this.next = null;
+            return row;
+        }
+
+        private ImportRow<C> read() {
+            try {
+                String text;
+                while ((text = this.reader.readLine()) != null) {
+                    this.line++;
+                    if (!text.isBlank()) return this.parse(text);
+                }
+                return null;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private ImportRow<C> parse(final String text) {
+            try {
+                final T value = this.objectReader.readValue(text);
+                if (value == null) return ImportRow.invalid(this.line, "Line must hold a json object");
+
+                return ImportRow.valid(this.line, this.toCommand.apply(value));
+            } catch (final JsonProcessingException e) {
+                return ImportRow.invalid(this.line, "Invalid json: %s".formatted(e.getOriginalMessage()));
+            }
+        }
+    }
+}
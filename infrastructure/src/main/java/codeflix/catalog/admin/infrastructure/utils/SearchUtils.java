@@ -0,0 +1,80 @@
+package codeflix.catalog.admin.infrastructure.utils;
+
+import codeflix.catalog.admin.domain._share.pagination.Pagination;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import codeflix.catalog.admin.infrastructure.services.impl.FullTextMatchFunction;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Expression;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+public final class SearchUtils {
+    public static final String RELEVANCE = "relevance";
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchUtils() {
+    }
+
+    public static List<String> tokenize(final String text) {
+        if (isBlank(text)) return List.of();
+
+        final String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(SEPARATORS.split(normalized))
+                .filter(it -> !it.isEmpty())
+                .toList();
+    }
+
+    public static boolean isRelevance(final String sort) {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
+
+    // ranking by relevance orders the query itself; Spring Data drops that order again from the count query
+    public static <T> Specification<T> matching(final SearchCollection collection, final SearchMatch match, final String sort) {
+        if (!match.isFullText()) return SpecificationUtils.in("id", match.ids());
+
+        return (root, query, cb) -> {
+            final List<Expression<?>> arguments = new ArrayList<>();
+            collection.getColumns().forEach(it -> arguments.add(root.get(it)));
+            arguments.add(cb.literal(match.terms()));
+
+            final Expression<Double> relevance = cb.function(FullTextMatchFunction.NAME, Double.class, arguments.toArray(Expression[]::new));
+            if (isRelevance(sort)) query.orderBy(cb.desc(relevance), cb.asc(root.get("id")));
+
+            return cb.greaterThan(relevance, 0.0);
+        };
+    }
+
+    public static <T> Pagination<T> rank(
+            final List<String> rankedIds,
+            final Collection<T> matches,
+            final Function<T, String> idOf,
+            final int page,
+            final int perPage
+    ) {
+        final Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) positions.putIfAbsent(rankedIds.get(i), i);
+
+        final List<T> ranked = matches.stream()
+                .sorted(Comparator.comparingInt(it -> positions.getOrDefault(idOf.apply(it), Integer.MAX_VALUE)))
+                .toList();
+
+        final int from = (int) Math.min((long) page * perPage, ranked.size());
+        final int to = Math.min(from + perPage, ranked.size());
+        return new Pagination<>(page, perPage, totalPages(ranked.size(), perPage), ranked.size(), ranked.subList(from, to));
+    }
+
+    public static long totalPages(final long totalElements, final int perPage) {
+        return perPage == 0 ? 0 : (totalElements + perPage - 1) / perPage;
+    }
+}
@@ -2,12 +2,14 @@ package codeflix.catalog.admin.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {
     }
 
-    public static <T> Specification<T> like(final String prop, final String term) {
-        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
+    public static <T> Specification<T> in(final String prop, final Collection<?> values) {
+        return (root, query, cb) -> root.get(prop).in(values);
     }
 }
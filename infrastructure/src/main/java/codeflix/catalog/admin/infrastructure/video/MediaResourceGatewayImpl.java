@@ -28,16 +28,16 @@ public class MediaResourceGatewayImpl implements MediaResourceGateway {
     public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
         final String filePath = this.getFilePath(anId, videoResource);
         final Resource aResource = videoResource.resource();
-        this.store(filePath, aResource);
-        return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filePath);
+        final String checksum = this.store(filePath, aResource);
+        return AudioVideoMedia.with(checksum, aResource.name(), filePath);
     }
 
     @Override
     public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
         final String filePath = this.getFilePath(anId, videoResource);
         final Resource aResource = videoResource.resource();
-        this.store(filePath, aResource);
-        return ImageMedia.with(aResource.checksum(), aResource.name(), filePath);
+        final String checksum = this.store(filePath, aResource);
+        return ImageMedia.with(checksum, aResource.name(), filePath);
     }
 
     @Override
@@ -53,8 +53,8 @@ public class MediaResourceGatewayImpl implements MediaResourceGateway {
                 .map(it -> VideoResource.with(it, aType));
     }
 
-    private void store(final String filePath, final Resource aResource) {
-        this.storageService.store(filePath, aResource);
+    private String store(final String filePath, final Resource aResource) {
+        return this.storageService.store(filePath, aResource);
     }
 
     private String getFilePath(final VideoID anId, final VideoResource aResource) {
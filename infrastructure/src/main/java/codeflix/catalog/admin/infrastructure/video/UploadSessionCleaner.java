@@ -0,0 +1,51 @@
+package codeflix.catalog.admin.infrastructure.video;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class UploadSessionCleaner {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionCleaner.class);
+
+    private final UploadSessionGatewayImpl uploadSessionGateway;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    public UploadSessionCleaner(final UploadSessionGatewayImpl uploadSessionGateway, final Duration interval) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.interval = Objects.requireNonNull(interval);
+    }
+
+    public synchronized void start() {
+        if (this.scheduler != null) return;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "upload-session-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::clean, 0, this.interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (this.scheduler == null) return;
+
+        this.scheduler.shutdown();
+        this.scheduler = null;
+    }
+
+    public void clean() {
+        try {
+            final int deleted = this.uploadSessionGateway.deleteExpired();
+            if (deleted > 0) log.info("[message:upload_session.cleanup] [status:completed] [deleted:{}]", deleted);
+        } catch (final RuntimeException e) {
+            log.error("[message:upload_session.cleanup] [status:error] [cause:{}]", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package codeflix.catalog.admin.infrastructure.video;
+
+import codeflix.catalog.admin.domain._share.exceptions.InternalErrorException;
+import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+import codeflix.catalog.admin.domain._share.validation.Error;
+import codeflix.catalog.admin.domain._share.validation.handler.Notification;
+import codeflix.catalog.admin.domain.resource.Resource;
+import codeflix.catalog.admin.domain.video.UploadSession;
+import codeflix.catalog.admin.domain.video.UploadSessionGateway;
+import codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import codeflix.catalog.admin.infrastructure.configuration.properties.storage.UploadSessionProperties;
+import codeflix.catalog.admin.infrastructure.video.models.UploadSessionMetadata;
+import com.google.common.io.ByteStreams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+@Component
+public class UploadSessionGatewayImpl implements UploadSessionGateway {
+    private static final String METADATA = "session.json";
+    private static final String PART_SUFFIX = ".part";
+    private static final Pattern SESSION_ID = Pattern.compile("[a-z0-9]+");
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionGatewayImpl.class);
+
+    private final Path directory;
+    private final Duration ttl;
+
+    public UploadSessionGatewayImpl(final UploadSessionProperties props) {
+        this.directory = Path.of(props.getDirectory());
+        this.ttl = Objects.requireNonNull(props.getTtl());
+    }
+
+    @Override
+    public UploadSession create(final UploadSession aSession) {
+        try {
+            final Path sessionDir = Files.createDirectories(this.directory.resolve(aSession.id()));
+            this.writeMetadata(sessionDir, aSession);
+            return aSession;
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on create upload session %s".formatted(aSession.id()), e);
+        }
+    }
+
+    @Override
+    public Optional<UploadSession> findById(final String anId) {
+        return this.read(anId)
+                .filter(it -> !it.isExpired(InstantUtils.now(), this.ttl));
+    }
+
+    @Override
+    public long storeChunk(final UploadSession aSession, final long offset, final Resource aChunk) {
+        final Path sessionDir = this.directory.resolve(aSession.id());
+        Path temp = null;
+        try (final InputStream in = aChunk.openStream()) {
+            temp = Files.createTempFile(sessionDir, "chunk-", ".tmp");
+
+            // the declared length may be unknown (chunked transfer), so the bytes actually received are what get
+            // checked, reading at most one byte past the end of the upload to detect an oversized chunk
+            final long written = Files.copy(ByteStreams.limit(in, aSession.size() - offset + 1), temp, REPLACE_EXISTING);
+            this.validateChunk(aSession, offset, aChunk.size(), written);
+
+            Files.move(temp, sessionDir.resolve(partName(offset)), ATOMIC_MOVE, REPLACE_EXISTING);
+            this.writeMetadata(sessionDir, aSession.touch(InstantUtils.now()));
+            return received(this.parts(sessionDir));
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on store chunk %d of upload session %s".formatted(offset, aSession.id()), e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public Optional<Resource> assemble(final UploadSession aSession) {
+        final List<Segment> segments = new ArrayList<>();
+        long position = 0;
+
+        for (final Part part : this.parts(this.directory.resolve(aSession.id()))) {
+            if (part.offset() > position) return Optional.empty();
+            if (part.end() <= position) continue;
+
+            segments.add(new Segment(part.path(), position - part.offset(), part.end() - position));
+            position = part.end();
+        }
+
+        if (position != aSession.size()) return Optional.empty();
+
+        return Optional.of(Resource.with(
+                () -> new SequenceInputStream(openLazily(segments)),
+                aSession.size(),
+                aSession.contentType(),
+                aSession.name()
+        ));
+    }
+
+    @Override
+    public void deleteById(final String anId) {
+        if (anId == null || !SESSION_ID.matcher(anId).matches()) return;
+
+        final Path sessionDir = this.directory.resolve(anId);
+        if (!Files.exists(sessionDir)) return;
+
+        try (final Stream<Path> files = Files.list(sessionDir)) {
+            for (final Path file : files.toList()) Files.deleteIfExists(file);
+            Files.deleteIfExists(sessionDir);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on delete upload session %s".formatted(anId), e);
+        }
+    }
+
+    private void writeMetadata(final Path sessionDir, final UploadSession aSession) throws IOException {
+        this.writeAtomically(sessionDir, METADATA, Json.writeValueAsString(UploadSessionMetadata.from(aSession)));
+    }
+
+    private void writeAtomically(final Path aDir, final String aName, final String content) throws IOException {
+        final Path temp = Files.createTempFile(aDir, aName, ".tmp");
+        Files.writeString(temp, content);
+        Files.move(temp, aDir.resolve(aName), ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+
+    // sessions that were never committed, and directories left behind by a failed create, are removed once expired
+    public int deleteExpired() {
+        final Instant now = InstantUtils.now();
+        int deleted = 0;
+
+        try (final Stream<Path> sessionDirs = Files.list(this.directory)) {
+            for (final Path sessionDir : sessionDirs.filter(Files::isDirectory).toList()) {
+                final String anId = sessionDir.getFileName().toString();
+                final boolean expired = this.read(anId)
+                        .map(it -> it.isExpired(now, this.ttl))
+                        .orElseGet(() -> this.lastModified(sessionDir).plus(this.ttl).isBefore(now));
+
+                if (expired) {
+                    this.deleteById(anId);
+                    deleted++;
+                }
+            }
+        } catch (final NoSuchFileException e) {
+            return 0;
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on list upload sessions", e);
+        }
+
+        return deleted;
+    }
+
+    private Optional<UploadSession> read(final String anId) {
+        if (anId == null || !SESSION_ID.matcher(anId).matches()) return Optional.empty();
+
+        final Path metadata = this.directory.resolve(anId).resolve(METADATA);
+        if (!Files.exists(metadata)) return Optional.empty();
+
+        try {
+            return Optional.of(Json.readValue(Files.readString(metadata), UploadSessionMetadata.class)
+                    .toUploadSession(this.lastModified(metadata)));
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on read upload session %s".formatted(anId), e);
+        }
+    }
+
+    private void validateChunk(final UploadSession aSession, final long offset, final long declared, final long written) {
+        final Notification notification = Notification.create();
+        if (written == 0) notification.append(new Error("Chunk should not be empty"));
+        if (declared >= 0 && written != declared)
+            notification.append(new Error("Chunk has %d bytes but declared %d".formatted(written, declared)));
+        if (offset + written > aSession.size())
+            notification.append(new Error("Chunk exceeds upload size of %d bytes".formatted(aSession.size())));
+
+        if (notification.hasError()) throw new NotificationException("Could not upload chunk", notification);
+    }
+
+    private Instant lastModified(final Path aPath) {
+        try {
+            return Files.getLastModifiedTime(aPath).toInstant();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(final Path aPath) {
+        if (aPath == null) return;
+        try {
+            Files.deleteIfExists(aPath);
+        } catch (final IOException e) {
+            log.warn("[message:upload_session.cleanup] [status:error] [path:{}] [cause:{}]", aPath, e.getMessage());
+        }
+    }
+
+    private List<Part> parts(final Path sessionDir) {
+        try (final Stream<Path> files = Files.list(sessionDir)) {
+            return files.filter(it -> it.getFileName().toString().endsWith(PART_SUFFIX))
+                    .map(Part::of)
+                    .sorted(Comparator.comparingLong(Part::offset))
+                    .toList();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on list chunks of %s".formatted(sessionDir.getFileName()), e);
+        }
+    }
+
+    private static long received(final List<Part> parts) {
+        long received = 0;
+        long position = 0;
+        for (final Part part : parts) {
+            final long start = Math.max(part.offset(), position);
+            if (part.end() > start) received += part.end() - start;
+            position = Math.max(position, part.end());
+        }
+        return received;
+    }
+
+    private static String partName(final long offset) {
+        return "%020d%s".formatted(offset, PART_SUFFIX);
+    }
+
+    private static Enumeration<InputStream> openLazily(final List<Segment> segments) {
+        final Iterator<Segment> iterator = segments.iterator();
+        return new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return iterator.next().open();
+            }
+        };
+    }
+
+    private record Part(Path path, long offset, long size) {
+
+        static Part of(final Path aPath) {
+            final String fileName = aPath.getFileName().toString();
+            try {
+                return new Part(aPath, Long.parseLong(fileName.substring(0, fileName.length() - PART_SUFFIX.length())), Files.size(aPath));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        long end() {
+            return this.offset + this.size;
+        }
+    }
+
+    private record Segment(Path path, long skip, long length) {
+
+        InputStream open() {
+            try {
+                final InputStream in = Files.newInputStream(this.path);
+                in.skipNBytes(this.skip);
+                return ByteStreams.limit(in, this.length);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -1,51 +1,114 @@
 package codeflix.catalog.admin.infrastructure.video;
 
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
 import codeflix.catalog.admin.domain._share.value.object.Identifier;
 import codeflix.catalog.admin.domain.video.*;
 import codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedQueue;
+import codeflix.catalog.admin.infrastructure.persistence.CursorReads;
 import codeflix.catalog.admin.infrastructure.services.EventService;
-import codeflix.catalog.admin.infrastructure.utils.SqlUtils;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import codeflix.catalog.admin.infrastructure.services.SearchService;
+import codeflix.catalog.admin.infrastructure.utils.SearchUtils;
+import codeflix.catalog.admin.infrastructure.video.persistence.VideoCursor;
 import codeflix.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
 import codeflix.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import com.google.common.collect.Iterators;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static codeflix.catalog.admin.domain._share.utils.CollectionUtils.mapTo;
 import static codeflix.catalog.admin.domain._share.utils.CollectionUtils.nullIfEmpty;
-import static codeflix.catalog.admin.infrastructure.utils.SqlUtils.upper;
+import static codeflix.catalog.admin.domain._share.utils.CollectionUtils.orderedBy;
+import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Component
 public class VideoGatewayImpl implements VideoGateway {
+    private static final long UNCOUNTED = -1;
+    private static final int EXPORT_CHUNK_SIZE = 100;
 
     private final VideoRepository videoRepository;
     private final EventService eventService;
+    private final SearchService searchService;
 
-    public VideoGatewayImpl(final VideoRepository videoRepository, @VideoCreatedQueue final EventService eventService) {
+    public VideoGatewayImpl(
+            final VideoRepository videoRepository,
+            @VideoCreatedQueue final EventService eventService,
+            final SearchService searchService
+    ) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
         this.eventService = Objects.requireNonNull(eventService);
+        this.searchService = Objects.requireNonNull(searchService);
     }
 
     @Override
     @Transactional
     public Video create(final Video aVideo) {
-        return this.save(aVideo);
+        return this.publish(aVideo, this.videoRepository.insert(VideoJpaEntity.from(aVideo)));
     }
 
     @Override
     @Transactional
     public Video update(final Video aVideo) {
-        return this.save(aVideo);
+        final VideoJpaEntity anEntity = this.videoRepository.findAggregateById(aVideo.getId().getValue())
+                .map(it -> it.update(aVideo))
+                .orElseGet(() -> this.videoRepository.save(VideoJpaEntity.from(aVideo)));
+
+        return this.publish(aVideo, anEntity);
+    }
+
+    @Override
+    @Transactional
+    public boolean updateMediaStatus(
+            final VideoID anId,
+            final String aResourceId,
+            final MediaStatus aStatus,
+            final String anEncodedPath
+    ) {
+        final List<MediaStatus> from = Arrays.stream(MediaStatus.values())
+                .filter(it -> it.canMoveTo(aStatus))
+                .toList();
+
+        if (from.isEmpty()) return false;
+
+        final String aVideoId = anId.getValue();
+        final int updated = anEncodedPath == null
+                ? this.videoRepository.updateMediaStatus(aVideoId, aResourceId, aStatus, from)
+                : this.videoRepository.updateMediaStatus(aVideoId, aResourceId, aStatus, anEncodedPath, from);
+
+        if (updated == 0) return false;
+
+        this.videoRepository.touch(aVideoId, InstantUtils.now());
+        return true;
     }
 
+    // read-write on purpose: a video just created on the primary may not have reached the replica yet
     @Override
+    @Transactional
+    public boolean existsMedia(final VideoID anId, final String aResourceId) {
+        return this.videoRepository.existsMedia(anId.getValue(), aResourceId);
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final VideoID anId) {
         final String aVideoId = anId.getValue();
         if (this.videoRepository.existsById(aVideoId)) this.videoRepository.deleteById(aVideoId);
@@ -54,44 +117,236 @@ public class VideoGatewayImpl implements VideoGateway {
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID anId) {
-        return this.videoRepository.findById(anId.getValue())
+        return this.videoRepository.findAggregateById(anId.getValue())
                 .map(VideoJpaEntity::toAggregate);
     }
 
+    // read-only transactions may be served by a lagging replica, a read that precedes a write must see the primary
+    @Override
+    @Transactional
+    public Optional<Video> findByIdForUpdate(final VideoID anId) {
+        return this.videoRepository.findAggregateById(anId.getValue())
+                .map(VideoJpaEntity::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findUpdatedAtById(final VideoID anId) {
+        return this.videoRepository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUpdatedSince(final Instant since, final Consumer<Video> anAction) {
+        CursorReads.run(() -> {
+            try (final Stream<String> ids = this.videoRepository.streamIdsUpdatedSince(since)) {
+                Iterators.partition(ids.iterator(), EXPORT_CHUNK_SIZE).forEachRemaining(chunk ->
+                        orderedBy(chunk, this.videoRepository.findAggregatesByIds(chunk), VideoJpaEntity::getId).forEach(it -> {
+                            anAction.accept(it.toAggregate());
+                            this.videoRepository.detach(it);
+                        }));
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Video> findAllByIds(final Iterable<VideoID> videoIDs) {
+        final List<String> ids = StreamSupport.stream(videoIDs.spliterator(), false)
+                .map(VideoID::getValue)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) return emptyList();
+
+        return orderedBy(ids, this.videoRepository.findAggregatesByIds(ids), VideoJpaEntity::getId).stream()
+                .map(VideoJpaEntity::toAggregate)
+                .toList();
+    }
+
+    // the search fragment is not covered by the read-only default of the generated repository methods
     @Override
+    @Transactional(readOnly = true)
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
-        final PageRequest page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final SearchMatch match = isBlank(aQuery.terms())
+                ? null
+                : this.searchService.match(SearchCollection.VIDEOS, aQuery.terms());
+
+        if (match != null && match.isEmpty()) return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, 0, List.of());
+        if (aQuery.hasCursor()) return this.findAllAfter(aQuery, match);
 
-        final Page<VideoPreview> actualPage = this.videoRepository.findAll(
-                SqlUtils.like(upper(aQuery.terms())),
+        final boolean byRelevance = match != null && SearchUtils.isRelevance(aQuery.sort());
+        if (byRelevance && !match.isFullText()) return this.findRanked(aQuery, match);
+
+        final Page<VideoPreview> actualPage = this.videoRepository.search(
+                match,
                 this.toString(aQuery.castMembers()),
                 this.toString(aQuery.categories()),
                 this.toString(aQuery.genres()),
-                page
+                this.pageRequest(aQuery, byRelevance)
         );
 
+        final String nextCursor = actualPage.hasNext()
+                ? VideoCursor.after(aQuery.sort(), aQuery.direction(), last(actualPage.getContent()))
+                    .map(VideoCursor::encode)
+                    .orElse(null)
+                : null;
+
         return new Pagination<>(
                 actualPage.getNumber(),
                 actualPage.getSize(),
                 actualPage.getTotalPages(),
                 actualPage.getTotalElements(),
-                actualPage.toList()
+                actualPage.toList(),
+                nextCursor
+        );
+    }
+
+    // previews are written as the result set is read; the next cursor comes from the last one written, after the items
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInPage(final VideoSearchQuery aQuery, final PageWriter<VideoPreview> aWriter) {
+        CursorReads.run(() -> this.writePage(aQuery, aWriter));
+    }
+
+    private void writePage(final VideoSearchQuery aQuery, final PageWriter<VideoPreview> aWriter) {
+        final SearchMatch match = isBlank(aQuery.terms())
+                ? null
+                : this.searchService.match(SearchCollection.VIDEOS, aQuery.terms());
+
+        if (match != null && match.isEmpty()) {
+            aWriter.write(new Pagination<>(aQuery.page(), aQuery.perPage(), 0, 0, List.of()));
+            return;
+        }
+        if (aQuery.hasCursor()) {
+            this.streamAfter(aQuery, match, aWriter);
+            return;
+        }
+
+        final boolean byRelevance = match != null && SearchUtils.isRelevance(aQuery.sort());
+        if (byRelevance && !match.isFullText()) {
+            aWriter.write(this.findRanked(aQuery, match));
+            return;
+        }
+
+        final PageRequest page = this.pageRequest(aQuery, byRelevance);
+        final long totalElements = this.videoRepository.count(
+                match,
+                this.toString(aQuery.castMembers()),
+                this.toString(aQuery.categories()),
+                this.toString(aQuery.genres())
+        );
+        final long totalPages = SearchUtils.totalPages(totalElements, page.getPageSize());
+
+        aWriter.begin(new Pagination<>(page.getPageNumber(), page.getPageSize(), totalPages, totalElements, List.of()));
+
+        VideoPreview last = null;
+        try (final Stream<VideoPreview> previews = this.videoRepository.streamSearch(
+                match,
+                this.toString(aQuery.castMembers()),
+                this.toString(aQuery.categories()),
+                this.toString(aQuery.genres()),
+                page
+        )) {
+            for (final Iterator<VideoPreview> it = previews.iterator(); it.hasNext(); ) {
+                last = it.next();
+                aWriter.accept(last);
+            }
+        }
+
+        final String nextCursor = page.getPageNumber() + 1 < totalPages
+                ? VideoCursor.after(aQuery.sort(), aQuery.direction(), last)
+                    .map(VideoCursor::encode)
+                    .orElse(null)
+                : null;
+
+        aWriter.end(nextCursor);
+    }
+
+    private Pagination<VideoPreview> findRanked(final VideoSearchQuery aQuery, final SearchMatch match) {
+        final List<VideoPreview> matches = this.videoRepository.search(
+                match,
+                this.toString(aQuery.castMembers()),
+                this.toString(aQuery.categories()),
+                this.toString(aQuery.genres()),
+                Pageable.unpaged()
+        ).getContent();
+
+        return SearchUtils.rank(match.ids(), matches, VideoPreview::id, aQuery.page(), aQuery.perPage());
+    }
+
+    private Pagination<VideoPreview> findAllAfter(final VideoSearchQuery aQuery, final SearchMatch match) {
+        final VideoCursor aCursor = VideoCursor.decode(aQuery.cursor());
+
+        final List<VideoPreview> actualItems = this.videoRepository.searchAfter(
+                match,
+                this.toString(aQuery.castMembers()),
+                this.toString(aQuery.categories()),
+                this.toString(aQuery.genres()),
+                aCursor,
+                aQuery.perPage() + 1
         );
+
+        final boolean hasNext = actualItems.size() > aQuery.perPage();
+        final List<VideoPreview> items = hasNext ? List.copyOf(actualItems.subList(0, aQuery.perPage())) : actualItems;
+        final String nextCursor = hasNext ? aCursor.next(last(items)).encode() : null;
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), UNCOUNTED, UNCOUNTED, items, nextCursor);
     }
 
-    private Video save(final Video aVideo) {
-        final Video result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
-                .toAggregate();
+    private void streamAfter(final VideoSearchQuery aQuery, final SearchMatch match, final PageWriter<VideoPreview> aWriter) {
+        final VideoCursor aCursor = VideoCursor.decode(aQuery.cursor());
+
+        aWriter.begin(new Pagination<>(aQuery.page(), aQuery.perPage(), UNCOUNTED, UNCOUNTED, List.of()));
+
+        String nextCursor = null;
+        try (final Stream<VideoPreview> previews = this.videoRepository.streamSearchAfter(
+                match,
+                this.toString(aQuery.castMembers()),
+                this.toString(aQuery.categories()),
+                this.toString(aQuery.genres()),
+                aCursor,
+                aQuery.perPage() + 1
+        )) {
+            VideoPreview last = null;
+            int written = 0;
+            for (final Iterator<VideoPreview> it = previews.iterator(); it.hasNext(); ) {
+                final VideoPreview preview = it.next();
+                if (written++ == aQuery.perPage()) {
+                    nextCursor = aCursor.next(last).encode();
+                    break;
+                }
+                aWriter.accept(preview);
+                last = preview;
+            }
+        }
+
+        aWriter.end(nextCursor);
+    }
+
+    private PageRequest pageRequest(final VideoSearchQuery aQuery, final boolean byRelevance) {
+        final Sort.Direction aDirection = Sort.Direction.fromString(aQuery.direction());
+
+        return PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                byRelevance
+                        ? Sort.by(SearchUtils.RELEVANCE)
+                        : Sort.by(aDirection, aQuery.sort()).and(Sort.by(aDirection, "id"))
+        );
+    }
+
+    private Video publish(final Video aVideo, final VideoJpaEntity aPersisted) {
+        final Video result = aPersisted.toAggregate();
 
         aVideo.publishDomainEvents(this.eventService::send);
 
         return result;
     }
 
+    private static VideoPreview last(final List<VideoPreview> items) {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+
     private Set<String> toString(final Set<? extends Identifier> values) {
         return nullIfEmpty(mapTo(values, Identifier::getValue));
     }
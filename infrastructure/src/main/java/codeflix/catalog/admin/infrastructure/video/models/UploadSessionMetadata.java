@@ -0,0 +1,47 @@
+package codeflix.catalog.admin.infrastructure.video.models;
+
+import codeflix.catalog.admin.domain.video.UploadSession;
+import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.domain.video.VideoMediaType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record UploadSessionMetadata(
+        @JsonProperty("id") String id,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("type") VideoMediaType type,
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("size") long size,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("last_activity_at") Instant lastActivityAt
+) {
+
+    public static UploadSessionMetadata from(final UploadSession aSession) {
+        return new UploadSessionMetadata(
+                aSession.id(),
+                aSession.videoId().getValue(),
+                aSession.type(),
+                aSession.name(),
+                aSession.contentType(),
+                aSession.size(),
+                aSession.createdAt(),
+                aSession.lastActivityAt()
+        );
+    }
+
+    // sessions written before a field existed fall back to the time their metadata file was last written
+    public UploadSession toUploadSession(final Instant aLastModified) {
+        return UploadSession.with(
+                this.id(),
+                VideoID.from(this.videoId()),
+                this.type(),
+                this.name(),
+                this.contentType(),
+                this.size(),
+                this.createdAt() != null ? this.createdAt() : aLastModified,
+                this.lastActivityAt() != null ? this.lastActivityAt() : aLastModified
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package codeflix.catalog.admin.infrastructure.video.models;
+
+import codeflix.catalog.admin.domain.video.VideoMediaType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UploadSessionResponse(
+        @JsonProperty("session_id") String sessionId,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("size") long size,
+        @JsonProperty("received") long received
+) {
+}
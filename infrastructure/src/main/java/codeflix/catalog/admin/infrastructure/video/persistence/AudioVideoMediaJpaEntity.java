@@ -2,6 +2,8 @@ package codeflix.catalog.admin.infrastructure.video.persistence;
 
 import codeflix.catalog.admin.domain.video.AudioVideoMedia;
 import codeflix.catalog.admin.domain.video.MediaStatus;
+import codeflix.catalog.admin.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 
@@ -9,6 +11,7 @@ import javax.persistence.*;
 @Table(name = "videos_video_media")
 public class AudioVideoMediaJpaEntity {
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "checksum", nullable = false)
@@ -57,6 +60,15 @@ public class AudioVideoMediaJpaEntity {
         );
     }
 
+    public AudioVideoMediaJpaEntity update(final AudioVideoMedia media) {
+        this.checksum = media.checksum();
+        this.name = media.name();
+        this.filePath = media.rawLocation();
+        this.encodedPath = media.encodedLocation();
+        this.status = media.status();
+        return this;
+    }
+
     public AudioVideoMedia toDomain() {
         return AudioVideoMedia.with(
                 this.getId(),
@@ -1,6 +1,8 @@
 package codeflix.catalog.admin.infrastructure.video.persistence;
 
 import codeflix.catalog.admin.domain.video.ImageMedia;
+import codeflix.catalog.admin.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -11,6 +13,7 @@ import javax.persistence.Table;
 @Table(name = "videos_image_media")
 public class ImageMediaJpaEntity {
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "checksum", nullable = false)
@@ -46,6 +49,13 @@ public class ImageMediaJpaEntity {
         );
     }
 
+    public ImageMediaJpaEntity update(final ImageMedia media) {
+        this.checksum = media.checksum();
+        this.name = media.name();
+        this.filePath = media.location();
+        return this;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(
                 this.getId(),
@@ -0,0 +1,69 @@
+package codeflix.catalog.admin.infrastructure.video.persistence;
+
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
+import codeflix.catalog.admin.domain._share.validation.Error;
+import codeflix.catalog.admin.domain.video.VideoPreview;
+import codeflix.catalog.admin.infrastructure.configuration.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+public record VideoCursor(String sort, String direction, String value, String id) {
+    private static final Set<String> SORTS = Set.of("title", "createdAt", "updatedAt");
+    private static final String ASC = "asc";
+    private static final String DESC = "desc";
+
+    public static Optional<VideoCursor> after(final String sort, final String direction, final VideoPreview last) {
+        if (!SORTS.contains(sort) || last == null) return Optional.empty();
+
+        final String aDirection = DESC.equalsIgnoreCase(direction) ? DESC : ASC;
+        return Optional.of(new VideoCursor(sort, aDirection, valueOf(sort, last), last.id()));
+    }
+
+    public static VideoCursor decode(final String cursor) {
+        try {
+            final String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final VideoCursor aCursor = Json.readValue(json, VideoCursor.class);
+            if (aCursor.isValid()) return aCursor;
+        } catch (final RuntimeException ignored) {
+        }
+        throw DomainException.with(new Error("'cursor' is invalid"));
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public VideoCursor next(final VideoPreview last) {
+        return new VideoCursor(this.sort, this.direction, valueOf(this.sort, last), last.id());
+    }
+
+    public boolean ascending() {
+        return ASC.equals(this.direction);
+    }
+
+    public Object typedValue() {
+        return "title".equals(this.sort) ? this.value : Instant.parse(this.value);
+    }
+
+    private boolean isValid() {
+        return SORTS.contains(this.sort)
+                && (ASC.equals(this.direction) || DESC.equals(this.direction))
+                && this.value != null
+                && this.id != null
+                && this.typedValue() != null;
+    }
+
+    private static String valueOf(final String sort, final VideoPreview preview) {
+        return switch (sort) {
+            case "createdAt" -> preview.createdAt().toString();
+            case "updatedAt" -> preview.updatedAt().toString();
+            default -> preview.title();
+        };
+    }
+}
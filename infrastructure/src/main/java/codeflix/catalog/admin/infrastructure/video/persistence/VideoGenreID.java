@@ -1,5 +1,8 @@
 package codeflix.catalog.admin.infrastructure.video.persistence;
 
+import codeflix.catalog.admin.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
@@ -8,9 +11,11 @@ import java.util.Objects;
 @Embeddable
 public class VideoGenreID implements Serializable {
     @Column(name = "video_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String videoId;
 
     @Column(name = "genre_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String genreId;
 
     public VideoGenreID() {
@@ -3,25 +3,40 @@ package codeflix.catalog.admin.infrastructure.video.persistence;
 import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
+import codeflix.catalog.admin.domain.video.AudioVideoMedia;
+import codeflix.catalog.admin.domain.video.ImageMedia;
 import codeflix.catalog.admin.domain.video.Rating;
 import codeflix.catalog.admin.domain.video.Video;
 import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.infrastructure.persistence.BinaryIdType;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchIndexListener;
+import codeflix.catalog.admin.infrastructure.services.Searchable;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 import java.time.Instant;
 import java.time.Year;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static codeflix.catalog.admin.domain._share.utils.CollectionUtils.mapTo;
 
 @Table(name = "videos")
 @Entity(name = "Video")
-public class VideoJpaEntity {
+@EntityListeners(SearchIndexListener.class)
+public class VideoJpaEntity implements Searchable {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "title", nullable = false)
@@ -71,12 +86,16 @@ public class VideoJpaEntity {
     @JoinColumn(name = "thumbnail_half_id")
     private ImageMediaJpaEntity thumbnailHalf;
 
+    // each set is loaded for every video of the originating query at once, joining them would multiply the rows
+    @Fetch(FetchMode.SUBSELECT)
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoCategoryJpaEntity> categories;
 
+    @Fetch(FetchMode.SUBSELECT)
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoGenreJpaEntity> genres;
 
+    @Fetch(FetchMode.SUBSELECT)
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoCastMemberJpaEntity> castMembers;
 
@@ -156,6 +175,28 @@ public class VideoJpaEntity {
         return entity;
     }
 
+    public VideoJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.isOpened();
+        this.published = aVideo.isPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+        this.video = updated(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = updated(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = updated(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = updated(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = updated(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+        sync(this.categories, aVideo.getCategories(), it -> CategoryID.from(it.getId().getCategoryId()), this::addCategory);
+        sync(this.genres, aVideo.getGenres(), it -> GenreID.from(it.getId().getGenreId()), this::addGenre);
+        sync(this.castMembers, aVideo.getCastMembers(), it -> CastMemberID.from(it.getId().getCastMemberId()), this::addCastMember);
+
+        return this;
+    }
+
     public Video toAggregate() {
         return Video.with(
                 VideoID.from(this.getId()),
@@ -207,6 +248,33 @@ public class VideoJpaEntity {
         this.castMembers.add(VideoCastMemberJpaEntity.from(this, anId));
     }
 
+    private static AudioVideoMediaJpaEntity updated(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+        if (media == null) return null;
+        if (current == null || !current.getId().equals(media.id())) return AudioVideoMediaJpaEntity.from(media);
+        return current.update(media);
+    }
+
+    private static ImageMediaJpaEntity updated(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (media == null) return null;
+        if (current == null || !current.getId().equals(media.id())) return ImageMediaJpaEntity.from(media);
+        return current.update(media);
+    }
+
+    // only the join rows that actually changed are deleted (orphan removal) or inserted
+    private static <T, ID> void sync(
+            final Set<T> current,
+            final Set<ID> expected,
+            final Function<T, ID> idOf,
+            final Consumer<ID> add
+    ) {
+        current.removeIf(it -> !expected.contains(idOf.apply(it)));
+
+        final Set<ID> kept = mapTo(current, idOf);
+        expected.stream()
+                .filter(it -> !kept.contains(it))
+                .forEach(add);
+    }
+
     public String getId() {
         return this.id;
     }
@@ -362,4 +430,14 @@ public class VideoJpaEntity {
     public Set<CastMemberID> getCastMembersID() {
         return mapTo(this.castMembers, it -> CastMemberID.from(it.getId().getCastMemberId()));
     }
+
+    @Override
+    public SearchCollection searchCollection() {
+        return SearchCollection.VIDEOS;
+    }
+
+    @Override
+    public List<String> searchableTexts() {
+        return Arrays.asList(this.title, this.description);
+    }
 }
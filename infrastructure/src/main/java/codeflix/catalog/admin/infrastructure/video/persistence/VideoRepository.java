@@ -1,42 +1,97 @@
 package codeflix.catalog.admin.infrastructure.video.persistence;
 
-import codeflix.catalog.admin.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import codeflix.catalog.admin.domain.video.MediaStatus;
+import codeflix.catalog.admin.infrastructure.persistence.DetachRepository;
+import codeflix.catalog.admin.infrastructure.persistence.InsertRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
-
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
-
-    @Query("""
-            select distinct new codeflix.catalog.admin.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
-            from Video v
-               left join v.castMembers members
-               left join v.categories categories
-               left join v.genres genres
-            where
-                (:terms is null or UPPER(v.title) like :terms) 
-            and
-                (:castMembers is null or members.id.castMemberId in :castMembers)
-            and
-                (:categories is null or categories.id.categoryId in :categories)
-            and
-                (:genres is null or genres.id.genreId in :genres)
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, InsertRepository<VideoJpaEntity>, DetachRepository<VideoJpaEntity>, VideoSearchRepository {
+
+    // only the single valued media are joined, the relation sets come from one subselect each (see VideoJpaEntity)
+    @Query(value = """
+            select v from Video v
+            left join fetch v.video
+            left join fetch v.trailer
+            left join fetch v.banner
+            left join fetch v.thumbnail
+            left join fetch v.thumbnailHalf
+            where v.id = :id
+            """)
+    Optional<VideoJpaEntity> findAggregateById(@Param("id") String id);
+
+    @Query(value = """
+            select v from Video v
+            left join fetch v.video
+            left join fetch v.trailer
+            left join fetch v.banner
+            left join fetch v.thumbnail
+            left join fetch v.thumbnailHalf
+            where v.id in :ids
+            """)
+    List<VideoJpaEntity> findAggregatesByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update AudioVideoMedia m set m.status = :status
+            where m.id = :resourceId
+              and m.status in :from
+              and exists (
+                select v.id from Video v
+                where v.id = :videoId and (v.video.id = :resourceId or v.trailer.id = :resourceId)
+              )
+            """)
+    int updateMediaStatus(
+            @Param("videoId") String videoId,
+            @Param("resourceId") String resourceId,
+            @Param("status") MediaStatus status,
+            @Param("from") Collection<MediaStatus> from
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update AudioVideoMedia m set m.status = :status, m.encodedPath = :encodedPath
+            where m.id = :resourceId
+              and m.status in :from
+              and exists (
+                select v.id from Video v
+                where v.id = :videoId and (v.video.id = :resourceId or v.trailer.id = :resourceId)
+              )
             """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("castMembers") Set<String> castMembers,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            Pageable page
+    int updateMediaStatus(
+            @Param("videoId") String videoId,
+            @Param("resourceId") String resourceId,
+            @Param("status") MediaStatus status,
+            @Param("encodedPath") String encodedPath,
+            @Param("from") Collection<MediaStatus> from
     );
+
+    @Query(value = """
+            select count(v.id) > 0 from Video v
+            left join v.video vm
+            left join v.trailer tm
+            where v.id = :videoId and (vm.id = :resourceId or tm.id = :resourceId)
+            """)
+    boolean existsMedia(@Param("videoId") String videoId, @Param("resourceId") String resourceId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update Video v set v.updatedAt = :updatedAt where v.id = :videoId")
+    int touch(@Param("videoId") String videoId, @Param("updatedAt") Instant updatedAt);
+
+    @Query(value = "select v.updatedAt from Video v where v.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(value = "select v.id from Video v where v.updatedAt >= :since order by v.id")
+    Stream<String> streamIdsUpdatedSince(@Param("since") Instant since);
 }
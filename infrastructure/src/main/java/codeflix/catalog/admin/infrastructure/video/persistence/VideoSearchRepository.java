@@ -0,0 +1,54 @@
+package codeflix.catalog.admin.infrastructure.video.persistence;
+
+import codeflix.catalog.admin.domain.video.VideoPreview;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface VideoSearchRepository {
+
+    Page<VideoPreview> search(
+            SearchMatch match,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres,
+            Pageable page
+    );
+
+    List<VideoPreview> searchAfter(
+            SearchMatch match,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres,
+            VideoCursor cursor,
+            int limit
+    );
+
+    long count(
+            SearchMatch match,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres
+    );
+
+    Stream<VideoPreview> streamSearch(
+            SearchMatch match,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres,
+            Pageable page
+    );
+
+    Stream<VideoPreview> streamSearchAfter(
+            SearchMatch match,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres,
+            VideoCursor cursor,
+            int limit
+    );
+}
@@ -0,0 +1,230 @@
+package codeflix.catalog.admin.infrastructure.video.persistence;
+
+import codeflix.catalog.admin.domain.video.VideoPreview;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchMatch;
+import codeflix.catalog.admin.infrastructure.services.impl.FullTextMatchFunction;
+import codeflix.catalog.admin.infrastructure.utils.SearchUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class VideoSearchRepositoryImpl implements VideoSearchRepository {
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_PREVIEW = """
+            select new codeflix.catalog.admin.domain.video.VideoPreview(
+                v.id as id,
+                v.title as title,
+                v.description as description,
+                v.createdAt as createdAt,
+                v.updatedAt as updatedAt
+            )
+            from Video v
+            where 1 = 1
+            """;
+
+    private static final String SELECT_COUNT = """
+            select count(v) from Video v
+            where 1 = 1
+            """;
+
+    private static final String IDS = """
+            and v.id in :ids
+            """;
+
+    private static final String RELEVANCE = FullTextMatchFunction.NAME + "(%s, :terms)".formatted(
+            String.join(", ", SearchCollection.VIDEOS.getColumns().stream().map(it -> "v." + it).toList())
+    );
+
+    private static final String MATCHES = """
+            and %s > 0
+            """.formatted(RELEVANCE);
+
+    private static final String BY_RELEVANCE = """
+            order by %s desc, v.id asc
+            """.formatted(RELEVANCE);
+
+    private static final String CAST_MEMBERS = """
+            and exists (
+                select vcm.id.videoId from VideoCastMember vcm
+                where vcm.id.videoId = v.id and vcm.id.castMemberId in :castMembers
+            )
+            """;
+
+    private static final String CATEGORIES = """
+            and exists (
+                select vc.id.videoId from VideoCategory vc
+                where vc.id.videoId = v.id and vc.id.categoryId in :categories
+            )
+            """;
+
+    private static final String GENRES = """
+            and exists (
+                select vg.id.videoId from VideoGenre vg
+                where vg.id.videoId = v.id and vg.id.genreId in :genres
+            )
+            """;
+
+    private static final String AFTER = """
+            and (v.%1$s %2$s :value or (v.%1$s = :value and v.id %2$s :id))
+            order by v.%1$s %3$s, v.id %3$s
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<VideoPreview> search(
+            final SearchMatch match,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Pageable page
+    ) {
+        final Filter aFilter = Filter.of(match, castMembers, categories, genres);
+
+        return PageableExecutionUtils.getPage(
+                this.pageQuery(aFilter, page).getResultList(),
+                page,
+                () -> this.countQuery(aFilter).getSingleResult()
+        );
+    }
+
+    @Override
+    public List<VideoPreview> searchAfter(
+            final SearchMatch match,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final VideoCursor cursor,
+            final int limit
+    ) {
+        return this.afterQuery(Filter.of(match, castMembers, categories, genres), cursor, limit)
+                .getResultList();
+    }
+
+    @Override
+    public long count(
+            final SearchMatch match,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        return this.countQuery(Filter.of(match, castMembers, categories, genres))
+                .getSingleResult();
+    }
+
+    @Override
+    public Stream<VideoPreview> streamSearch(
+            final SearchMatch match,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Pageable page
+    ) {
+        return this.pageQuery(Filter.of(match, castMembers, categories, genres), page)
+                .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<VideoPreview> streamSearchAfter(
+            final SearchMatch match,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final VideoCursor cursor,
+            final int limit
+    ) {
+        return this.afterQuery(Filter.of(match, castMembers, categories, genres), cursor, limit)
+                .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                .getResultStream();
+    }
+
+    private TypedQuery<VideoPreview> pageQuery(final Filter aFilter, final Pageable page) {
+        final TypedQuery<VideoPreview> query = aFilter.bind(this.entityManager.createQuery(
+                aFilter.sorted(SELECT_PREVIEW + aFilter.clauses(), page.getSort()),
+                VideoPreview.class
+        ));
+
+        if (page.isPaged()) {
+            query.setFirstResult((int) page.getOffset());
+            query.setMaxResults(page.getPageSize());
+        }
+        return query;
+    }
+
+    private TypedQuery<Long> countQuery(final Filter aFilter) {
+        return aFilter.bind(this.entityManager.createQuery(SELECT_COUNT + aFilter.clauses(), Long.class));
+    }
+
+    private TypedQuery<VideoPreview> afterQuery(final Filter aFilter, final VideoCursor cursor, final int limit) {
+        final String after = AFTER.formatted(
+                cursor.sort(),
+                cursor.ascending() ? ">" : "<",
+                cursor.ascending() ? "asc" : "desc"
+        );
+
+        return aFilter.bind(this.entityManager.createQuery(SELECT_PREVIEW + aFilter.clauses() + after, VideoPreview.class))
+                .setParameter("value", cursor.typedValue())
+                .setParameter("id", cursor.id())
+                .setMaxResults(limit);
+    }
+
+    private record Filter(String clauses, Map<String, Object> parameters, boolean fullText) {
+
+        static Filter of(
+                final SearchMatch match,
+                final Set<String> castMembers,
+                final Set<String> categories,
+                final Set<String> genres
+        ) {
+            final StringBuilder clauses = new StringBuilder();
+            final Map<String, Object> parameters = new HashMap<>();
+
+            if (match != null && match.isFullText()) {
+                clauses.append(MATCHES);
+                parameters.put("terms", match.terms());
+            } else if (match != null) {
+                clauses.append(IDS);
+                parameters.put("ids", match.ids());
+            }
+            if (castMembers != null) {
+                clauses.append(CAST_MEMBERS);
+                parameters.put("castMembers", castMembers);
+            }
+            if (categories != null) {
+                clauses.append(CATEGORIES);
+                parameters.put("categories", categories);
+            }
+            if (genres != null) {
+                clauses.append(GENRES);
+                parameters.put("genres", genres);
+            }
+
+            return new Filter(clauses.toString(), parameters, match != null && match.isFullText());
+        }
+
+        String sorted(final String query, final Sort sort) {
+            if (this.fullText && sort.getOrderFor(SearchUtils.RELEVANCE) != null) return query + BY_RELEVANCE;
+            return QueryUtils.applySorting(query, sort, "v");
+        }
+
+        <T> TypedQuery<T> bind(final TypedQuery<T> query) {
+            this.parameters.forEach(query::setParameter);
+            return query;
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package codeflix.catalog.admin.infrastructure.video.presenters;
 
+import codeflix.catalog.admin.application.video.media.session.UploadSessionOutput;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaOutput;
 import codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
 import codeflix.catalog.admin.application.video.retrieve.list.VideoListOutput;
 import codeflix.catalog.admin.application.video.update.UpdateVideoOutput;
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.domain.video.AudioVideoMedia;
 import codeflix.catalog.admin.domain.video.ImageMedia;
+import codeflix.catalog.admin.infrastructure.utils.JsonStreamingUtils;
 import codeflix.catalog.admin.infrastructure.video.models.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.Consumer;
 
 public interface VideoApiPresenter {
     static VideoResponse present(final VideoOutput output) {
@@ -71,6 +77,14 @@ public interface VideoApiPresenter {
         );
     }
 
+    static StreamingResponseBody stream(final Consumer<PageWriter<VideoListOutput>> source) {
+        return JsonStreamingUtils.paginated(source, VideoApiPresenter::present);
+    }
+
+    static StreamingResponseBody export(final boolean gzip, final Consumer<Consumer<VideoOutput>> source) {
+        return JsonStreamingUtils.ndjson(gzip, source, VideoApiPresenter::present);
+    }
+
     static Pagination<VideoListResponse> present(final Pagination<VideoListOutput> page) {
         return page.map(VideoApiPresenter::present);
     }
@@ -78,4 +92,14 @@ public interface VideoApiPresenter {
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static UploadSessionResponse present(final UploadSessionOutput output) {
+        return new UploadSessionResponse(
+                output.sessionId(),
+                output.videoId(),
+                output.mediaType(),
+                output.size(),
+                output.received()
+        );
+    }
 }
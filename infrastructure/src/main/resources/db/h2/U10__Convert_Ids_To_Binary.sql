@@ -0,0 +1,47 @@
+alter TABLE genres_categories drop CONSTRAINT fk_genre_id;
+alter TABLE genres_categories drop CONSTRAINT fk_category_id;
+alter TABLE videos drop CONSTRAINT fk_v_video_id;
+alter TABLE videos drop CONSTRAINT fk_v_trailer_id;
+alter TABLE videos drop CONSTRAINT fk_v_banner_id;
+alter TABLE videos drop CONSTRAINT fk_v_thumb_id;
+alter TABLE videos drop CONSTRAINT fk_v_thumb_half_id;
+alter TABLE videos_categories drop CONSTRAINT fk_vcs_video_id;
+alter TABLE videos_categories drop CONSTRAINT fk_vcs_category_id;
+alter TABLE videos_genres drop CONSTRAINT fk_vgs_video_id;
+alter TABLE videos_genres drop CONSTRAINT fk_vgs_genre_id;
+alter TABLE videos_cast_members drop CONSTRAINT fk_vcms_video_id;
+alter TABLE videos_cast_members drop CONSTRAINT fk_vcms_member_id;
+
+alter TABLE categories ALTER COLUMN id SET DATA TYPE CHAR(32);
+alter TABLE genres ALTER COLUMN id SET DATA TYPE CHAR(32);
+alter TABLE cast_members ALTER COLUMN id SET DATA TYPE CHAR(32);
+alter TABLE videos_video_media ALTER COLUMN id SET DATA TYPE CHAR(32);
+alter TABLE videos_image_media ALTER COLUMN id SET DATA TYPE CHAR(32);
+alter TABLE videos ALTER COLUMN id SET DATA TYPE CHAR(32);
+alter TABLE videos ALTER COLUMN video_id SET DATA TYPE CHAR(32);
+alter TABLE videos ALTER COLUMN trailer_id SET DATA TYPE CHAR(32);
+alter TABLE videos ALTER COLUMN banner_id SET DATA TYPE CHAR(32);
+alter TABLE videos ALTER COLUMN thumbnail_id SET DATA TYPE CHAR(32);
+alter TABLE videos ALTER COLUMN thumbnail_half_id SET DATA TYPE CHAR(32);
+alter TABLE genres_categories ALTER COLUMN genre_id SET DATA TYPE CHAR(32);
+alter TABLE genres_categories ALTER COLUMN category_id SET DATA TYPE CHAR(32);
+alter TABLE videos_categories ALTER COLUMN video_id SET DATA TYPE CHAR(32);
+alter TABLE videos_categories ALTER COLUMN category_id SET DATA TYPE CHAR(32);
+alter TABLE videos_genres ALTER COLUMN video_id SET DATA TYPE CHAR(32);
+alter TABLE videos_genres ALTER COLUMN genre_id SET DATA TYPE CHAR(32);
+alter TABLE videos_cast_members ALTER COLUMN video_id SET DATA TYPE CHAR(32);
+alter TABLE videos_cast_members ALTER COLUMN cast_member_id SET DATA TYPE CHAR(32);
+
+alter TABLE genres_categories add CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON delete CASCADE;
+alter TABLE genres_categories add CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_thumb_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_thumb_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON delete CASCADE;
+alter TABLE videos_categories add CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_categories add CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
+alter TABLE videos_genres add CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_genres add CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+alter TABLE videos_cast_members add CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_cast_members add CONSTRAINT fk_vcms_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
@@ -0,0 +1,3 @@
+drop INDEX idx_v_title_id ON videos;
+drop INDEX idx_v_created_at_id ON videos;
+drop INDEX idx_v_updated_at_id ON videos;
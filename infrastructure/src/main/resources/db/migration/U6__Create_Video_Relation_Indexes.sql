@@ -0,0 +1,6 @@
+create INDEX idx_vcs_category_id ON videos_categories (category_id);
+create INDEX idx_vgs_genre_id ON videos_genres (genre_id);
+create INDEX idx_vcms_member_id ON videos_cast_members (cast_member_id);
+drop INDEX idx_vcs_category_video ON videos_categories;
+drop INDEX idx_vgs_genre_video ON videos_genres;
+drop INDEX idx_vcms_member_video ON videos_cast_members;
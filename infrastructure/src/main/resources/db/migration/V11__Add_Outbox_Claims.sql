@@ -0,0 +1 @@
+alter table outbox_events add column claimed_until DATETIME(6) NULL;
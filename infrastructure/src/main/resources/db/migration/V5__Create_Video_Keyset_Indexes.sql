@@ -0,0 +1,3 @@
+create INDEX idx_v_title_id ON videos (title, id);
+create INDEX idx_v_created_at_id ON videos (created_at, id);
+create INDEX idx_v_updated_at_id ON videos (updated_at, id);
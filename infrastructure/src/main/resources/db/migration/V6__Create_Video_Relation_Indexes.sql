@@ -0,0 +1,3 @@
+create INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+create INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+create INDEX idx_vcms_member_video ON videos_cast_members (cast_member_id, video_id);
@@ -0,0 +1,6 @@
+create TABLE processed_messages (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    processed_at DATETIME(6) NOT NULL
+);
+
+create INDEX idx_pm_processed_at ON processed_messages (processed_at);
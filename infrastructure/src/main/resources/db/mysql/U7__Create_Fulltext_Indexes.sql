@@ -0,0 +1,4 @@
+drop INDEX idx_ft_categories ON categories;
+drop INDEX idx_ft_genres ON genres;
+drop INDEX idx_ft_cast_members ON cast_members;
+drop INDEX idx_ft_videos ON videos;
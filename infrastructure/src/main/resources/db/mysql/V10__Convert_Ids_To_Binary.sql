@@ -0,0 +1,67 @@
+-- ids keep their hex form in the application, the columns store the 16 raw bytes
+alter TABLE genres_categories drop FOREIGN KEY fk_genre_id;
+alter TABLE genres_categories drop FOREIGN KEY fk_category_id;
+alter TABLE videos drop FOREIGN KEY fk_v_video_id;
+alter TABLE videos drop FOREIGN KEY fk_v_trailer_id;
+alter TABLE videos drop FOREIGN KEY fk_v_banner_id;
+alter TABLE videos drop FOREIGN KEY fk_v_thumb_id;
+alter TABLE videos drop FOREIGN KEY fk_v_thumb_half_id;
+alter TABLE videos_categories drop FOREIGN KEY fk_vcs_video_id;
+alter TABLE videos_categories drop FOREIGN KEY fk_vcs_category_id;
+alter TABLE videos_genres drop FOREIGN KEY fk_vgs_video_id;
+alter TABLE videos_genres drop FOREIGN KEY fk_vgs_genre_id;
+alter TABLE videos_cast_members drop FOREIGN KEY fk_vcms_video_id;
+alter TABLE videos_cast_members drop FOREIGN KEY fk_vcms_member_id;
+
+alter TABLE categories MODIFY id VARBINARY(32) NOT NULL;
+update categories set id = UNHEX(id);
+alter TABLE categories MODIFY id BINARY(16) NOT NULL;
+
+alter TABLE genres MODIFY id VARBINARY(32) NOT NULL;
+update genres set id = UNHEX(id);
+alter TABLE genres MODIFY id BINARY(16) NOT NULL;
+
+alter TABLE cast_members MODIFY id VARBINARY(32) NOT NULL;
+update cast_members set id = UNHEX(id);
+alter TABLE cast_members MODIFY id BINARY(16) NOT NULL;
+
+alter TABLE videos_video_media MODIFY id VARBINARY(32) NOT NULL;
+update videos_video_media set id = UNHEX(id);
+alter TABLE videos_video_media MODIFY id BINARY(16) NOT NULL;
+
+alter TABLE videos_image_media MODIFY id VARBINARY(32) NOT NULL;
+update videos_image_media set id = UNHEX(id);
+alter TABLE videos_image_media MODIFY id BINARY(16) NOT NULL;
+
+alter TABLE videos MODIFY id VARBINARY(32) NOT NULL, MODIFY video_id VARBINARY(32) NULL, MODIFY trailer_id VARBINARY(32) NULL, MODIFY banner_id VARBINARY(32) NULL, MODIFY thumbnail_id VARBINARY(32) NULL, MODIFY thumbnail_half_id VARBINARY(32) NULL;
+update videos set id = UNHEX(id), video_id = UNHEX(video_id), trailer_id = UNHEX(trailer_id), banner_id = UNHEX(banner_id), thumbnail_id = UNHEX(thumbnail_id), thumbnail_half_id = UNHEX(thumbnail_half_id);
+alter TABLE videos MODIFY id BINARY(16) NOT NULL, MODIFY video_id BINARY(16) NULL, MODIFY trailer_id BINARY(16) NULL, MODIFY banner_id BINARY(16) NULL, MODIFY thumbnail_id BINARY(16) NULL, MODIFY thumbnail_half_id BINARY(16) NULL;
+
+alter TABLE genres_categories MODIFY genre_id VARBINARY(32) NOT NULL, MODIFY category_id VARBINARY(32) NOT NULL;
+update genres_categories set genre_id = UNHEX(genre_id), category_id = UNHEX(category_id);
+alter TABLE genres_categories MODIFY genre_id BINARY(16) NOT NULL, MODIFY category_id BINARY(16) NOT NULL;
+
+alter TABLE videos_categories MODIFY video_id VARBINARY(32) NOT NULL, MODIFY category_id VARBINARY(32) NOT NULL;
+update videos_categories set video_id = UNHEX(video_id), category_id = UNHEX(category_id);
+alter TABLE videos_categories MODIFY video_id BINARY(16) NOT NULL, MODIFY category_id BINARY(16) NOT NULL;
+
+alter TABLE videos_genres MODIFY video_id VARBINARY(32) NOT NULL, MODIFY genre_id VARBINARY(32) NOT NULL;
+update videos_genres set video_id = UNHEX(video_id), genre_id = UNHEX(genre_id);
+alter TABLE videos_genres MODIFY video_id BINARY(16) NOT NULL, MODIFY genre_id BINARY(16) NOT NULL;
+
+alter TABLE videos_cast_members MODIFY video_id VARBINARY(32) NOT NULL, MODIFY cast_member_id VARBINARY(32) NOT NULL;
+update videos_cast_members set video_id = UNHEX(video_id), cast_member_id = UNHEX(cast_member_id);
+alter TABLE videos_cast_members MODIFY video_id BINARY(16) NOT NULL, MODIFY cast_member_id BINARY(16) NOT NULL;
+alter TABLE genres_categories add CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON delete CASCADE;
+alter TABLE genres_categories add CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_thumb_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON delete CASCADE;
+alter TABLE videos add CONSTRAINT fk_v_thumb_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON delete CASCADE;
+alter TABLE videos_categories add CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_categories add CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
+alter TABLE videos_genres add CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_genres add CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+alter TABLE videos_cast_members add CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+alter TABLE videos_cast_members add CONSTRAINT fk_vcms_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
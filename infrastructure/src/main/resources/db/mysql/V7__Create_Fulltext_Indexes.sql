@@ -0,0 +1,4 @@
+create FULLTEXT INDEX idx_ft_categories ON categories (name, description);
+create FULLTEXT INDEX idx_ft_genres ON genres (name);
+create FULLTEXT INDEX idx_ft_cast_members ON cast_members (name);
+create FULLTEXT INDEX idx_ft_videos ON videos (title, description);
@@ -2,7 +2,9 @@ package codeflix.catalog.admin;
 
 import codeflix.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
 import codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import codeflix.catalog.admin.infrastructure.dedupe.persistence.ProcessedMessageRepository;
 import codeflix.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
 import codeflix.catalog.admin.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -23,7 +25,9 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
                 appContext.getBean(VideoRepository.class),
                 appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
-                appContext.getBean(CategoryRepository.class)
+                appContext.getBean(CategoryRepository.class),
+                appContext.getBean(OutboxEventRepository.class),
+                appContext.getBean(ProcessedMessageRepository.class)
         ));
     }
 
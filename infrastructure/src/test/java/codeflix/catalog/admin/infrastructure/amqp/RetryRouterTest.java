@@ -0,0 +1,139 @@
+package codeflix.catalog.admin.infrastructure.amqp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.jmx.export.annotation.AnnotationMBeanExporter;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+class RetryRouterTest {
+
+    private static final String QUEUE = "video.encoded.queue";
+
+    private RabbitOperations operations;
+
+    private RetryRouter target;
+
+    @BeforeEach
+    void setUp() {
+        this.operations = Mockito.mock(RabbitOperations.class);
+        this.target = new RetryRouter(QUEUE, 2, this.operations);
+    }
+
+    @Test
+    void givenFirstFailure_whenCallsRetry_shouldSendToFirstRetryQueue() {
+        // given
+        final var aMessage = MessageBuilder.withPayload("payload").build();
+
+        // when
+        this.target.retry(aMessage, new IllegalStateException("Boom"));
+
+        // then
+        final var actualProperties = this.sent("video.encoded.queue.retry.1");
+        Assertions.assertEquals(1, actualProperties.<Integer>getHeader(RetryRouter.RETRY_COUNT));
+        Assertions.assertEquals("Boom", actualProperties.getHeader(RetryRouter.LAST_ERROR));
+        Assertions.assertEquals(1, this.target.getRetriedCount());
+        Assertions.assertEquals(0, this.target.getParkedCount());
+    }
+
+    @Test
+    void givenRetriedMessage_whenCallsRetry_shouldSendToNextRetryQueue() {
+        // given
+        final var aMessage = MessageBuilder.withPayload("payload")
+                .setHeader(RetryRouter.RETRY_COUNT, 1)
+                .build();
+
+        // when
+        this.target.retry(aMessage, new IllegalStateException("Boom"));
+
+        // then
+        final var actualProperties = this.sent("video.encoded.queue.retry.2");
+        Assertions.assertEquals(2, actualProperties.<Integer>getHeader(RetryRouter.RETRY_COUNT));
+    }
+
+    @Test
+    void givenExhaustedMessage_whenCallsRetry_shouldParkIt() {
+        // given
+        final var aMessage = MessageBuilder.withPayload("payload")
+                .setHeader(RetryRouter.RETRY_COUNT, 2)
+                .build();
+
+        // when
+        this.target.retry(aMessage, new IllegalStateException("Boom"));
+
+        // then
+        final var actualProperties = this.sent("video.encoded.queue.parking-lot");
+        Assertions.assertEquals(2, actualProperties.<Integer>getHeader(RetryRouter.RETRY_COUNT));
+        Assertions.assertEquals(0, this.target.getRetriedCount());
+        Assertions.assertEquals(1, this.target.getParkedCount());
+    }
+
+    @Test
+    void givenMessageWithProperties_whenCallsRetry_shouldKeepThem() {
+        // given
+        final var expectedContentType = "application/json";
+        final var expectedMessageId = "message-123";
+        final var expectedTraceId = "trace-456";
+
+        final var aMessage = MessageBuilder.withPayload("payload")
+                .setHeader(AmqpHeaders.CONTENT_TYPE, expectedContentType)
+                .setHeader(AmqpHeaders.MESSAGE_ID, expectedMessageId)
+                .setHeader("x-trace-id", expectedTraceId)
+                .setHeader(RetryRouter.RETRY_COUNT, 1)
+                .build();
+
+        // when
+        this.target.retry(aMessage, new IllegalStateException("Boom"));
+
+        // then
+        final var actualProperties = this.sent("video.encoded.queue.retry.2");
+        Assertions.assertEquals(expectedContentType, actualProperties.getContentType());
+        Assertions.assertEquals(expectedMessageId, actualProperties.getMessageId());
+        Assertions.assertEquals(expectedTraceId, actualProperties.getHeader("x-trace-id"));
+        Assertions.assertFalse(actualProperties.getHeaders().containsKey(MessageHeaders.ID));
+        Assertions.assertFalse(actualProperties.getHeaders().containsKey(MessageHeaders.TIMESTAMP));
+        Assertions.assertEquals(2, actualProperties.<Integer>getHeader(RetryRouter.RETRY_COUNT));
+        Assertions.assertEquals("Boom", actualProperties.getHeader(RetryRouter.LAST_ERROR));
+    }
+
+    @Test
+    void givenExportedRouter_whenReadsItsMBean_shouldExposeCounters() throws Exception {
+        // given
+        final var aServer = MBeanServerFactory.newMBeanServer();
+        final var anExporter = new AnnotationMBeanExporter();
+        anExporter.setServer(aServer);
+        anExporter.setEnsureUniqueRuntimeObjectNames(false);
+        anExporter.registerManagedResource(this.target);
+
+        // when
+        this.target.retry(MessageBuilder.withPayload("payload").build(), new IllegalStateException("Boom"));
+        this.target.park(MessageBuilder.withPayload("payload").build(), new IllegalStateException("Boom"));
+
+        // then
+        final var aName = new ObjectName(RetryRouter.OBJECT_NAME);
+        Assertions.assertEquals(1L, aServer.getAttribute(aName, "RetriedCount"));
+        Assertions.assertEquals(1L, aServer.getAttribute(aName, "ParkedCount"));
+    }
+
+    private MessageProperties sent(final String expectedQueue) {
+        final var captor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(this.operations).convertAndSend(eq(""), eq(expectedQueue), eq((Object) "payload"), captor.capture());
+
+        final var aMessage = new Message(new byte[0], new MessageProperties());
+        return captor.getValue().postProcessMessage(aMessage).getMessageProperties();
+    }
+}
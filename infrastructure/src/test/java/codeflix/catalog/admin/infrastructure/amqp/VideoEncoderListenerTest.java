@@ -3,33 +3,43 @@ package codeflix.catalog.admin.infrastructure.amqp;
 import codeflix.catalog.admin.AmqpTest;
 import codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusCommand;
 import codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCase;
+import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
 import codeflix.catalog.admin.domain._share.utils.IdUtils;
+import codeflix.catalog.admin.domain._share.validation.Error;
 import codeflix.catalog.admin.domain.video.MediaStatus;
-import codeflix.catalog.admin.infrastructure.configuration.annotations.VideoEncodedQueue;
 import codeflix.catalog.admin.infrastructure.configuration.json.Json;
-import codeflix.catalog.admin.infrastructure.configuration.properties.amqp.QueueProperties;
 import codeflix.catalog.admin.infrastructure.video.models.VideoEncoderCompleted;
 import codeflix.catalog.admin.infrastructure.video.models.VideoEncoderError;
 import codeflix.catalog.admin.infrastructure.video.models.VideoMessage;
 import codeflix.catalog.admin.infrastructure.video.models.VideoMetadata;
+import com.rabbitmq.client.Channel;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
-import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @AmqpTest
 class VideoEncoderListenerTest {
     @Autowired
-    private TestRabbitTemplate rabbitTemplate;
+    private VideoEncoderListener listener;
+
+    @Autowired
+    private RabbitListenerEndpointRegistry registry;
 
     @Autowired
     private RabbitListenerTestHarness harness;
@@ -37,65 +47,89 @@ class VideoEncoderListenerTest {
     @MockBean
     private UpdateMediaStatusUseCase updateMediaStatusUseCase;
 
-    @Autowired
-    @VideoEncodedQueue
-    private QueueProperties queueProperties;
+    @MockBean
+    private RetryRouter retryRouter;
+
+    @Test
+    void givenVideoEncodedListener_whenStarted_shouldConsumeInBatches() {
+        final var actualContainer =
+                (SimpleMessageListenerContainer) this.registry.getListenerContainer(VideoEncoderListener.LISTENER_ID);
+
+        Assertions.assertTrue(actualContainer.isConsumerBatchEnabled());
+    }
 
     @Test
-    void givenErrorResult_whenCallsListener_shouldProcess() throws InterruptedException {
+    void givenCompletedResult_whenTheContainerDeliversABatch_shouldConvertItToMessages() throws Exception {
         // given
-        final var expectedError = new VideoEncoderError(
-                new VideoMessage("123", "abc"),
-                "Video not found"
-        );
+        final var expectedId = IdUtils.uuid();
+        final var expectedResourceId = IdUtils.uuid();
+        final var expectedMessage = this.completed(expectedId, "anyfolder", expectedResourceId, "any.mp4");
+
+        final var aContainer =
+                (SimpleMessageListenerContainer) this.registry.getListenerContainer(VideoEncoderListener.LISTENER_ID);
 
-        final var expectedMessage = Json.writeValueAsString(expectedError);
+        // TestRabbitTemplate only dispatches single messages, so the batch is handed to the container's listener
+        final var aBatchListener = (ChannelAwareBatchMessageListener) aContainer.getMessageListener();
+        final var anAmqpMessage = new SimpleMessageConverter()
+                .toMessage(expectedMessage.getPayload(), new MessageProperties());
+
+        doNothing().when(this.updateMediaStatusUseCase).execute(any());
 
         // when
-        this.rabbitTemplate.convertAndSend(this.queueProperties.getQueue(), expectedMessage);
+        aBatchListener.onMessageBatch(List.of(anAmqpMessage), mock(Channel.class));
 
         // then
         final var invocationData =
                 this.harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
 
         Assertions.assertNotNull(invocationData);
-        Assertions.assertNotNull(invocationData.getArguments());
 
-        final var actualMessage = (String) invocationData.getArguments()[0];
-        Assertions.assertEquals(expectedMessage, actualMessage);
+        @SuppressWarnings("unchecked") final var actualMessages = (List<Message<String>>) invocationData.getArguments()[0];
+        Assertions.assertEquals(1, actualMessages.size());
+        Assertions.assertEquals(expectedMessage.getPayload(), actualMessages.get(0).getPayload());
+
+        final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
+        verify(this.updateMediaStatusUseCase).execute(cmdCaptor.capture());
+
+        Assertions.assertEquals(expectedId, cmdCaptor.getValue().videoId());
+        Assertions.assertEquals(expectedResourceId, cmdCaptor.getValue().resourceId());
     }
 
     @Test
-    void givenCompletedResult_whenCallsListener_shouldCallUseCase() throws InterruptedException {
+    void givenErrorResult_whenCallsListener_shouldNotCallUseCase() {
+        // given
+        final var expectedError = new VideoEncoderError(
+                new VideoMessage("123", "abc"),
+                "Video not found"
+        );
+
+        final var expectedMessages = List.of(this.message(Json.writeValueAsString(expectedError)));
+
+        // when
+        this.listener.onVideoEncodedMessages(expectedMessages);
+
+        // then
+        verify(this.updateMediaStatusUseCase, never()).execute(any());
+        verifyNoInteractions(this.retryRouter);
+    }
+
+    @Test
+    void givenCompletedResult_whenCallsListener_shouldCallUseCase() {
         // given
         final var expectedId = IdUtils.uuid();
-        final var expectedOutputBucket = "codeeducationtest";
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedEncoderVideoFolder = "anyfolder";
         final var expectedResourceId = IdUtils.uuid();
         final var expectedFilePath = "any.mp4";
-        final var expectedMetadata =
-                new VideoMetadata(expectedEncoderVideoFolder, expectedResourceId, expectedFilePath);
-
-        final var aResult = new VideoEncoderCompleted(expectedId, expectedOutputBucket, expectedMetadata);
 
-        final var expectedMessage = Json.writeValueAsString(aResult);
+        final var expectedMessage = this.completed(expectedId, expectedEncoderVideoFolder, expectedResourceId, expectedFilePath);
 
         doNothing().when(this.updateMediaStatusUseCase).execute(any());
 
         // when
-        this.rabbitTemplate.convertAndSend(this.queueProperties.getQueue(), expectedMessage);
+        this.listener.onVideoEncodedMessages(List.of(expectedMessage));
 
         // then
-        final var invocationData =
-                this.harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
-
-        Assertions.assertNotNull(invocationData);
-        Assertions.assertNotNull(invocationData.getArguments());
-
-        final var actualMessage = (String) invocationData.getArguments()[0];
-        Assertions.assertEquals(expectedMessage, actualMessage);
-
         final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
         verify(this.updateMediaStatusUseCase).execute(cmdCaptor.capture());
 
@@ -106,4 +140,113 @@ class VideoEncoderListenerTest {
         Assertions.assertEquals(expectedEncoderVideoFolder, actualCommand.folder());
         Assertions.assertEquals(expectedFilePath, actualCommand.fileName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenRepeatedResultsInABatch_whenCallsListener_shouldApplyEachMediaOnce() {
+        // given
+        final var aVideoId = IdUtils.uuid();
+        final var anotherVideoId = IdUtils.uuid();
+        final var aResourceId = IdUtils.uuid();
+        final var anotherResourceId = IdUtils.uuid();
+
+        final var messages = List.of(
+                this.completed(aVideoId, "first", aResourceId, "video.mp4"),
+                this.completed(anotherVideoId, "other", anotherResourceId, "video.mp4"),
+                this.completed(aVideoId, "second", aResourceId, "video.mp4")
+        );
+
+        doNothing().when(this.updateMediaStatusUseCase).execute(any());
+
+        // when
+        this.listener.onVideoEncodedMessages(messages);
+
+        // then
+        final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
+        verify(this.updateMediaStatusUseCase, times(2)).execute(cmdCaptor.capture());
+
+        final var actualCommands = cmdCaptor.getAllValues();
+        Assertions.assertEquals(aVideoId, actualCommands.get(0).videoId());
+        Assertions.assertEquals("second", actualCommands.get(0).folder());
+        Assertions.assertEquals(anotherVideoId, actualCommands.get(1).videoId());
+    }
+
+    @Test
+    void givenRedeliveredResult_whenCallsListener_shouldAcknowledgeItWithoutCallingUseCase() {
+        // given
+        final var aVideoId = IdUtils.uuid();
+        final var aResourceId = IdUtils.uuid();
+
+        doNothing().when(this.updateMediaStatusUseCase).execute(any());
+
+        // when
+        this.listener.onVideoEncodedMessages(List.of(this.completed(aVideoId, "folder", aResourceId, "video.mp4")));
+        this.listener.onVideoEncodedMessages(List.of(this.completed(aVideoId, "folder", aResourceId, "video.mp4")));
+
+        // then
+        verify(this.updateMediaStatusUseCase, times(1)).execute(any());
+        verifyNoInteractions(this.retryRouter);
+    }
+
+    @Test
+    void givenUseCaseFailure_whenCallsListener_shouldRouteOnlyTheFailedVideoToRetry() {
+        // given
+        final var aFailingVideoId = IdUtils.uuid();
+        final var aFailing = this.completed(aFailingVideoId, "folder", IdUtils.uuid(), "video.mp4");
+        final var aHealthy = this.completed(IdUtils.uuid(), "folder", IdUtils.uuid(), "video.mp4");
+        final var expectedError = new IllegalStateException("Database is down");
+
+        doThrow(expectedError).when(this.updateMediaStatusUseCase)
+                .execute(argThat(it -> it != null && aFailingVideoId.equals(it.videoId())));
+
+        // when
+        this.listener.onVideoEncodedMessages(List.of(aFailing, aHealthy));
+
+        // then
+        verify(this.updateMediaStatusUseCase, times(2)).execute(any());
+        verify(this.retryRouter).retry(aFailing, expectedError);
+        verify(this.retryRouter, never()).park(any(), any());
+    }
+
+    @Test
+    void givenResultForAVideoNotCreatedYet_whenCallsListener_shouldRetryItAndApplyTheRedelivery() {
+        // given
+        final var aVideoId = IdUtils.uuid();
+        final var aResourceId = IdUtils.uuid();
+        final var aResult = this.completed(aVideoId, "folder", aResourceId, "video.mp4");
+        final var expectedError = NotFoundException.with(new Error("Media %s of Video with ID %s was not found"
+                .formatted(aResourceId, aVideoId)));
+
+        doThrow(expectedError).doNothing().when(this.updateMediaStatusUseCase).execute(any());
+
+        // when
+        this.listener.onVideoEncodedMessages(List.of(aResult));
+        this.listener.onVideoEncodedMessages(List.of(this.completed(aVideoId, "folder", aResourceId, "video.mp4")));
+
+        // then
+        verify(this.updateMediaStatusUseCase, times(2)).execute(any());
+        verify(this.retryRouter).retry(aResult, expectedError);
+        verify(this.retryRouter, never()).park(any(), any());
+    }
+
+    @Test
+    void givenMalformedPayload_whenCallsListener_shouldParkIt() {
+        // given
+        final var aPoison = this.message("{not json");
+
+        // when
+        this.listener.onVideoEncodedMessages(List.of(aPoison));
+
+        // then
+        verify(this.retryRouter).park(eq(aPoison), any());
+        verify(this.updateMediaStatusUseCase, never()).execute(any());
+    }
+
+    private Message<String> completed(final String aVideoId, final String aFolder, final String aResourceId, final String aFilePath) {
+        final var aMetadata = new VideoMetadata(aFolder, aResourceId, aFilePath);
+        return this.message(Json.writeValueAsString(new VideoEncoderCompleted(aVideoId, "codeeducationtest", aMetadata)));
+    }
+
+    private Message<String> message(final String aPayload) {
+        return MessageBuilder.withPayload(aPayload).build();
+    }
+}
@@ -1,34 +1,54 @@
 package codeflix.catalog.admin.infrastructure.api;
 
 import codeflix.catalog.admin.ControllerTest;
+import codeflix.catalog.admin.application._shared.imports.ImportError;
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+import codeflix.catalog.admin.application._shared.imports.ImportReport;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsCommand;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageCommand;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
+import codeflix.catalog.admin.application.castmember.create.CreateCastMemberCommand;
 import codeflix.catalog.admin.application.castmember.create.CreateCastMemberOutput;
 import codeflix.catalog.admin.application.castmember.create.CreateCastMemberUseCaseImpl;
 import codeflix.catalog.admin.application.castmember.delete.DeleteCastMemberUseCaseImpl;
+import codeflix.catalog.admin.application.castmember.imports.ImportCastMembersCommand;
+import codeflix.catalog.admin.application.castmember.imports.ImportCastMembersUseCase;
+import codeflix.catalog.admin.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import codeflix.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
 import codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCaseImpl;
+import codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberUpdatedAtUseCase;
 import codeflix.catalog.admin.application.castmember.retrieve.list.CastMemberListOutput;
 import codeflix.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCaseImpl;
 import codeflix.catalog.admin.application.castmember.update.UpdateCastMemberOutput;
 import codeflix.catalog.admin.application.castmember.update.UpdateCastMemberUseCaseImpl;
 import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
 import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
 import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
+import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain._share.validation.Error;
 import codeflix.catalog.admin.domain.castmember.entity.CastMember;
 import codeflix.catalog.admin.domain.castmember.enums.CastMemberType;
 import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
 import codeflix.catalog.admin.infrastructure.castmember.models.CreateCastMemberRequest;
 import codeflix.catalog.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
+import codeflix.catalog.admin.infrastructure.utils.HttpCacheUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -56,9 +76,21 @@ class CastMemberAPITest {
     @MockBean
     private GetCastMemberByIdUseCaseImpl getCastMemberByIdUseCase;
 
+    @MockBean
+    private GetCastMemberUpdatedAtUseCase getCastMemberUpdatedAtUseCase;
+    @MockBean
+    private GetByIdsUseCase<CastMemberOutput> getCastMembersByIdsUseCase;
+    @MockBean
+    private ExportCastMembersUseCase exportCastMembersUseCase;
+    @MockBean
+    private ImportCastMembersUseCase importCastMembersUseCase;
+
     @MockBean
     private ListCastMembersUseCaseImpl listCastMembersUseCase;
 
+    @MockBean
+    private StreamPageUseCase<SearchQuery, CastMemberListOutput> streamCastMembersUseCase;
+
     @MockBean
     private UpdateCastMemberUseCaseImpl updateCastMemberUseCase;
 
@@ -139,6 +171,8 @@ class CastMemberAPITest {
         final var aMember = CastMember.newMember(expectedName, expectedType);
         final var expectedId = aMember.getId().getValue();
 
+        when(this.getCastMemberUpdatedAtUseCase.execute(expectedId))
+                .thenReturn(Optional.of(aMember.getUpdatedAt()));
         when(this.getCastMemberByIdUseCase.execute(expectedId))
                 .thenReturn(CastMemberOutput.from(aMember));
 
@@ -155,7 +189,34 @@ class CastMemberAPITest {
                 .andExpect(jsonPath("$.name", equalTo(expectedName)))
                 .andExpect(jsonPath("$.type", equalTo(expectedType.name())))
                 .andExpect(jsonPath("$.created_at", equalTo(aMember.getCreatedAt().toString())))
-                .andExpect(jsonPath("$.updated_at", equalTo(aMember.getUpdatedAt().toString())));
+                .andExpect(jsonPath("$.updated_at", equalTo(aMember.getUpdatedAt().toString())))
+                .andExpect(header().string("ETag", HttpCacheUtils.etagOf(expectedId, aMember.getUpdatedAt())))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    void givenAMatchingETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        // given
+        final var aMember = CastMember.newMember(Fixture.name(), Fixture.CastMembers.type());
+        final var expectedId = aMember.getId().getValue();
+        final var expectedETag = HttpCacheUtils.etagOf(expectedId, aMember.getUpdatedAt());
+
+        when(this.getCastMemberUpdatedAtUseCase.execute(expectedId))
+                .thenReturn(Optional.of(aMember.getUpdatedAt()));
+
+        // when
+        final var aRequest = get("/cast_members/{id}", expectedId)
+                .header("If-None-Match", expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", expectedETag))
+                .andExpect(content().string(""));
+
+        verify(this.getCastMemberByIdUseCase, never()).execute(any());
     }
 
     @Test
@@ -164,6 +225,8 @@ class CastMemberAPITest {
         final var expectedErrorMessage = "CastMember with ID 123 was not found";
         final var expectedId = CastMemberID.from("123");
 
+        when(this.getCastMemberUpdatedAtUseCase.execute(expectedId.getValue()))
+                .thenReturn(Optional.empty());
         when(this.getCastMemberByIdUseCase.execute(expectedId.getValue()))
                 .thenThrow(NotFoundException.with(CastMember.class, expectedId));
 
@@ -179,6 +242,58 @@ class CastMemberAPITest {
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    void givenIdsWithAMissingOne_whenCallsGetByIds_shouldReturnFoundCastMembersInRequestOrder() throws Exception {
+        // given
+        final var wesley = Fixture.CastMembers.wesley();
+        final var gabriel = Fixture.CastMembers.gabriel();
+        final var expectedIds = List.of(gabriel.getId().getValue(), "123", wesley.getId().getValue());
+
+        when(this.getCastMembersByIdsUseCase.execute(any()))
+                .thenReturn(List.of(CastMemberOutput.from(gabriel), CastMemberOutput.from(wesley)));
+
+        // when
+        final var aRequest = get("/cast_members")
+                .queryParam("ids", expectedIds.toArray(String[]::new))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(gabriel.getId().getValue())))
+                .andExpect(jsonPath("$[1].id", equalTo(wesley.getId().getValue())));
+
+        verify(this.getCastMembersByIdsUseCase).execute(GetByIdsCommand.with(expectedIds));
+        verify(this.listCastMembersUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenTooManyIds_whenCallsGetByIdsInBody_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'ids' should have at most 1000 items";
+        final var ids = Collections.nCopies(GetByIdsUseCase.MAX_IDS_IN_BODY + 1, "123");
+
+        when(this.getCastMembersByIdsUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var aRequest = post("/cast_members/ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(ids));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(this.getCastMembersByIdsUseCase).execute(GetByIdsCommand.with(ids, GetByIdsUseCase.MAX_IDS_IN_BODY));
+    }
+
     @Test
     void givenAValidCommand_whenCallsUpdateCastMember_shouldReturnItsIdentifier() throws Exception {
         // given
@@ -309,6 +424,98 @@ class CastMemberAPITest {
         verify(this.deleteCastMemberUseCase).execute(expectedId);
     }
 
+    @Test
+    void givenNdjsonBody_whenCallsImportCastMembers_shouldParseEachLineAndReturnTheReport() throws Exception {
+        // given
+        final var body = """
+                {"name": "Wesley", "type": "ACTOR"}
+                {"name": "Gabriel", "type":
+                {"name": "Nicole", "type": "DIRECTOR"}
+                """;
+        final var actualRows = new ArrayList<ImportRow<CreateCastMemberCommand>>();
+
+        when(this.importCastMembersUseCase.execute(any())).thenAnswer(invocation -> {
+            final ImportCastMembersCommand aCommand = invocation.getArgument(0);
+            aCommand.rows().forEachRemaining(actualRows::add);
+            return ImportOutput.with(1, List.of(
+                    ImportError.with(2, List.of(new Error("Invalid json"))),
+                    ImportError.with(3, List.of(new Error(ImportReport.WRITE_FAILED)))
+            ));
+        });
+
+        // when
+        final var aRequest = post("/cast_members/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body);
+
+        final var response = this.mvc.perform(aRequest)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", equalTo(1)))
+                .andExpect(jsonPath("$.failed", equalTo(2)))
+                .andExpect(jsonPath("$.errors[0].line", equalTo(2)))
+                .andExpect(jsonPath("$.errors[1].errors[0].message", equalTo(ImportReport.WRITE_FAILED)));
+
+        Assertions.assertEquals(List.of(1L, 2L, 3L), actualRows.stream().map(ImportRow::line).toList());
+        Assertions.assertEquals(CastMemberType.ACTOR, actualRows.get(0).command().type());
+        Assertions.assertFalse(actualRows.get(1).isValid());
+        Assertions.assertEquals("Nicole", actualRows.get(2).command().name());
+        Assertions.assertEquals(CastMemberType.DIRECTOR, actualRows.get(2).command().type());
+    }
+
+    @Test
+    void givenStreamParam_whenCallsListCastMembers_shouldWriteTheSameDocumentAsTheBufferedList() throws Exception {
+        // given
+        final var wesley = Fixture.CastMembers.wesley();
+        final var gabriel = Fixture.CastMembers.gabriel();
+        final var expectedPage = new Pagination<>(1, 2, 3, 5, List.of(CastMemberListOutput.from(wesley), CastMemberListOutput.from(gabriel)));
+        final var expectedTerms = "a";
+
+        when(this.listCastMembersUseCase.execute(any()))
+                .thenReturn(expectedPage);
+        doAnswer(invocation -> {
+            invocation.<StreamPageCommand<SearchQuery, CastMemberListOutput>>getArgument(0).writer().write(expectedPage);
+            return null;
+        }).when(this.streamCastMembersUseCase).execute(any());
+
+        final var expectedBody = this.mvc.perform(get("/cast_members").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // when
+        final var aRequest = get("/cast_members")
+                .queryParam("stream", "true")
+                .queryParam("page", "1")
+                .queryParam("perPage", "2")
+                .queryParam("search", expectedTerms)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.total_elements", equalTo(5)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$", not(hasKey("next_cursor"))));
+
+        final var actualBody = response.andReturn().getResponse().getContentAsString();
+        Assertions.assertEquals(this.mapper.readTree(expectedBody), this.mapper.readTree(actualBody));
+
+        verify(this.streamCastMembersUseCase).execute(argThat(cmd ->
+                cmd.query().page() == 1
+                        && cmd.query().perPage() == 2
+                        && expectedTerms.equals(cmd.query().terms())
+        ));
+    }
+
     @Test
     void givenValidParams_whenCallListCastMembers_shouldReturnIt() throws Exception {
         // given
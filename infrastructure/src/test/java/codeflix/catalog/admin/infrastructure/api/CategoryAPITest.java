@@ -1,38 +1,61 @@
 package codeflix.catalog.admin.infrastructure.api;
 
 import codeflix.catalog.admin.ControllerTest;
+import codeflix.catalog.admin.application._shared.imports.ImportError;
+import codeflix.catalog.admin.application._shared.imports.ImportOutput;
+import codeflix.catalog.admin.application._shared.imports.ImportRow;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsCommand;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageCommand;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
+import codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
 import codeflix.catalog.admin.application.category.create.CreateCategoryOutput;
 import codeflix.catalog.admin.application.category.create.CreateCategoryUseCase;
 import codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import codeflix.catalog.admin.application.category.imports.ImportCategoriesCommand;
+import codeflix.catalog.admin.application.category.imports.ImportCategoriesUseCase;
+import codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesCommand;
+import codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import codeflix.catalog.admin.application.category.retrieve.get.GetCategoryUpdatedAtUseCase;
 import codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import codeflix.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
 import codeflix.catalog.admin.application.category.update.UpdateCategoryOutput;
 import codeflix.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import codeflix.catalog.admin.domain.Fixture;
 import codeflix.catalog.admin.domain._share.exceptions.DomainException;
 import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
+import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain._share.validation.Error;
 import codeflix.catalog.admin.domain._share.validation.handler.Notification;
 import codeflix.catalog.admin.domain.category.entity.Category;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
 import codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import codeflix.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
+import codeflix.catalog.admin.infrastructure.utils.HttpCacheUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -55,12 +78,23 @@ class CategoryAPITest {
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
     @MockBean
+    private GetCategoryUpdatedAtUseCase getCategoryUpdatedAtUseCase;
+    @MockBean
+    private GetByIdsUseCase<CategoryOutput> getCategoriesByIdsUseCase;
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+    @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
     @MockBean
     ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private StreamPageUseCase<SearchQuery, CategoryListOutput> streamCategoriesUseCase;
+
     @Test
     void givenAValidCommand_WhenCallCreateCategory_ThenReturnCategoryId() throws Exception {
         final String expectedName = "Filmes";
@@ -172,6 +206,8 @@ class CategoryAPITest {
         final Category aCategory = Category.newCategory(expectedName, expectedDescription, expectedIsActive);
         final String expectedId = aCategory.getId().getValue();
 
+        when(getCategoryUpdatedAtUseCase.execute(expectedId))
+                .thenReturn(Optional.of(aCategory.getUpdatedAt()));
         when(getCategoryByIdUseCase.execute(expectedId))
                 .thenReturn(CategoryOutput.from(aCategory));
 
@@ -188,16 +224,42 @@ class CategoryAPITest {
                 .andExpect(jsonPath("$.is_active", equalTo(expectedIsActive)))
                 .andExpect(jsonPath("$.created_at", equalTo(aCategory.getCreatedAt().toString())))
                 .andExpect(jsonPath("$.updated_at", equalTo(aCategory.getUpdatedAt().toString())))
-                .andExpect(jsonPath("$.deleted_at", equalTo(aCategory.getDeletedAt())));
+                .andExpect(jsonPath("$.deleted_at", equalTo(aCategory.getDeletedAt())))
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.startsWith("\"" + expectedId + "-")))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
 
         verify(getCategoryByIdUseCase).execute(expectedId);
     }
 
+    @Test
+    void givenAMatchingETag_WhenCallGetCategory_ThenReturnNotModified() throws Exception {
+        final Category aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final String expectedId = aCategory.getId().getValue();
+        final String expectedETag = HttpCacheUtils.etagOf(expectedId, aCategory.getUpdatedAt());
+
+        when(getCategoryUpdatedAtUseCase.execute(expectedId))
+                .thenReturn(Optional.of(aCategory.getUpdatedAt()));
+
+        final MockHttpServletRequestBuilder request = get("/categories/{id}", expectedId)
+                .header("If-None-Match", expectedETag)
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
     @Test
     void givenAInvValidId_WhenCallGetCategoryById_ThenReturnNotFound() throws Exception {
         final String expectedErrorMessage = "Category with ID 123 was not found";
         final CategoryID anId = CategoryID.from("123");
 
+        when(getCategoryUpdatedAtUseCase.execute(anId.getValue()))
+                .thenReturn(Optional.empty());
         when(getCategoryByIdUseCase.execute(anId.getValue()))
                 .thenThrow(NotFoundException.with(Category.class, anId));
 
@@ -209,6 +271,125 @@ class CategoryAPITest {
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    void givenValidIds_WhenCallGetCategoriesByIds_ThenReturnCategoriesInRequestOrder() throws Exception {
+        final Category filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final Category series = Category.newCategory("Series", "A categoria menos assistida", true);
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(List.of(CategoryOutput.from(series), CategoryOutput.from(filmes)));
+
+        final MockHttpServletRequestBuilder request = get("/categories")
+                .queryParam("ids", series.getId().getValue(), filmes.getId().getValue())
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(series.getId().getValue())))
+                .andExpect(jsonPath("$[1].id", equalTo(filmes.getId().getValue())));
+
+        verify(getCategoriesByIdsUseCase).execute(GetByIdsCommand.with(List.of(series.getId().getValue(), filmes.getId().getValue())));
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenSince_WhenCallExportCategories_ThenWriteOneCategoryPerLine() throws Exception {
+        final Category filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final Category series = Category.newCategory("Series", "A categoria menos assistida", true);
+        final Instant expectedSince = Instant.parse("2023-01-01T00:00:00Z");
+
+        doAnswer(invocation -> {
+            final ExportCategoriesCommand aCommand = invocation.getArgument(0);
+            aCommand.consumer().accept(CategoryOutput.from(filmes));
+            aCommand.consumer().accept(CategoryOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        final MockHttpServletRequestBuilder request = get("/categories/export")
+                .queryParam("since", expectedSince.toString());
+
+        final MvcResult asyncResult = mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final String actualBody = mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        final List<String> actualLines = actualBody.lines().toList();
+        assertThat(actualLines).hasSize(2);
+        assertThat(mapper.readTree(actualLines.get(0)).get("id").asText()).isEqualTo(filmes.getId().getValue());
+        assertThat(mapper.readTree(actualLines.get(1)).get("name").asText()).isEqualTo("Series");
+        assertThat(actualBody).endsWith("\n");
+
+        verify(exportCategoriesUseCase).execute(argThat(cmd -> expectedSince.equals(cmd.since())));
+    }
+
+    @Test
+    void givenAnExport_WhenCallExportCategories_ThenOutliveTheStreamedListTimeout() throws Exception {
+        // given
+        doNothing().when(this.exportCategoriesUseCase).execute(any());
+        doNothing().when(this.streamCategoriesUseCase).execute(any());
+
+        final var expectedExportTimeout = Duration.ofHours(1).toMillis();
+        final var expectedListTimeout = Duration.ofMinutes(5).toMillis();
+
+        // when
+        final var actualExport = this.mvc.perform(get("/categories/export").queryParam("since", Instant.EPOCH.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var actualList = this.mvc.perform(get("/categories").queryParam("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        Assertions.assertEquals(expectedExportTimeout, actualExport.getRequest().getAsyncContext().getTimeout());
+        Assertions.assertEquals(expectedListTimeout, actualList.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void givenNdjsonBody_WhenCallImportCategories_ThenParseEachLineAndReturnReport() throws Exception {
+        final String body = """
+                {"name": "Filmes", "description": "A categoria mais assistida"}
+
+                {"name": "Series", "is_active": false
+                {"name": "Documentarios", "is_active": false}
+                """;
+        final List<ImportRow<CreateCategoryCommand>> actualRows = new ArrayList<>();
+
+        when(importCategoriesUseCase.execute(any())).thenAnswer(invocation -> {
+            final ImportCategoriesCommand aCommand = invocation.getArgument(0);
+            aCommand.rows().forEachRemaining(actualRows::add);
+            return ImportOutput.with(2, List.of(ImportError.with(3, List.of(new Error("Invalid json")))));
+        });
+
+        final MockHttpServletRequestBuilder request = post("/categories/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body);
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", equalTo(2)))
+                .andExpect(jsonPath("$.failed", equalTo(1)))
+                .andExpect(jsonPath("$.errors[0].line", equalTo(3)))
+                .andExpect(jsonPath("$.errors[0].errors[0].message", equalTo("Invalid json")));
+
+        assertThat(actualRows).extracting(ImportRow::line).containsExactly(1L, 3L, 4L);
+        assertThat(actualRows.get(0).command().isActive()).isTrue();
+        assertThat(actualRows.get(1).isValid()).isFalse();
+        assertThat(actualRows.get(1).error()).startsWith("Invalid json:");
+        assertThat(actualRows.get(2).command().name()).isEqualTo("Documentarios");
+        assertThat(actualRows.get(2).command().isActive()).isFalse();
+    }
+
     @Test
     void givenAValidCommand_WhenCallUpdateCategory_ThenReturnCategoryId() throws Exception {
         final String expectedId = "123";
@@ -326,6 +507,57 @@ class CategoryAPITest {
         verify(deleteCategoryUseCase).execute(expectedId);
     }
 
+    @Test
+    void givenStreamParam_whenCallsListCategories_shouldWriteTheSameDocumentAsTheBufferedList() throws Exception {
+        // given
+        final var lessons = Fixture.Categories.lessons();
+        final var lives = Fixture.Categories.lives();
+        final var expectedPage = new Pagination<>(1, 2, 3, 5, List.of(CategoryListOutput.from(lessons), CategoryListOutput.from(lives)));
+        final var expectedTerms = "a";
+
+        when(this.listCategoriesUseCase.execute(any()))
+                .thenReturn(expectedPage);
+        doAnswer(invocation -> {
+            invocation.<StreamPageCommand<SearchQuery, CategoryListOutput>>getArgument(0).writer().write(expectedPage);
+            return null;
+        }).when(this.streamCategoriesUseCase).execute(any());
+
+        final var expectedBody = this.mvc.perform(get("/categories").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // when
+        final var aRequest = get("/categories")
+                .queryParam("stream", "true")
+                .queryParam("page", "1")
+                .queryParam("perPage", "2")
+                .queryParam("search", expectedTerms)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.total_elements", equalTo(5)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$", not(hasKey("next_cursor"))));
+
+        final var actualBody = response.andReturn().getResponse().getContentAsString();
+        Assertions.assertEquals(this.mapper.readTree(expectedBody), this.mapper.readTree(actualBody));
+
+        verify(this.streamCategoriesUseCase).execute(argThat(cmd ->
+                cmd.query().page() == 1
+                        && cmd.query().perPage() == 2
+                        && expectedTerms.equals(cmd.query().terms())
+        ));
+    }
+
     @Test
     void givenAValid_WhenCallsListCategories_ThenReturnCategories() throws Exception {
         final Category aCategory = Category.newCategory("Movies", null, true);
@@ -359,6 +591,7 @@ class CategoryAPITest {
                 .andExpect(jsonPath("$.total_elements", equalTo(expectedTotalElements)))
                 .andExpect(jsonPath("$.total_pages", equalTo(expectedTotalPages)))
                 .andExpect(jsonPath("$.items", hasSize(expectedItemsCount)))
+                .andExpect(jsonPath("$", not(hasKey("next_cursor"))))
                 .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())))
                 .andExpect(jsonPath("$.items[0].name", equalTo(aCategory.getName())))
                 .andExpect(jsonPath("$.items[0].description", equalTo(aCategory.getDescription())))
@@ -1,18 +1,28 @@
 package codeflix.catalog.admin.infrastructure.api;
 
 import codeflix.catalog.admin.ControllerTest;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsCommand;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageCommand;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
 import codeflix.catalog.admin.application.genre.create.CreateGenreOutput;
 import codeflix.catalog.admin.application.genre.create.CreateGenreUseCase;
 import codeflix.catalog.admin.application.genre.delete.DeleteGenreUseCase;
+import codeflix.catalog.admin.application.genre.imports.ImportGenresUseCase;
+import codeflix.catalog.admin.application.genre.retrieve.export.ExportGenresUseCase;
 import codeflix.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import codeflix.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
+import codeflix.catalog.admin.application.genre.retrieve.get.GetGenreUpdatedAtUseCase;
 import codeflix.catalog.admin.application.genre.retrieve.list.GenreListOutput;
 import codeflix.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
 import codeflix.catalog.admin.application.genre.update.UpdateGenreOutput;
 import codeflix.catalog.admin.application.genre.update.UpdateGenreUseCase;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
 import codeflix.catalog.admin.domain._share.exceptions.NotFoundException;
 import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
+import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain._share.validation.Error;
 import codeflix.catalog.admin.domain._share.validation.handler.Notification;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
@@ -20,15 +30,19 @@ import codeflix.catalog.admin.domain.genre.entity.Genre;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
 import codeflix.catalog.admin.infrastructure.genre.models.CreateGenreRequest;
 import codeflix.catalog.admin.infrastructure.genre.models.UpdateGenreRequest;
+import codeflix.catalog.admin.infrastructure.utils.HttpCacheUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +66,14 @@ class GenreAPITest {
 
     @MockBean
     private GetGenreByIdUseCase getGenreByIdUseCase;
+    @MockBean
+    private GetGenreUpdatedAtUseCase getGenreUpdatedAtUseCase;
+    @MockBean
+    private GetByIdsUseCase<GenreOutput> getGenresByIdsUseCase;
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+    @MockBean
+    private ImportGenresUseCase importGenresUseCase;
 
     @MockBean
     private UpdateGenreUseCase updateGenreUseCase;
@@ -62,6 +84,9 @@ class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private StreamPageUseCase<SearchQuery, GenreListOutput> streamGenresUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
         // given
@@ -149,6 +174,8 @@ class GenreAPITest {
 
         final var expectedId = aGenre.getId().getValue();
 
+        when(this.getGenreUpdatedAtUseCase.execute(any()))
+                .thenReturn(Optional.of(aGenre.getUpdatedAt()));
         when(this.getGenreByIdUseCase.execute(any()))
                 .thenReturn(GenreOutput.from(aGenre));
 
@@ -168,17 +195,46 @@ class GenreAPITest {
                 .andExpect(jsonPath("$.is_active", equalTo(expectedIsActive)))
                 .andExpect(jsonPath("$.created_at", equalTo(aGenre.getCreatedAt().toString())))
                 .andExpect(jsonPath("$.updated_at", equalTo(aGenre.getUpdatedAt().toString())))
-                .andExpect(jsonPath("$.deleted_at", equalTo(aGenre.getDeletedAt().toString())));
+                .andExpect(jsonPath("$.deleted_at", equalTo(aGenre.getDeletedAt().toString())))
+                .andExpect(header().string("ETag", HttpCacheUtils.etagOf(expectedId, aGenre.getUpdatedAt())))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
 
         verify(this.getGenreByIdUseCase).execute(expectedId);
     }
 
+    @Test
+    void givenAMatchingETag_whenCallsGetGenreById_shouldReturnNotModified() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId().getValue();
+        final var expectedETag = HttpCacheUtils.etagOf(expectedId, aGenre.getUpdatedAt());
+
+        when(this.getGenreUpdatedAtUseCase.execute(expectedId))
+                .thenReturn(Optional.of(aGenre.getUpdatedAt()));
+
+        // when
+        final var aRequest = get("/genres/{id}", expectedId)
+                .header("If-None-Match", expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", expectedETag))
+                .andExpect(content().string(""));
+
+        verify(this.getGenreByIdUseCase, never()).execute(any());
+    }
+
     @Test
     void givenAnInvalidId_whenCallsGetGenreById_shouldReturnNotFound() throws Exception {
         // given
         final var expectedErrorMessage = "Genre with ID 123 was not found";
         final var expectedId = GenreID.from("123");
 
+        when(this.getGenreUpdatedAtUseCase.execute(any()))
+                .thenReturn(Optional.empty());
         when(this.getGenreByIdUseCase.execute(any()))
                 .thenThrow(NotFoundException.with(Genre.class, expectedId));
 
@@ -197,6 +253,54 @@ class GenreAPITest {
         verify(this.getGenreByIdUseCase).execute(expectedId.getValue());
     }
 
+    @Test
+    void givenIdsWithAMissingOne_whenCallsGetByIds_shouldReturnFoundGenresInRequestOrder() throws Exception {
+        // given
+        final var tech = Fixture.Genres.tech();
+        final var business = Fixture.Genres.business();
+        final var expectedIds = List.of(business.getId().getValue(), "123", tech.getId().getValue());
+
+        when(this.getGenresByIdsUseCase.execute(any()))
+                .thenReturn(List.of(GenreOutput.from(business), GenreOutput.from(tech)));
+
+        // when
+        final var aRequest = post("/genres/ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(expectedIds));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(business.getId().getValue())))
+                .andExpect(jsonPath("$[1].id", equalTo(tech.getId().getValue())));
+
+        verify(this.getGenresByIdsUseCase).execute(GetByIdsCommand.with(expectedIds, GetByIdsUseCase.MAX_IDS_IN_BODY));
+    }
+
+    @Test
+    void givenTooManyIds_whenCallsGetByIds_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'ids' should have at most 100 items";
+        final var ids = Collections.nCopies(GetByIdsUseCase.MAX_IDS + 1, "123");
+
+        when(this.getGenresByIdsUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var aRequest = get("/genres")
+                .queryParam("ids", ids.toArray(String[]::new))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     void givenAValidCommand_whenCallsUpdateGenre_shouldReturnGenreId() throws Exception {
         // given
@@ -291,6 +395,57 @@ class GenreAPITest {
         verify(this.deleteGenreUseCase).execute(expectedId);
     }
 
+    @Test
+    void givenStreamParam_whenCallsListGenres_shouldWriteTheSameDocumentAsTheBufferedList() throws Exception {
+        // given
+        final var tech = Fixture.Genres.tech();
+        final var business = Fixture.Genres.business();
+        final var expectedPage = new Pagination<>(1, 2, 3, 5, List.of(GenreListOutput.from(tech), GenreListOutput.from(business)));
+        final var expectedTerms = "a";
+
+        when(this.listGenreUseCase.execute(any()))
+                .thenReturn(expectedPage);
+        doAnswer(invocation -> {
+            invocation.<StreamPageCommand<SearchQuery, GenreListOutput>>getArgument(0).writer().write(expectedPage);
+            return null;
+        }).when(this.streamGenresUseCase).execute(any());
+
+        final var expectedBody = this.mvc.perform(get("/genres").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // when
+        final var aRequest = get("/genres")
+                .queryParam("stream", "true")
+                .queryParam("page", "1")
+                .queryParam("perPage", "2")
+                .queryParam("search", expectedTerms)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.total_elements", equalTo(5)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$", not(hasKey("next_cursor"))));
+
+        final var actualBody = response.andReturn().getResponse().getContentAsString();
+        Assertions.assertEquals(this.mapper.readTree(expectedBody), this.mapper.readTree(actualBody));
+
+        verify(this.streamGenresUseCase).execute(argThat(cmd ->
+                cmd.query().page() == 1
+                        && cmd.query().perPage() == 2
+                        && expectedTerms.equals(cmd.query().terms())
+        ));
+    }
+
     @Test
     void givenValidParams_whenCallsListGenres_shouldReturnGenres() throws Exception {
         // given
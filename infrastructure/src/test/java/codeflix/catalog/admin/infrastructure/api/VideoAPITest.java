@@ -1,6 +1,10 @@
 package codeflix.catalog.admin.infrastructure.api;
 
 import codeflix.catalog.admin.ControllerTest;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsCommand;
+import codeflix.catalog.admin.application._shared.retrieve.GetByIdsUseCase;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageCommand;
+import codeflix.catalog.admin.application._shared.retrieve.StreamPageUseCase;
 import codeflix.catalog.admin.application.video.create.CreateVideoCommand;
 import codeflix.catalog.admin.application.video.create.CreateVideoOutput;
 import codeflix.catalog.admin.application.video.create.CreateVideoUseCase;
@@ -8,10 +12,20 @@ import codeflix.catalog.admin.application.video.delete.DeleteVideoUseCase;
 import codeflix.catalog.admin.application.video.media.get.GetMediaCommand;
 import codeflix.catalog.admin.application.video.media.get.GetMediaUseCase;
 import codeflix.catalog.admin.application.video.media.get.MediaOutput;
+import codeflix.catalog.admin.application.video.media.session.UploadSessionOutput;
+import codeflix.catalog.admin.application.video.media.session.chunk.UploadChunkCommand;
+import codeflix.catalog.admin.application.video.media.session.chunk.UploadChunkUseCase;
+import codeflix.catalog.admin.application.video.media.session.commit.CommitUploadSessionCommand;
+import codeflix.catalog.admin.application.video.media.session.commit.CommitUploadSessionUseCase;
+import codeflix.catalog.admin.application.video.media.session.create.CreateUploadSessionCommand;
+import codeflix.catalog.admin.application.video.media.session.create.CreateUploadSessionUseCase;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaCommand;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaOutput;
 import codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import codeflix.catalog.admin.application.video.retrieve.export.ExportVideosCommand;
+import codeflix.catalog.admin.application.video.retrieve.export.ExportVideosUseCase;
 import codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
+import codeflix.catalog.admin.application.video.retrieve.get.GetVideoUpdatedAtUseCase;
 import codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
 import codeflix.catalog.admin.application.video.retrieve.list.ListVideosUseCase;
 import codeflix.catalog.admin.application.video.retrieve.list.VideoListOutput;
@@ -27,6 +41,9 @@ import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
 import codeflix.catalog.admin.domain.video.*;
+import codeflix.catalog.admin.domain.video.VideoSearchQuery;
+import codeflix.catalog.admin.infrastructure.utils.HttpCacheUtils;
+import codeflix.catalog.admin.infrastructure.video.models.CreateUploadSessionRequest;
 import codeflix.catalog.admin.infrastructure.video.models.CreateVideoRequest;
 import codeflix.catalog.admin.infrastructure.video.models.UpdateVideoRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,16 +56,23 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import static codeflix.catalog.admin.domain._share.utils.CollectionUtils.mapTo;
 import static com.google.common.net.HttpHeaders.*;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -66,6 +90,12 @@ class VideoAPITest {
     @MockBean
     private GetVideoByIdUseCase getVideoByIdUseCase;
     @MockBean
+    private GetVideoUpdatedAtUseCase getVideoUpdatedAtUseCase;
+    @MockBean
+    private GetByIdsUseCase<VideoOutput> getVideosByIdsUseCase;
+    @MockBean
+    private ExportVideosUseCase exportVideosUseCase;
+    @MockBean
     private UpdateVideoUseCase updateVideoUseCase;
 
     @MockBean
@@ -74,12 +104,24 @@ class VideoAPITest {
     @MockBean
     private ListVideosUseCase listVideosUseCase;
 
+    @MockBean
+    private StreamPageUseCase<VideoSearchQuery, VideoListOutput> streamVideosUseCase;
+
     @MockBean
     private GetMediaUseCase getMediaUseCase;
 
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private CreateUploadSessionUseCase createUploadSessionUseCase;
+
+    @MockBean
+    private UploadChunkUseCase uploadChunkUseCase;
+
+    @MockBean
+    private CommitUploadSessionUseCase commitUploadSessionUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
         //given
@@ -332,6 +374,8 @@ class VideoAPITest {
 
         final var expectedId = aVideo.getId().getValue();
 
+        when(this.getVideoUpdatedAtUseCase.execute(any()))
+                .thenReturn(Optional.of(aVideo.getUpdatedAt()));
         when(this.getVideoByIdUseCase.execute(any()))
                 .thenReturn(VideoOutput.from(aVideo));
         //when
@@ -381,12 +425,132 @@ class VideoAPITest {
                 .andExpect(jsonPath("$.castMembers_id", equalTo(new ArrayList(expectedMembers))));
     }
 
+    @Test
+    void givenAStaleETag_whenCallsGetById_shouldReturnVideoWithCurrentETag() throws Exception {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId().getValue();
+        final var expectedETag = HttpCacheUtils.etagOf(expectedId, aVideo.getUpdatedAt());
+
+        when(this.getVideoUpdatedAtUseCase.execute(any()))
+                .thenReturn(Optional.of(aVideo.getUpdatedAt()));
+        when(this.getVideoByIdUseCase.execute(any()))
+                .thenReturn(VideoOutput.from(aVideo));
+
+        // when
+        final var aRequest = get("/videos/{id}", expectedId)
+                .header(IF_NONE_MATCH, "\"%s-0\"".formatted(expectedId))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(header().exists(LAST_MODIFIED))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+    }
+
+    @Test
+    void givenAMatchingETag_whenCallsGetById_shouldReturnNotModifiedWithoutLoadingVideo() throws Exception {
+        // given
+        final var expectedId = VideoID.unique().getValue();
+        final var expectedUpdatedAt = Instant.now();
+        final var expectedETag = HttpCacheUtils.etagOf(expectedId, expectedUpdatedAt);
+
+        when(this.getVideoUpdatedAtUseCase.execute(expectedId))
+                .thenReturn(Optional.of(expectedUpdatedAt));
+
+        // when
+        final var aRequest = get("/videos/{id}", expectedId)
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(header().string(CACHE_CONTROL, "no-cache, private"));
+
+        verify(this.getVideoByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenALongIdList_whenCallsGetByIdsInBody_shouldReturnVideosInRequestOrder() throws Exception {
+        // given
+        final var systemDesign = Fixture.Videos.systemDesign();
+        final var anotherVideo = Fixture.video();
+        final var expectedIds = List.of(anotherVideo.getId().getValue(), systemDesign.getId().getValue());
+
+        when(this.getVideosByIdsUseCase.execute(any()))
+                .thenReturn(List.of(VideoOutput.from(anotherVideo), VideoOutput.from(systemDesign)));
+
+        // when
+        final var aRequest = post("/videos/ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(expectedIds));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", equalTo(expectedIds.get(0))))
+                .andExpect(jsonPath("$[1].id", equalTo(expectedIds.get(1))));
+
+        verify(this.getVideosByIdsUseCase).execute(GetByIdsCommand.with(expectedIds, GetByIdsUseCase.MAX_IDS_IN_BODY));
+    }
+
+    @Test
+    void givenGzipAccepted_whenCallsExportVideos_shouldWriteCompressedNdjson() throws Exception {
+        // given
+        final var aVideo = Fixture.video();
+        final var anotherVideo = Fixture.Videos.systemDesign();
+
+        doAnswer(invocation -> {
+            final ExportVideosCommand aCommand = invocation.getArgument(0);
+            aCommand.consumer().accept(VideoOutput.from(aVideo));
+            aCommand.consumer().accept(VideoOutput.from(anotherVideo));
+            return null;
+        }).when(this.exportVideosUseCase).execute(any());
+
+        // when
+        final var aRequest = get("/videos/export")
+                .header(ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(VARY, hasItem(ACCEPT_ENCODING)));
+
+        final var compressed = response.andReturn().getResponse().getContentAsByteArray();
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            final var actualLines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+
+            Assertions.assertEquals(2, actualLines.size());
+            Assertions.assertEquals(aVideo.getId().getValue(), this.mapper.readTree(actualLines.get(0)).get("id").asText());
+            Assertions.assertEquals(anotherVideo.getTitle(), this.mapper.readTree(actualLines.get(1)).get("title").asText());
+        }
+
+        verify(this.exportVideosUseCase).execute(argThat(cmd -> cmd.since() == null));
+    }
+
     @Test
     void givenAnInvalidId_whenCallsGetById_shouldReturnNotFound() throws Exception {
         // given
         final var expectedId = VideoID.unique();
         final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
 
+        when(this.getVideoUpdatedAtUseCase.execute(any()))
+                .thenReturn(Optional.empty());
         when(this.getVideoByIdUseCase.execute(any()))
                 .thenThrow(NotFoundException.with(Video.class, expectedId));
 
@@ -666,6 +830,89 @@ class VideoAPITest {
         Assertions.assertTrue(actualQuery.genres().isEmpty());
     }
 
+    @Test
+    void givenStreamParam_whenCallsListVideos_shouldWriteTheSameDocumentAsTheBufferedList() throws Exception {
+        // given
+        final var expectedItems = List.of(
+                VideoListOutput.from(VideoPreview.from(Fixture.video())),
+                VideoListOutput.from(VideoPreview.from(Fixture.Videos.systemDesign()))
+        );
+
+        final var expectedPage = new Pagination<>(0, 2, 3, 6, expectedItems, "next");
+
+        when(this.listVideosUseCase.execute(any()))
+                .thenReturn(expectedPage);
+        doAnswer(invocation -> {
+            invocation.<StreamPageCommand<VideoSearchQuery, VideoListOutput>>getArgument(0).writer().write(expectedPage);
+            return null;
+        }).when(this.streamVideosUseCase).execute(any());
+
+        final var expectedBody = this.mvc.perform(get("/videos").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // when
+        final var aRequest = get("/videos")
+                .queryParam("stream", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.next_cursor", equalTo("next")));
+
+        final var actualBody = response.andReturn().getResponse().getContentAsString();
+        Assertions.assertEquals(this.mapper.readTree(expectedBody), this.mapper.readTree(actualBody));
+
+        verify(this.streamVideosUseCase).execute(argThat(cmd -> cmd.query().page() == 0));
+    }
+
+    @Test
+    void givenACursor_whenCallsListVideos_shouldReturnNextCursor() throws Exception {
+        // given
+        final var aVideo = VideoPreview.from(Fixture.video());
+
+        final var expectedPerPage = 1;
+        final var expectedCursor = "Y3Vyc29y";
+        final var expectedNextCursor = "bmV4dA";
+
+        final var expectedItems = List.of(VideoListOutput.from(aVideo));
+
+        when(this.listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, -1, -1, expectedItems, expectedNextCursor));
+
+        // when
+        final var aRequest = get("/videos")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.per_page", equalTo(expectedPerPage)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aVideo.id())));
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(this.listVideosUseCase).execute(captor.capture());
+
+        final var actualQuery = captor.getValue();
+        Assertions.assertEquals(expectedCursor, actualQuery.cursor());
+        Assertions.assertTrue(actualQuery.hasCursor());
+    }
+
     @Test
     void givenAValidVideoIdAndFileType_whenCallsGetMediaById_shouldReturnContent() throws Exception {
         // given
@@ -674,21 +921,27 @@ class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-        final var expectedMedia = new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = MediaOutput.with(VideoResource.with(expectedResource, expectedMediaType));
 
         when(this.getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
         // when
         final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name());
 
-        final var response = this.mvc.perform(aRequest);
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
 
         // then
         response.andExpect(status().isOk())
                 .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedResource.content().length)))
                 .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedResource.checksum())))
+                .andExpect(content().bytes(expectedResource.content()));
 
         final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -699,6 +952,89 @@ class VideoAPITest {
         Assertions.assertEquals(expectedMediaType.name(), actualCmd.type());
     }
 
+    @Test
+    void givenAValidRange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedContent = "ten".getBytes();
+
+        final var expectedMedia = MediaOutput.with(VideoResource.with(expectedResource, expectedMediaType));
+
+        when(this.getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=3-5")
+                .header(IF_RANGE, "\"%s\"".formatted(expectedResource.checksum()));
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedContent.length)))
+                .andExpect(header().string(CONTENT_RANGE, "bytes 3-5/%d".formatted(expectedResource.content().length)))
+                .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    void givenAStaleIfRange_whenCallsGetMediaById_shouldReturnFullContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        final var expectedMedia = MediaOutput.with(VideoResource.with(expectedResource, expectedMediaType));
+
+        when(this.getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=3-5")
+                .header(IF_RANGE, "\"stale\"");
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CONTENT_RANGE))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        final var expectedMedia = MediaOutput.with(VideoResource.with(expectedResource, expectedMediaType));
+
+        when(this.getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=100-200");
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedResource.content().length)));
+    }
+
     @Test
     void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
         // given
@@ -733,7 +1069,8 @@ class VideoAPITest {
 
         final var actualCmd = captor.getValue();
         Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
-        Assertions.assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertTrue(actualCmd.videoResource().resource().isStreamed());
+        Assertions.assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().openStream().readAllBytes());
         Assertions.assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
         Assertions.assertEquals(expectedType, actualCmd.videoResource().type());
@@ -761,4 +1098,115 @@ class VideoAPITest {
                 .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.message", equalTo("Invalid INVALID for VideoMediaType.")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAValidRequest_whenCallsCreateUploadSession_shouldReturnSession() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedSessionId = "123";
+        final var expectedSize = 1024L;
+        final var aRequest = new CreateUploadSessionRequest("video.mp4", "video/mp4", expectedSize);
+
+        when(this.createUploadSessionUseCase.execute(any()))
+                .thenReturn(new UploadSessionOutput(expectedSessionId, expectedId.getValue(), expectedType, expectedSize, 0));
+
+        // when
+        final var response = this.mvc.perform(
+                post("/videos/{id}/medias/{type}/sessions", expectedId.getValue(), expectedType.name())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.mapper.writeValueAsString(aRequest))
+        );
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/%s/sessions/%s"
+                        .formatted(expectedId.getValue(), expectedType.name(), expectedSessionId)))
+                .andExpect(jsonPath("$.session_id", equalTo(expectedSessionId)))
+                .andExpect(jsonPath("$.size", equalTo((int) expectedSize)))
+                .andExpect(jsonPath("$.received", equalTo(0)));
+
+        final var captor = ArgumentCaptor.forClass(CreateUploadSessionCommand.class);
+
+        verify(this.createUploadSessionUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
+        Assertions.assertEquals(expectedType.name(), actualCmd.type());
+        Assertions.assertEquals(aRequest.name(), actualCmd.name());
+        Assertions.assertEquals(aRequest.contentType(), actualCmd.contentType());
+        Assertions.assertEquals(expectedSize, actualCmd.size());
+    }
+
+    @Test
+    void givenAChunk_whenCallsUploadChunk_shouldStreamItToUseCase() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedSessionId = "123";
+        final var expectedContent = "Content".getBytes();
+        final var expectedOffset = 14L;
+
+        when(this.uploadChunkUseCase.execute(any()))
+                .thenAnswer(it -> {
+                    final UploadChunkCommand aCmd = it.getArgument(0);
+                    Assertions.assertArrayEquals(expectedContent, aCmd.chunk().openStream().readAllBytes());
+                    return new UploadSessionOutput(expectedSessionId, expectedId.getValue(), expectedType, 21, 21);
+                });
+
+        // when
+        final var response = this.mvc.perform(
+                put("/videos/{id}/medias/{type}/sessions/{sessionId}", expectedId.getValue(), expectedType.name(), expectedSessionId)
+                        .param("offset", String.valueOf(expectedOffset))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(expectedContent)
+        );
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.session_id", equalTo(expectedSessionId)))
+                .andExpect(jsonPath("$.received", equalTo(21)));
+
+        final var captor = ArgumentCaptor.forClass(UploadChunkCommand.class);
+
+        verify(this.uploadChunkUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
+        Assertions.assertEquals(expectedType.name(), actualCmd.type());
+        Assertions.assertEquals(expectedSessionId, actualCmd.sessionId());
+        Assertions.assertEquals(expectedOffset, actualCmd.offset());
+        Assertions.assertEquals(expectedContent.length, actualCmd.chunk().size());
+    }
+
+    @Test
+    void givenASession_whenCallsCommitUploadSession_shouldReturnMedia() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedSessionId = "123";
+
+        when(this.commitUploadSessionUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        // when
+        final var response = this.mvc.perform(
+                post("/videos/{id}/medias/{type}/sessions/{sessionId}/commit", expectedId.getValue(), expectedType.name(), expectedSessionId)
+        );
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/%s".formatted(expectedId.getValue(), expectedType.name())))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+        final var captor = ArgumentCaptor.forClass(CommitUploadSessionCommand.class);
+
+        verify(this.commitUploadSessionUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
+        Assertions.assertEquals(expectedType.name(), actualCmd.type());
+        Assertions.assertEquals(expectedSessionId, actualCmd.sessionId());
+    }
+}
@@ -0,0 +1,122 @@
+package codeflix.catalog.admin.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jmx.export.annotation.AnnotationMBeanExporter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+class ExistenceCacheTest {
+
+    private ExistenceCache target;
+
+    private List<List<String>> loads;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new ExistenceCache(100, Duration.ofMinutes(1));
+        this.loads = new ArrayList<>();
+    }
+
+    @Test
+    void givenCachedIds_whenCallsExisting_shouldNotCallLoader() {
+        final var expectedIds = List.of("1", "2");
+
+        this.target.existing("categories", expectedIds, this.loader(expectedIds));
+        final var actualIds = this.target.existing("categories", expectedIds, this.loader(expectedIds));
+
+        Assertions.assertEquals(expectedIds, actualIds);
+        Assertions.assertEquals(List.of(expectedIds), this.loads);
+        Assertions.assertEquals(2, this.target.getHitCount());
+        Assertions.assertEquals(2, this.target.getMissCount());
+    }
+
+    @Test
+    void givenMissingIds_whenCallsExisting_shouldLoadOnlyMissesAndKeepInputOrder() {
+        this.target.existing("categories", List.of("2"), this.loader(List.of("2")));
+
+        final var actualIds = this.target.existing("categories", List.of("3", "2", "1"), this.loader(List.of("1", "2", "3")));
+
+        Assertions.assertEquals(List.of("3", "2", "1"), actualIds);
+        Assertions.assertEquals(List.of("3", "1"), this.loads.get(1));
+    }
+
+    @Test
+    void givenUnknownId_whenCallsExisting_shouldNotCacheAbsence() {
+        this.target.existing("categories", List.of("1"), this.loader(List.of()));
+        final var actualIds = this.target.existing("categories", List.of("1"), this.loader(List.of("1")));
+
+        Assertions.assertEquals(List.of("1"), actualIds);
+        Assertions.assertEquals(2, this.loads.size());
+    }
+
+    @Test
+    void givenCachedId_whenCallsInvalidate_shouldLoadItAgain() {
+        this.target.existing("categories", List.of("1"), this.loader(List.of("1")));
+
+        this.target.invalidate("categories", "1");
+        final var actualIds = this.target.existing("categories", List.of("1"), this.loader(List.of()));
+
+        Assertions.assertTrue(actualIds.isEmpty());
+        Assertions.assertEquals(2, this.loads.size());
+    }
+
+    @Test
+    void givenActiveTransaction_whenCallsInvalidate_shouldKeepTheEntryUntilCommit() {
+        this.target.existing("categories", List.of("1"), this.loader(List.of("1")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.target.invalidate("categories", "1");
+            Assertions.assertEquals(1, this.target.getSize());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            Assertions.assertEquals(0, this.target.getSize());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenExportedCache_whenReadsItsMBean_shouldExposeStatistics() throws Exception {
+        final var aServer = MBeanServerFactory.newMBeanServer();
+        final var anExporter = new AnnotationMBeanExporter();
+        anExporter.setServer(aServer);
+        anExporter.setEnsureUniqueRuntimeObjectNames(false);
+        anExporter.registerManagedResource(this.target);
+
+        this.target.existing("categories", List.of("1"), this.loader(List.of("1")));
+        this.target.existing("categories", List.of("1"), this.loader(List.of("1")));
+
+        final var aName = new ObjectName(ExistenceCache.OBJECT_NAME);
+        Assertions.assertEquals(1L, aServer.getAttribute(aName, "Size"));
+        Assertions.assertEquals(1L, aServer.getAttribute(aName, "HitCount"));
+        Assertions.assertEquals(1L, aServer.getAttribute(aName, "MissCount"));
+        Assertions.assertEquals(0.5, aServer.getAttribute(aName, "HitRate"));
+    }
+
+    @Test
+    void givenSameIdInDifferentNamespaces_whenCallsExisting_shouldCacheThemSeparately() {
+        this.target.existing("categories", List.of("1"), this.loader(List.of("1")));
+
+        final var actualIds = this.target.existing("genres", List.of("1"), this.loader(List.of()));
+
+        Assertions.assertTrue(actualIds.isEmpty());
+        Assertions.assertEquals(1, this.target.getSize());
+    }
+
+    private Function<List<String>, List<String>> loader(final List<String> existing) {
+        return ids -> {
+            this.loads.add(ids);
+            return ids.stream().filter(existing::contains).toList();
+        };
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -206,6 +208,7 @@ class CastMemberMySQLGatewayTest {
             "har,0,10,1,1,1,Kit Harington",
             "MAR,0,10,1,1,1,Martin Scorsese",
     })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void givenAValidTerm_whenCallsFindAll_shouldReturnFiltered(
             final String expectedTerms,
             final int expectedPage,
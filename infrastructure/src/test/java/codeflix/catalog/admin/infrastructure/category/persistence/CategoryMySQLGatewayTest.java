@@ -1,14 +1,26 @@
 package codeflix.catalog.admin.infrastructure.category.persistence;
 
 import codeflix.catalog.admin.MySQLGatewayTest;
+import codeflix.catalog.admin.domain._share.pagination.PageWriter;
 import codeflix.catalog.admin.domain._share.pagination.Pagination;
 import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
 import codeflix.catalog.admin.domain.category.entity.Category;
 import codeflix.catalog.admin.domain.category.value.object.CategoryID;
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import codeflix.catalog.admin.infrastructure.services.SearchService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +35,15 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     void givenAValidCategory_WhenCallsCreate_ThenReturnANewCategory() {
         final String expectedName = "Filmes";
@@ -56,6 +77,41 @@ class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenAValidCategory_WhenCallsCreate_ThenStoreItsIdAsSixteenBytes() {
+        final Category aCategory = Category.newCategory("Filmes", null, true);
+
+        this.categoryGateway.create(aCategory);
+
+        final byte[] actualId = (byte[]) this.entityManager
+                .createNativeQuery("select id from categories")
+                .getSingleResult();
+
+        Assertions.assertEquals(16, actualId.length);
+        Assertions.assertEquals(aCategory.getId().getValue(), HexFormat.of().formatHex(actualId));
+        Assertions.assertTrue(this.categoryGateway.findById(aCategory.getId()).isPresent());
+    }
+
+    @Test
+    void givenValidCategories_WhenCallsCreateAll_ThenPersistEveryOne() {
+        final List<Category> categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, true),
+                Category.newCategory("Documentarios", null, false)
+        );
+
+        this.categoryGateway.createAll(categories);
+
+        Assertions.assertEquals(3, this.categoryRepository.count());
+
+        final List<Category> actualCategories = this.categoryGateway.findAllByIds(
+                categories.stream().map(Category::getId).toList());
+
+        Assertions.assertEquals(List.of("Filmes", "Series", "Documentarios"),
+                actualCategories.stream().map(Category::getName).toList());
+        Assertions.assertFalse(actualCategories.get(2).isActive());
+    }
+
     @Test
     void givenAValidCategory_WhenCallsUpdate_ThenReturnAUpdatedCategory() {
         final String expectedName = "Filmes";
@@ -165,6 +221,60 @@ class CategoryMySQLGatewayTest {
         Assertions.assertTrue(actualCategoryOp.isEmpty());
     }
 
+    @Test
+    void givenPrePersistedCategories_WhenCallsFindAllByIds_ThenReturnThemInRequestOrder() {
+        final Category filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final Category series = Category.newCategory("Series", "Uma categoria assistida", true);
+        final Category documentarios = Category.newCategory("Documentarios", "A categoria menos assistida", true);
+
+        this.categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final List<Category> actualCategories = this.categoryGateway.findAllByIds(List.of(
+                documentarios.getId(), CategoryID.unique(), filmes.getId(), documentarios.getId()
+        ));
+
+        Assertions.assertEquals(
+                List.of(documentarios.getId(), filmes.getId()),
+                actualCategories.stream().map(Category::getId).toList()
+        );
+    }
+
+    @Test
+    void givenAPrePersistedCategory_WhenCallsFindUpdatedAtById_ThenReturnOnlyItsTimestamp() {
+        final Category aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        this.categoryRepository.save(CategoryJpaEntity.from(aCategory));
+
+        Assertions.assertEquals(Optional.of(aCategory.getUpdatedAt()), this.categoryGateway.findUpdatedAtById(aCategory.getId()));
+        Assertions.assertTrue(this.categoryGateway.findUpdatedAtById(CategoryID.unique()).isEmpty());
+    }
+
+    @Test
+    void givenPrePersistedCategories_WhenCallsForEachUpdatedSince_ThenEmitOnlyTheUpdatedOnes() {
+        final Instant since = Instant.parse("2023-01-01T00:00:00Z");
+        final Category filmes = Category.newCategory("Filmes", null, true);
+        final Category series = Category.newCategory("Series", null, true);
+        final Category antiga = Category.with(CategoryID.unique(), "Antiga", null, true,
+                since.minusSeconds(60), since.minusSeconds(60), null);
+
+        this.categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(antiga)
+        ));
+
+        final List<Category> actualCategories = new ArrayList<>();
+        this.categoryGateway.forEachUpdatedSince(since, actualCategories::add);
+
+        assertThat(actualCategories).extracting(Category::getId)
+                .containsExactlyInAnyOrder(filmes.getId(), series.getId());
+        Assertions.assertEquals(3, this.categoryRepository.count());
+    }
+
     @Test
     void givenPrePersistedCategories_WhenCallsFindAll_ThenReturnPaginated() {
         final int expectedPage = 0;
@@ -199,6 +309,46 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    void givenPrePersistedCategories_WhenCallsForEachInPage_ThenWriteTheCountsBeforeTheRows() {
+        final Category filmes = Category.newCategory("Filmes", null, true);
+        final Category series = Category.newCategory("Series", null, true);
+        final Category documentarios = Category.newCategory("Documentarios", null, true);
+
+        this.categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final SearchQuery query = new SearchQuery(0, 2, "", "name", "asc");
+        final List<Object> actualEvents = new ArrayList<>();
+
+        this.categoryGateway.forEachInPage(query, new PageWriter<>() {
+            @Override
+            public void begin(final Pagination<?> aHeader) {
+                actualEvents.add(aHeader);
+            }
+
+            @Override
+            public void accept(final Category aCategory) {
+                actualEvents.add(aCategory.getId());
+            }
+
+            @Override
+            public void end(final String nextCursor) {
+                actualEvents.add("end");
+            }
+        });
+
+        Assertions.assertEquals(List.of(
+                new Pagination<>(0, 2, 2, 3, List.of()),
+                documentarios.getId(),
+                filmes.getId(),
+                "end"
+        ), actualEvents);
+    }
+
     @Test
     void givenEmptyCategoryTable_WhenCallsFindAll_ThenReturnEmptyPage() {
         final int expectedPage = 0;
@@ -270,6 +420,7 @@ class CategoryMySQLGatewayTest {
     }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void givenPrePersistedCategoriesAndFilAsTerms_WhenCallsFindAllAndTermsMatchCategoryName_ThenReturnPaginated() {
         final int expectedPage = 0;
         final int expectedPerPage = 1;
@@ -305,6 +456,7 @@ class CategoryMySQLGatewayTest {
     }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void givenPrePersistedCategoriesAndCategoriaMaisAsTerms_WhenCallsFindAllAndTermsMatchCategoryDescription_ThenReturnPaginated() {
         final int expectedPage = 0;
         final int expectedPerPage = 1;
@@ -339,6 +491,70 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenPrePersistedCategoriesAndRelevanceSort_WhenCallsFindAll_ThenReturnRankedPage() {
+        final int expectedPage = 0;
+        final int expectedPerPage = 2;
+        final int expectedTotalPages = 2;
+        final int expectedTotalElements = 3;
+        final String aTerms = "doc";
+
+        final Category documentarios = Category.newCategory("Documentarios", "Documentarios da natureza", true);
+        final Category docs = Category.newCategory("Doc", "Doc curtas", true);
+        final Category series = Category.newCategory("Series", "Baseadas em documentos", true);
+        final Category filmes = Category.newCategory("Filmes", "Todos assistem", true);
+
+        this.categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(documentarios),
+                CategoryJpaEntity.from(docs),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(filmes)
+        ));
+
+        final SearchQuery query =
+                new SearchQuery(expectedPage, expectedPerPage, aTerms, "relevance", "desc");
+
+        final Pagination<Category> actualResult = this.categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPage, actualResult.currentPage());
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(expectedTotalPages, actualResult.totalPages());
+        Assertions.assertEquals(expectedTotalElements, actualResult.totalElements());
+        Assertions.assertEquals(
+                List.of(docs.getId(), documentarios.getId()),
+                actualResult.items().stream().map(Category::getId).toList()
+        );
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenRolledBackCategory_WhenCallsFindAllWithTerms_ThenNeitherIndexNorReturnIt() {
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            this.categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)));
+            status.setRollbackOnly();
+        });
+
+        final SearchQuery query = new SearchQuery(0, 10, "filmes", "name", "asc");
+
+        final Pagination<Category> actualResult = this.categoryGateway.findAll(query);
+
+        Assertions.assertEquals(0, actualResult.totalElements());
+        Assertions.assertTrue(this.searchService.match(SearchCollection.CATEGORIES, "filmes").isEmpty());
+    }
+
+    @Test
+    void givenTermsWithoutMatches_WhenCallsFindAll_ThenReturnEmptyPage() {
+        this.categoryRepository.save(CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)));
+
+        final SearchQuery query = new SearchQuery(0, 10, "novelas", "name", "asc");
+
+        final Pagination<Category> actualResult = this.categoryGateway.findAll(query);
+
+        Assertions.assertEquals(0, actualResult.totalElements());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+
     @Test
     void givenPrePersistedCategories_WhenCallsExistsByIds_ThenReturnIds() {
         final Category filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
@@ -364,4 +580,17 @@ class CategoryMySQLGatewayTest {
                 .hasSize(2)
                 .containsAll(expectedIds);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenACachedCategory_whenCallsDeleteById_shouldNoLongerReportItAsExisting() {
+        final Category aCategory = Category.newCategory("Filmes", null, true);
+        this.categoryRepository.save(CategoryJpaEntity.from(aCategory));
+
+        Assertions.assertEquals(List.of(aCategory.getId()), this.categoryGateway.existsByIds(List.of(aCategory.getId())));
+
+        this.categoryGateway.deleteById(aCategory.getId());
+
+        Assertions.assertTrue(this.categoryGateway.existsByIds(List.of(aCategory.getId())).isEmpty());
+    }
+}
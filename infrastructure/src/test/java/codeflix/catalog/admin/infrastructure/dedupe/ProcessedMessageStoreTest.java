@@ -0,0 +1,149 @@
+package codeflix.catalog.admin.infrastructure.dedupe;
+
+import codeflix.catalog.admin.MySQLGatewayTest;
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+import codeflix.catalog.admin.infrastructure.dedupe.persistence.ProcessedMessageJpaEntity;
+import codeflix.catalog.admin.infrastructure.dedupe.persistence.ProcessedMessageRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jmx.export.annotation.AnnotationMBeanExporter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProcessedMessageStoreTest {
+
+    @Autowired
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate newTransaction;
+
+    private ProcessedMessageStore target;
+
+    @BeforeEach
+    void setUp() {
+        this.newTransaction = new TransactionTemplate(this.transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.target = new ProcessedMessageStore(
+                this.processedMessageRepository,
+                new TransactionTemplate(this.transactionManager),
+                100,
+                Duration.ofMinutes(1),
+                Duration.ofDays(7),
+                Duration.ofHours(1)
+        );
+    }
+
+    @Test
+    void givenSameParts_whenCallsKeyOf_shouldReturnStableFixedWidthKey() {
+        final var actualKey = ProcessedMessageStore.keyOf("video", "resource", "COMPLETED");
+
+        Assertions.assertEquals(32, actualKey.length());
+        Assertions.assertEquals(actualKey, ProcessedMessageStore.keyOf("video", "resource", "COMPLETED"));
+        Assertions.assertNotEquals(actualKey, ProcessedMessageStore.keyOf("video", "resource", "PROCESSING"));
+    }
+
+    @Test
+    void givenCommittedKeys_whenCallsProcessed_shouldAnswerFromWindowWithoutQuery() {
+        final var aKey = ProcessedMessageStore.keyOf("1");
+        final var anotherKey = ProcessedMessageStore.keyOf("2");
+
+        this.newTransaction.executeWithoutResult(status -> this.target.markProcessed(List.of(aKey)));
+        Assertions.assertEquals(1, this.processedMessageRepository.count());
+
+        // the row is gone, so only the in-memory window can still know about the key
+        this.processedMessageRepository.deleteAll();
+
+        Assertions.assertEquals(Set.of(aKey), this.target.processed(List.of(aKey, anotherKey)));
+        Assertions.assertEquals(1, this.target.getHitCount());
+    }
+
+    @Test
+    void givenRolledBackMark_whenCallsProcessed_shouldNotRememberKeys() {
+        final var aKey = ProcessedMessageStore.keyOf("1");
+
+        this.newTransaction.executeWithoutResult(status -> {
+            this.target.markProcessed(List.of(aKey));
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertTrue(this.target.processed(List.of(aKey)).isEmpty());
+    }
+
+    @Test
+    void givenPersistedKey_whenCallsProcessed_shouldLoadItIntoWindow() {
+        final var aKey = ProcessedMessageStore.keyOf("1");
+        this.processedMessageRepository.saveAndFlush(ProcessedMessageJpaEntity.with(aKey));
+
+        Assertions.assertEquals(Set.of(aKey), this.target.processed(List.of(aKey)));
+
+        this.processedMessageRepository.deleteAll();
+
+        Assertions.assertEquals(Set.of(aKey), this.target.processed(List.of(aKey)));
+        Assertions.assertEquals(1, this.target.getHitCount());
+    }
+
+    @Test
+    void givenKeyMarkedByAnotherConsumer_whenCallsMarkProcessed_shouldKeepTheExistingRow() {
+        final var aKey = ProcessedMessageStore.keyOf("1");
+        final var aProcessedAt = InstantUtils.now().minus(Duration.ofMinutes(5));
+        this.newTransaction.executeWithoutResult(status ->
+                this.processedMessageRepository.saveAndFlush(ProcessedMessageJpaEntity.with(aKey, aProcessedAt)));
+
+        Assertions.assertDoesNotThrow(() -> this.newTransaction.executeWithoutResult(status ->
+                this.target.markProcessed(List.of(aKey, ProcessedMessageStore.keyOf("2")))));
+
+        Assertions.assertEquals(2, this.processedMessageRepository.count());
+        Assertions.assertEquals(Set.of(aKey), this.target.processed(List.of(aKey)));
+    }
+
+    @Test
+    void givenExportedStore_whenReadsItsMBean_shouldExposeWindowStatistics() throws Exception {
+        final var aServer = MBeanServerFactory.newMBeanServer();
+        final var anExporter = new AnnotationMBeanExporter();
+        anExporter.setServer(aServer);
+        anExporter.setEnsureUniqueRuntimeObjectNames(false);
+        anExporter.registerManagedResource(this.target);
+
+        final var aKey = ProcessedMessageStore.keyOf("1");
+        this.newTransaction.executeWithoutResult(status -> this.target.markProcessed(List.of(aKey)));
+        this.target.processed(List.of(aKey, ProcessedMessageStore.keyOf("2")));
+
+        final var aName = new ObjectName(ProcessedMessageStore.OBJECT_NAME);
+        Assertions.assertEquals(1L, aServer.getAttribute(aName, "WindowSize"));
+        Assertions.assertEquals(1L, aServer.getAttribute(aName, "HitCount"));
+        Assertions.assertEquals(1L, aServer.getAttribute(aName, "MissCount"));
+        Assertions.assertEquals(0.5, aServer.getAttribute(aName, "HitRate"));
+    }
+
+    @Test
+    void givenExpiredKeys_whenCallsPurge_shouldDeleteOnlyThem() {
+        final var aKey = ProcessedMessageStore.keyOf("1");
+        final var anExpiredKey = ProcessedMessageStore.keyOf("2");
+        this.processedMessageRepository.saveAllAndFlush(List.of(
+                ProcessedMessageJpaEntity.with(aKey),
+                ProcessedMessageJpaEntity.with(anExpiredKey, InstantUtils.now().minus(Duration.ofDays(8)))
+        ));
+
+        Assertions.assertEquals(1, this.target.purge());
+        Assertions.assertEquals(List.of(aKey), this.processedMessageRepository.findAll().stream()
+                .map(ProcessedMessageJpaEntity::getId)
+                .toList());
+    }
+}
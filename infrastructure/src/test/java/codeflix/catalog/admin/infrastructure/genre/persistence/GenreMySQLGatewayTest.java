@@ -7,14 +7,19 @@ import codeflix.catalog.admin.domain.category.value.object.CategoryID;
 import codeflix.catalog.admin.domain.genre.entity.Genre;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
 import codeflix.catalog.admin.infrastructure.category.persistence.CategoryMySQLGateway;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @MySQLGatewayTest
 class GenreMySQLGatewayTest {
@@ -28,6 +33,9 @@ class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void testDependenciesInjected() {
         Assertions.assertNotNull(this.categoryGateway);
@@ -78,6 +86,47 @@ class GenreMySQLGatewayTest {
         Assertions.assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    void givenGenresWithCategories_whenCallsCreateAll_shouldInsertTheJoinRowsInJdbcBatches() {
+        // given
+        final var filmes = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = this.categoryGateway.create(Category.newCategory("Series", null, true));
+        final var expectedCategories = List.of(filmes.getId(), series.getId());
+        final var expectedGenres = 10;
+
+        final var genres = IntStream.range(0, expectedGenres)
+                .mapToObj(i -> {
+                    final var aGenre = Genre.newGenre("Genre %d".formatted(i), true);
+                    aGenre.addCategories(expectedCategories);
+                    return aGenre;
+                })
+                .toList();
+
+        this.genreRepository.flush();
+
+        final var statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        this.genreGateway.createAll(genres);
+
+        // then
+        statistics.setStatisticsEnabled(false);
+
+        Assertions.assertEquals(expectedGenres * 3L, statistics.getEntityInsertCount());
+        // one insert statement per table, every row of it sent in the same batch
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+
+        Assertions.assertEquals(expectedGenres, this.genreRepository.count());
+
+        final var actualGenres = this.genreGateway.findAllByIds(genres.stream().map(Genre::getId).toList());
+
+        Assertions.assertEquals(expectedGenres, actualGenres.size());
+        actualGenres.forEach(it ->
+                Assertions.assertEquals(this.sorted(expectedCategories), this.sorted(it.getCategories())));
+    }
+
     @Test
     void givenAValidGenreWithoutCategories_whenCallsCreateGenre_shouldPersistGenre() {
         // given
@@ -222,6 +271,52 @@ class GenreMySQLGatewayTest {
         Assertions.assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    void givenAValidGenreWithCategories_whenCallsUpdate_shouldOnlyTouchChangedCategories() {
+        // given
+        final var filmes =
+                this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var series =
+                this.categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var documentarios =
+                this.categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId(), series.getId()));
+
+        this.genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        final var expectedName = "Aventura";
+        final var expectedCategories = List.of(series.getId(), documentarios.getId());
+
+        final var statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualGenre = this.genreGateway.update(
+                Genre.with(aGenre)
+                        .update(expectedName, true, expectedCategories)
+        );
+        this.genreRepository.flush();
+
+        // then
+        statistics.setStatisticsEnabled(false);
+
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+
+        Assertions.assertEquals(expectedName, actualGenre.getName());
+        Assertions.assertIterableEquals(this.sorted(expectedCategories), this.sorted(actualGenre.getCategories()));
+
+        final var persistedGenre = this.genreRepository.findById(aGenre.getId().getValue()).get();
+
+        Assertions.assertIterableEquals(this.sorted(expectedCategories), this.sorted(persistedGenre.getCategoryIDs()));
+    }
+
     @Test
     void givenAValidGenreInactive_whenCallsUpdateGenreActivating_shouldPersistGenre() {
         // given
@@ -422,6 +517,7 @@ class GenreMySQLGatewayTest {
             "cien,0,10,1,1,1,Ficção científica",
             "terr,0,10,1,1,1,Terror",
     })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void givenAValidTerm_whenCallsFindAll_shouldReturnFiltered(
             final String expectedTerms,
             final int expectedPage,
@@ -0,0 +1,152 @@
+package codeflix.catalog.admin.infrastructure.outbox;
+
+import codeflix.catalog.admin.MySQLGatewayTest;
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RabbitOperations operations;
+
+    private OutboxRelay target;
+
+    @BeforeEach
+    void setUp() {
+        this.operations = Mockito.mock(RabbitOperations.class);
+        given(this.operations.invoke(any())).willAnswer(it ->
+                it.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(this.operations));
+
+        this.target = new OutboxRelay(
+                this.outboxEventRepository,
+                this.operations,
+                new TransactionTemplate(this.transactionManager),
+                2,
+                Duration.ofMillis(100),
+                Duration.ofSeconds(1),
+                Duration.ofMinutes(1)
+        );
+    }
+
+    @Test
+    void givenPendingEvents_whenCallsRelay_shouldPublishOneConfirmedBatchInOrder() {
+        this.outboxEventRepository.saveAll(List.of(
+                OutboxEventJpaEntity.with("video.events", "video.created", "1"),
+                OutboxEventJpaEntity.with("video.events", "video.created", "2"),
+                OutboxEventJpaEntity.with("video.events", "video.created", "3")
+        ));
+
+        final var actualRelayed = this.target.relay();
+
+        Assertions.assertEquals(2, actualRelayed);
+        Assertions.assertEquals(1, this.outboxEventRepository.count());
+        Assertions.assertEquals("3", this.outboxEventRepository.findAll().get(0).getPayload());
+
+        final InOrder inOrder = Mockito.inOrder(this.operations);
+        inOrder.verify(this.operations).convertAndSend("video.events", "video.created", "1");
+        inOrder.verify(this.operations).convertAndSend("video.events", "video.created", "2");
+        inOrder.verify(this.operations).waitForConfirmsOrDie(1000);
+    }
+
+    @Test
+    void givenPendingEvents_whenCallsDrain_shouldRelayUntilOutboxIsEmpty() {
+        this.outboxEventRepository.saveAll(List.of(
+                OutboxEventJpaEntity.with("video.events", "video.created", "1"),
+                OutboxEventJpaEntity.with("video.events", "video.created", "2"),
+                OutboxEventJpaEntity.with("video.events", "video.created", "3")
+        ));
+
+        this.target.drain();
+
+        Assertions.assertEquals(0, this.outboxEventRepository.count());
+        Mockito.verify(this.operations, Mockito.times(2)).waitForConfirmsOrDie(anyLong());
+    }
+
+    @Test
+    void givenUnconfirmedBatch_whenCallsRelay_shouldKeepEventsInTheOutbox() {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.with("video.events", "video.created", "1"));
+        willThrow(new AmqpException("nack")).given(this.operations).waitForConfirmsOrDie(anyLong());
+
+        Assertions.assertThrows(AmqpException.class, () -> this.target.relay());
+        Assertions.assertEquals(1, this.outboxEventRepository.count());
+    }
+
+    @Test
+    void givenPendingEvents_whenCallsRelay_shouldPublishOutsideOfAnyTransaction() {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.with("video.events", "video.created", "1"));
+
+        final var transactionActiveOnPublish = new AtomicBoolean(true);
+        willAnswer(it -> {
+            transactionActiveOnPublish.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).given(this.operations).waitForConfirmsOrDie(anyLong());
+
+        this.target.relay();
+
+        Assertions.assertFalse(transactionActiveOnPublish.get());
+        Assertions.assertEquals(0, this.outboxEventRepository.count());
+    }
+
+    @Test
+    void givenEventsClaimedByAnotherRelay_whenCallsRelay_shouldSkipThemUntilTheClaimExpires() {
+        final var claimed = OutboxEventJpaEntity.with("video.events", "video.created", "1");
+        claimed.setClaimedUntil(InstantUtils.now().plus(Duration.ofMinutes(1)));
+        final var expired = OutboxEventJpaEntity.with("video.events", "video.created", "2");
+        expired.setClaimedUntil(InstantUtils.now().minus(Duration.ofMinutes(1)));
+        this.outboxEventRepository.saveAll(List.of(claimed, expired));
+
+        final var actualRelayed = this.target.relay();
+
+        Assertions.assertEquals(1, actualRelayed);
+        Mockito.verify(this.operations).convertAndSend("video.events", "video.created", "2");
+        Mockito.verify(this.operations, Mockito.never()).convertAndSend("video.events", "video.created", "1");
+        Assertions.assertEquals("1", this.outboxEventRepository.findAll().get(0).getPayload());
+    }
+
+    @Test
+    void givenUnconfirmedBatch_whenCallsRelay_shouldReleaseTheClaimForTheNextAttempt() {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.with("video.events", "video.created", "1"));
+        willThrow(new AmqpException("nack")).given(this.operations).waitForConfirmsOrDie(anyLong());
+
+        Assertions.assertThrows(AmqpException.class, () -> this.target.relay());
+
+        Assertions.assertNull(this.outboxEventRepository.findAll().get(0).getClaimedUntil());
+    }
+
+    @Test
+    void givenEmptyOutbox_whenCallsRelay_shouldNotPublish() {
+        Assertions.assertEquals(0, this.target.relay());
+        Mockito.verifyNoInteractions(this.operations);
+    }
+}
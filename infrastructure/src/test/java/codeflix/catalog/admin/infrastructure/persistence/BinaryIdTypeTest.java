@@ -0,0 +1,126 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import codeflix.catalog.admin.MySQLGatewayTest;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.pagination.SearchQuery;
+import codeflix.catalog.admin.domain.category.entity.Category;
+import codeflix.catalog.admin.domain.video.Video;
+import codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import codeflix.catalog.admin.infrastructure.category.persistence.CategoryMySQLGateway;
+import codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import codeflix.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import codeflix.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.Year;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BinaryIdTypeTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void givenAVideoWithCategories_whenPersisted_shouldStoreTheJoinRowsAsRawBytes() {
+        // given
+        final var lessons = Fixture.Categories.lessons();
+        this.categoryRepository.saveAndFlush(CategoryJpaEntity.from(lessons));
+
+        final var aVideo = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(lessons.getId()),
+                Set.of(),
+                Set.of()
+        );
+
+        // when
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+
+        // then
+        final var actualRow = (Object[]) this.entityManager
+                .createNativeQuery("select video_id, category_id from videos_categories")
+                .getSingleResult();
+
+        Assertions.assertArrayEquals(HexFormat.of().parseHex(aVideo.getId().getValue()), (byte[]) actualRow[0]);
+        Assertions.assertArrayEquals(HexFormat.of().parseHex(lessons.getId().getValue()), (byte[]) actualRow[1]);
+
+        final var actualCategoryIds = this.entityManager
+                .createQuery("select c.id.categoryId from VideoCategory c where c.id.videoId = :videoId", String.class)
+                .setParameter("videoId", aVideo.getId().getValue())
+                .getResultList();
+
+        Assertions.assertEquals(List.of(lessons.getId().getValue()), actualCategoryIds);
+    }
+
+    @Test
+    void givenSearchTerms_whenCallsFindAll_shouldBindTheMatchedHexIdsBackToTheirKeys() {
+        // given
+        final var filmes = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        this.categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        // when
+        final var actualResult = this.categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(1, actualResult.totalElements());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    void givenAMalformedId_whenPersisted_shouldRejectIt() {
+        // given
+        final var anEntity = CategoryJpaEntity.from(Category.newCategory("Filmes", null, true));
+        anEntity.setId("123");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                RuntimeException.class,
+                () -> this.categoryRepository.saveAndFlush(anEntity)
+        );
+
+        // then
+        Assertions.assertEquals(
+                "'id' should be 32 hex characters but was '123'",
+                NestedExceptionUtils.getMostSpecificCause(actualException).getMessage()
+        );
+        Assertions.assertEquals(0, this.categoryRepository.count());
+    }
+
+    @Test
+    void givenAMalformedId_whenLookedUp_shouldFindNothing() {
+        // given
+        this.categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)));
+
+        // when
+        final var actualCategory = this.categoryRepository.findById("123");
+
+        // then
+        Assertions.assertTrue(actualCategory.isEmpty());
+    }
+}
@@ -0,0 +1,40 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicReference;
+
+class CursorRoutingDataSourceTest {
+
+    private final DataSource defaults = new DriverManagerDataSource("jdbc:h2:mem:routing_default");
+    private final DataSource cursor = new DriverManagerDataSource("jdbc:h2:mem:routing_cursor");
+    private final CursorRoutingDataSource target = new CursorRoutingDataSource(this.defaults, this.cursor);
+
+    @Test
+    void givenAnUnmarkedRead_whenGetsConnection_shouldRouteToTheDefaultPool() throws Exception {
+        Assertions.assertEquals("jdbc:h2:mem:routing_default", this.connectedUrl());
+        Assertions.assertEquals(0, this.target.cursorConnections());
+    }
+
+    @Test
+    void givenACursorRead_whenGetsConnection_shouldRouteToTheCursorPool() throws Exception {
+        final var actualUrl = new AtomicReference<String>();
+
+        CursorReads.run(() -> actualUrl.set(this.connectedUrl()));
+
+        Assertions.assertEquals("jdbc:h2:mem:routing_cursor", actualUrl.get());
+        Assertions.assertEquals(1, this.target.cursorConnections());
+        Assertions.assertFalse(CursorReads.isActive());
+    }
+
+    private String connectedUrl() {
+        try (final var connection = this.target.getConnection()) {
+            return connection.getMetaData().getURL();
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing_primary");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing_replica");
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+    private final ReadReplicaRoutingDataSource target =
+            new ReadReplicaRoutingDataSource(this.primary, this.replica, this.replicaAvailable::get);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void givenReadWriteTransaction_whenGetsConnection_shouldRouteToPrimary() throws Exception {
+        Assertions.assertEquals("jdbc:h2:mem:routing_primary", this.connectedUrl());
+        Assertions.assertEquals(1, this.target.primaryConnections());
+        Assertions.assertEquals(0, this.target.replicaConnections());
+    }
+
+    @Test
+    void givenReadOnlyTransaction_whenGetsConnection_shouldRouteToReplica() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Assertions.assertEquals("jdbc:h2:mem:routing_replica", this.connectedUrl());
+        Assertions.assertEquals(1, this.target.replicaConnections());
+    }
+
+    @Test
+    void givenLaggingReplica_whenGetsReadOnlyConnection_shouldFallBackToPrimary() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        this.replicaAvailable.set(false);
+
+        Assertions.assertEquals("jdbc:h2:mem:routing_primary", this.connectedUrl());
+        Assertions.assertEquals(1, this.target.fallbacks());
+        Assertions.assertEquals(0, this.target.replicaConnections());
+    }
+
+    @Test
+    void givenReplicaRejectingTheStatusQuery_whenCallsCheck_shouldMarkItUnavailable() {
+        final var aMonitor = new ReplicaLagMonitor(this.replica, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        aMonitor.check();
+
+        Assertions.assertFalse(aMonitor.isAvailable());
+    }
+
+    private String connectedUrl() throws Exception {
+        try (final var connection = this.target.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
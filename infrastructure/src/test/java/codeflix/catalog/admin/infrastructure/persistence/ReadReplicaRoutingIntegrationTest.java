@@ -0,0 +1,164 @@
+package codeflix.catalog.admin.infrastructure.persistence;
+
+import codeflix.catalog.admin.IntegrationTest;
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain.category.entity.Category;
+import codeflix.catalog.admin.domain.category.gateway.CategoryGateway;
+import codeflix.catalog.admin.domain.video.Video;
+import codeflix.catalog.admin.domain.video.VideoGateway;
+import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.when;
+
+// every pool points at the same in-memory database, the routing counters tell which one served each transaction
+@IntegrationTest
+@TestPropertySource(properties = {
+        "datasource.replica.url=jdbc:h2:mem:adm_videos_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "datasource.replica.username=root",
+        "datasource.replica.password=123456"
+})
+class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private ReadReplicaRoutingDataSource routing;
+
+    @Autowired
+    private CursorRoutingDataSource cursorRouting;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @MockBean
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        when(this.replicaLagMonitor.isAvailable()).thenReturn(true);
+    }
+
+    @Test
+    void givenAReadOnlyTransaction_whenCallsFindById_shouldReadFromTheReplica() {
+        // given
+        final var aVideo = this.videoGateway.create(this.newVideo());
+        final var replicaConnections = this.routing.replicaConnections();
+
+        // when
+        final var actualVideo = this.videoGateway.findById(aVideo.getId());
+
+        // then
+        Assertions.assertTrue(actualVideo.isPresent());
+        Assertions.assertEquals(replicaConnections + 1, this.routing.replicaConnections());
+    }
+
+    @Test
+    void givenAReadBeforeAWrite_whenCallsFindByIdForUpdate_shouldReadFromThePrimary() {
+        // given
+        final var aVideo = this.videoGateway.create(this.newVideo());
+        final var primaryConnections = this.routing.primaryConnections();
+        final var replicaConnections = this.routing.replicaConnections();
+
+        // when
+        final var actualVideo = this.videoGateway.findByIdForUpdate(aVideo.getId());
+
+        // then
+        Assertions.assertTrue(actualVideo.isPresent());
+        Assertions.assertEquals(primaryConnections + 1, this.routing.primaryConnections());
+        Assertions.assertEquals(replicaConnections, this.routing.replicaConnections());
+    }
+
+    @Test
+    void givenASearch_whenCallsFindAll_shouldReadFromTheReplicaInOneTransaction() {
+        // given
+        this.videoGateway.create(this.newVideo());
+        final var primaryConnections = this.routing.primaryConnections();
+        final var replicaConnections = this.routing.replicaConnections();
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of());
+
+        // when
+        final var actualPage = this.videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertFalse(actualPage.items().isEmpty());
+        Assertions.assertEquals(replicaConnections + 1, this.routing.replicaConnections());
+        Assertions.assertEquals(primaryConnections, this.routing.primaryConnections());
+    }
+
+    @Test
+    void givenAReadBeforeAWrite_whenCallsCategoryFindByIdForUpdate_shouldReadFromThePrimary() {
+        // given
+        final var aCategory = this.categoryGateway.create(Category.newCategory(Fixture.name(), "Any description", true));
+        final var primaryConnections = this.routing.primaryConnections();
+        final var replicaConnections = this.routing.replicaConnections();
+
+        // when
+        final var actualCategory = this.categoryGateway.findByIdForUpdate(aCategory.getId());
+
+        // then
+        Assertions.assertTrue(actualCategory.isPresent());
+        Assertions.assertEquals(primaryConnections + 1, this.routing.primaryConnections());
+        Assertions.assertEquals(replicaConnections, this.routing.replicaConnections());
+    }
+
+    @Test
+    void givenIdsValidatedForAWrite_whenCallsCategoryExistsByIds_shouldReadFromThePrimary() {
+        // given
+        final var aCategory = this.categoryGateway.create(Category.newCategory(Fixture.name(), "Any description", true));
+        final var primaryConnections = this.routing.primaryConnections();
+        final var replicaConnections = this.routing.replicaConnections();
+
+        // when
+        final var actualIds = this.categoryGateway.existsByIds(List.of(aCategory.getId()));
+
+        // then
+        Assertions.assertEquals(List.of(aCategory.getId()), actualIds);
+        Assertions.assertEquals(primaryConnections + 1, this.routing.primaryConnections());
+        Assertions.assertEquals(replicaConnections, this.routing.replicaConnections());
+    }
+
+    @Test
+    void givenAnExport_whenCallsForEachUpdatedSince_shouldReadFromTheCursorPools() {
+        // given
+        final var aVideo = this.videoGateway.create(this.newVideo());
+        final var cursorConnections = this.cursorRouting.cursorConnections();
+        final var replicaConnections = this.routing.replicaConnections();
+        final var actualIds = new ArrayList<VideoID>();
+
+        // when
+        this.videoGateway.forEachUpdatedSince(aVideo.getCreatedAt().minusSeconds(1), it -> actualIds.add(it.getId()));
+
+        // then
+        Assertions.assertTrue(actualIds.contains(aVideo.getId()));
+        Assertions.assertEquals(cursorConnections + 1, this.cursorRouting.cursorConnections());
+        Assertions.assertEquals(replicaConnections, this.routing.replicaConnections());
+    }
+
+    private Video newVideo() {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package codeflix.catalog.admin.infrastructure.services;
+
+import codeflix.catalog.admin.MySQLGatewayTest;
+import codeflix.catalog.admin.domain.castmember.entity.CastMember;
+import codeflix.catalog.admin.domain.castmember.enums.CastMemberType;
+import codeflix.catalog.admin.domain.category.entity.Category;
+import codeflix.catalog.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import codeflix.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import codeflix.catalog.admin.infrastructure.services.local.InMemorySearchService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@MySQLGatewayTest
+class SearchIndexInitializerTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenPersistedRowsAndAnEmptyIndex_whenCallsRebuild_shouldIndexEveryRow() {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var aMember = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+
+        this.categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        this.castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(aMember));
+
+        final var searchService = new InMemorySearchService();
+        final var target = new SearchIndexInitializer(searchService, this.entityManager, this.transactionManager);
+
+        // when
+        target.rebuild();
+
+        // then
+        Assertions.assertEquals(List.of(aCategory.getId().getValue()), searchService.match(SearchCollection.CATEGORIES, "assistida").ids());
+        Assertions.assertEquals(List.of(aMember.getId().getValue()), searchService.match(SearchCollection.CAST_MEMBERS, "vin").ids());
+    }
+}
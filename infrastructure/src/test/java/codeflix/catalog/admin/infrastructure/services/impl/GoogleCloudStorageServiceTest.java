@@ -3,7 +3,10 @@ package codeflix.catalog.admin.infrastructure.services.impl;
 import codeflix.catalog.admin.domain.Fixture;
 import codeflix.catalog.admin.domain.resource.Resource;
 import codeflix.catalog.admin.domain.video.VideoMediaType;
+import codeflix.catalog.admin.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -14,7 +17,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -52,6 +60,46 @@ class GoogleCloudStorageServiceTest {
         Assertions.assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
     }
 
+    @Test
+    void givenStreamedResource_whenCallsStore_shouldWriteThroughChannel() throws Exception {
+        final var expectedContent = "Content".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedName = "video.mp4";
+        final var opened = new AtomicInteger();
+        final var aResource = Resource.with(() -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(expectedContent);
+        }, expectedContent.length, "video/mp4", expectedName);
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.isOpen()).thenReturn(true);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(it -> {
+            final ByteBuffer buffer = it.getArgument(0);
+            final int size = buffer.remaining();
+            while (buffer.hasRemaining()) written.write(buffer.get());
+            return size;
+        });
+        doReturn(writer).when(this.storage).writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class));
+
+        final var actualChecksum = this.target.store(expectedName, aResource);
+
+        final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(this.storage).writer(capturer.capture(), eq(Storage.BlobWriteOption.crc32cMatch()));
+        verify(this.storage, never()).create(any(BlobInfo.class), any(byte[].class));
+        verify(writer).close();
+
+        final var actualBlob = capturer.getValue();
+        Assertions.assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
+        Assertions.assertEquals(expectedName, actualBlob.getBlobId().getName());
+        Assertions.assertEquals(aResource.contentType(), actualBlob.getContentType());
+        Assertions.assertEquals(expectedChecksum, actualBlob.getCrc32cToHexString());
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertEquals(2, opened.get());
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+    }
+
     @Test
     void givenResource_whenCallsGet_shouldRetrieveIt() {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
@@ -64,8 +112,37 @@ class GoogleCloudStorageServiceTest {
 
         Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
         Assertions.assertEquals(expectedResource.name(), actualContent.name());
-        Assertions.assertEquals(expectedResource.content(), actualContent.content());
+        Assertions.assertEquals(expectedResource.size(), actualContent.size());
         Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+        Assertions.assertTrue(actualContent.isStreamed());
+    }
+
+    @Test
+    void givenResource_whenCallsTransferTo_shouldSeekOnBlobReader() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedName = expectedResource.name();
+        final var expectedContent = "ten".getBytes();
+
+        final Blob blob = this.mockBlob(expectedResource);
+        final var reader = Mockito.mock(ReadChannel.class);
+        when(reader.read(any(ByteBuffer.class)))
+                .thenAnswer(it -> {
+                    it.<ByteBuffer>getArgument(0).put(expectedContent);
+                    return expectedContent.length;
+                })
+                .thenReturn(-1);
+        doReturn(reader).when(blob).reader();
+        doReturn(blob).when(this.storage).get(this.bucket, expectedName);
+
+        final var written = new ByteArrayOutputStream();
+        final var actualCount = this.target.get(expectedName).get()
+                .transferTo(3, 3, Channels.newChannel(written));
+
+        verify(reader).seek(3);
+        verify(reader).limit(6);
+        verify(reader).close();
+        Assertions.assertEquals(expectedContent.length, actualCount);
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
     }
 
     @Test
@@ -124,6 +201,7 @@ class GoogleCloudStorageServiceTest {
         when(blob.getBlobId()).thenReturn(BlobId.of(this.bucket, resource.name()));
         when(blob.getCrc32cToHexString()).thenReturn(resource.checksum());
         when(blob.getContent()).thenReturn(resource.content());
+        when(blob.getSize()).thenReturn(resource.size());
         when(blob.getContentType()).thenReturn(resource.contentType());
         when(blob.getName()).thenReturn(resource.name());
         return blob;
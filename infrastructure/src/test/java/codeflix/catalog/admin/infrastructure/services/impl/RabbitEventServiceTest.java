@@ -1,60 +0,0 @@
-package codeflix.catalog.admin.infrastructure.services.impl;
-
-import codeflix.catalog.admin.AmqpTest;
-import codeflix.catalog.admin.domain.video.VideoMediaCreated;
-import codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedQueue;
-import codeflix.catalog.admin.infrastructure.configuration.json.Json;
-import codeflix.catalog.admin.infrastructure.services.EventService;
-import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.Test;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.stereotype.Component;
-
-import java.util.concurrent.TimeUnit;
-
-@AmqpTest
-class RabbitEventServiceTest {
-
-    private static final String LISTENER = "video.created";
-
-    @Autowired
-    @VideoCreatedQueue
-    private EventService publisher;
-
-    @Autowired
-    private RabbitListenerTestHarness harness;
-
-    @Test
-    void shouldSendMessage() throws InterruptedException {
-        // given
-        final var notification = VideoMediaCreated.with("resource", "filepath");
-
-        final var expectedMessage = Json.writeValueAsString(notification);
-
-        // when
-        this.publisher.send(notification);
-
-        // then
-        final var invocationData =
-                this.harness.getNextInvocationDataFor(LISTENER, 1, TimeUnit.SECONDS);
-
-        Assertions.assertNotNull(invocationData);
-        Assertions.assertNotNull(invocationData.getArguments());
-
-        final var actualMessage = (String) invocationData.getArguments()[0];
-
-        Assertions.assertEquals(expectedMessage, actualMessage);
-    }
-
-    @Component
-    static class VideoCreatedNewsListener {
-
-        @RabbitListener(id = LISTENER, queues = "${amqp.queues.video-created.routing-key}")
-        void onVideoCreated(@Payload final String message) {
-            System.out.println(message);
-        }
-    }
-}
\ No newline at end of file
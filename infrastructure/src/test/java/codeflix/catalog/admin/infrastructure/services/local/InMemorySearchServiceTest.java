@@ -0,0 +1,62 @@
+package codeflix.catalog.admin.infrastructure.services.local;
+
+import codeflix.catalog.admin.infrastructure.services.SearchCollection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+class InMemorySearchServiceTest {
+    private final InMemorySearchService target = new InMemorySearchService();
+
+    @Test
+    void givenIndexedDocuments_whenCallsSearchWithPrefix_shouldReturnMatches() {
+        this.target.index(SearchCollection.GENRES, "1", List.of("Ação"));
+        this.target.index(SearchCollection.GENRES, "2", List.of("Comédia romântica"));
+        this.target.index(SearchCollection.GENRES, "3", List.of("Drama"));
+
+        Assertions.assertEquals(List.of("1"), this.target.match(SearchCollection.GENRES, "aç").ids());
+        Assertions.assertEquals(List.of("1"), this.target.match(SearchCollection.GENRES, "ACAO").ids());
+        Assertions.assertEquals(List.of("2"), this.target.match(SearchCollection.GENRES, "rom").ids());
+        Assertions.assertTrue(this.target.match(SearchCollection.GENRES, "terror").ids().isEmpty());
+    }
+
+    @Test
+    void givenManyTerms_whenCallsSearch_shouldRequireAllOfThem() {
+        this.target.index(SearchCollection.CATEGORIES, "1", Arrays.asList("Filmes", "A categoria mais assistida"));
+        this.target.index(SearchCollection.CATEGORIES, "2", Arrays.asList("Series", null));
+        this.target.index(SearchCollection.CATEGORIES, "3", Arrays.asList("Documentarios", "A categoria menos vista"));
+
+        Assertions.assertEquals(List.of("1"), this.target.match(SearchCollection.CATEGORIES, "categoria MAIS").ids());
+    }
+
+    @Test
+    void givenExactAndPrefixMatches_whenCallsSearch_shouldRankExactFirst() {
+        this.target.index(SearchCollection.VIDEOS, "1", List.of("Introdução a microsserviços"));
+        this.target.index(SearchCollection.VIDEOS, "2", List.of("Micro frontends"));
+        this.target.index(SearchCollection.VIDEOS, "3", List.of("Micro micro ajustes"));
+
+        Assertions.assertEquals(List.of("3", "2", "1"), this.target.match(SearchCollection.VIDEOS, "micro").ids());
+    }
+
+    @Test
+    void givenReindexedOrRemovedDocument_whenCallsSearch_shouldReflectLatestState() {
+        this.target.index(SearchCollection.CAST_MEMBERS, "1", List.of("Vin Diesel"));
+        this.target.index(SearchCollection.CAST_MEMBERS, "2", List.of("Jason Momoa"));
+
+        this.target.index(SearchCollection.CAST_MEMBERS, "1", List.of("Quentin Tarantino"));
+        this.target.remove(SearchCollection.CAST_MEMBERS, "2");
+
+        Assertions.assertTrue(this.target.match(SearchCollection.CAST_MEMBERS, "vin").ids().isEmpty());
+        Assertions.assertTrue(this.target.match(SearchCollection.CAST_MEMBERS, "jas").ids().isEmpty());
+        Assertions.assertEquals(List.of("1"), this.target.match(SearchCollection.CAST_MEMBERS, "taran").ids());
+    }
+
+    @Test
+    void givenSameIdInAnotherCollection_whenCallsSearch_shouldKeepCollectionsApart() {
+        this.target.index(SearchCollection.GENRES, "1", List.of("Drama"));
+
+        Assertions.assertTrue(this.target.match(SearchCollection.CATEGORIES, "drama").ids().isEmpty());
+    }
+}
@@ -1,11 +1,14 @@
 package codeflix.catalog.admin.infrastructure.services.local;
 
 import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain.resource.Resource;
 import codeflix.catalog.admin.domain.video.VideoMediaType;
+import codeflix.catalog.admin.infrastructure.utils.HashingUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 
 class InMemoryStorageServiceTest {
@@ -28,6 +31,25 @@ class InMemoryStorageServiceTest {
         Assertions.assertEquals(expectedResource, actualContent);
     }
 
+    @Test
+    void givenStreamedResource_whenCallsStore_shouldStoreContentAndReturnChecksum() {
+        final var expectedContent = "Content".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "item";
+        final var aResource =
+                Resource.with(() -> new ByteArrayInputStream(expectedContent), expectedContent.length, "video/mp4", "video.mp4");
+
+        final var actualChecksum = this.target.store(expectedId, aResource);
+
+        final var actualContent = this.target.storage().get(expectedId);
+
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertEquals(expectedChecksum, actualContent.checksum());
+        Assertions.assertArrayEquals(expectedContent, actualContent.content());
+        Assertions.assertEquals(aResource.contentType(), actualContent.contentType());
+        Assertions.assertEquals(aResource.name(), actualContent.name());
+    }
+
     @Test
     void givenResource_whenCallsGet_shouldRetrieveIt() {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
@@ -0,0 +1,160 @@
+package codeflix.catalog.admin.infrastructure.services.local;
+
+import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.exceptions.InternalErrorException;
+import codeflix.catalog.admin.domain.resource.Resource;
+import codeflix.catalog.admin.domain.video.VideoMediaType;
+import codeflix.catalog.admin.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class LocalFileStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new LocalFileStorageService(this.root);
+    }
+
+    @Test
+    void givenValidResource_whenCallsStore_shouldWriteItUnderItsLocation() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedName = "videoId-123/type-THUMBNAIL";
+
+        final var actualChecksum = this.target.store(expectedName, expectedResource);
+
+        Assertions.assertEquals(expectedResource.checksum(), actualChecksum);
+        Assertions.assertArrayEquals(expectedResource.content(), Files.readAllBytes(this.root.resolve(expectedName)));
+        try (final var files = Files.list(this.root.resolve("videoId-123"))) {
+            Assertions.assertTrue(files.noneMatch(it -> it.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void givenStreamedResource_whenCallsStore_shouldReturnComputedChecksum() {
+        final var expectedContent = "Content".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var aResource =
+                Resource.with(() -> new ByteArrayInputStream(expectedContent), expectedContent.length, "video/mp4", "video.mp4");
+
+        final var actualChecksum = this.target.store("videoId-123/type-VIDEO", aResource);
+
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertEquals(expectedChecksum, this.target.get("videoId-123/type-VIDEO").get().checksum());
+    }
+
+    @Test
+    void givenFailingResource_whenCallsStore_shouldNotLeaveTempFiles() throws Exception {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var aResource = Resource.with(() -> new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        }, 10, "video/mp4", "video.mp4");
+
+        Assertions.assertThrows(InternalErrorException.class, () -> this.target.store(expectedName, aResource));
+
+        try (final var files = Files.list(this.root.resolve("videoId-123"))) {
+            Assertions.assertEquals(0, files.count());
+        }
+        Assertions.assertTrue(this.target.get(expectedName).isEmpty());
+    }
+
+    @Test
+    void givenContentMovedInBeforeItsMetadata_whenCallsGet_shouldReturnEmpty() throws Exception {
+        final var expectedName = "videoId-123/type-VIDEO";
+        Files.createDirectories(this.root.resolve("videoId-123"));
+        Files.write(this.root.resolve(expectedName), "Content".getBytes());
+
+        Assertions.assertTrue(this.target.get(expectedName).isEmpty());
+    }
+
+    @Test
+    void givenResource_whenCallsGet_shouldRetrieveIt() throws Exception {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedName = "videoId-123/type-VIDEO";
+
+        this.target.store(expectedName, expectedResource);
+
+        final var actualResource = this.target.get(expectedName).get();
+
+        Assertions.assertEquals(expectedResource.checksum(), actualResource.checksum());
+        Assertions.assertEquals(expectedResource.name(), actualResource.name());
+        Assertions.assertEquals(expectedResource.contentType(), actualResource.contentType());
+        Assertions.assertEquals(expectedResource.size(), actualResource.size());
+        try (final var in = actualResource.openStream()) {
+            Assertions.assertArrayEquals(expectedResource.content(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void givenResource_whenCallsTransferTo_shouldWriteRequestedRange() throws Exception {
+        final var expectedName = "videoId-123/type-VIDEO";
+        this.target.store(expectedName, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        final var written = new ByteArrayOutputStream();
+        final var actualCount = this.target.get(expectedName).get()
+                .transferTo(3, 3, Channels.newChannel(written));
+
+        Assertions.assertEquals(3, actualCount);
+        Assertions.assertArrayEquals("ten".getBytes(), written.toByteArray());
+    }
+
+    @Test
+    void givenInvalidResource_whenCallsGet_shouldRetrieveEmpty() {
+        Assertions.assertTrue(this.target.get("videoId-123/type-VIDEO").isEmpty());
+    }
+
+    @Test
+    void givenNameOutsideRoot_whenCallsStore_shouldThrowException() {
+        final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.target.store("../escape", aResource));
+    }
+
+    @Test
+    void givenPrefix_whenCallsList_shouldRetrieveOnlyMatchingObjects() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedNames = List.of("videoId-1/type-VIDEO", "videoId-1/type-BANNER");
+
+        this.target.store("videoId-1/type-VIDEO", expectedResource);
+        this.target.store("videoId-1/type-BANNER", expectedResource);
+        this.target.store("videoId-2/type-VIDEO", expectedResource);
+
+        final var actualNames = this.target.list("videoId-1");
+
+        Assertions.assertTrue(
+                expectedNames.size() == actualNames.size()
+                        && expectedNames.containsAll(actualNames)
+        );
+        Assertions.assertEquals(List.of("videoId-1/type-VIDEO"), this.target.list("videoId-1/type-V"));
+    }
+
+    @Test
+    void givenResource_whenCallsDeleteAll_shouldRemoveFiles() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedNames = List.of("videoId-1/type-VIDEO", "videoId-1/type-BANNER");
+
+        expectedNames.forEach(it -> this.target.store(it, expectedResource));
+
+        this.target.deleteAll(expectedNames);
+
+        Assertions.assertTrue(this.target.list("videoId-1").isEmpty());
+    }
+}
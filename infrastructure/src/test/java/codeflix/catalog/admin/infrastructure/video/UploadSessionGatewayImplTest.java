@@ -0,0 +1,198 @@
+package codeflix.catalog.admin.infrastructure.video;
+
+import codeflix.catalog.admin.domain._share.exceptions.NotificationException;
+import codeflix.catalog.admin.domain._share.utils.InstantUtils;
+import codeflix.catalog.admin.domain.resource.Resource;
+import codeflix.catalog.admin.domain.video.UploadSession;
+import codeflix.catalog.admin.domain.video.VideoID;
+import codeflix.catalog.admin.domain.video.VideoMediaType;
+import codeflix.catalog.admin.infrastructure.configuration.properties.storage.UploadSessionProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+class UploadSessionGatewayImplTest {
+
+    @TempDir
+    Path directory;
+
+    private UploadSessionGatewayImpl target;
+
+    @BeforeEach
+    public void setUp() {
+        final var props = new UploadSessionProperties();
+        props.setDirectory(this.directory.toString());
+        props.setTtl(Duration.ofHours(1));
+        this.target = new UploadSessionGatewayImpl(props);
+    }
+
+    @Test
+    void givenSession_whenCallsCreate_shouldPersistIt() {
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+
+        this.target.create(aSession);
+
+        final var actualSession = this.target.findById(aSession.id()).get();
+
+        Assertions.assertEquals(aSession.id(), actualSession.id());
+        Assertions.assertEquals(aSession.videoId(), actualSession.videoId());
+        Assertions.assertEquals(aSession.type(), actualSession.type());
+        Assertions.assertEquals(aSession.name(), actualSession.name());
+        Assertions.assertEquals(aSession.contentType(), actualSession.contentType());
+        Assertions.assertEquals(aSession.size(), actualSession.size());
+    }
+
+    @Test
+    void givenInvalidId_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(this.target.findById("123").isEmpty());
+        Assertions.assertTrue(this.target.findById("../etc").isEmpty());
+    }
+
+    @Test
+    void givenOutOfOrderChunks_whenCallsAssemble_shouldReturnContentInOrder() throws Exception {
+        final var expectedContent = "0123456789".getBytes();
+        final var aSession = this.target.create(
+                UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", expectedContent.length)
+        );
+
+        Assertions.assertEquals(4, this.target.storeChunk(aSession, 6, chunk("6789")));
+        Assertions.assertTrue(this.target.assemble(aSession).isEmpty());
+        Assertions.assertEquals(8, this.target.storeChunk(aSession, 0, chunk("0123")));
+        Assertions.assertEquals(10, this.target.storeChunk(aSession, 3, chunk("3456")));
+
+        final var actualResource = this.target.assemble(aSession).get();
+
+        Assertions.assertEquals(aSession.name(), actualResource.name());
+        Assertions.assertEquals(aSession.contentType(), actualResource.contentType());
+        Assertions.assertEquals(expectedContent.length, actualResource.size());
+        try (final var in = actualResource.openStream()) {
+            Assertions.assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void givenSession_whenCallsDeleteById_shouldRemoveAllFiles() {
+        final var aSession = this.target.create(
+                UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 4)
+        );
+        this.target.storeChunk(aSession, 0, chunk("0123"));
+
+        this.target.deleteById(aSession.id());
+
+        Assertions.assertTrue(this.target.findById(aSession.id()).isEmpty());
+        Assertions.assertFalse(Files.exists(this.directory.resolve(aSession.id())));
+    }
+
+    @Test
+    void givenChunkOfUndeclaredLength_whenCallsStoreChunk_shouldCountTheReceivedBytes() {
+        final var aSession = this.target.create(
+                UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10)
+        );
+        final var bytes = "0123".getBytes();
+        final var aChunk = Resource.with(() -> new ByteArrayInputStream(bytes), -1, "application/octet-stream", "chunk");
+
+        Assertions.assertEquals(4, this.target.storeChunk(aSession, 0, aChunk));
+    }
+
+    @Test
+    void givenChunkShorterThanDeclared_whenCallsStoreChunk_shouldRejectItAndKeepNoFile() throws Exception {
+        final var aSession = this.target.create(
+                UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10)
+        );
+        final var bytes = "0123".getBytes();
+        final var aChunk = Resource.with(() -> new ByteArrayInputStream(bytes), 6, "application/octet-stream", "chunk");
+        final var expectedErrorMessage = "Chunk has 4 bytes but declared 6";
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> this.target.storeChunk(aSession, 0, aChunk)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        try (final var files = Files.list(this.directory.resolve(aSession.id()))) {
+            Assertions.assertEquals(List.of("session.json"), files.map(it -> it.getFileName().toString()).toList());
+        }
+    }
+
+    @Test
+    void givenUndeclaredChunkPastTheEnd_whenCallsStoreChunk_shouldRejectIt() {
+        final var aSession = this.target.create(
+                UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 4)
+        );
+        final var bytes = "456789".getBytes();
+        final var aChunk = Resource.with(() -> new ByteArrayInputStream(bytes), -1, "application/octet-stream", "chunk");
+        final var expectedErrorMessage = "Chunk exceeds upload size of 4 bytes";
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> this.target.storeChunk(aSession, 2, aChunk)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Assertions.assertTrue(this.target.assemble(aSession).isEmpty());
+    }
+
+    @Test
+    void givenExpiredSession_whenCallsDeleteExpired_shouldRemoveItAndKeepTheOthers() {
+        final var twoHoursAgo = InstantUtils.now().minus(Duration.ofHours(2));
+        final var expired = this.target.create(UploadSession.with(
+                "abc123",
+                VideoID.unique(),
+                VideoMediaType.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                4,
+                twoHoursAgo,
+                twoHoursAgo
+        ));
+        final var active = this.target.create(
+                UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 4)
+        );
+        this.target.storeChunk(expired, 0, chunk("0123"));
+        // storing the chunk counts as activity, rewriting the metadata makes the session idle again
+        this.target.create(expired);
+
+        Assertions.assertTrue(this.target.findById(expired.id()).isEmpty());
+
+        Assertions.assertEquals(1, this.target.deleteExpired());
+
+        Assertions.assertFalse(Files.exists(this.directory.resolve(expired.id())));
+        Assertions.assertTrue(this.target.findById(active.id()).isPresent());
+    }
+
+    @Test
+    void givenOldSessionStillReceivingChunks_whenCallsDeleteExpired_shouldKeepIt() {
+        final var twoHoursAgo = InstantUtils.now().minus(Duration.ofHours(2));
+        final var aSession = this.target.create(UploadSession.with(
+                "abc123",
+                VideoID.unique(),
+                VideoMediaType.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                8,
+                twoHoursAgo,
+                twoHoursAgo
+        ));
+
+        this.target.storeChunk(aSession, 0, chunk("0123"));
+
+        Assertions.assertEquals(0, this.target.deleteExpired());
+
+        final var actualSession = this.target.findById(aSession.id()).get();
+        Assertions.assertEquals(twoHoursAgo, actualSession.createdAt());
+        Assertions.assertTrue(actualSession.lastActivityAt().isAfter(twoHoursAgo));
+        Assertions.assertEquals(8, this.target.storeChunk(actualSession, 4, chunk("4567")));
+    }
+
+    private static Resource chunk(final String content) {
+        final byte[] bytes = content.getBytes();
+        return Resource.with(() -> new ByteArrayInputStream(bytes), bytes.length, "application/octet-stream", "chunk");
+    }
+}
@@ -2,6 +2,7 @@ package codeflix.catalog.admin.infrastructure.video;
 
 import codeflix.catalog.admin.IntegrationTest;
 import codeflix.catalog.admin.domain.Fixture;
+import codeflix.catalog.admin.domain._share.exceptions.DomainException;
 import codeflix.catalog.admin.domain.castmember.entity.CastMember;
 import codeflix.catalog.admin.domain.castmember.gateway.CastMemberGateway;
 import codeflix.catalog.admin.domain.castmember.value.object.CastMemberID;
@@ -12,7 +13,9 @@ import codeflix.catalog.admin.domain.genre.entity.Genre;
 import codeflix.catalog.admin.domain.genre.gateway.GenreGateway;
 import codeflix.catalog.admin.domain.genre.value.object.GenreID;
 import codeflix.catalog.admin.domain.video.*;
+import codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
 import codeflix.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,8 +24,15 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
+
+import java.time.Instant;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @IntegrationTest
 class VideoGatewayImplTest {
@@ -41,6 +51,12 @@ class VideoGatewayImplTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private CastMember wesley;
     private CastMember gabriel;
 
@@ -161,6 +177,69 @@ class VideoGatewayImplTest {
         Assertions.assertEquals(expectedThumbHalf.name(), persistedVideo.getThumbnailHalf().getName());
     }
 
+    @Test
+    void givenANewVideo_whenCallsCreate_shouldInsertItWithoutLoadingItFirst() {
+        // given
+        final var aVideo = Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(this.lessons.getId(), this.lives.getId()),
+                        Set.of(this.tech.getId()),
+                        Set.of(this.wesley.getId())
+                )
+                .updateBannerMedia(ImageMedia.with("123", "banner", "/media/banner"));
+
+        final var statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        this.videoGateway.create(aVideo);
+
+        // then
+        statistics.setStatisticsEnabled(false);
+
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(6, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, this.videoRepository.count());
+    }
+
+    @Test
+    void givenAVideoWithPendingMedia_whenCallsCreate_shouldWriteItsEventToTheOutbox() {
+        // given
+        final var aVideo = Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(this.lessons.getId()),
+                        Set.of(this.tech.getId()),
+                        Set.of(this.wesley.getId())
+                )
+                .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"));
+
+        // when
+        final var actualVideo = this.videoGateway.create(aVideo);
+
+        // then
+        final var actualEvents = this.outboxEventRepository.findAll();
+
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals("video.events", actualEvents.get(0).getExchange());
+        Assertions.assertEquals("video.created", actualEvents.get(0).getRoutingKey());
+        Assertions.assertTrue(actualEvents.get(0).getPayload().contains(actualVideo.getId().getValue()));
+        Assertions.assertTrue(actualEvents.get(0).getPayload().contains("/media/video"));
+        Assertions.assertTrue(aVideo.getDomainEvents().isEmpty());
+    }
+
     @Test
     @Transactional
     void givenAValidVideoWithoutRelations_whenCallsCreate_shouldPersistIt() {
@@ -339,6 +418,141 @@ class VideoGatewayImplTest {
         Assertions.assertTrue(persistedVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
     }
 
+    @Test
+    void givenAPersistedVideo_whenCallsUpdate_shouldOnlyTouchChangedRelations() {
+        // given
+        final var aVideo = this.videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(this.lessons.getId()),
+                Set.of(this.tech.getId(), this.business.getId()),
+                Set.of(this.wesley.getId())
+        ));
+
+        final var expectedCategories = Set.of(this.lessons.getId(), this.lives.getId());
+        final var expectedGenres = Set.of(this.tech.getId(), this.business.getId());
+        final var expectedMembers = Set.of(this.gabriel.getId());
+
+        final var anUpdatedVideo = Video.with(aVideo).update(
+                "Another title",
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.isOpened(),
+                aVideo.isPublished(),
+                aVideo.getRating(),
+                expectedCategories,
+                expectedGenres,
+                expectedMembers
+        );
+
+        final var statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualVideo = this.videoGateway.update(anUpdatedVideo);
+
+        // then
+        statistics.setStatisticsEnabled(false);
+
+        Assertions.assertEquals(2, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+
+        Assertions.assertEquals("Another title", actualVideo.getTitle());
+        Assertions.assertEquals(expectedCategories, actualVideo.getCategories());
+        Assertions.assertEquals(expectedGenres, actualVideo.getGenres());
+        Assertions.assertEquals(expectedMembers, actualVideo.getCastMembers());
+    }
+
+    @Test
+    void givenAPendingMedia_whenCallsUpdateMediaStatus_shouldUpdateOnlyThatRow() {
+        // given
+        final var aMedia = AudioVideoMedia.with("123", "video", "/media/video");
+        final var aVideo = this.videoGateway.create(this.newVideo().updateVideoMedia(aMedia));
+        final var expectedEncodedPath = "encoded/video.mp4";
+
+        // when
+        final var actualProcessing =
+                this.videoGateway.updateMediaStatus(aVideo.getId(), aMedia.id(), MediaStatus.PROCESSING, null);
+        final var actualCompleted =
+                this.videoGateway.updateMediaStatus(aVideo.getId(), aMedia.id(), MediaStatus.COMPLETED, expectedEncodedPath);
+
+        // then
+        Assertions.assertTrue(actualProcessing);
+        Assertions.assertTrue(actualCompleted);
+
+        final var actualVideo = this.videoGateway.findById(aVideo.getId()).get();
+        final var actualMedia = actualVideo.getVideo().get();
+
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+        Assertions.assertEquals(expectedEncodedPath, actualMedia.encodedLocation());
+        Assertions.assertEquals(aMedia.rawLocation(), actualMedia.rawLocation());
+        Assertions.assertTrue(actualVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
+    }
+
+    @Test
+    void givenACompletedMedia_whenCallsUpdateMediaStatusToProcessing_shouldKeepItCompleted() {
+        // given
+        final var aMedia = AudioVideoMedia.with("123", "trailer", "/media/trailer");
+        final var aVideo = this.videoGateway.create(this.newVideo().updateTrailerMedia(aMedia));
+        this.videoGateway.updateMediaStatus(aVideo.getId(), aMedia.id(), MediaStatus.COMPLETED, "encoded/trailer.mp4");
+
+        // when
+        final var actualResult =
+                this.videoGateway.updateMediaStatus(aVideo.getId(), aMedia.id(), MediaStatus.PROCESSING, null);
+
+        // then
+        Assertions.assertFalse(actualResult);
+        Assertions.assertEquals(
+                MediaStatus.COMPLETED,
+                this.videoGateway.findById(aVideo.getId()).get().getTrailer().get().status()
+        );
+    }
+
+    @Test
+    void givenAMediaOfAnotherVideo_whenCallsUpdateMediaStatus_shouldNotUpdateIt() {
+        // given
+        final var aMedia = AudioVideoMedia.with("123", "video", "/media/video");
+        final var aVideo = this.videoGateway.create(this.newVideo().updateVideoMedia(aMedia));
+        final var anotherVideo = this.videoGateway.create(this.newVideo());
+
+        // when
+        final var actualResult =
+                this.videoGateway.updateMediaStatus(anotherVideo.getId(), aMedia.id(), MediaStatus.PROCESSING, null);
+
+        // then
+        Assertions.assertFalse(actualResult);
+        Assertions.assertEquals(
+                MediaStatus.PENDING,
+                this.videoGateway.findById(aVideo.getId()).get().getVideo().get().status()
+        );
+    }
+
+    @Test
+    void givenAVideoWithOnlyATrailer_whenCallsExistsMedia_shouldMatchOnlyItsOwnMedia() {
+        // given
+        final var aMedia = AudioVideoMedia.with("123", "trailer", "/media/trailer");
+        final var aVideo = this.videoGateway.create(this.newVideo().updateTrailerMedia(aMedia));
+        final var anotherVideo = this.videoGateway.create(this.newVideo());
+
+        // when
+        final var actualOwn = this.videoGateway.existsMedia(aVideo.getId(), aMedia.id());
+        final var actualOther = this.videoGateway.existsMedia(anotherVideo.getId(), aMedia.id());
+        final var actualUnknown = this.videoGateway.existsMedia(VideoID.unique(), aMedia.id());
+
+        // then
+        Assertions.assertTrue(actualOwn);
+        Assertions.assertFalse(actualOther);
+        Assertions.assertFalse(actualUnknown);
+    }
+
     @Test
     void givenAValidVideoId_whenCallsDeleteById_shouldDeleteIt() {
         // given
@@ -466,6 +680,153 @@ class VideoGatewayImplTest {
         Assertions.assertEquals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name());
     }
 
+    @Test
+    void givenAVideoWithMediaAndRelations_whenCallsFindById_shouldLoadEachRelationSetSeparately() {
+        // given
+        final var aVideo = this.videoGateway.create(
+                Video.newVideo(
+                                Fixture.title(),
+                                Fixture.Videos.description(),
+                                Year.of(Fixture.year()),
+                                Fixture.duration(),
+                                Fixture.bool(),
+                                Fixture.bool(),
+                                Fixture.Videos.rating(),
+                                Set.of(this.lessons.getId(), this.lives.getId()),
+                                Set.of(this.tech.getId(), this.business.getId()),
+                                Set.of(this.wesley.getId(), this.gabriel.getId())
+                        )
+                        .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"))
+                        .updateTrailerMedia(AudioVideoMedia.with("123", "trailer", "/media/trailer"))
+                        .updateBannerMedia(ImageMedia.with("123", "banner", "/media/banner"))
+                        .updateThumbnailMedia(ImageMedia.with("123", "thumb", "/media/thumb"))
+                        .updateThumbnailHalfMedia(ImageMedia.with("123", "thumbHalf", "/media/thumbHalf"))
+        );
+
+        final var statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualVideo = this.videoGateway.findById(aVideo.getId()).get();
+
+        // then
+        statistics.setStatisticsEnabled(false);
+
+        // the video with its media, then categories, genres and cast members
+        Assertions.assertEquals(4, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(aVideo.getCategories(), actualVideo.getCategories());
+        Assertions.assertEquals(aVideo.getGenres(), actualVideo.getGenres());
+        Assertions.assertEquals(aVideo.getCastMembers(), actualVideo.getCastMembers());
+        Assertions.assertTrue(actualVideo.getThumbnailHalf().isPresent());
+    }
+
+    @Test
+    void givenVideosWithRelations_whenCallsFindAllByIds_shouldLoadThemInRequestOrderWithOneStatementPerRelationSet() {
+        // given
+        final var aVideo = this.videoGateway.create(
+                Video.newVideo(
+                                Fixture.title(),
+                                Fixture.Videos.description(),
+                                Year.of(Fixture.year()),
+                                Fixture.duration(),
+                                Fixture.bool(),
+                                Fixture.bool(),
+                                Fixture.Videos.rating(),
+                                Set.of(this.lessons.getId()),
+                                Set.of(this.tech.getId(), this.business.getId()),
+                                Set.of(this.wesley.getId())
+                        )
+                        .updateBannerMedia(ImageMedia.with("123", "banner", "/media/banner"))
+        );
+        final var anotherVideo = this.videoGateway.create(
+                Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(this.lives.getId()),
+                        Set.of(),
+                        Set.of(this.gabriel.getId())
+                )
+        );
+
+        final var statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualVideos = this.videoGateway.findAllByIds(
+                List.of(anotherVideo.getId(), VideoID.unique(), aVideo.getId())
+        );
+
+        // then
+        statistics.setStatisticsEnabled(false);
+
+        Assertions.assertEquals(4, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(List.of(anotherVideo.getId(), aVideo.getId()), actualVideos.stream().map(Video::getId).toList());
+        Assertions.assertEquals(aVideo.getGenres(), actualVideos.get(1).getGenres());
+        Assertions.assertTrue(actualVideos.get(1).getBanner().isPresent());
+        Assertions.assertEquals(anotherVideo.getCastMembers(), actualVideos.get(0).getCastMembers());
+    }
+
+    @Test
+    void givenVideosWithRelations_whenCallsForEachUpdatedSince_shouldEmitEachAggregateInIdOrder() {
+        // given
+        final var aVideo = this.videoGateway.create(
+                Video.newVideo(
+                                Fixture.title(),
+                                Fixture.Videos.description(),
+                                Year.of(Fixture.year()),
+                                Fixture.duration(),
+                                Fixture.bool(),
+                                Fixture.bool(),
+                                Fixture.Videos.rating(),
+                                Set.of(this.lessons.getId()),
+                                Set.of(this.tech.getId(), this.business.getId()),
+                                Set.of(this.wesley.getId())
+                        )
+                        .updateBannerMedia(ImageMedia.with("123", "banner", "/media/banner"))
+        );
+        final var anotherVideo = this.videoGateway.create(
+                Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(this.lives.getId()),
+                        Set.of(),
+                        Set.of(this.gabriel.getId())
+                )
+        );
+
+        final var expectedIds = Stream.of(aVideo.getId(), anotherVideo.getId())
+                .sorted(Comparator.comparing(VideoID::getValue))
+                .toList();
+
+        // when
+        final var actualVideos = new ArrayList<Video>();
+        this.videoGateway.forEachUpdatedSince(Instant.EPOCH, actualVideos::add);
+
+        final var actualLater = new ArrayList<Video>();
+        this.videoGateway.forEachUpdatedSince(anotherVideo.getUpdatedAt().plusSeconds(60), actualLater::add);
+
+        // then
+        Assertions.assertEquals(expectedIds, actualVideos.stream().map(Video::getId).toList());
+
+        final var actualVideo = actualVideos.stream().filter(it -> it.getId().equals(aVideo.getId())).findFirst().get();
+        Assertions.assertEquals(aVideo.getGenres(), actualVideo.getGenres());
+        Assertions.assertEquals(aVideo.getCastMembers(), actualVideo.getCastMembers());
+        Assertions.assertTrue(actualVideo.getBanner().isPresent());
+        Assertions.assertTrue(actualLater.isEmpty());
+    }
+
     @Test
     void givenAInvalidVideoId_whenCallsFindById_shouldEmpty() {
         // given
@@ -635,6 +996,35 @@ class VideoGatewayImplTest {
         Assertions.assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(1).title());
     }
 
+    @Test
+    void givenManyMatchingRelations_whenCallFindAll_shouldReturnEachVideoOnce() {
+        // given
+        this.mockVideos();
+
+        final var expectedTotalElements = 3;
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "title",
+                "asc",
+                Set.of(this.wesley.getId(), this.gabriel.getId()),
+                Set.of(),
+                Set.of()
+        );
+
+        // when
+        final var actualPage = this.videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedTotalElements, actualPage.totalElements());
+        Assertions.assertEquals(expectedTotalElements, actualPage.items().size());
+        Assertions.assertEquals("21.1 Implementação dos testes integrados do findAll", actualPage.items().get(0).title());
+        Assertions.assertEquals("Aula de empreendedorismo", actualPage.items().get(1).title());
+        Assertions.assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(2).title());
+    }
+
     @Test
     void givenAValidGenre_whenCallFindAll_shouldReturnFilteredList() {
         // given
@@ -848,6 +1238,90 @@ class VideoGatewayImplTest {
         Assertions.assertEquals(expectedVideo, actualPage.items().get(0).title());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "title,asc",
+            "title,desc",
+            "createdAt,asc",
+            "createdAt,desc",
+            "updatedAt,desc",
+    })
+    void givenACursor_whenCallsFindAll_shouldWalkSameOrderAsOffsetPages(
+            final String expectedSort,
+            final String expectedDirection
+    ) {
+        // given
+        this.mockVideos();
+
+        final var expectedTitles = this.videoGateway.findAll(new VideoSearchQuery(
+                0, 10, "", expectedSort, expectedDirection, Set.of(), Set.of(), Set.of()
+        )).items().stream().map(VideoPreview::title).toList();
+
+        final var firstPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0, 1, "", expectedSort, expectedDirection, Set.of(), Set.of(), Set.of()
+        ));
+
+        final var actualTitles = new ArrayList<String>();
+        firstPage.items().forEach(it -> actualTitles.add(it.title()));
+
+        // when
+        var actualCursor = firstPage.nextCursor();
+        while (actualCursor != null) {
+            final var actualPage = this.videoGateway.findAll(new VideoSearchQuery(
+                    0, 1, "", expectedSort, expectedDirection, Set.of(), Set.of(), Set.of(), actualCursor
+            ));
+
+            Assertions.assertEquals(-1, actualPage.totalElements());
+            actualPage.items().forEach(it -> actualTitles.add(it.title()));
+            actualCursor = actualPage.nextCursor();
+        }
+
+        // then
+        Assertions.assertEquals(4, expectedTitles.size());
+        Assertions.assertEquals(expectedTitles, actualTitles);
+    }
+
+    @Test
+    void givenACursorAndFilter_whenCallsFindAll_shouldKeepFilter() {
+        // given
+        this.mockVideos();
+
+        final var expectedCategories = Set.of(this.lessons.getId());
+
+        final var firstPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0, 1, "", "title", "asc", Set.of(), expectedCategories, Set.of()
+        ));
+
+        // when
+        final var actualPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0, 1, "", "title", "asc", Set.of(), expectedCategories, Set.of(), firstPage.nextCursor()
+        ));
+
+        // then
+        Assertions.assertEquals("21.1 Implementação dos testes integrados do findAll", firstPage.items().get(0).title());
+        Assertions.assertEquals("Aula de empreendedorismo", actualPage.items().get(0).title());
+        Assertions.assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var aQuery = new VideoSearchQuery(
+                0, 1, "", "title", "asc", Set.of(), Set.of(), Set.of(), "not-a-cursor"
+        );
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.videoGateway.findAll(aQuery)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
     private void mockVideos() {
         this.videoGateway.create(Video.newVideo(
                 "System Design no Mercado Livre na prática",
@@ -901,4 +1375,19 @@ class VideoGatewayImplTest {
                 Set.of(this.wesley.getId())
         ));
     }
+
+    private Video newVideo() {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(this.lessons.getId()),
+                Set.of(this.tech.getId()),
+                Set.of(this.wesley.getId())
+        );
+    }
 }